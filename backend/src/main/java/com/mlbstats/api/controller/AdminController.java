@@ -1,5 +1,7 @@
 package com.mlbstats.api.controller;
 
+import com.mlbstats.common.cache.CacheTuner;
+import com.mlbstats.common.cache.CacheTuner.CacheStatus;
 import com.mlbstats.domain.user.AppUser;
 import com.mlbstats.domain.user.AppUserRepository;
 import com.mlbstats.domain.user.Role;
@@ -10,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +24,7 @@ import java.util.Map;
 public class AdminController {
 
     private final AppUserRepository appUserRepository;
+    private final CacheTuner cacheTuner;
 
     @GetMapping("/users")
     @Operation(summary = "List all users", description = "Returns a list of all users sorted by last login")
@@ -59,6 +63,21 @@ public class AdminController {
         return ResponseEntity.ok(Map.of("status", "updated", "role", user.getRole().name()));
     }
 
+    @GetMapping("/caches")
+    @Operation(summary = "List caches", description = "Returns each cache's TTL, memory budget and estimated heap use")
+    public ResponseEntity<List<CacheStatus>> getCaches() {
+        return ResponseEntity.ok(cacheTuner.describe());
+    }
+
+    @PutMapping("/caches/{name}")
+    @Operation(summary = "Tune cache", description = "Changes a cache's TTL and/or memory budget on every node until restart")
+    public ResponseEntity<CacheStatus> tuneCache(
+            @PathVariable String name,
+            @RequestBody CacheTuningRequest request) {
+        Duration ttl = request.ttlSeconds() != null ? Duration.ofSeconds(request.ttlSeconds()) : null;
+        return ResponseEntity.ok(cacheTuner.update(name, ttl, request.budgetBytes()));
+    }
+
     public record UserResponse(
             Long id,
             String email,
@@ -80,4 +99,6 @@ public class AdminController {
     }
 
     public record RoleUpdateRequest(Role role) {}
+
+    public record CacheTuningRequest(Long ttlSeconds, Long budgetBytes) {}
 }
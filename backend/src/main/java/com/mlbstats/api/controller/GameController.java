@@ -23,7 +23,9 @@ public class GameController {
     private final GameApiService gameApiService;
 
     @GetMapping
-    @Operation(summary = "Get games", description = "Returns games for a given season or date range")
+    @Operation(summary = "Get games", description = "Returns games for a given season or date range. Season "
+            + "listings can page by cursor instead: pass cursor (empty for the first page), follow nextCursor, and "
+            + "set count to include totals.")
     public ResponseEntity<?> getGames(
             @RequestParam(required = false) Integer season,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
@@ -31,7 +33,9 @@ public class GameController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) Long teamId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count) {
 
         // If specific date is requested
         if (date != null) {
@@ -48,7 +52,10 @@ public class GameController {
             return ResponseEntity.ok(gameApiService.getTeamGames(teamId, season));
         }
 
-        // Default: paginated by season
+        // Default: paginated by season, by cursor when one is given (empty for the first page)
+        if (cursor != null) {
+            return ResponseEntity.ok(gameApiService.getGamesBySeason(season, cursor, size, count));
+        }
         Pageable pageable = PageRequest.of(page, size);
         return ResponseEntity.ok(gameApiService.getGamesBySeason(season, pageable));
     }
@@ -81,7 +88,8 @@ public class GameController {
 
     @GetMapping("/calendar")
     @Operation(summary = "Get calendar games",
-               description = "Returns lightweight game data for calendar views. Optimized for week/month display.")
+               description = "Returns lightweight game data for calendar views. Optimized for week/month display; "
+                       + "ranges are limited to 62 days.")
     public ResponseEntity<List<CalendarGameDto>> getCalendarGames(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
@@ -91,7 +99,7 @@ public class GameController {
 
     @GetMapping("/calendar/counts")
     @Operation(summary = "Get game counts by date",
-               description = "Returns game counts per day for monthly calendar overview")
+               description = "Returns game counts per day for monthly calendar overview; ranges are limited to a year")
     public ResponseEntity<List<GameCountDto>> getGameCounts(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
@@ -12,6 +12,7 @@ import com.mlbstats.ingestion.service.SyncJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,6 +21,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -191,6 +193,44 @@ public class IngestionController {
         return ResponseEntity.ok(SyncJobDto.fromEntity(job));
     }
 
+    @PostMapping("/backfill")
+    @Operation(summary = "Backfill historical seasons",
+               description = "Loads teams, schedule, rosters, stats, standings, box scores and linescores for a season range using bulk loading")
+    public ResponseEntity<SyncJobDto> backfill(
+            @RequestParam int fromSeason,
+            @RequestParam(required = false) Integer toSeason,
+            @AuthenticationPrincipal OAuth2User principal) {
+
+        if (toSeason == null) {
+            toSeason = fromSeason;
+        }
+        AppUser user = getUserFromPrincipal(principal);
+        SyncJob job = orchestrator.createAndRunTrackedBackfill(fromSeason, toSeason, TriggerType.MANUAL, user);
+        return ResponseEntity.ok(SyncJobDto.fromEntity(job));
+    }
+
+    @PostMapping("/transactions")
+    @Operation(summary = "Sync transactions",
+               description = "Applies roster moves (call-ups, options, IL moves, trades) from the MLB transactions feed. Defaults to the last 2 days")
+    public ResponseEntity<SyncJobDto> syncTransactions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal OAuth2User principal) {
+
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+        if (startDate == null) {
+            startDate = endDate.minusDays(1);
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+        AppUser user = getUserFromPrincipal(principal);
+        SyncJob job = orchestrator.createAndRunTrackedTransactionsSync(startDate, endDate, TriggerType.MANUAL, user);
+        return ResponseEntity.ok(SyncJobDto.fromEntity(job));
+    }
+
     // ===== Legacy Untracked Endpoints =====
 
     @PostMapping("/players/incomplete")
@@ -2,7 +2,9 @@ package com.mlbstats.api.controller;
 
 import com.mlbstats.api.dto.*;
 import com.mlbstats.api.service.PlayerApiService;
+import com.mlbstats.domain.player.PlayerFacetFilter;
 import com.mlbstats.domain.player.PlayerSearchCriteria;
+import com.mlbstats.domain.stats.LeaderboardCriteria;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/players")
@@ -24,7 +27,9 @@ public class PlayerController {
     private final PlayerApiService playerApiService;
 
     @GetMapping
-    @Operation(summary = "Get players", description = "Returns a paginated list of players with optional filters")
+    @Operation(summary = "Get players", description = "Returns a paginated list of players with optional filters. "
+            + "Pass cursor (empty for the first page) to page by cursor instead: follow nextCursor, and set count "
+            + "to include totals.")
     public ResponseEntity<PageDto<PlayerDto>> getPlayers(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String position,
@@ -33,14 +38,23 @@ public class PlayerController {
             @RequestParam(required = false, name = "throws") String throwsHand,
             @RequestParam(required = false) Boolean active,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by("fullName"));
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count) {
 
         PlayerSearchCriteria criteria = new PlayerSearchCriteria(
                 search, position, positionType, bats, throwsHand, active
         );
 
+        // Cursor paging: an empty cursor starts from the first page
+        if (cursor != null) {
+            return ResponseEntity.ok(criteria.hasAnyFilter()
+                    ? playerApiService.searchPlayersWithFilters(criteria, cursor, size, count)
+                    : playerApiService.getAllPlayers(cursor, size, count));
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("fullName"));
+
         if (criteria.hasAnyFilter()) {
             return ResponseEntity.ok(playerApiService.searchPlayersWithFilters(criteria, pageable));
         } else {
@@ -48,6 +62,34 @@ public class PlayerController {
         }
     }
 
+    @GetMapping("/facets")
+    @Operation(summary = "Browse players by facet",
+            description = "Returns a page of players matching any combination of facet values, with per-value counts "
+                    + "for every facet. Repeat a parameter to match any of its values. Pass cursor (empty for the "
+                    + "first page) to page by cursor instead of page number.")
+    public ResponseEntity<FacetedPageDto<PlayerDto>> browsePlayers(
+            @RequestParam(required = false) List<String> position,
+            @RequestParam(required = false) List<String> positionType,
+            @RequestParam(required = false) List<String> bats,
+            @RequestParam(required = false, name = "throws") List<String> throwsHand,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) List<Long> team,
+            @RequestParam(required = false) Integer season,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        PlayerFacetFilter filter = new PlayerFacetFilter(
+                position != null ? Set.copyOf(position) : null,
+                positionType != null ? Set.copyOf(positionType) : null,
+                bats != null ? Set.copyOf(bats) : null,
+                throwsHand != null ? Set.copyOf(throwsHand) : null,
+                active,
+                team != null ? Set.copyOf(team) : null,
+                season
+        );
+        return ResponseEntity.ok(playerApiService.browsePlayers(filter, cursor, page, size));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get player by ID", description = "Returns a single player by ID")
     public ResponseEntity<PlayerDto> getPlayerById(@PathVariable Long id) {
@@ -70,6 +112,30 @@ public class PlayerController {
         return ResponseEntity.ok(playerApiService.getPlayerPitchingStats(id, season));
     }
 
+    @GetMapping("/leaders")
+    @Operation(summary = "Get leaders for any stat",
+            description = "Returns one page of a batting or pitching leaderboard for any stat, optionally filtered by "
+                    + "league, team and position. Pass nextCursor back as cursor for the next page.")
+    public ResponseEntity<LeaderboardPageDto<?>> getLeaders(
+            @RequestParam String stat,
+            @RequestParam(defaultValue = "batting") String group,
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) Integer season,
+            @RequestParam(required = false) String league,
+            @RequestParam(required = false) Long team,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) Integer minPa,
+            @RequestParam(required = false) java.math.BigDecimal minInnings,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "25") int limit) {
+        java.math.BigDecimal minimum = "pitching".equalsIgnoreCase(group)
+                ? minInnings
+                : minPa != null ? java.math.BigDecimal.valueOf(minPa) : null;
+        LeaderboardCriteria criteria = new LeaderboardCriteria(group, stat, order, season, league, team, position,
+                minimum, cursor, limit);
+        return ResponseEntity.ok(playerApiService.getLeaders(criteria));
+    }
+
     @GetMapping("/leaders/home-runs")
     @Operation(summary = "Get home run leaders", description = "Returns top home run hitters for a season")
     public ResponseEntity<List<BattingStatsDto>> getHomeRunLeaders(
@@ -276,8 +342,25 @@ public class PlayerController {
         return ResponseEntity.ok(playerApiService.getPlayerPitchingGameLog(id, season));
     }
 
+    @GetMapping("/{id}/batting-splits")
+    @Operation(summary = "Get player batting splits", description = "Returns home/away, day/night, monthly and half-season batting splits for a player")
+    public ResponseEntity<List<BattingSplitDto>> getPlayerBattingSplits(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer season) {
+        return ResponseEntity.ok(playerApiService.getPlayerBattingSplits(id, season));
+    }
+
+    @GetMapping("/{id}/pitching-splits")
+    @Operation(summary = "Get player pitching splits", description = "Returns home/away, day/night, monthly and half-season pitching splits for a player")
+    public ResponseEntity<List<PitchingSplitDto>> getPlayerPitchingSplits(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer season) {
+        return ResponseEntity.ok(playerApiService.getPlayerPitchingSplits(id, season));
+    }
+
     @GetMapping("/compare")
-    @Operation(summary = "Compare players", description = "Compare 2-4 players side-by-side with batting and pitching stats")
+    @Operation(summary = "Compare players", description = "Compare 2-" + PlayerApiService.MAX_COMPARED_PLAYERS
+            + " players side-by-side with batting and pitching stats")
     public ResponseEntity<PlayerComparisonDto> comparePlayers(
             @RequestParam String players,
             @RequestParam(required = false) String seasons,
@@ -293,7 +376,7 @@ public class PlayerController {
             return ResponseEntity.badRequest().build();
         }
 
-        if (playerIds.size() < 2 || playerIds.size() > 4) {
+        if (playerIds.size() < 2 || playerIds.size() > PlayerApiService.MAX_COMPARED_PLAYERS) {
             return ResponseEntity.badRequest().build();
         }
 
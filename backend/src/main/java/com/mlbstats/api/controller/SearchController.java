@@ -1,10 +1,7 @@
 package com.mlbstats.api.controller;
 
-import com.mlbstats.api.dto.PlayerDto;
 import com.mlbstats.api.dto.SearchResultDto;
-import com.mlbstats.api.dto.TeamDto;
-import com.mlbstats.api.service.PlayerApiService;
-import com.mlbstats.api.service.TeamApiService;
+import com.mlbstats.api.service.SearchIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -19,13 +16,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SearchController {
 
-    private final TeamApiService teamApiService;
-    private final PlayerApiService playerApiService;
+    private final SearchIndex searchIndex;
 
     private static final int DEFAULT_LIMIT = 5;
 
     @GetMapping
-    @Operation(summary = "Global search", description = "Search teams and players by name")
+    @Operation(summary = "Global search",
+            description = "Search teams and active players by the start of any word of their names, ignoring accents")
     public ResponseEntity<SearchResultDto> search(
             @RequestParam String q,
             @RequestParam(defaultValue = "5") int limit) {
@@ -37,12 +34,6 @@ public class SearchController {
         String query = q.trim();
         int effectiveLimit = Math.min(limit, 10);
 
-        List<TeamDto> teams = teamApiService.searchTeams(query).stream()
-                .limit(effectiveLimit)
-                .toList();
-
-        List<PlayerDto> players = playerApiService.searchPlayers(query, effectiveLimit);
-
-        return ResponseEntity.ok(new SearchResultDto(teams, players));
+        return ResponseEntity.ok(searchIndex.search(query, effectiveLimit));
     }
 }
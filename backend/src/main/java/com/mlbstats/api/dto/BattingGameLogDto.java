@@ -2,7 +2,6 @@ package com.mlbstats.api.dto;
 
 import com.mlbstats.domain.game.Game;
 import com.mlbstats.domain.stats.PlayerGameBatting;
-import com.mlbstats.domain.team.Team;
 
 import java.time.LocalDate;
 
@@ -31,36 +30,10 @@ public record BattingGameLogDto(
 ) {
     public static BattingGameLogDto fromEntity(PlayerGameBatting entity) {
         Game game = entity.getGame();
-        Team playerTeam = entity.getTeam();
-
-        boolean isHome = game.getHomeTeam() != null &&
-                         game.getHomeTeam().getId().equals(playerTeam.getId());
-
-        Team opponent = isHome ? game.getAwayTeam() : game.getHomeTeam();
-        Integer teamScore = isHome ? game.getHomeScore() : game.getAwayScore();
-        Integer opponentScore = isHome ? game.getAwayScore() : game.getHomeScore();
-
-        String result = null;
-        if (teamScore != null && opponentScore != null) {
-            if (teamScore > opponentScore) {
-                result = "W " + teamScore + "-" + opponentScore;
-            } else if (teamScore < opponentScore) {
-                result = "L " + teamScore + "-" + opponentScore;
-            } else {
-                result = "T " + teamScore + "-" + opponentScore;
-            }
-        }
-
         return new BattingGameLogDto(
             game.getId(),
             game.getGameDate(),
-            opponent != null ? opponent.getName() : null,
-            opponent != null ? opponent.getAbbreviation() : null,
-            opponent != null ? opponent.getId() : null,
-            isHome,
-            result,
-            teamScore,
-            opponentScore,
+            GamePerspective.of(game, entity.getTeam()),
             entity.getAtBats(),
             entity.getRuns(),
             entity.getHits(),
@@ -75,4 +48,32 @@ public record BattingGameLogDto(
             entity.getPositionPlayed()
         );
     }
+
+    /**
+     * Row constructor for the game log query, which selects the game and its teams as plain
+     * columns instead of loading entities.
+     *
+     * @param teamId the batter's team, to tell home from away
+     */
+    public BattingGameLogDto(Long gameId, LocalDate gameDate, Long teamId,
+                             Long homeTeamId, String homeTeamName, String homeTeamAbbreviation,
+                             Long awayTeamId, String awayTeamName, String awayTeamAbbreviation,
+                             Integer homeScore, Integer awayScore,
+                             Integer atBats, Integer runs, Integer hits, Integer doubles, Integer triples,
+                             Integer homeRuns, Integer rbi, Integer walks, Integer strikeouts, Integer stolenBases,
+                             Integer battingOrder, String position) {
+        this(gameId, gameDate,
+            GamePerspective.of(teamId, homeTeamId, homeTeamName, homeTeamAbbreviation,
+                awayTeamId, awayTeamName, awayTeamAbbreviation, homeScore, awayScore),
+            atBats, runs, hits, doubles, triples, homeRuns, rbi, walks, strikeouts, stolenBases, battingOrder, position);
+    }
+
+    private BattingGameLogDto(Long gameId, LocalDate gameDate, GamePerspective side,
+                              Integer atBats, Integer runs, Integer hits, Integer doubles, Integer triples,
+                              Integer homeRuns, Integer rbi, Integer walks, Integer strikeouts, Integer stolenBases,
+                              Integer battingOrder, String position) {
+        this(gameId, gameDate, side.opponent(), side.opponentAbbreviation(), side.opponentId(), side.isHome(),
+            side.result(), side.teamScore(), side.opponentScore(),
+            atBats, runs, hits, doubles, triples, homeRuns, rbi, walks, strikeouts, stolenBases, battingOrder, position);
+    }
 }
@@ -0,0 +1,50 @@
+package com.mlbstats.api.dto;
+
+import com.mlbstats.domain.stats.PlayerBattingSplit;
+import com.mlbstats.domain.stats.SplitType;
+
+import java.math.BigDecimal;
+
+public record BattingSplitDto(
+    SplitType splitType,
+    Integer season,
+    Integer gamesPlayed,
+    Integer plateAppearances,
+    Integer atBats,
+    Integer runs,
+    Integer hits,
+    Integer doubles,
+    Integer triples,
+    Integer homeRuns,
+    Integer rbi,
+    Integer walks,
+    Integer strikeouts,
+    Integer stolenBases,
+    BigDecimal battingAvg,
+    BigDecimal obp,
+    BigDecimal slg,
+    BigDecimal ops
+) {
+    public static BattingSplitDto fromEntity(PlayerBattingSplit entity) {
+        return new BattingSplitDto(
+            entity.getSplitType(),
+            entity.getSeason(),
+            entity.getGamesPlayed(),
+            entity.getPlateAppearances(),
+            entity.getAtBats(),
+            entity.getRuns(),
+            entity.getHits(),
+            entity.getDoubles(),
+            entity.getTriples(),
+            entity.getHomeRuns(),
+            entity.getRbi(),
+            entity.getWalks(),
+            entity.getStrikeouts(),
+            entity.getStolenBases(),
+            entity.getBattingAvg(),
+            entity.getObp(),
+            entity.getSlg(),
+            entity.getOps()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.mlbstats.api.dto;
+
+import java.util.Map;
+
+/**
+ * A page of results plus, for each facet, how many results each of its values would give
+ * with the other facets' filters applied.
+ */
+public record FacetedPageDto<T>(
+        PageDto<T> page,
+        Map<String, Map<String, Integer>> facets
+) {}
@@ -0,0 +1,58 @@
+package com.mlbstats.api.dto;
+
+import com.mlbstats.domain.game.Game;
+import com.mlbstats.domain.team.Team;
+
+/**
+ * A game from one team's side: who the opponent was and how it went. Shared by the batting
+ * and pitching game logs.
+ */
+record GamePerspective(
+        String opponent,
+        String opponentAbbreviation,
+        Long opponentId,
+        boolean isHome,
+        String result,
+        Integer teamScore,
+        Integer opponentScore
+) {
+    static GamePerspective of(Game game, Team team) {
+        Team home = game.getHomeTeam();
+        Team away = game.getAwayTeam();
+        return of(team.getId(),
+                home != null ? home.getId() : null, home != null ? home.getName() : null,
+                home != null ? home.getAbbreviation() : null,
+                away != null ? away.getId() : null, away != null ? away.getName() : null,
+                away != null ? away.getAbbreviation() : null,
+                game.getHomeScore(), game.getAwayScore());
+    }
+
+    static GamePerspective of(Long teamId, Long homeTeamId, String homeTeamName, String homeTeamAbbreviation,
+                              Long awayTeamId, String awayTeamName, String awayTeamAbbreviation,
+                              Integer homeScore, Integer awayScore) {
+        boolean isHome = homeTeamId != null && homeTeamId.equals(teamId);
+        Integer teamScore = isHome ? homeScore : awayScore;
+        Integer opponentScore = isHome ? awayScore : homeScore;
+
+        String result = null;
+        if (teamScore != null && opponentScore != null) {
+            if (teamScore > opponentScore) {
+                result = "W " + teamScore + "-" + opponentScore;
+            } else if (teamScore < opponentScore) {
+                result = "L " + teamScore + "-" + opponentScore;
+            } else {
+                result = "T " + teamScore + "-" + opponentScore;
+            }
+        }
+
+        return new GamePerspective(
+                isHome ? awayTeamName : homeTeamName,
+                isHome ? awayTeamAbbreviation : homeTeamAbbreviation,
+                isHome ? awayTeamId : homeTeamId,
+                isHome,
+                result,
+                teamScore,
+                opponentScore
+        );
+    }
+}
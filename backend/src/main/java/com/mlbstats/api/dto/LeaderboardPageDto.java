@@ -0,0 +1,16 @@
+package com.mlbstats.api.dto;
+
+import java.util.List;
+
+/**
+ * One page of a leaderboard. Pass {@code nextCursor} back as {@code cursor} for the next
+ * page; it is null on the last one.
+ */
+public record LeaderboardPageDto<T>(
+        String group,
+        String stat,
+        String order,
+        int season,
+        List<T> content,
+        String nextCursor
+) {}
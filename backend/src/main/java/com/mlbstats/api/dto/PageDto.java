@@ -5,14 +5,20 @@ import org.springframework.data.domain.Page;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * A page of results, either by page number or after a cursor. Cursor pages have no page
+ * number, and their totals are null unless the caller asked for a count; pass
+ * {@code nextCursor} back as {@code cursor} for the next page, it is null on the last one.
+ */
 public record PageDto<T>(
         List<T> content,
-        int page,
+        Integer page,
         int size,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
         boolean first,
-        boolean last
+        boolean last,
+        String nextCursor
 ) {
     public static <T, E> PageDto<T> fromPage(Page<E> page, Function<E, T> mapper) {
         return new PageDto<>(
@@ -22,7 +28,31 @@ public record PageDto<T>(
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.isFirst(),
-                page.isLast()
+                page.isLast(),
+                null
+        );
+    }
+
+    /**
+     * A cursor page from {@code rows}, which were fetched with one row more than {@code size}
+     * to tell whether another page follows.
+     *
+     * @param cursorOf      the cursor continuing after a row
+     * @param totalElements the total when counted, otherwise null
+     */
+    public static <T, E> PageDto<T> fromKeyset(List<E> rows, int size, boolean first, Function<E, String> cursorOf,
+                                               Function<E, T> mapper, Long totalElements) {
+        boolean last = rows.size() <= size;
+        List<E> content = last ? rows : rows.subList(0, size);
+        return new PageDto<>(
+                content.stream().map(mapper).toList(),
+                null,
+                size,
+                totalElements,
+                totalElements != null ? (int) ((totalElements + size - 1) / size) : null,
+                first,
+                last,
+                last ? null : cursorOf.apply(content.get(content.size() - 1))
         );
     }
 }
@@ -2,7 +2,6 @@ package com.mlbstats.api.dto;
 
 import com.mlbstats.domain.game.Game;
 import com.mlbstats.domain.stats.PlayerGamePitching;
-import com.mlbstats.domain.team.Team;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -31,47 +30,11 @@ public record PitchingGameLogDto(
 ) {
     public static PitchingGameLogDto fromEntity(PlayerGamePitching entity) {
         Game game = entity.getGame();
-        Team playerTeam = entity.getTeam();
-
-        boolean isHome = game.getHomeTeam() != null &&
-                         game.getHomeTeam().getId().equals(playerTeam.getId());
-
-        Team opponent = isHome ? game.getAwayTeam() : game.getHomeTeam();
-        Integer teamScore = isHome ? game.getHomeScore() : game.getAwayScore();
-        Integer opponentScore = isHome ? game.getAwayScore() : game.getHomeScore();
-
-        String result = null;
-        if (teamScore != null && opponentScore != null) {
-            if (teamScore > opponentScore) {
-                result = "W " + teamScore + "-" + opponentScore;
-            } else if (teamScore < opponentScore) {
-                result = "L " + teamScore + "-" + opponentScore;
-            } else {
-                result = "T " + teamScore + "-" + opponentScore;
-            }
-        }
-
-        // Determine decision (W/L/S/H or blank)
-        String decision = null;
-        if (Boolean.TRUE.equals(entity.getIsWinner())) {
-            decision = "W";
-        } else if (Boolean.TRUE.equals(entity.getIsLoser())) {
-            decision = "L";
-        } else if (Boolean.TRUE.equals(entity.getIsSave())) {
-            decision = "S";
-        }
-
         return new PitchingGameLogDto(
             game.getId(),
             game.getGameDate(),
-            opponent != null ? opponent.getName() : null,
-            opponent != null ? opponent.getAbbreviation() : null,
-            opponent != null ? opponent.getId() : null,
-            isHome,
-            result,
-            teamScore,
-            opponentScore,
-            decision,
+            GamePerspective.of(game, entity.getTeam()),
+            decision(entity.getIsWinner(), entity.getIsLoser(), entity.getIsSave()),
             entity.getInningsPitched(),
             entity.getHitsAllowed(),
             entity.getRunsAllowed(),
@@ -84,4 +47,50 @@ public record PitchingGameLogDto(
             entity.getIsStarter()
         );
     }
+
+    /**
+     * Row constructor for the game log query, which selects the game and its teams as plain
+     * columns instead of loading entities.
+     *
+     * @param teamId the pitcher's team, to tell home from away
+     */
+    public PitchingGameLogDto(Long gameId, LocalDate gameDate, Long teamId,
+                              Long homeTeamId, String homeTeamName, String homeTeamAbbreviation,
+                              Long awayTeamId, String awayTeamName, String awayTeamAbbreviation,
+                              Integer homeScore, Integer awayScore,
+                              Boolean isWinner, Boolean isLoser, Boolean isSave,
+                              BigDecimal inningsPitched, Integer hitsAllowed, Integer runsAllowed, Integer earnedRuns,
+                              Integer walks, Integer strikeouts, Integer homeRunsAllowed, Integer pitchesThrown,
+                              Integer strikes, Boolean isStarter) {
+        this(gameId, gameDate,
+            GamePerspective.of(teamId, homeTeamId, homeTeamName, homeTeamAbbreviation,
+                awayTeamId, awayTeamName, awayTeamAbbreviation, homeScore, awayScore),
+            decision(isWinner, isLoser, isSave),
+            inningsPitched, hitsAllowed, runsAllowed, earnedRuns, walks, strikeouts, homeRunsAllowed, pitchesThrown,
+            strikes, isStarter);
+    }
+
+    private PitchingGameLogDto(Long gameId, LocalDate gameDate, GamePerspective side, String decision,
+                               BigDecimal inningsPitched, Integer hitsAllowed, Integer runsAllowed, Integer earnedRuns,
+                               Integer walks, Integer strikeouts, Integer homeRunsAllowed, Integer pitchesThrown,
+                               Integer strikes, Boolean isStarter) {
+        this(gameId, gameDate, side.opponent(), side.opponentAbbreviation(), side.opponentId(), side.isHome(),
+            side.result(), side.teamScore(), side.opponentScore(), decision,
+            inningsPitched, hitsAllowed, runsAllowed, earnedRuns, walks, strikeouts, homeRunsAllowed, pitchesThrown,
+            strikes, isStarter);
+    }
+
+    /**
+     * W, L or S, or null for no decision.
+     */
+    private static String decision(Boolean isWinner, Boolean isLoser, Boolean isSave) {
+        if (Boolean.TRUE.equals(isWinner)) {
+            return "W";
+        } else if (Boolean.TRUE.equals(isLoser)) {
+            return "L";
+        } else if (Boolean.TRUE.equals(isSave)) {
+            return "S";
+        }
+        return null;
+    }
 }
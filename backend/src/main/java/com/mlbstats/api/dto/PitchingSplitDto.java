@@ -0,0 +1,50 @@
+package com.mlbstats.api.dto;
+
+import com.mlbstats.domain.stats.PlayerPitchingSplit;
+import com.mlbstats.domain.stats.SplitType;
+
+import java.math.BigDecimal;
+
+public record PitchingSplitDto(
+    SplitType splitType,
+    Integer season,
+    Integer gamesPlayed,
+    Integer gamesStarted,
+    BigDecimal inningsPitched,
+    Integer wins,
+    Integer losses,
+    Integer saves,
+    Integer hitsAllowed,
+    Integer runsAllowed,
+    Integer earnedRuns,
+    Integer homeRunsAllowed,
+    Integer walks,
+    Integer strikeouts,
+    BigDecimal era,
+    BigDecimal whip,
+    BigDecimal kPer9,
+    BigDecimal bbPer9
+) {
+    public static PitchingSplitDto fromEntity(PlayerPitchingSplit entity) {
+        return new PitchingSplitDto(
+            entity.getSplitType(),
+            entity.getSeason(),
+            entity.getGamesPlayed(),
+            entity.getGamesStarted(),
+            entity.getInningsPitched(),
+            entity.getWins(),
+            entity.getLosses(),
+            entity.getSaves(),
+            entity.getHitsAllowed(),
+            entity.getRunsAllowed(),
+            entity.getEarnedRuns(),
+            entity.getHomeRunsAllowed(),
+            entity.getWalks(),
+            entity.getStrikeouts(),
+            entity.getEra(),
+            entity.getWhip(),
+            entity.getKPer9(),
+            entity.getBbPer9()
+        );
+    }
+}
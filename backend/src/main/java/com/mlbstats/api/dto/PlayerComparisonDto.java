@@ -1,5 +1,7 @@
 package com.mlbstats.api.dto;
 
+import com.mlbstats.domain.stats.BattingTotals;
+import com.mlbstats.domain.stats.PitchingTotals;
 import com.mlbstats.domain.stats.PlayerBattingStats;
 import com.mlbstats.domain.stats.PlayerPitchingStats;
 
@@ -69,35 +71,19 @@ public record PlayerComparisonDto(
             );
         }
 
-        public static ComparisonBattingStats aggregateCareer(List<PlayerBattingStats> statsList) {
-            if (statsList == null || statsList.isEmpty()) {
+        /**
+         * Stats from totals summed across season rows, with the rate stats recomputed from the sums.
+         */
+        public static ComparisonBattingStats fromTotals(BattingTotals totals) {
+            if (totals == null) {
                 return null;
             }
-
-            int gamesPlayed = 0, atBats = 0, runs = 0, hits = 0, doubles = 0, triples = 0;
-            int homeRuns = 0, rbi = 0, stolenBases = 0, caughtStealing = 0, walks = 0, strikeouts = 0;
-            int plateAppearances = 0, totalBases = 0, extraBaseHits = 0;
-            int hitByPitch = 0, sacFlies = 0;
-
-            for (PlayerBattingStats s : statsList) {
-                gamesPlayed += nullSafe(s.getGamesPlayed());
-                atBats += nullSafe(s.getAtBats());
-                runs += nullSafe(s.getRuns());
-                hits += nullSafe(s.getHits());
-                doubles += nullSafe(s.getDoubles());
-                triples += nullSafe(s.getTriples());
-                homeRuns += nullSafe(s.getHomeRuns());
-                rbi += nullSafe(s.getRbi());
-                stolenBases += nullSafe(s.getStolenBases());
-                caughtStealing += nullSafe(s.getCaughtStealing());
-                walks += nullSafe(s.getWalks());
-                strikeouts += nullSafe(s.getStrikeouts());
-                plateAppearances += nullSafe(s.getPlateAppearances());
-                totalBases += nullSafe(s.getTotalBases());
-                extraBaseHits += nullSafe(s.getExtraBaseHits());
-                hitByPitch += nullSafe(s.getHitByPitch());
-                sacFlies += nullSafe(s.getSacFlies());
-            }
+            int atBats = nullSafe(totals.atBats());
+            int hits = nullSafe(totals.hits());
+            int walks = nullSafe(totals.walks());
+            int totalBases = nullSafe(totals.totalBases());
+            int hitByPitch = nullSafe(totals.hitByPitch());
+            int sacFlies = nullSafe(totals.sacFlies());
 
             // Recalculate rate stats
             BigDecimal battingAvg = atBats > 0 ? divide(hits, atBats, 3) : null;
@@ -110,15 +96,17 @@ public record PlayerComparisonDto(
             BigDecimal ops = (obp != null && slg != null) ? obp.add(slg) : null;
 
             return new ComparisonBattingStats(
-                    gamesPlayed, atBats, runs, hits, doubles, triples, homeRuns,
-                    rbi, stolenBases, caughtStealing, walks, strikeouts,
+                    nullSafe(totals.gamesPlayed()), atBats, nullSafe(totals.runs()), hits,
+                    nullSafe(totals.doubles()), nullSafe(totals.triples()), nullSafe(totals.homeRuns()),
+                    nullSafe(totals.rbi()), nullSafe(totals.stolenBases()), nullSafe(totals.caughtStealing()),
+                    walks, nullSafe(totals.strikeouts()),
                     battingAvg, obp, slg, ops,
-                    plateAppearances, totalBases, extraBaseHits
+                    nullSafe(totals.plateAppearances()), totalBases, nullSafe(totals.extraBaseHits())
             );
         }
 
-        private static int nullSafe(Integer value) {
-            return value != null ? value : 0;
+        private static int nullSafe(Long value) {
+            return value != null ? value.intValue() : 0;
         }
 
         private static BigDecimal divide(int numerator, int denominator, int scale) {
@@ -175,35 +163,19 @@ public record PlayerComparisonDto(
             );
         }
 
-        public static ComparisonPitchingStats aggregateCareer(List<PlayerPitchingStats> statsList) {
-            if (statsList == null || statsList.isEmpty()) {
+        /**
+         * Stats from totals summed across season rows, with innings converted back from outs
+         * and the rate stats recomputed from the sums.
+         */
+        public static ComparisonPitchingStats fromTotals(PitchingTotals totals) {
+            if (totals == null) {
                 return null;
             }
-
-            int gamesPlayed = 0, gamesStarted = 0, wins = 0, losses = 0, saves = 0, holds = 0;
-            int hitsAllowed = 0, runsAllowed = 0, earnedRuns = 0, homeRunsAllowed = 0;
-            int walks = 0, strikeouts = 0, completeGames = 0, shutouts = 0;
-            int totalOuts = 0;  // Track outs for proper IP aggregation
-
-            for (PlayerPitchingStats s : statsList) {
-                gamesPlayed += nullSafe(s.getGamesPlayed());
-                gamesStarted += nullSafe(s.getGamesStarted());
-                wins += nullSafe(s.getWins());
-                losses += nullSafe(s.getLosses());
-                saves += nullSafe(s.getSaves());
-                holds += nullSafe(s.getHolds());
-                hitsAllowed += nullSafe(s.getHitsAllowed());
-                runsAllowed += nullSafe(s.getRunsAllowed());
-                earnedRuns += nullSafe(s.getEarnedRuns());
-                homeRunsAllowed += nullSafe(s.getHomeRunsAllowed());
-                walks += nullSafe(s.getWalks());
-                strikeouts += nullSafe(s.getStrikeouts());
-                completeGames += nullSafe(s.getCompleteGames());
-                shutouts += nullSafe(s.getShutouts());
-                if (s.getInningsPitched() != null) {
-                    totalOuts += inningsPitchedToOuts(s.getInningsPitched());
-                }
-            }
+            int totalOuts = totals.outs() != null ? totals.outs().setScale(0, RoundingMode.HALF_UP).intValue() : 0;
+            int earnedRuns = nullSafe(totals.earnedRuns());
+            int hitsAllowed = nullSafe(totals.hitsAllowed());
+            int walks = nullSafe(totals.walks());
+            int strikeouts = nullSafe(totals.strikeouts());
 
             // Convert total outs back to innings pitched (baseball notation)
             BigDecimal inningsPitched = outsToInningsPitched(totalOuts);
@@ -233,25 +205,15 @@ public record PlayerComparisonDto(
             }
 
             return new ComparisonPitchingStats(
-                    gamesPlayed, gamesStarted, wins, losses, saves, holds,
-                    inningsPitched, hitsAllowed, runsAllowed, earnedRuns,
-                    homeRunsAllowed, walks, strikeouts,
+                    nullSafe(totals.gamesPlayed()), nullSafe(totals.gamesStarted()), nullSafe(totals.wins()),
+                    nullSafe(totals.losses()), nullSafe(totals.saves()), nullSafe(totals.holds()),
+                    inningsPitched, hitsAllowed, nullSafe(totals.runsAllowed()), earnedRuns,
+                    nullSafe(totals.homeRunsAllowed()), walks, strikeouts,
                     era, whip, kPer9, bbPer9,
-                    completeGames, shutouts
+                    nullSafe(totals.completeGames()), nullSafe(totals.shutouts())
             );
         }
 
-        /**
-         * Convert baseball notation innings pitched to total outs.
-         * Baseball IP uses .1 = 1/3 inning, .2 = 2/3 inning (outs, not decimal).
-         * Example: 6.2 IP = 6 innings + 2 outs = 20 outs total.
-         */
-        private static int inningsPitchedToOuts(BigDecimal ip) {
-            int fullInnings = ip.intValue();
-            int fractionalPart = ip.remainder(BigDecimal.ONE).multiply(BigDecimal.TEN).intValue();
-            return (fullInnings * 3) + fractionalPart;
-        }
-
         /**
          * Convert total outs back to baseball notation innings pitched.
          * Example: 20 outs = 6.2 IP (6 full innings + 2 outs).
@@ -262,8 +224,8 @@ public record PlayerComparisonDto(
             return BigDecimal.valueOf(fullInnings).add(BigDecimal.valueOf(remainingOuts).divide(BigDecimal.TEN, 1, RoundingMode.UNNECESSARY));
         }
 
-        private static int nullSafe(Integer value) {
-            return value != null ? value : 0;
+        private static int nullSafe(Long value) {
+            return value != null ? value.intValue() : 0;
         }
     }
 
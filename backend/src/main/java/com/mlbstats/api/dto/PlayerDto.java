@@ -26,10 +26,6 @@ public record PlayerDto(
             "https://img.mlbstatic.com/mlb-photos/image/upload/d_people:generic:headshot:67:current.png/w_213,q_auto:best/v1/people/%d/headshot/67/current";
 
     public static PlayerDto fromEntity(Player player) {
-        String headshotUrl = player.getMlbId() != null
-                ? String.format(HEADSHOT_URL_TEMPLATE, player.getMlbId())
-                : null;
-
         return new PlayerDto(
                 player.getId(),
                 player.getMlbId(),
@@ -46,7 +42,11 @@ public record PlayerDto(
                 player.getWeight(),
                 player.getMlbDebutDate(),
                 player.getActive(),
-                headshotUrl
+                headshotUrl(player.getMlbId())
         );
     }
+
+    static String headshotUrl(Integer mlbId) {
+        return mlbId != null ? String.format(HEADSHOT_URL_TEMPLATE, mlbId) : null;
+    }
 }
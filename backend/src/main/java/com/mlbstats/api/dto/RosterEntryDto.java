@@ -2,6 +2,8 @@ package com.mlbstats.api.dto;
 
 import com.mlbstats.domain.player.TeamRoster;
 
+import java.time.LocalDate;
+
 public record RosterEntryDto(
         Long id,
         PlayerDto player,
@@ -20,4 +22,20 @@ public record RosterEntryDto(
                 roster.getPosition()
         );
     }
+
+    /**
+     * Row constructor for the roster query, which selects the entry and its player as plain
+     * columns instead of loading entities.
+     */
+    public RosterEntryDto(Long id, Integer season, String status, String jerseyNumber, String position,
+                          Long playerId, Integer mlbId, String fullName, String firstName, String lastName,
+                          String playerJerseyNumber, String playerPosition, String positionType, String bats,
+                          String throwsHand, LocalDate birthDate, String height, Integer weight,
+                          LocalDate mlbDebutDate, Boolean active) {
+        this(id,
+                new PlayerDto(playerId, mlbId, fullName, firstName, lastName, playerJerseyNumber, playerPosition,
+                        positionType, bats, throwsHand, birthDate, height, weight, mlbDebutDate, active,
+                        PlayerDto.headshotUrl(mlbId)),
+                season, status, jerseyNumber, position);
+    }
 }
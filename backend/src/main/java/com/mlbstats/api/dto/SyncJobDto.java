@@ -20,6 +20,7 @@ public record SyncJobDto(
         Integer processedItems,
         Integer progressPercentage,
         String currentStep,
+        LocalDateTime estimatedCompletionAt,
         LocalDateTime startedAt,
         LocalDateTime completedAt,
         Long durationSeconds,
@@ -48,6 +49,7 @@ public record SyncJobDto(
                 job.getProcessedItems(),
                 job.getProgressPercentage(),
                 job.getCurrentStep(),
+                job.getEstimatedCompletionAt(),
                 job.getStartedAt(),
                 job.getCompletedAt(),
                 durationSeconds,
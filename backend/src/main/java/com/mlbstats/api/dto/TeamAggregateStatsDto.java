@@ -1,5 +1,7 @@
 package com.mlbstats.api.dto;
 
+import com.mlbstats.domain.team.TeamSeasonStats;
+
 import java.math.BigDecimal;
 
 public record TeamAggregateStatsDto(
@@ -8,6 +10,18 @@ public record TeamAggregateStatsDto(
         TeamBattingAggregateDto batting,
         TeamPitchingAggregateDto pitching
 ) {
+    /**
+     * A team's aggregates from its rollup row; a side with no player rows, or no row at all, is null.
+     */
+    public static TeamAggregateStatsDto fromEntity(Long teamId, Integer season, TeamSeasonStats stats) {
+        return new TeamAggregateStatsDto(
+                teamId,
+                season,
+                stats != null ? TeamBattingAggregateDto.fromEntity(stats) : null,
+                stats != null ? TeamPitchingAggregateDto.fromEntity(stats) : null
+        );
+    }
+
     public record TeamBattingAggregateDto(
             Integer gamesPlayed,
             Integer atBats,
@@ -25,7 +39,31 @@ public record TeamAggregateStatsDto(
             BigDecimal obp,
             BigDecimal slg,
             BigDecimal ops
-    ) {}
+    ) {
+        static TeamBattingAggregateDto fromEntity(TeamSeasonStats stats) {
+            if (stats.getBattingPlayers() == null || stats.getBattingPlayers() == 0) {
+                return null;
+            }
+            return new TeamBattingAggregateDto(
+                    stats.getBattingGamesPlayed(),
+                    stats.getAtBats(),
+                    stats.getRuns(),
+                    stats.getHits(),
+                    stats.getDoubles(),
+                    stats.getTriples(),
+                    stats.getHomeRuns(),
+                    stats.getRbi(),
+                    stats.getStolenBases(),
+                    stats.getWalks(),
+                    stats.getStrikeouts(),
+                    stats.getPlateAppearances(),
+                    stats.getBattingAvg(),
+                    stats.getObp(),
+                    stats.getSlg(),
+                    stats.getOps()
+            );
+        }
+    }
 
     public record TeamPitchingAggregateDto(
             Integer gamesPlayed,
@@ -42,5 +80,27 @@ public record TeamAggregateStatsDto(
             BigDecimal era,
             BigDecimal whip,
             BigDecimal kPer9
-    ) {}
+    ) {
+        static TeamPitchingAggregateDto fromEntity(TeamSeasonStats stats) {
+            if (stats.getPitchingPlayers() == null || stats.getPitchingPlayers() == 0) {
+                return null;
+            }
+            return new TeamPitchingAggregateDto(
+                    stats.getPitchingGamesPlayed(),
+                    stats.getWins(),
+                    stats.getLosses(),
+                    stats.getSaves(),
+                    stats.getInningsPitched(),
+                    stats.getHitsAllowed(),
+                    stats.getEarnedRuns(),
+                    stats.getWalksAllowed(),
+                    stats.getStrikeoutsPitched(),
+                    stats.getHomeRunsAllowed(),
+                    stats.getQualityStarts(),
+                    stats.getEra(),
+                    stats.getWhip(),
+                    stats.getKPer9()
+            );
+        }
+    }
 }
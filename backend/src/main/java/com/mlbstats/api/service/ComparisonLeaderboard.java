@@ -0,0 +1,131 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.PlayerComparisonDto.ComparisonBattingStats;
+import com.mlbstats.api.dto.PlayerComparisonDto.ComparisonPitchingStats;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Picks the leader of each stat among compared players. Each player's stats are read once
+ * into a column of a {@code double[stat][player]} matrix, NaN where missing, so finding a
+ * leader is a scan over one primitive row however many players are compared.
+ * <p>
+ * Ties go to the player listed first.
+ */
+final class ComparisonLeaderboard {
+
+    /**
+     * A compared stat: its API name, whether lower is better, and how to read it.
+     */
+    record Stat<S>(String key, boolean lowerIsBetter, ToDoubleFunction<S> valueOf) {}
+
+    static final List<Stat<ComparisonBattingStats>> BATTING = List.of(
+            count("gamesPlayed", false, ComparisonBattingStats::gamesPlayed),
+            count("atBats", false, ComparisonBattingStats::atBats),
+            count("runs", false, ComparisonBattingStats::runs),
+            count("hits", false, ComparisonBattingStats::hits),
+            count("doubles", false, ComparisonBattingStats::doubles),
+            count("triples", false, ComparisonBattingStats::triples),
+            count("homeRuns", false, ComparisonBattingStats::homeRuns),
+            count("rbi", false, ComparisonBattingStats::rbi),
+            count("stolenBases", false, ComparisonBattingStats::stolenBases),
+            count("walks", false, ComparisonBattingStats::walks),
+            rate("battingAvg", false, ComparisonBattingStats::battingAvg),
+            rate("obp", false, ComparisonBattingStats::obp),
+            rate("slg", false, ComparisonBattingStats::slg),
+            rate("ops", false, ComparisonBattingStats::ops),
+            count("plateAppearances", false, ComparisonBattingStats::plateAppearances),
+            count("totalBases", false, ComparisonBattingStats::totalBases),
+            count("extraBaseHits", false, ComparisonBattingStats::extraBaseHits),
+            count("strikeouts", true, ComparisonBattingStats::strikeouts),
+            count("caughtStealing", true, ComparisonBattingStats::caughtStealing));
+
+    static final List<Stat<ComparisonPitchingStats>> PITCHING = List.of(
+            count("gamesPlayed", false, ComparisonPitchingStats::gamesPlayed),
+            count("gamesStarted", false, ComparisonPitchingStats::gamesStarted),
+            count("wins", false, ComparisonPitchingStats::wins),
+            count("saves", false, ComparisonPitchingStats::saves),
+            count("holds", false, ComparisonPitchingStats::holds),
+            rate("inningsPitched", false, ComparisonPitchingStats::inningsPitched),
+            count("strikeouts", false, ComparisonPitchingStats::strikeouts),
+            rate("kPer9", false, ComparisonPitchingStats::kPer9),
+            count("completeGames", false, ComparisonPitchingStats::completeGames),
+            count("shutouts", false, ComparisonPitchingStats::shutouts),
+            count("losses", true, ComparisonPitchingStats::losses),
+            count("hitsAllowed", true, ComparisonPitchingStats::hitsAllowed),
+            count("runsAllowed", true, ComparisonPitchingStats::runsAllowed),
+            count("earnedRuns", true, ComparisonPitchingStats::earnedRuns),
+            count("homeRunsAllowed", true, ComparisonPitchingStats::homeRunsAllowed),
+            count("walks", true, ComparisonPitchingStats::walks),
+            rate("era", true, ComparisonPitchingStats::era),
+            rate("whip", true, ComparisonPitchingStats::whip),
+            rate("bbPer9", true, ComparisonPitchingStats::bbPer9));
+
+    private ComparisonLeaderboard() {
+    }
+
+    /**
+     * The leading player id for each stat that at least one player has, keyed by stat name.
+     *
+     * @param playerIds the compared players, in display order
+     * @param lines     each player's stats, null when they have none
+     */
+    static <S> Map<String, Long> leaders(List<Stat<S>> stats, List<Long> playerIds, List<S> lines) {
+        double[][] matrix = vectors(stats, lines);
+        Map<String, Long> leaders = new HashMap<>();
+        for (int stat = 0; stat < stats.size(); stat++) {
+            int leader = leader(matrix[stat], stats.get(stat).lowerIsBetter());
+            if (leader >= 0) {
+                leaders.put(stats.get(stat).key(), playerIds.get(leader));
+            }
+        }
+        return leaders;
+    }
+
+    static <S> double[][] vectors(List<Stat<S>> stats, List<S> lines) {
+        double[][] matrix = new double[stats.size()][lines.size()];
+        for (int player = 0; player < lines.size(); player++) {
+            S line = lines.get(player);
+            for (int stat = 0; stat < stats.size(); stat++) {
+                matrix[stat][player] = line != null ? stats.get(stat).valueOf().applyAsDouble(line) : Double.NaN;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Index of the best value in {@code values}, or -1 when every value is missing.
+     */
+    static int leader(double[] values, boolean lowerIsBetter) {
+        int leader = -1;
+        for (int i = 0; i < values.length; i++) {
+            double value = values[i];
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            if (leader < 0 || (lowerIsBetter ? value < values[leader] : value > values[leader])) {
+                leader = i;
+            }
+        }
+        return leader;
+    }
+
+    private static <S> Stat<S> count(String key, boolean lowerIsBetter, Function<S, Integer> getter) {
+        return new Stat<>(key, lowerIsBetter, line -> {
+            Integer value = getter.apply(line);
+            return value != null ? value : Double.NaN;
+        });
+    }
+
+    private static <S> Stat<S> rate(String key, boolean lowerIsBetter, Function<S, BigDecimal> getter) {
+        return new Stat<>(key, lowerIsBetter, line -> {
+            BigDecimal value = getter.apply(line);
+            return value != null ? value.doubleValue() : Double.NaN;
+        });
+    }
+}
@@ -4,6 +4,7 @@ import com.mlbstats.api.dto.*;
 import com.mlbstats.common.config.CacheConfig;
 import com.mlbstats.common.exception.ResourceNotFoundException;
 import com.mlbstats.common.util.DateUtils;
+import com.mlbstats.common.util.KeysetCursor;
 import com.mlbstats.domain.game.Game;
 import com.mlbstats.domain.game.GameInning;
 import com.mlbstats.domain.game.GameInningRepository;
@@ -14,12 +15,15 @@ import com.mlbstats.domain.stats.PlayerGamePitching;
 import com.mlbstats.domain.stats.PlayerGamePitchingRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +32,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GameApiService {
 
+    static final int MAX_GAMES_PAGE_SIZE = 100;
+    // Longest date ranges served, in days: a calendar month view lists games, a season view counts them
+    static final int MAX_GAME_LIST_DAYS = 62;
+    static final int MAX_GAME_COUNT_DAYS = 366;
+
     private final GameRepository gameRepository;
     private final GameInningRepository gameInningRepository;
     private final PlayerGameBattingRepository gameBattingRepository;
@@ -41,6 +50,32 @@ public class GameApiService {
         return PageDto.fromPage(page, GameDto::fromEntity);
     }
 
+    /**
+     * A season's games, latest first, after {@code cursor} (from the start when blank).
+     * Totals are only counted when asked for.
+     */
+    public PageDto<GameDto> getGamesBySeason(Integer season, String cursor, int size, boolean count) {
+        if (size < 1 || size > MAX_GAMES_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_GAMES_PAGE_SIZE);
+        }
+        int resolvedSeason = season != null ? season : DateUtils.getCurrentSeason();
+        KeysetCursor after = cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        List<Game> games = after == null
+                ? gameRepository.findLatestBySeason(resolvedSeason, Limit.of(size + 1))
+                : gameRepository.findBySeasonBefore(resolvedSeason, parseDate(after), after.id(), Limit.of(size + 1));
+        return PageDto.fromKeyset(games, size, after == null,
+                game -> new KeysetCursor(game.getGameDate().toString(), game.getId()).encode(),
+                GameDto::fromEntity, count ? gameRepository.countBySeason(resolvedSeason) : null);
+    }
+
+    private static LocalDate parseDate(KeysetCursor cursor) {
+        try {
+            return LocalDate.parse(cursor.key());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor.encode());
+        }
+    }
+
     @Cacheable(value = CacheConfig.GAMES_BY_DATE, key = "#date")
     public List<GameDto> getGamesByDate(LocalDate date) {
         return gameRepository.findByDateWithTeams(date).stream()
@@ -49,7 +84,8 @@ public class GameApiService {
     }
 
     public List<GameDto> getGamesByDateRange(LocalDate startDate, LocalDate endDate) {
-        return gameRepository.findByDateRange(startDate, endDate).stream()
+        checkRange(startDate, endDate, MAX_GAME_LIST_DAYS);
+        return gameRepository.findByDateRangeWithTeams(startDate, endDate).stream()
                 .map(GameDto::fromEntity)
                 .toList();
     }
@@ -124,19 +160,15 @@ public class GameApiService {
 
     /**
      * Get lightweight game data for calendar views.
-     * Uses optimized query with JOIN FETCH to avoid N+1.
+     * Selects just the calendar columns, without loading games or teams.
      */
-    @Cacheable(value = CacheConfig.CALENDAR_GAMES, key = "#startDate + '-' + #endDate + '-' + #teamId")
+    @Cacheable(value = CacheConfig.CALENDAR_GAMES, key = "#startDate + '-' + #endDate + '-' + #teamId", sync = true)
     public List<CalendarGameDto> getCalendarGames(LocalDate startDate, LocalDate endDate, Long teamId) {
-        List<Game> games;
+        checkRange(startDate, endDate, MAX_GAME_LIST_DAYS);
         if (teamId != null) {
-            games = gameRepository.findByDateRangeAndTeamWithTeams(startDate, endDate, teamId);
-        } else {
-            games = gameRepository.findByDateRangeWithTeams(startDate, endDate);
+            return gameRepository.findCalendarGamesForTeam(startDate, endDate, teamId);
         }
-        return games.stream()
-                .map(CalendarGameDto::fromEntity)
-                .toList();
+        return gameRepository.findCalendarGames(startDate, endDate);
     }
 
     /**
@@ -145,6 +177,7 @@ public class GameApiService {
      */
     @Cacheable(value = CacheConfig.CALENDAR_COUNTS, key = "#startDate + '-' + #endDate + '-' + #teamId")
     public List<GameCountDto> getGameCounts(LocalDate startDate, LocalDate endDate, Long teamId) {
+        checkRange(startDate, endDate, MAX_GAME_COUNT_DAYS);
         if (teamId != null) {
             return gameRepository.countTeamGamesByDateRange(teamId, startDate, endDate).stream()
                     .map(row -> GameCountDto.forTeam(
@@ -162,4 +195,13 @@ public class GameApiService {
                     .toList();
         }
     }
+
+    private static void checkRange(LocalDate startDate, LocalDate endDate, int maxDays) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= maxDays) {
+            throw new IllegalArgumentException("Date range must be at most " + maxDays + " days");
+        }
+    }
 }
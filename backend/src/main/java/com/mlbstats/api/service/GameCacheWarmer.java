@@ -0,0 +1,52 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.common.cache.CacheWarmer;
+import com.mlbstats.common.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Warms today's games and the calendar ranges users have been browsing. Calendar keys
+ * follow the {@code @Cacheable} key in {@link GameApiService}: {@code <start>-<end>-<teamId>}.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameCacheWarmer implements CacheWarmer {
+
+    private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+
+    private final GameApiService gameApiService;
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of(CacheConfig.GAMES_BY_DATE, CacheConfig.CALENDAR_GAMES);
+    }
+
+    @Override
+    public Collection<WarmupKey> defaultKeys() {
+        return List.of(new WarmupKey(CacheConfig.GAMES_BY_DATE, LocalDate.now()));
+    }
+
+    @Override
+    public boolean warm(WarmupKey warmupKey) {
+        Object key = warmupKey.key();
+        if (CacheConfig.GAMES_BY_DATE.equals(warmupKey.cacheName()) && key instanceof LocalDate date) {
+            gameApiService.getGamesByDate(date);
+            return true;
+        }
+        if (CacheConfig.CALENDAR_GAMES.equals(warmupKey.cacheName()) && key instanceof String range
+                && range.length() > 2 * DATE_LENGTH + 2) {
+            LocalDate startDate = LocalDate.parse(range.substring(0, DATE_LENGTH));
+            LocalDate endDate = LocalDate.parse(range.substring(DATE_LENGTH + 1, 2 * DATE_LENGTH + 1));
+            String team = range.substring(2 * DATE_LENGTH + 2);
+            gameApiService.getCalendarGames(startDate, endDate, "null".equals(team) ? null : Long.valueOf(team));
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,50 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.common.cache.CacheWarmer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rebuilds the in-memory indexes that have a single key, the {@link SearchIndex} and the
+ * {@link PlayerFacetIndex}, at startup and after syncs, so the first search or players page
+ * after a sync doesn't pay for it. Keys are {@code ("searchIndex", "all")} and
+ * {@code ("playerFacets", "all")}.
+ */
+@Component
+public class IndexWarmer implements CacheWarmer {
+
+    static final String SEARCH_INDEX = "searchIndex";
+    static final String PLAYER_FACETS = "playerFacets";
+    private static final String ALL = "all";
+
+    private final Map<String, Runnable> indexes;
+
+    public IndexWarmer(SearchIndex searchIndex, PlayerFacetIndex playerFacetIndex) {
+        this.indexes = Map.of(
+                SEARCH_INDEX, searchIndex::prepare,
+                PLAYER_FACETS, playerFacetIndex::prepare);
+    }
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of();
+    }
+
+    @Override
+    public Collection<WarmupKey> defaultKeys() {
+        return indexes.keySet().stream().map(index -> new WarmupKey(index, ALL)).toList();
+    }
+
+    @Override
+    public boolean warm(WarmupKey warmupKey) {
+        Runnable prepare = indexes.get(warmupKey.cacheName());
+        if (prepare == null || !ALL.equals(warmupKey.key())) {
+            return false;
+        }
+        prepare.run();
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.common.cache.CacheWarmer;
+import com.mlbstats.common.util.DateUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Warms the {@link LeaderboardEngine}. Leaderboards are no longer cached per stat, so there
+ * is nothing to learn from hot keys: loading the current season's tables covers every
+ * leaderboard, limit and minimum at once. Keys are {@code ("leaderboards", <season>)}.
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderboardCacheWarmer implements CacheWarmer {
+
+    static final String LEADERBOARDS = "leaderboards";
+
+    private final LeaderboardEngine leaderboardEngine;
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of();
+    }
+
+    @Override
+    public Collection<WarmupKey> defaultKeys() {
+        return List.of(new WarmupKey(LEADERBOARDS, DateUtils.getCurrentSeason()));
+    }
+
+    @Override
+    public boolean warm(WarmupKey warmupKey) {
+        if (!LEADERBOARDS.equals(warmupKey.cacheName()) || !(warmupKey.key() instanceof Integer season)) {
+            return false;
+        }
+        leaderboardEngine.prepare(season);
+        return true;
+    }
+}
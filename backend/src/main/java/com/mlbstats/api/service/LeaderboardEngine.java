@@ -0,0 +1,261 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.BattingStatsDto;
+import com.mlbstats.api.dto.PitchingStatsDto;
+import com.mlbstats.api.service.LeaderboardTable.Cursor;
+import com.mlbstats.api.service.LeaderboardTable.Slice;
+import com.mlbstats.common.cache.DataVersions;
+import com.mlbstats.common.cache.DataVersions.Domain;
+import com.mlbstats.common.config.LeaderboardProperties;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.stats.BattingColumn;
+import com.mlbstats.domain.stats.PitchingColumn;
+import com.mlbstats.domain.stats.PlayerBattingStats;
+import com.mlbstats.domain.stats.PlayerBattingStatsRepository;
+import com.mlbstats.domain.stats.PlayerPitchingStats;
+import com.mlbstats.domain.stats.PlayerPitchingStatsRepository;
+import com.mlbstats.domain.team.Team;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process read model behind the leaderboards. Each season's batting and pitching stats
+ * are loaded once into {@link LeaderboardTable}s, and any stat can then be ranked in either
+ * direction with any qualifier without a query or a per-leaderboard cache entry.
+ * <p>
+ * A season is rebuilt when the stats, players or teams {@link DataVersions} move past the
+ * ones it was built at, i.e. after a sync touched them. The rebuild happens on the next read
+ * (or warm-up) and replaces the season in one step, so readers see either the old tables
+ * or the new ones, never a mix.
+ * <p>
+ * With {@code cache.leaderboards.enabled=false} nothing is held between requests: the named
+ * leaderboards, ranked in their natural direction, run their {@code findTop*} query, and
+ * anything else loads the season's tables for that one request.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardEngine {
+
+    private static final Set<Domain> DOMAINS = EnumSet.of(Domain.STATS, Domain.PLAYERS, Domain.TEAMS);
+
+    private final PlayerBattingStatsRepository battingStatsRepository;
+    private final PlayerPitchingStatsRepository pitchingStatsRepository;
+    private final DataVersions dataVersions;
+    private final LeaderboardProperties properties;
+
+    private final Map<Integer, Season> seasons = new ConcurrentHashMap<>();
+
+    /**
+     * Non-stat filters for a page; null fields match everything.
+     */
+    record Facets(Long teamId, String league, String position) {}
+
+    private record Season(String version, long builtAt, LeaderboardTable<BattingStatsDto> batting,
+                          LeaderboardTable<PitchingStatsDto> pitching) {}
+
+    public List<BattingStatsDto> topBatting(int season, BattingColumn stat, int limit) {
+        return topBatting(season, stat, stat.lowerIsBetter(), null, null, limit);
+    }
+
+    /**
+     * The best {@code limit} batting lines for {@code stat}, keeping only rows where
+     * {@code qualifier >= minimum} when a qualifier is given.
+     */
+    public List<BattingStatsDto> topBatting(int season, BattingColumn stat, boolean ascending,
+                                            BattingColumn qualifier, BigDecimal minimum, int limit) {
+        checkLimit(limit);
+        if (!properties.isEnabled()) {
+            List<PlayerBattingStats> rows = queryBatting(season, stat, ascending, qualifier, minimum, limit);
+            if (rows != null) {
+                return rows.stream().map(BattingStatsDto::fromEntity).toList();
+            }
+        }
+        return season(season).batting().top(stat.ordinal(), ascending,
+                qualifier != null ? qualifier.ordinal() : -1,
+                qualifier != null ? qualifier.scaledMinimum(minimum) : 0,
+                limit);
+    }
+
+    public List<PitchingStatsDto> topPitching(int season, PitchingColumn stat, int limit) {
+        return topPitching(season, stat, stat.lowerIsBetter(), null, null, limit);
+    }
+
+    /**
+     * The best {@code limit} pitching lines for {@code stat}, keeping only rows where
+     * {@code qualifier >= minimum} when a qualifier is given.
+     */
+    public List<PitchingStatsDto> topPitching(int season, PitchingColumn stat, boolean ascending,
+                                              PitchingColumn qualifier, BigDecimal minimum, int limit) {
+        checkLimit(limit);
+        if (!properties.isEnabled()) {
+            List<PlayerPitchingStats> rows = queryPitching(season, stat, ascending, qualifier, minimum, limit);
+            if (rows != null) {
+                return rows.stream().map(PitchingStatsDto::fromEntity).toList();
+            }
+        }
+        return season(season).pitching().top(stat.ordinal(), ascending,
+                qualifier != null ? qualifier.ordinal() : -1,
+                qualifier != null ? qualifier.scaledMinimum(minimum) : 0,
+                limit);
+    }
+
+    /**
+     * A page of batting lines ranked by {@code stat}, filtered like {@link LeaderboardTable#filter}
+     * and continuing after {@code after} when given.
+     */
+    Slice<BattingStatsDto> pageBatting(int season, BattingColumn stat, boolean ascending, BattingColumn qualifier,
+                                       BigDecimal minimum, Facets facets, Cursor after, int limit) {
+        checkLimit(limit);
+        LeaderboardTable<BattingStatsDto> table = season(season).batting();
+        return table.page(stat.ordinal(), ascending,
+                qualifier != null ? qualifier.ordinal() : -1,
+                qualifier != null ? qualifier.scaledMinimum(minimum) : 0,
+                table.filter(facets.teamId(), facets.league(), facets.position()), after, limit);
+    }
+
+    /**
+     * A page of pitching lines ranked by {@code stat}, filtered like {@link LeaderboardTable#filter}
+     * and continuing after {@code after} when given.
+     */
+    Slice<PitchingStatsDto> pagePitching(int season, PitchingColumn stat, boolean ascending, PitchingColumn qualifier,
+                                         BigDecimal minimum, Facets facets, Cursor after, int limit) {
+        checkLimit(limit);
+        LeaderboardTable<PitchingStatsDto> table = season(season).pitching();
+        return table.page(stat.ordinal(), ascending,
+                qualifier != null ? qualifier.ordinal() : -1,
+                qualifier != null ? qualifier.scaledMinimum(minimum) : 0,
+                table.filter(facets.teamId(), facets.league(), facets.position()), after, limit);
+    }
+
+    /**
+     * Loads a season if it isn't current, e.g. during cache warm-up.
+     */
+    public void prepare(int season) {
+        season(season);
+    }
+
+    private Season season(int season) {
+        if (!properties.isEnabled()) {
+            return build(season, null);
+        }
+        String version = dataVersions.tag(DOMAINS);
+        Season current = seasons.get(season);
+        if (current != null && current.version().equals(version)) {
+            return current;
+        }
+        // Rebuilds are rare, so one at a time keeps concurrent readers from loading the same season twice
+        synchronized (this) {
+            version = dataVersions.tag(DOMAINS);
+            current = seasons.get(season);
+            if (current != null && current.version().equals(version)) {
+                return current;
+            }
+            Season rebuilt = build(season, version);
+            seasons.put(season, rebuilt);
+            if (seasons.size() > properties.getMaxSeasons()) {
+                seasons.entrySet().stream()
+                        .min(Comparator.comparingLong(entry -> entry.getValue().builtAt()))
+                        .ifPresent(oldest -> seasons.remove(oldest.getKey()));
+            }
+            return rebuilt;
+        }
+    }
+
+    /**
+     * The leaderboard's own query when one matches the request, else null. Each query has a
+     * fixed direction and qualifier column, so only those combinations can use it.
+     */
+    private List<PlayerBattingStats> queryBatting(int season, BattingColumn stat, boolean ascending,
+                                                  BattingColumn qualifier, BigDecimal minimum, int limit) {
+        BattingColumn queryQualifier = switch (stat) {
+            case BATTING_AVG, OPS -> BattingColumn.AT_BATS;
+            case WOBA, WRC_PLUS, AVG_EXIT_VELOCITY, BARREL_PCT -> BattingColumn.PLATE_APPEARANCES;
+            default -> null;
+        };
+        if (ascending != stat.lowerIsBetter() || qualifier != queryQualifier) {
+            return null;
+        }
+        Pageable top = PageRequest.of(0, limit);
+        int min = minimum != null ? minimum.intValue() : 0;
+        return switch (stat) {
+            case HOME_RUNS -> battingStatsRepository.findTopHomeRunHitters(season, top);
+            case BATTING_AVG -> battingStatsRepository.findTopBattingAverage(season, min, top);
+            case RBI -> battingStatsRepository.findTopRbi(season, top);
+            case RUNS -> battingStatsRepository.findTopRuns(season, top);
+            case HITS -> battingStatsRepository.findTopHits(season, top);
+            case STOLEN_BASES -> battingStatsRepository.findTopStolenBases(season, top);
+            case OPS -> battingStatsRepository.findTopOps(season, min, top);
+            case WAR -> battingStatsRepository.findTopWar(season, top);
+            case WOBA -> battingStatsRepository.findTopWoba(season, min, top);
+            case WRC_PLUS -> battingStatsRepository.findTopWrcPlus(season, min, top);
+            case AVG_EXIT_VELOCITY -> battingStatsRepository.findTopExitVelocity(season, min, top);
+            case BARREL_PCT -> battingStatsRepository.findTopBarrelPct(season, min, top);
+            default -> null;
+        };
+    }
+
+    /**
+     * Like {@link #queryBatting}, for the pitching leaderboards.
+     */
+    private List<PlayerPitchingStats> queryPitching(int season, PitchingColumn stat, boolean ascending,
+                                                    PitchingColumn qualifier, BigDecimal minimum, int limit) {
+        PitchingColumn queryQualifier = switch (stat) {
+            case ERA, WHIP, FIP, XFIP, XERA, WHIFF_PCT -> PitchingColumn.INNINGS_PITCHED;
+            default -> null;
+        };
+        if (ascending != stat.lowerIsBetter() || qualifier != queryQualifier) {
+            return null;
+        }
+        Pageable top = PageRequest.of(0, limit);
+        BigDecimal min = minimum != null ? minimum : BigDecimal.ZERO;
+        return switch (stat) {
+            case WINS -> pitchingStatsRepository.findTopWinners(season, top);
+            case ERA -> pitchingStatsRepository.findTopEra(season, min, top);
+            case STRIKEOUTS -> pitchingStatsRepository.findTopStrikeouts(season, top);
+            case SAVES -> pitchingStatsRepository.findTopSaves(season, top);
+            case WHIP -> pitchingStatsRepository.findTopWhip(season, min, top);
+            case WAR -> pitchingStatsRepository.findTopWar(season, top);
+            case FIP -> pitchingStatsRepository.findTopFip(season, min, top);
+            case XFIP -> pitchingStatsRepository.findTopXfip(season, min, top);
+            case XERA -> pitchingStatsRepository.findTopXera(season, min, top);
+            case WHIFF_PCT -> pitchingStatsRepository.findTopWhiffPct(season, min, top);
+            default -> null;
+        };
+    }
+
+    private Season build(int season, String version) {
+        long start = System.currentTimeMillis();
+        LeaderboardTable<BattingStatsDto> batting = LeaderboardTable.build(
+                battingStatsRepository.findBySeasonWithPlayerAndTeam(season), BattingColumn.class,
+                BattingStatsDto::fromEntity, stats -> row(stats.getId(), stats.getPlayer(), stats.getTeam()));
+        LeaderboardTable<PitchingStatsDto> pitching = LeaderboardTable.build(
+                pitchingStatsRepository.findBySeasonWithPlayerAndTeam(season), PitchingColumn.class,
+                PitchingStatsDto::fromEntity, stats -> row(stats.getId(), stats.getPlayer(), stats.getTeam()));
+        log.debug("Built {} leaderboards ({} batting, {} pitching rows) in {} ms", season, batting.size(),
+                pitching.size(), System.currentTimeMillis() - start);
+        return new Season(version, System.nanoTime(), batting, pitching);
+    }
+
+    private static LeaderboardTable.Row row(Long id, Player player, Team team) {
+        return new LeaderboardTable.Row(id, team != null ? team.getId() : null, team != null ? team.getLeague() : null,
+                player != null ? player.getPosition() : null);
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+    }
+}
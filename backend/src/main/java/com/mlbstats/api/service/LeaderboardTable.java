@@ -0,0 +1,240 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.domain.stats.StatColumn;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * One season's stats rows held column by column as scaled ints, with each row's DTO built
+ * once up front. A top-N query is a single pass over one or two int arrays keeping the N
+ * best rows in a small heap, so it never touches the database or allocates per row.
+ * <p>
+ * Rows are expected in id order, so ties (which keep load order) also break by id and a
+ * {@link Cursor} of the last row's value and id stays valid across rebuilds.
+ *
+ * @param <D> the DTO returned for a row
+ */
+final class LeaderboardTable<D> {
+
+    /**
+     * What a row can be filtered on besides its stats.
+     */
+    record Row(long id, Long teamId, String league, String position) {}
+
+    /**
+     * Keyset position after a returned row: its scaled value and id. Clients get it as an
+     * opaque token.
+     */
+    record Cursor(int value, long id) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((value + ":" + id).getBytes(StandardCharsets.US_ASCII));
+        }
+
+        static Cursor decode(String token) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+                int separator = decoded.indexOf(':');
+                return new Cursor(Integer.parseInt(decoded.substring(0, separator)),
+                        Long.parseLong(decoded.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+        }
+    }
+
+    /**
+     * A page of rows, with the cursor to continue from or null when there are no more.
+     */
+    record Slice<D>(List<D> rows, Cursor next) {}
+
+    private final List<D> rows;
+    private final List<Row> facets;
+    private final long[] ids;
+    // columns[column.ordinal()][row]
+    private final int[][] columns;
+
+    private LeaderboardTable(List<D> rows, List<Row> facets, int[][] columns) {
+        this.rows = rows;
+        this.facets = facets;
+        this.ids = facets.stream().mapToLong(Row::id).toArray();
+        this.columns = columns;
+    }
+
+    static <E, C extends Enum<C> & StatColumn<E>, D> LeaderboardTable<D> build(
+            List<E> entities, Class<C> columnType, Function<E, D> toDto, Function<E, Row> toRow) {
+        C[] statColumns = columnType.getEnumConstants();
+        int[][] columns = new int[statColumns.length][entities.size()];
+        List<D> rows = new ArrayList<>(entities.size());
+        List<Row> facets = new ArrayList<>(entities.size());
+        for (int row = 0; row < entities.size(); row++) {
+            E entity = entities.get(row);
+            for (C column : statColumns) {
+                columns[column.ordinal()][row] = column.scaledValueOf(entity);
+            }
+            rows.add(toDto.apply(entity));
+            facets.add(toRow.apply(entity));
+        }
+        return new LeaderboardTable<>(List.copyOf(rows), List.copyOf(facets), columns);
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * The best {@code limit} rows by {@code column}, skipping rows without a value and rows
+     * whose {@code qualifier} is missing or below {@code minimum} (a scaled value). Ties keep
+     * load order.
+     *
+     * @param qualifier column ordinal to filter on, or -1 for none
+     */
+    List<D> top(int column, boolean ascending, int qualifier, int minimum, int limit) {
+        return page(column, ascending, qualifier, minimum, null, null, limit).rows();
+    }
+
+    /**
+     * Like {@link #top}, but only over rows accepted by {@code filter} (when given) that rank
+     * after {@code after} (when given), so pages can be walked with the returned cursor.
+     */
+    Slice<D> page(int column, boolean ascending, int qualifier, int minimum, IntPredicate filter, Cursor after,
+                  int limit) {
+        int[] values = columns[column];
+        int[] qualifying = qualifier >= 0 ? columns[qualifier] : null;
+
+        // One extra row tells whether there is a next page
+        int wanted = limit == Integer.MAX_VALUE ? limit : limit + 1;
+        // Max-heap on "worse", so the root is the row to drop when a better one turns up
+        int[] heap = new int[Math.min(wanted, rows.size())];
+        int size = 0;
+        for (int row = 0; row < values.length; row++) {
+            if (values[row] == StatColumn.NULL
+                    || qualifying != null && (qualifying[row] == StatColumn.NULL || qualifying[row] < minimum)
+                    || after != null && !ranksAfter(row, after, values, ascending)
+                    || filter != null && !filter.test(row)) {
+                continue;
+            }
+            if (size < heap.length) {
+                heap[size] = row;
+                siftUp(heap, size++, values, ascending);
+            } else if (size > 0 && better(row, heap[0], values, ascending)) {
+                heap[0] = row;
+                siftDown(heap, size, values, ascending);
+            }
+        }
+
+        // Best first; N is small, so an insertion sort is enough
+        for (int i = 1; i < size; i++) {
+            int row = heap[i];
+            int j = i - 1;
+            while (j >= 0 && better(row, heap[j], values, ascending)) {
+                heap[j + 1] = heap[j];
+                j--;
+            }
+            heap[j + 1] = row;
+        }
+
+        int returned = Math.min(size, limit);
+        List<D> result = new ArrayList<>(returned);
+        for (int i = 0; i < returned; i++) {
+            result.add(rows.get(heap[i]));
+        }
+        Cursor next = size > limit ? new Cursor(values[heap[returned - 1]], ids[heap[returned - 1]]) : null;
+        return new Slice<>(result, next);
+    }
+
+    /**
+     * Accepts rows matching every non-null argument; league also matches by its initials, e.g. "AL".
+     */
+    IntPredicate filter(Long teamId, String league, String position) {
+        if (teamId == null && league == null && position == null) {
+            return null;
+        }
+        // Resolve the league once per query rather than once per row
+        Set<String> leagues = league == null ? null : facets.stream()
+                .map(Row::league)
+                .filter(name -> leagueMatches(name, league))
+                .collect(Collectors.toSet());
+        return row -> {
+            Row facet = facets.get(row);
+            return (teamId == null || teamId.equals(facet.teamId()))
+                    && (leagues == null || leagues.contains(facet.league()))
+                    && (position == null || position.equalsIgnoreCase(facet.position()));
+        };
+    }
+
+    private boolean ranksAfter(int row, Cursor after, int[] values, boolean ascending) {
+        if (values[row] != after.value()) {
+            return ascending ? values[row] > after.value() : values[row] < after.value();
+        }
+        return ids[row] > after.id();
+    }
+
+    private static boolean leagueMatches(String league, String filter) {
+        if (league == null) {
+            return false;
+        }
+        if (league.equalsIgnoreCase(filter)) {
+            return true;
+        }
+        StringBuilder initials = new StringBuilder();
+        for (String word : league.split("\\s+")) {
+            if (!word.isEmpty()) {
+                initials.append(word.charAt(0));
+            }
+        }
+        return initials.toString().equalsIgnoreCase(filter);
+    }
+
+    private static boolean better(int a, int b, int[] values, boolean ascending) {
+        if (values[a] != values[b]) {
+            return ascending ? values[a] < values[b] : values[a] > values[b];
+        }
+        return a < b;
+    }
+
+    private static void siftUp(int[] heap, int index, int[] values, boolean ascending) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!better(heap[parent], heap[index], values, ascending)) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, int[] values, boolean ascending) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            int right = left + 1;
+            int worst = index;
+            if (left < size && better(heap[worst], heap[left], values, ascending)) {
+                worst = left;
+            }
+            if (right < size && better(heap[worst], heap[right], values, ascending)) {
+                worst = right;
+            }
+            if (worst == index) {
+                return;
+            }
+            swap(heap, worst, index);
+            index = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+}
@@ -0,0 +1,205 @@
+package com.mlbstats.api.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix index over the words of some names, for search-as-you-type. Every query word must
+ * start a word of the entry, so "judg", "aaron j" and "yank" all match. Names are folded to
+ * lowercase ASCII first, so "jose" finds "José" and "oneill" finds "O'Neill".
+ * <p>
+ * Results rank by how the query matches (the start of the full name, then of the secondary
+ * name such as a last name or team nickname, then any word) and then by the order entries
+ * were given in, which callers use for popularity.
+ *
+ * @param <T> the value returned for an entry
+ */
+final class NameIndex<T> {
+
+    /**
+     * An entry's searchable names: the full name, a secondary name ranked next (may be null),
+     * and any other names that should match, e.g. an abbreviation.
+     */
+    record Names(String primary, String secondary, List<String> others) {}
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern JOINERS = Pattern.compile("['’.]");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private final List<T> values;
+    private final String[] primaries;
+    private final String[] secondaries;
+    private final String[][] words;
+    // Every (word, entry) pair, sorted by word, for binary-searching a prefix's range
+    private final String[] postingWords;
+    private final int[] postingEntries;
+
+    private NameIndex(List<T> values, String[] primaries, String[] secondaries, String[][] words,
+                      String[] postingWords, int[] postingEntries) {
+        this.values = values;
+        this.primaries = primaries;
+        this.secondaries = secondaries;
+        this.words = words;
+        this.postingWords = postingWords;
+        this.postingEntries = postingEntries;
+    }
+
+    /**
+     * @param values entries, most popular first
+     */
+    static <T> NameIndex<T> build(List<T> values, Function<T, Names> namesOf) {
+        int size = values.size();
+        String[] primaries = new String[size];
+        String[] secondaries = new String[size];
+        String[][] words = new String[size][];
+        List<String> postingWords = new ArrayList<>();
+        List<Integer> postingEntries = new ArrayList<>();
+        for (int entry = 0; entry < size; entry++) {
+            Names names = namesOf.apply(values.get(entry));
+            primaries[entry] = normalize(names.primary());
+            secondaries[entry] = names.secondary() != null ? normalize(names.secondary()) : "";
+            Set<String> entryWords = new LinkedHashSet<>(words(primaries[entry]));
+            entryWords.addAll(words(secondaries[entry]));
+            names.others().forEach(other -> entryWords.addAll(words(normalize(other))));
+            words[entry] = entryWords.toArray(String[]::new);
+            for (String word : entryWords) {
+                postingWords.add(word);
+                postingEntries.add(entry);
+            }
+        }
+
+        Integer[] order = new Integer[postingWords.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparing(postingWords::get));
+        String[] sortedWords = new String[order.length];
+        int[] sortedEntries = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedWords[i] = postingWords.get(order[i]);
+            sortedEntries[i] = postingEntries.get(order[i]);
+        }
+        return new NameIndex<>(List.copyOf(values), primaries, secondaries, words, sortedWords, sortedEntries);
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    /**
+     * The best {@code limit} entries matching every word of {@code query}.
+     */
+    List<T> search(String query, int limit) {
+        String normalized = normalize(query);
+        List<String> queryWords = words(normalized);
+        if (queryWords.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        // Walk the narrowest word's postings and check the other words per entry
+        int from = 0;
+        int to = postingWords.length;
+        for (String word : queryWords) {
+            int start = lowerBound(word);
+            int end = lowerBound(word + Character.MAX_VALUE);
+            if (end - start < to - from) {
+                from = start;
+                to = end;
+            }
+        }
+
+        // best[i] holds entries ordered by (tier, entry); k is small, so insertion is enough
+        int[] best = new int[limit];
+        int[] tiers = new int[limit];
+        int found = 0;
+        for (int posting = from; posting < to; posting++) {
+            int entry = postingEntries[posting];
+            if (contains(best, found, entry) || !matchesAll(entry, queryWords)) {
+                continue;
+            }
+            int tier = primaries[entry].startsWith(normalized) ? 0
+                    : secondaries[entry].startsWith(normalized) ? 1 : 2;
+            int at = found;
+            while (at > 0 && (tiers[at - 1] > tier || tiers[at - 1] == tier && best[at - 1] > entry)) {
+                at--;
+            }
+            if (at >= limit) {
+                continue;
+            }
+            int moved = Math.min(found, limit - 1) - at;
+            System.arraycopy(best, at, best, at + 1, moved);
+            System.arraycopy(tiers, at, tiers, at + 1, moved);
+            best[at] = entry;
+            tiers[at] = tier;
+            found = Math.min(found + 1, limit);
+        }
+
+        List<T> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            result.add(values.get(best[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Lowercase ASCII with accents dropped, apostrophes and periods removed ("J.D." is "jd")
+     * and any other punctuation turned into single spaces.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        folded = JOINERS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll("");
+        return SEPARATORS.matcher(folded).replaceAll(" ").trim();
+    }
+
+    private boolean matchesAll(int entry, List<String> queryWords) {
+        for (String queryWord : queryWords) {
+            boolean matched = false;
+            for (String word : words[entry]) {
+                if (word.startsWith(queryWord)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = postingWords.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (postingWords[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean contains(int[] entries, int count, int entry) {
+        for (int i = 0; i < count; i++) {
+            if (entries[i] == entry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> words(String normalized) {
+        return normalized.isEmpty() ? List.of() : List.of(normalized.split(" "));
+    }
+}
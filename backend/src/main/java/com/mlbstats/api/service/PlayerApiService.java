@@ -1,30 +1,46 @@
 package com.mlbstats.api.service;
 
 import com.mlbstats.api.dto.*;
+import com.mlbstats.api.service.LeaderboardEngine.Facets;
+import com.mlbstats.api.service.LeaderboardTable.Cursor;
+import com.mlbstats.api.service.LeaderboardTable.Slice;
 import com.mlbstats.common.config.CacheConfig;
 import com.mlbstats.common.exception.ResourceNotFoundException;
 import com.mlbstats.common.util.DateUtils;
+import com.mlbstats.common.util.KeysetCursor;
 import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.player.PlayerFacetFilter;
+import com.mlbstats.domain.player.PlayerNameSearch;
 import com.mlbstats.domain.player.PlayerRepository;
 import com.mlbstats.domain.player.PlayerSearchCriteria;
 import com.mlbstats.domain.player.PlayerSpecification;
-import com.mlbstats.domain.stats.PlayerBattingStats;
+import com.mlbstats.domain.stats.BattingColumn;
+import com.mlbstats.domain.stats.BattingTotals;
+import com.mlbstats.domain.stats.LeaderboardCriteria;
+import com.mlbstats.domain.stats.PitchingColumn;
+import com.mlbstats.domain.stats.PitchingTotals;
+import com.mlbstats.domain.stats.PlayerBattingSplit;
+import com.mlbstats.domain.stats.PlayerBattingSplitRepository;
 import com.mlbstats.domain.stats.PlayerBattingStatsRepository;
 import com.mlbstats.domain.stats.PlayerGameBattingRepository;
 import com.mlbstats.domain.stats.PlayerGamePitchingRepository;
-import com.mlbstats.domain.stats.PlayerPitchingStats;
+import com.mlbstats.domain.stats.PlayerPitchingSplit;
+import com.mlbstats.domain.stats.PlayerPitchingSplitRepository;
 import com.mlbstats.domain.stats.PlayerPitchingStatsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,33 +48,111 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PlayerApiService {
 
+    static final int MAX_LEADERS_PAGE_SIZE = 100;
+    static final int MAX_PLAYERS_PAGE_SIZE = 100;
+    public static final int MAX_COMPARED_PLAYERS = 25;
+
+    private static final Sort NAME_ORDER = Sort.by("fullName", "id");
+
     private final PlayerRepository playerRepository;
+    private final PlayerNameSearch playerNameSearch;
+    private final PlayerFacetIndex playerFacetIndex;
     private final PlayerBattingStatsRepository battingStatsRepository;
     private final PlayerPitchingStatsRepository pitchingStatsRepository;
     private final PlayerGameBattingRepository gameBattingRepository;
     private final PlayerGamePitchingRepository gamePitchingRepository;
+    private final PlayerBattingSplitRepository battingSplitRepository;
+    private final PlayerPitchingSplitRepository pitchingSplitRepository;
+    private final LeaderboardEngine leaderboardEngine;
 
     public PageDto<PlayerDto> getAllPlayers(Pageable pageable) {
         Page<Player> page = playerRepository.findByActiveTrue(pageable);
         return PageDto.fromPage(page, PlayerDto::fromEntity);
     }
 
+    /**
+     * Active players in name order after {@code cursor}, or from the start when it is blank.
+     * Totals are only counted when asked for.
+     */
+    public PageDto<PlayerDto> getAllPlayers(String cursor, int size, boolean count) {
+        checkPageSize(size);
+        KeysetCursor after = decodeCursor(cursor);
+        List<Player> players = after == null
+                ? playerRepository.findByActiveTrueOrderByFullNameAscIdAsc(Limit.of(size + 1))
+                : playerRepository.findActiveAfter(after.key(), after.id(), Limit.of(size + 1));
+        return PageDto.fromKeyset(players, size, after == null,
+                player -> new KeysetCursor(player.getFullName(), player.getId()).encode(),
+                PlayerDto::fromEntity, count ? playerRepository.countByActiveTrue() : null);
+    }
+
     public PageDto<PlayerDto> searchPlayers(String search, Pageable pageable) {
         Page<Player> page = playerRepository.searchPlayers(search, pageable);
         return PageDto.fromPage(page, PlayerDto::fromEntity);
     }
 
+    /**
+     * With a search term on Postgres, results are ranked by name relevance instead of the
+     * pageable's sort. Without one, filters are answered by the {@link PlayerFacetIndex} in
+     * name order while it is enabled, and by a query otherwise.
+     */
     public PageDto<PlayerDto> searchPlayersWithFilters(PlayerSearchCriteria criteria, Pageable pageable) {
-        Page<Player> page = playerRepository.findAll(PlayerSpecification.withCriteria(criteria), pageable);
+        boolean hasSearch = criteria.search() != null && !criteria.search().isBlank();
+        if (!hasSearch && playerFacetIndex.isEnabled()) {
+            return playerFacetIndex.query(PlayerFacetFilter.of(criteria), pageable.getPageNumber(),
+                    pageable.getPageSize()).page();
+        }
+        Page<Player> page = hasSearch && playerNameSearch.isSupported()
+                ? playerNameSearch.search(criteria, pageable)
+                : playerRepository.findAll(PlayerSpecification.withCriteria(criteria), pageable);
         return PageDto.fromPage(page, PlayerDto::fromEntity);
     }
 
-    @Cacheable(value = CacheConfig.SEARCH, key = "'player_' + #search + '_' + #limit")
-    public List<PlayerDto> searchPlayers(String search, int limit) {
-        return playerRepository.searchPlayersByName(search).stream()
-                .limit(limit)
-                .map(PlayerDto::fromEntity)
-                .toList();
+    /**
+     * Like {@link #searchPlayersWithFilters(PlayerSearchCriteria, Pageable)} but after
+     * {@code cursor} (from the start when blank). Only filters are supported, since results
+     * for a search term are ranked by relevance rather than by name. Totals are only counted
+     * when asked for, except from the facet index where they come for free.
+     */
+    public PageDto<PlayerDto> searchPlayersWithFilters(PlayerSearchCriteria criteria, String cursor, int size,
+                                                       boolean count) {
+        if (criteria.search() != null && !criteria.search().isBlank()) {
+            throw new IllegalArgumentException("cursor paging is not available with a search term; use page instead");
+        }
+        checkPageSize(size);
+        KeysetCursor after = decodeCursor(cursor);
+        if (playerFacetIndex.isEnabled()) {
+            return playerFacetIndex.query(PlayerFacetFilter.of(criteria), after, size).page();
+        }
+        Specification<Player> filters = PlayerSpecification.withCriteria(criteria);
+        Specification<Player> page = after != null
+                ? filters.and(PlayerSpecification.after(after.key(), after.id()))
+                : filters;
+        List<Player> players = playerRepository.findBy(page,
+                query -> query.sortBy(NAME_ORDER).limit(size + 1).all());
+        return PageDto.fromKeyset(players, size, after == null,
+                player -> new KeysetCursor(player.getFullName(), player.getId()).encode(),
+                PlayerDto::fromEntity, count ? playerRepository.count(filters) : null);
+    }
+
+    /**
+     * Players matching {@code filter} in name order, with counts for each facet's values. A
+     * non-null {@code cursor} pages by cursor instead of by {@code page}.
+     */
+    public FacetedPageDto<PlayerDto> browsePlayers(PlayerFacetFilter filter, String cursor, int page, int size) {
+        checkPageSize(size);
+        return cursor != null
+                ? playerFacetIndex.query(filter, decodeCursor(cursor), size)
+                : playerFacetIndex.query(filter, page, size);
+    }
+
+    private static KeysetCursor decodeCursor(String cursor) {
+        return cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+    }
+
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PLAYERS_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PLAYERS_PAGE_SIZE);
+        }
     }
 
     @Cacheable(value = CacheConfig.PLAYERS, key = "#id")
@@ -90,161 +184,183 @@ public class PlayerApiService {
                 .toList();
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'hr_' + #season + '_' + #limit")
+    /**
+     * One page of any batting or pitching stat's leaderboard, optionally narrowed by team,
+     * league and position, continuing from {@link LeaderboardCriteria#cursor()} when given.
+     */
+    public LeaderboardPageDto<?> getLeaders(LeaderboardCriteria criteria) {
+        if (criteria.limit() < 1 || criteria.limit() > MAX_LEADERS_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LEADERS_PAGE_SIZE);
+        }
+        if (!"batting".equalsIgnoreCase(criteria.group()) && !criteria.isPitching()) {
+            throw new IllegalArgumentException("group must be batting or pitching");
+        }
+        int season = criteria.season() != null ? criteria.season() : DateUtils.getCurrentSeason();
+        Cursor after = criteria.cursor() != null ? Cursor.decode(criteria.cursor()) : null;
+        Facets facets = new Facets(criteria.teamId(), criteria.league(), criteria.position());
+
+        if (criteria.isPitching()) {
+            PitchingColumn stat = PitchingColumn.fromKey(criteria.stat())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown pitching stat: " + criteria.stat()));
+            boolean ascending = ascending(criteria.order(), stat.lowerIsBetter());
+            Slice<PitchingStatsDto> slice = leaderboardEngine.pagePitching(season, stat, ascending,
+                    criteria.minimum() != null ? PitchingColumn.INNINGS_PITCHED : null, criteria.minimum(),
+                    facets, after, criteria.limit());
+            return leadersPage("pitching", stat.key(), ascending, season, slice);
+        }
+        BattingColumn stat = BattingColumn.fromKey(criteria.stat())
+                .orElseThrow(() -> new IllegalArgumentException("Unknown batting stat: " + criteria.stat()));
+        boolean ascending = ascending(criteria.order(), stat.lowerIsBetter());
+        Slice<BattingStatsDto> slice = leaderboardEngine.pageBatting(season, stat, ascending,
+                criteria.minimum() != null ? BattingColumn.PLATE_APPEARANCES : null, criteria.minimum(),
+                facets, after, criteria.limit());
+        return leadersPage("batting", stat.key(), ascending, season, slice);
+    }
+
+    private static boolean ascending(String order, boolean lowerIsBetter) {
+        if (order == null) {
+            return lowerIsBetter;
+        }
+        return switch (order.toLowerCase()) {
+            case "asc" -> true;
+            case "desc" -> false;
+            default -> throw new IllegalArgumentException("order must be asc or desc");
+        };
+    }
+
+    private static <T> LeaderboardPageDto<T> leadersPage(String group, String stat, boolean ascending, int season,
+                                                         Slice<T> slice) {
+        return new LeaderboardPageDto<>(group, stat, ascending ? "asc" : "desc", season, slice.rows(),
+                slice.next() != null ? slice.next().encode() : null);
+    }
+
     public List<BattingStatsDto> getTopHomeRunHitters(Integer season, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopHomeRunHitters(season).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.HOME_RUNS, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'avg_' + #season + '_' + #minAtBats + '_' + #limit")
     public List<BattingStatsDto> getTopBattingAverage(Integer season, int minAtBats, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopBattingAverage(season, minAtBats).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.BATTING_AVG, BattingColumn.BATTING_AVG.lowerIsBetter(),
+                BattingColumn.AT_BATS, BigDecimal.valueOf(minAtBats), limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'wins_' + #season + '_' + #limit")
     public List<PitchingStatsDto> getTopWinners(Integer season, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return pitchingStatsRepository.findTopWinners(season).stream()
-                .limit(limit)
-                .map(PitchingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topPitching(season, PitchingColumn.WINS, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'so_' + #season + '_' + #limit")
     public List<PitchingStatsDto> getTopStrikeouts(Integer season, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return pitchingStatsRepository.findTopStrikeouts(season).stream()
-                .limit(limit)
-                .map(PitchingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topPitching(season, PitchingColumn.STRIKEOUTS, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'rbi_' + #season + '_' + #limit")
     public List<BattingStatsDto> getTopRbi(Integer season, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopRbi(season).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.RBI, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'runs_' + #season + '_' + #limit")
     public List<BattingStatsDto> getTopRuns(Integer season, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopRuns(season).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.RUNS, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'hits_' + #season + '_' + #limit")
     public List<BattingStatsDto> getTopHits(Integer season, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopHits(season).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.HITS, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'sb_' + #season + '_' + #limit")
     public List<BattingStatsDto> getTopStolenBases(Integer season, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopStolenBases(season).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.STOLEN_BASES, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'ops_' + #season + '_' + #minAtBats + '_' + #limit")
     public List<BattingStatsDto> getTopOps(Integer season, int minAtBats, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopOps(season, minAtBats).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.OPS, BattingColumn.OPS.lowerIsBetter(),
+                BattingColumn.AT_BATS, BigDecimal.valueOf(minAtBats), limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'era_' + #season + '_' + #minInnings + '_' + #limit")
-    public List<PitchingStatsDto> getTopEra(Integer season, java.math.BigDecimal minInnings, int limit) {
+    public List<PitchingStatsDto> getTopEra(Integer season, BigDecimal minInnings, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return pitchingStatsRepository.findTopEra(season, minInnings).stream()
-                .limit(limit)
-                .map(PitchingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topPitching(season, PitchingColumn.ERA, PitchingColumn.ERA.lowerIsBetter(),
+                PitchingColumn.INNINGS_PITCHED, minInnings, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'saves_' + #season + '_' + #limit")
     public List<PitchingStatsDto> getTopSaves(Integer season, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return pitchingStatsRepository.findTopSaves(season).stream()
-                .limit(limit)
-                .map(PitchingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topPitching(season, PitchingColumn.SAVES, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'whip_' + #season + '_' + #minInnings + '_' + #limit")
-    public List<PitchingStatsDto> getTopWhip(Integer season, java.math.BigDecimal minInnings, int limit) {
+    public List<PitchingStatsDto> getTopWhip(Integer season, BigDecimal minInnings, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return pitchingStatsRepository.findTopWhip(season, minInnings).stream()
-                .limit(limit)
-                .map(PitchingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topPitching(season, PitchingColumn.WHIP, PitchingColumn.WHIP.lowerIsBetter(),
+                PitchingColumn.INNINGS_PITCHED, minInnings, limit);
     }
 
     public List<BattingGameLogDto> getPlayerBattingGameLog(Long playerId, Integer season) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return gameBattingRepository.findByPlayerIdAndSeason(playerId, season).stream()
-                .map(BattingGameLogDto::fromEntity)
-                .toList();
+        return gameBattingRepository.findGameLog(playerId, season);
     }
 
     public List<PitchingGameLogDto> getPlayerPitchingGameLog(Long playerId, Integer season) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return gamePitchingRepository.findByPlayerIdAndSeason(playerId, season).stream()
-                .map(PitchingGameLogDto::fromEntity)
+        return gamePitchingRepository.findGameLog(playerId, season);
+    }
+
+    public List<BattingSplitDto> getPlayerBattingSplits(Long playerId, Integer season) {
+        if (season == null) {
+            season = DateUtils.getCurrentSeason();
+        }
+        return battingSplitRepository.findByPlayerIdAndSeason(playerId, season).stream()
+                .sorted(Comparator.comparing(PlayerBattingSplit::getSplitType))
+                .map(BattingSplitDto::fromEntity)
+                .toList();
+    }
+
+    public List<PitchingSplitDto> getPlayerPitchingSplits(Long playerId, Integer season) {
+        if (season == null) {
+            season = DateUtils.getCurrentSeason();
+        }
+        return pitchingSplitRepository.findByPlayerIdAndSeason(playerId, season).stream()
+                .sorted(Comparator.comparing(PlayerPitchingSplit::getSplitType))
+                .map(PitchingSplitDto::fromEntity)
                 .toList();
     }
 
     @Cacheable(value = CacheConfig.PLAYER_COMPARISON, key = "'compare_' + #playerIds + '_' + #seasons + '_' + #careerMode")
     public PlayerComparisonDto comparePlayerStats(List<Long> playerIds, List<Integer> seasons, boolean careerMode) {
         // Validate player count
-        if (playerIds.size() < 2 || playerIds.size() > 4) {
-            throw new IllegalArgumentException("Must compare between 2 and 4 players");
+        if (playerIds.size() < 2 || playerIds.size() > MAX_COMPARED_PLAYERS) {
+            throw new IllegalArgumentException("Must compare between 2 and " + MAX_COMPARED_PLAYERS + " players");
         }
 
         // Validate seasons for season mode
@@ -263,332 +379,133 @@ public class PlayerApiService {
             }
         }
 
-        List<PlayerComparisonDto.PlayerComparisonEntry> entries;
-
+        // One grouped query per side, however many players are compared
+        Map<String, BattingTotals> battingTotals;
+        Map<String, PitchingTotals> pitchingTotals;
         if (careerMode) {
-            entries = buildCareerEntries(playerIds, playersMap);
+            battingTotals = battingStatsRepository.sumCareerByPlayer(playerIds).stream()
+                    .collect(Collectors.toMap(t -> totalsKey(t.playerId(), null), t -> t));
+            pitchingTotals = pitchingStatsRepository.sumCareerByPlayer(playerIds).stream()
+                    .collect(Collectors.toMap(t -> totalsKey(t.playerId(), null), t -> t));
         } else {
-            entries = buildSeasonEntries(playerIds, seasons, playersMap);
+            battingTotals = battingStatsRepository.sumByPlayerAndSeason(playerIds, seasons).stream()
+                    .collect(Collectors.toMap(t -> totalsKey(t.playerId(), t.season()), t -> t));
+            pitchingTotals = pitchingStatsRepository.sumByPlayerAndSeason(playerIds, seasons).stream()
+                    .collect(Collectors.toMap(t -> totalsKey(t.playerId(), t.season()), t -> t));
         }
 
-        PlayerComparisonDto.ComparisonLeaders leaders = calculateLeaders(entries);
-
-        return new PlayerComparisonDto(
-                careerMode ? "career" : "season",
-                entries,
-                leaders
-        );
-    }
-
-    private List<PlayerComparisonDto.PlayerComparisonEntry> buildCareerEntries(
-            List<Long> playerIds, Map<Long, Player> playersMap) {
-
-        // Batch fetch all stats for all players
-        List<PlayerBattingStats> allBattingStats = battingStatsRepository.findByPlayerIdIn(playerIds);
-        List<PlayerPitchingStats> allPitchingStats = pitchingStatsRepository.findByPlayerIdIn(playerIds);
-
-        // Group by player
-        Map<Long, List<PlayerBattingStats>> battingByPlayer = allBattingStats.stream()
-                .collect(Collectors.groupingBy(s -> s.getPlayer().getId()));
-        Map<Long, List<PlayerPitchingStats>> pitchingByPlayer = allPitchingStats.stream()
-                .collect(Collectors.groupingBy(s -> s.getPlayer().getId()));
-
-        return playerIds.stream().map(playerId -> {
-            Player player = playersMap.get(playerId);
-            List<PlayerBattingStats> battingStats = battingByPlayer.getOrDefault(playerId, List.of());
-            List<PlayerPitchingStats> pitchingStats = pitchingByPlayer.getOrDefault(playerId, List.of());
-
-            return new PlayerComparisonDto.PlayerComparisonEntry(
-                    PlayerDto.fromEntity(player),
-                    null, // career mode has no season
-                    PlayerComparisonDto.ComparisonBattingStats.aggregateCareer(battingStats),
-                    PlayerComparisonDto.ComparisonPitchingStats.aggregateCareer(pitchingStats)
-            );
-        }).toList();
-    }
-
-    private List<PlayerComparisonDto.PlayerComparisonEntry> buildSeasonEntries(
-            List<Long> playerIds, List<Integer> seasons, Map<Long, Player> playersMap) {
-
-        return java.util.stream.IntStream.range(0, playerIds.size())
+        List<PlayerComparisonDto.PlayerComparisonEntry> entries = java.util.stream.IntStream.range(0, playerIds.size())
                 .mapToObj(i -> {
                     Long playerId = playerIds.get(i);
-                    Integer season = seasons.get(i);
-                    Player player = playersMap.get(playerId);
-
-                    // Use list-returning methods and aggregate (handles traded players with multiple team rows)
-                    List<PlayerBattingStats> battingStatsList = battingStatsRepository
-                            .findByPlayerIdAndSeason(playerId, season);
-                    List<PlayerPitchingStats> pitchingStatsList = pitchingStatsRepository
-                            .findByPlayerIdAndSeason(playerId, season);
-
-                    // Aggregate stats across all teams for the season
-                    PlayerComparisonDto.ComparisonBattingStats battingStats =
-                            PlayerComparisonDto.ComparisonBattingStats.aggregateCareer(battingStatsList);
-                    PlayerComparisonDto.ComparisonPitchingStats pitchingStats =
-                            PlayerComparisonDto.ComparisonPitchingStats.aggregateCareer(pitchingStatsList);
-
+                    Integer season = careerMode ? null : seasons.get(i);
+                    String key = totalsKey(playerId, season);
                     return new PlayerComparisonDto.PlayerComparisonEntry(
-                            PlayerDto.fromEntity(player),
+                            PlayerDto.fromEntity(playersMap.get(playerId)),
                             season,
-                            battingStats,
-                            pitchingStats
+                            PlayerComparisonDto.ComparisonBattingStats.fromTotals(battingTotals.get(key)),
+                            PlayerComparisonDto.ComparisonPitchingStats.fromTotals(pitchingTotals.get(key))
                     );
                 }).toList();
-    }
 
-    private PlayerComparisonDto.ComparisonLeaders calculateLeaders(
-            List<PlayerComparisonDto.PlayerComparisonEntry> entries) {
-
-        Map<String, Long> battingLeaders = new HashMap<>();
-        Map<String, Long> pitchingLeaders = new HashMap<>();
-
-        // Batting stats - higher is better
-        Set<String> battingHigherBetter = Set.of(
-                "gamesPlayed", "atBats", "runs", "hits", "doubles", "triples",
-                "homeRuns", "rbi", "stolenBases", "walks", "battingAvg", "obp",
-                "slg", "ops", "plateAppearances", "totalBases", "extraBaseHits"
-        );
-        // Batting stats - lower is better
-        Set<String> battingLowerBetter = Set.of("strikeouts", "caughtStealing");
-
-        // Pitching stats - higher is better
-        Set<String> pitchingHigherBetter = Set.of(
-                "gamesPlayed", "gamesStarted", "wins", "saves", "holds",
-                "inningsPitched", "strikeouts", "kPer9", "completeGames", "shutouts"
-        );
-        // Pitching stats - lower is better
-        Set<String> pitchingLowerBetter = Set.of(
-                "losses", "hitsAllowed", "runsAllowed", "earnedRuns",
-                "homeRunsAllowed", "walks", "era", "whip", "bbPer9"
+        return new PlayerComparisonDto(
+                careerMode ? "career" : "season",
+                entries,
+                calculateLeaders(entries)
         );
-
-        // Calculate batting leaders
-        for (String stat : battingHigherBetter) {
-            findBattingLeader(entries, stat, true).ifPresent(id -> battingLeaders.put(stat, id));
-        }
-        for (String stat : battingLowerBetter) {
-            findBattingLeader(entries, stat, false).ifPresent(id -> battingLeaders.put(stat, id));
-        }
-
-        // Calculate pitching leaders
-        for (String stat : pitchingHigherBetter) {
-            findPitchingLeader(entries, stat, true).ifPresent(id -> pitchingLeaders.put(stat, id));
-        }
-        for (String stat : pitchingLowerBetter) {
-            findPitchingLeader(entries, stat, false).ifPresent(id -> pitchingLeaders.put(stat, id));
-        }
-
-        return new PlayerComparisonDto.ComparisonLeaders(battingLeaders, pitchingLeaders);
-    }
-
-    private java.util.Optional<Long> findBattingLeader(
-            List<PlayerComparisonDto.PlayerComparisonEntry> entries, String stat, boolean higherIsBetter) {
-
-        Long leaderId = null;
-        java.math.BigDecimal bestValue = null;
-
-        for (var entry : entries) {
-            var batting = entry.battingStats();
-            if (batting == null) continue;
-
-            java.math.BigDecimal value = getBattingStatValue(batting, stat);
-            if (value == null) continue;
-
-            if (bestValue == null ||
-                    (higherIsBetter && value.compareTo(bestValue) > 0) ||
-                    (!higherIsBetter && value.compareTo(bestValue) < 0)) {
-                bestValue = value;
-                leaderId = entry.player().id();
-            }
-        }
-
-        return java.util.Optional.ofNullable(leaderId);
     }
 
-    private java.util.Optional<Long> findPitchingLeader(
-            List<PlayerComparisonDto.PlayerComparisonEntry> entries, String stat, boolean higherIsBetter) {
-
-        Long leaderId = null;
-        java.math.BigDecimal bestValue = null;
-
-        for (var entry : entries) {
-            var pitching = entry.pitchingStats();
-            if (pitching == null) continue;
-
-            java.math.BigDecimal value = getPitchingStatValue(pitching, stat);
-            if (value == null) continue;
-
-            if (bestValue == null ||
-                    (higherIsBetter && value.compareTo(bestValue) > 0) ||
-                    (!higherIsBetter && value.compareTo(bestValue) < 0)) {
-                bestValue = value;
-                leaderId = entry.player().id();
-            }
-        }
-
-        return java.util.Optional.ofNullable(leaderId);
-    }
-
-    private java.math.BigDecimal getBattingStatValue(PlayerComparisonDto.ComparisonBattingStats stats, String stat) {
-        return switch (stat) {
-            case "gamesPlayed" -> stats.gamesPlayed() != null ? java.math.BigDecimal.valueOf(stats.gamesPlayed()) : null;
-            case "atBats" -> stats.atBats() != null ? java.math.BigDecimal.valueOf(stats.atBats()) : null;
-            case "runs" -> stats.runs() != null ? java.math.BigDecimal.valueOf(stats.runs()) : null;
-            case "hits" -> stats.hits() != null ? java.math.BigDecimal.valueOf(stats.hits()) : null;
-            case "doubles" -> stats.doubles() != null ? java.math.BigDecimal.valueOf(stats.doubles()) : null;
-            case "triples" -> stats.triples() != null ? java.math.BigDecimal.valueOf(stats.triples()) : null;
-            case "homeRuns" -> stats.homeRuns() != null ? java.math.BigDecimal.valueOf(stats.homeRuns()) : null;
-            case "rbi" -> stats.rbi() != null ? java.math.BigDecimal.valueOf(stats.rbi()) : null;
-            case "stolenBases" -> stats.stolenBases() != null ? java.math.BigDecimal.valueOf(stats.stolenBases()) : null;
-            case "caughtStealing" -> stats.caughtStealing() != null ? java.math.BigDecimal.valueOf(stats.caughtStealing()) : null;
-            case "walks" -> stats.walks() != null ? java.math.BigDecimal.valueOf(stats.walks()) : null;
-            case "strikeouts" -> stats.strikeouts() != null ? java.math.BigDecimal.valueOf(stats.strikeouts()) : null;
-            case "battingAvg" -> stats.battingAvg();
-            case "obp" -> stats.obp();
-            case "slg" -> stats.slg();
-            case "ops" -> stats.ops();
-            case "plateAppearances" -> stats.plateAppearances() != null ? java.math.BigDecimal.valueOf(stats.plateAppearances()) : null;
-            case "totalBases" -> stats.totalBases() != null ? java.math.BigDecimal.valueOf(stats.totalBases()) : null;
-            case "extraBaseHits" -> stats.extraBaseHits() != null ? java.math.BigDecimal.valueOf(stats.extraBaseHits()) : null;
-            default -> null;
-        };
+    private static String totalsKey(Long playerId, Integer season) {
+        return playerId + "_" + season;
     }
 
-    private java.math.BigDecimal getPitchingStatValue(PlayerComparisonDto.ComparisonPitchingStats stats, String stat) {
-        return switch (stat) {
-            case "gamesPlayed" -> stats.gamesPlayed() != null ? java.math.BigDecimal.valueOf(stats.gamesPlayed()) : null;
-            case "gamesStarted" -> stats.gamesStarted() != null ? java.math.BigDecimal.valueOf(stats.gamesStarted()) : null;
-            case "wins" -> stats.wins() != null ? java.math.BigDecimal.valueOf(stats.wins()) : null;
-            case "losses" -> stats.losses() != null ? java.math.BigDecimal.valueOf(stats.losses()) : null;
-            case "saves" -> stats.saves() != null ? java.math.BigDecimal.valueOf(stats.saves()) : null;
-            case "holds" -> stats.holds() != null ? java.math.BigDecimal.valueOf(stats.holds()) : null;
-            case "inningsPitched" -> stats.inningsPitched();
-            case "hitsAllowed" -> stats.hitsAllowed() != null ? java.math.BigDecimal.valueOf(stats.hitsAllowed()) : null;
-            case "runsAllowed" -> stats.runsAllowed() != null ? java.math.BigDecimal.valueOf(stats.runsAllowed()) : null;
-            case "earnedRuns" -> stats.earnedRuns() != null ? java.math.BigDecimal.valueOf(stats.earnedRuns()) : null;
-            case "homeRunsAllowed" -> stats.homeRunsAllowed() != null ? java.math.BigDecimal.valueOf(stats.homeRunsAllowed()) : null;
-            case "walks" -> stats.walks() != null ? java.math.BigDecimal.valueOf(stats.walks()) : null;
-            case "strikeouts" -> stats.strikeouts() != null ? java.math.BigDecimal.valueOf(stats.strikeouts()) : null;
-            case "era" -> stats.era();
-            case "whip" -> stats.whip();
-            case "kPer9" -> stats.kPer9();
-            case "bbPer9" -> stats.bbPer9();
-            case "completeGames" -> stats.completeGames() != null ? java.math.BigDecimal.valueOf(stats.completeGames()) : null;
-            case "shutouts" -> stats.shutouts() != null ? java.math.BigDecimal.valueOf(stats.shutouts()) : null;
-            default -> null;
-        };
+    private PlayerComparisonDto.ComparisonLeaders calculateLeaders(
+            List<PlayerComparisonDto.PlayerComparisonEntry> entries) {
+        List<Long> playerIds = entries.stream().map(entry -> entry.player().id()).toList();
+        return new PlayerComparisonDto.ComparisonLeaders(
+                ComparisonLeaderboard.leaders(ComparisonLeaderboard.BATTING, playerIds,
+                        entries.stream().map(PlayerComparisonDto.PlayerComparisonEntry::battingStats).toList()),
+                ComparisonLeaderboard.leaders(ComparisonLeaderboard.PITCHING, playerIds,
+                        entries.stream().map(PlayerComparisonDto.PlayerComparisonEntry::pitchingStats).toList())
+        );
     }
 
     // Advanced Stats Leaderboards
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'batting_war_' + #season + '_' + #limit")
     public List<BattingStatsDto> getTopBattingWar(Integer season, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopWar(season).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.WAR, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'woba_' + #season + '_' + #minPa + '_' + #limit")
     public List<BattingStatsDto> getTopWoba(Integer season, int minPa, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopWoba(season, minPa).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.WOBA, BattingColumn.WOBA.lowerIsBetter(),
+                BattingColumn.PLATE_APPEARANCES, BigDecimal.valueOf(minPa), limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'wrcplus_' + #season + '_' + #minPa + '_' + #limit")
     public List<BattingStatsDto> getTopWrcPlus(Integer season, int minPa, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopWrcPlus(season, minPa).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.WRC_PLUS, BattingColumn.WRC_PLUS.lowerIsBetter(),
+                BattingColumn.PLATE_APPEARANCES, BigDecimal.valueOf(minPa), limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'exitvelo_' + #season + '_' + #minPa + '_' + #limit")
     public List<BattingStatsDto> getTopExitVelocity(Integer season, int minPa, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopExitVelocity(season, minPa).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.AVG_EXIT_VELOCITY, BattingColumn.AVG_EXIT_VELOCITY.lowerIsBetter(),
+                BattingColumn.PLATE_APPEARANCES, BigDecimal.valueOf(minPa), limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'barrel_' + #season + '_' + #minPa + '_' + #limit")
     public List<BattingStatsDto> getTopBarrelPct(Integer season, int minPa, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return battingStatsRepository.findTopBarrelPct(season, minPa).stream()
-                .limit(limit)
-                .map(BattingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topBatting(season, BattingColumn.BARREL_PCT, BattingColumn.BARREL_PCT.lowerIsBetter(),
+                BattingColumn.PLATE_APPEARANCES, BigDecimal.valueOf(minPa), limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'pitching_war_' + #season + '_' + #limit")
     public List<PitchingStatsDto> getTopPitchingWar(Integer season, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return pitchingStatsRepository.findTopWar(season).stream()
-                .limit(limit)
-                .map(PitchingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topPitching(season, PitchingColumn.WAR, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'fip_' + #season + '_' + #minInnings + '_' + #limit")
-    public List<PitchingStatsDto> getTopFip(Integer season, java.math.BigDecimal minInnings, int limit) {
+    public List<PitchingStatsDto> getTopFip(Integer season, BigDecimal minInnings, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return pitchingStatsRepository.findTopFip(season, minInnings).stream()
-                .limit(limit)
-                .map(PitchingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topPitching(season, PitchingColumn.FIP, PitchingColumn.FIP.lowerIsBetter(),
+                PitchingColumn.INNINGS_PITCHED, minInnings, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'xfip_' + #season + '_' + #minInnings + '_' + #limit")
-    public List<PitchingStatsDto> getTopXfip(Integer season, java.math.BigDecimal minInnings, int limit) {
+    public List<PitchingStatsDto> getTopXfip(Integer season, BigDecimal minInnings, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return pitchingStatsRepository.findTopXfip(season, minInnings).stream()
-                .limit(limit)
-                .map(PitchingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topPitching(season, PitchingColumn.XFIP, PitchingColumn.XFIP.lowerIsBetter(),
+                PitchingColumn.INNINGS_PITCHED, minInnings, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'xera_' + #season + '_' + #minInnings + '_' + #limit")
-    public List<PitchingStatsDto> getTopXera(Integer season, java.math.BigDecimal minInnings, int limit) {
+    public List<PitchingStatsDto> getTopXera(Integer season, BigDecimal minInnings, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return pitchingStatsRepository.findTopXera(season, minInnings).stream()
-                .limit(limit)
-                .map(PitchingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topPitching(season, PitchingColumn.XERA, PitchingColumn.XERA.lowerIsBetter(),
+                PitchingColumn.INNINGS_PITCHED, minInnings, limit);
     }
 
-    @Cacheable(value = CacheConfig.LEADERBOARDS, key = "'whiff_' + #season + '_' + #minInnings + '_' + #limit")
-    public List<PitchingStatsDto> getTopWhiffPct(Integer season, java.math.BigDecimal minInnings, int limit) {
+    public List<PitchingStatsDto> getTopWhiffPct(Integer season, BigDecimal minInnings, int limit) {
         if (season == null) {
             season = DateUtils.getCurrentSeason();
         }
-        return pitchingStatsRepository.findTopWhiffPct(season, minInnings).stream()
-                .limit(limit)
-                .map(PitchingStatsDto::fromEntity)
-                .toList();
+        return leaderboardEngine.topPitching(season, PitchingColumn.WHIFF_PCT, PitchingColumn.WHIFF_PCT.lowerIsBetter(),
+                PitchingColumn.INNINGS_PITCHED, minInnings, limit);
     }
 }
@@ -0,0 +1,217 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.PlayerDto;
+import com.mlbstats.domain.player.PlayerFacetFilter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * One bitset per facet value over a fixed list of players, so any filter combination is a
+ * handful of ORs (values within a facet) and ANDs (across facets), and each facet's counts
+ * are intersections with the other facets' selections.
+ * <p>
+ * Bit {@code i} is {@code players.get(i)}; players are expected in the database's name order
+ * ({@code full_name, id}), the order cursor queries page in, so a page is the matching bits
+ * read in order and a page after a given player starts at the row after that player's.
+ */
+final class PlayerBitmaps {
+
+    static final String POSITION = "position";
+    static final String POSITION_TYPE = "positionType";
+    static final String BATS = "bats";
+    static final String THROWS = "throws";
+    static final String ACTIVE = "active";
+    static final String TEAM = "team";
+    static final String SEASON = "season";
+
+    private static final BitSet EMPTY = new BitSet();
+
+    /**
+     * A player being on a team's roster in a season.
+     */
+    record Membership(long playerId, long teamId, int season) {}
+
+    /**
+     * A page of matching players, whether more match after it, the total number matching,
+     * and for each facet how many players each of its values would match given the other
+     * facets' filters.
+     */
+    record Result(List<PlayerDto> players, boolean more, int total, Map<String, Map<String, Integer>> facets) {}
+
+    private final List<PlayerDto> players;
+    private final Map<Long, Integer> rows;
+    private final BitSet all;
+    // Facet name -> value -> players, for the facets read off the player itself
+    private final Map<String, Map<String, BitSet>> attributes;
+    private final Map<Long, BitSet> teams;
+    private final Map<Integer, BitSet> seasons;
+    private final Map<Long, Map<Integer, BitSet>> teamSeasons;
+
+    private PlayerBitmaps(List<PlayerDto> players, Map<Long, Integer> rows,
+                          Map<String, Map<String, BitSet>> attributes, Map<Long, BitSet> teams,
+                          Map<Integer, BitSet> seasons, Map<Long, Map<Integer, BitSet>> teamSeasons) {
+        this.players = players;
+        this.rows = rows;
+        this.all = new BitSet(players.size());
+        this.all.set(0, players.size());
+        this.attributes = attributes;
+        this.teams = teams;
+        this.seasons = seasons;
+        this.teamSeasons = teamSeasons;
+    }
+
+    static PlayerBitmaps build(List<PlayerDto> players, Collection<Membership> memberships) {
+        Map<String, Map<String, BitSet>> attributes = new LinkedHashMap<>();
+        index(attributes, POSITION, players, PlayerDto::position);
+        index(attributes, POSITION_TYPE, players, PlayerDto::positionType);
+        index(attributes, BATS, players, PlayerDto::bats);
+        index(attributes, THROWS, players, PlayerDto::throwsHand);
+        index(attributes, ACTIVE, players, player -> player.active() != null ? player.active().toString() : null);
+
+        Map<Long, Integer> rows = new HashMap<>();
+        for (int row = 0; row < players.size(); row++) {
+            rows.put(players.get(row).id(), row);
+        }
+        Map<Long, BitSet> teams = new HashMap<>();
+        Map<Integer, BitSet> seasons = new HashMap<>();
+        Map<Long, Map<Integer, BitSet>> teamSeasons = new HashMap<>();
+        for (Membership membership : memberships) {
+            Integer row = rows.get(membership.playerId());
+            if (row == null) {
+                continue;
+            }
+            teams.computeIfAbsent(membership.teamId(), team -> new BitSet()).set(row);
+            seasons.computeIfAbsent(membership.season(), season -> new BitSet()).set(row);
+            teamSeasons.computeIfAbsent(membership.teamId(), team -> new HashMap<>())
+                    .computeIfAbsent(membership.season(), season -> new BitSet()).set(row);
+        }
+        return new PlayerBitmaps(List.copyOf(players), rows, attributes, teams, seasons, teamSeasons);
+    }
+
+    int size() {
+        return players.size();
+    }
+
+    /**
+     * The row of the player with {@code id}, or -1 when that player isn't indexed.
+     */
+    int rowOf(long id) {
+        return rows.getOrDefault(id, -1);
+    }
+
+    /**
+     * Up to {@code limit} matching players from row {@code from} on, skipping the first
+     * {@code offset} of them.
+     */
+    Result query(PlayerFacetFilter filter, int from, int offset, int limit) {
+        // Each facet's selection, or null when it isn't filtered
+        Map<String, BitSet> selections = new LinkedHashMap<>();
+        selections.put(POSITION, union(attributes.get(POSITION), filter.positions()));
+        selections.put(POSITION_TYPE, union(attributes.get(POSITION_TYPE), filter.positionTypes()));
+        selections.put(BATS, union(attributes.get(BATS), filter.bats()));
+        selections.put(THROWS, union(attributes.get(THROWS), filter.throwsHands()));
+        selections.put(ACTIVE, filter.active() != null
+                ? union(attributes.get(ACTIVE), Set.of(filter.active().toString())) : null);
+        selections.put(TEAM, filter.teamIds().isEmpty() ? null : teamsIn(filter.teamIds(), filter.season()));
+        selections.put(SEASON, filter.season() != null ? seasons.getOrDefault(filter.season(), EMPTY) : null);
+
+        BitSet matching = intersect(selections, Set.of());
+        List<PlayerDto> page = new ArrayList<>(Math.max(0, Math.min(limit, matching.cardinality() - offset)));
+        int row = from < players.size() ? matching.nextSetBit(from) : -1;
+        for (int skipped = 0; row >= 0 && skipped < offset; skipped++) {
+            row = matching.nextSetBit(row + 1);
+        }
+        for (; row >= 0 && page.size() < limit; row = matching.nextSetBit(row + 1)) {
+            page.add(players.get(row));
+        }
+
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        attributes.forEach((facet, values) -> facets.put(facet, counts(intersect(selections, Set.of(facet)), values)));
+        facets.put(TEAM, counts(intersect(selections, Set.of(TEAM)),
+                teams.keySet(), team -> teamsIn(Set.of(team), filter.season())));
+        // A team filter depends on the season, so season counts are taken within the selected teams instead
+        facets.put(SEASON, counts(intersect(selections, Set.of(TEAM, SEASON)), seasons.keySet(), season ->
+                filter.teamIds().isEmpty() ? seasons.get(season) : teamsIn(filter.teamIds(), season)));
+        return new Result(page, row >= 0, matching.cardinality(), facets);
+    }
+
+    private BitSet teamsIn(Set<Long> teamIds, Integer season) {
+        BitSet union = new BitSet();
+        for (Long teamId : teamIds) {
+            BitSet members = season != null
+                    ? teamSeasons.getOrDefault(teamId, Map.of()).get(season)
+                    : teams.get(teamId);
+            if (members != null) {
+                union.or(members);
+            }
+        }
+        return union;
+    }
+
+    private BitSet intersect(Map<String, BitSet> selections, Set<String> except) {
+        BitSet result = (BitSet) all.clone();
+        selections.forEach((facet, selection) -> {
+            if (selection != null && !except.contains(facet)) {
+                result.and(selection);
+            }
+        });
+        return result;
+    }
+
+    private static Map<String, Integer> counts(BitSet base, Map<String, BitSet> values) {
+        Map<String, Integer> counts = new TreeMap<>();
+        values.forEach((value, members) -> counts.put(value, countBoth(base, members)));
+        return counts;
+    }
+
+    private static <K extends Comparable<K>> Map<String, Integer> counts(BitSet base, Collection<K> keys,
+                                                                         Function<K, BitSet> membersOf) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        keys.stream()
+                .sorted(Comparator.naturalOrder())
+                .forEach(key -> counts.put(key.toString(), countBoth(base, membersOf.apply(key))));
+        return counts;
+    }
+
+    private static int countBoth(BitSet base, BitSet members) {
+        BitSet both = (BitSet) members.clone();
+        both.and(base);
+        return both.cardinality();
+    }
+
+    private static BitSet union(Map<String, BitSet> values, Set<String> selected) {
+        if (selected.isEmpty()) {
+            return null;
+        }
+        BitSet union = new BitSet();
+        for (String value : selected) {
+            BitSet members = values.get(value);
+            if (members != null) {
+                union.or(members);
+            }
+        }
+        return union;
+    }
+
+    private static void index(Map<String, Map<String, BitSet>> attributes, String facet, List<PlayerDto> players,
+                              Function<PlayerDto, String> valueOf) {
+        Map<String, BitSet> values = new HashMap<>();
+        for (int row = 0; row < players.size(); row++) {
+            String value = valueOf.apply(players.get(row));
+            if (value != null) {
+                values.computeIfAbsent(value, key -> new BitSet()).set(row);
+            }
+        }
+        attributes.put(facet, values);
+    }
+}
@@ -0,0 +1,146 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.FacetedPageDto;
+import com.mlbstats.api.dto.PageDto;
+import com.mlbstats.api.dto.PlayerDto;
+import com.mlbstats.api.service.PlayerBitmaps.Membership;
+import com.mlbstats.api.service.PlayerBitmaps.Result;
+import com.mlbstats.common.cache.DataVersions;
+import com.mlbstats.common.cache.DataVersions.Domain;
+import com.mlbstats.common.config.PlayerFacetProperties;
+import com.mlbstats.common.util.KeysetCursor;
+import com.mlbstats.domain.player.PlayerFacetFilter;
+import com.mlbstats.domain.player.PlayerRepository;
+import com.mlbstats.domain.player.TeamRosterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory faceted filtering over all players, behind the players page. Position, position
+ * type, bats, throws, active, and team and season from the rosters each get a
+ * {@link PlayerBitmaps} bitset per value, so a filter and its facet counts are computed
+ * together without a query.
+ * <p>
+ * Players are held in the database's name order, so cursors page the same way as the
+ * query-backed listings. The bitmaps
+ * are rebuilt when the players, rosters or teams {@link DataVersions} move, i.e. after a
+ * sync touched them; the post-sync warm-up does that before the next request.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerFacetIndex {
+
+    private static final Set<Domain> DOMAINS = EnumSet.of(Domain.PLAYERS, Domain.ROSTERS, Domain.TEAMS);
+
+    private final PlayerRepository playerRepository;
+    private final TeamRosterRepository rosterRepository;
+    private final DataVersions dataVersions;
+    private final PlayerFacetProperties properties;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(String version, PlayerBitmaps bitmaps) {}
+
+    /**
+     * Whether the bitmaps are kept between requests. When they aren't, callers that don't
+     * need facet counts should query instead of building them per request.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * The {@code page}th page of players matching {@code filter}, with counts for every facet.
+     */
+    public FacetedPageDto<PlayerDto> query(PlayerFacetFilter filter, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("page must be at least 0 and size at least 1");
+        }
+        Result result = current().bitmaps().query(filter, 0, (int) Math.min((long) page * size, Integer.MAX_VALUE),
+                size);
+        int totalPages = (result.total() + size - 1) / size;
+        PageDto<PlayerDto> players = new PageDto<>(result.players(), page, size, (long) result.total(), totalPages,
+                page == 0, page >= totalPages - 1, null);
+        return new FacetedPageDto<>(players, result.facets());
+    }
+
+    /**
+     * Up to {@code size} players matching {@code filter} after the one {@code after} points
+     * at (from the start when null), with counts for every facet. The total is always
+     * included, since the bitmaps give it for free.
+     */
+    public FacetedPageDto<PlayerDto> query(PlayerFacetFilter filter, KeysetCursor after, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1");
+        }
+        PlayerBitmaps bitmaps = current().bitmaps();
+        Result result = bitmaps.query(filter, after != null ? rowAfter(bitmaps, after) : 0, 0, size);
+        String next = null;
+        if (result.more()) {
+            PlayerDto last = result.players().get(result.players().size() - 1);
+            next = new KeysetCursor(last.fullName(), last.id()).encode();
+        }
+        PageDto<PlayerDto> players = new PageDto<>(result.players(), null, size, (long) result.total(),
+                (result.total() + size - 1) / size, after == null, !result.more(), next);
+        return new FacetedPageDto<>(players, result.facets());
+    }
+
+    /**
+     * The first row after the cursor's player. A player no longer indexed is placed by
+     * counting the players up to it in the database's name order, which the rows follow.
+     */
+    private int rowAfter(PlayerBitmaps bitmaps, KeysetCursor after) {
+        int row = bitmaps.rowOf(after.id());
+        return row >= 0 ? row + 1 : (int) playerRepository.countInNameOrderThrough(after.key(), after.id());
+    }
+
+    /**
+     * Builds the bitmaps if they are kept and aren't current, e.g. during cache warm-up.
+     */
+    public void prepare() {
+        if (properties.isEnabled()) {
+            current();
+        }
+    }
+
+    private Snapshot current() {
+        if (!properties.isEnabled()) {
+            return build(null);
+        }
+        String version = dataVersions.tag(DOMAINS);
+        Snapshot current = snapshot;
+        if (current != null && current.version().equals(version)) {
+            return current;
+        }
+        synchronized (this) {
+            version = dataVersions.tag(DOMAINS);
+            current = snapshot;
+            if (current == null || !current.version().equals(version)) {
+                current = build(version);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot build(String version) {
+        long start = System.currentTimeMillis();
+        // Sorted in SQL so rows follow the database collation that cursor queries page in
+        List<PlayerDto> players = playerRepository.findAllByOrderByFullNameAscIdAsc().stream()
+                .map(PlayerDto::fromEntity)
+                .toList();
+        List<Membership> memberships = rosterRepository.findPlayerTeamSeasons().stream()
+                .map(row -> new Membership((Long) row[0], (Long) row[1], (Integer) row[2]))
+                .toList();
+        PlayerBitmaps bitmaps = PlayerBitmaps.build(players, memberships);
+        log.debug("Built player facet bitmaps ({} players, {} roster spots) in {} ms", bitmaps.size(),
+                memberships.size(), System.currentTimeMillis() - start);
+        return new Snapshot(version, bitmaps);
+    }
+}
@@ -0,0 +1,148 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.PlayerDto;
+import com.mlbstats.api.dto.SearchResultDto;
+import com.mlbstats.api.dto.TeamDto;
+import com.mlbstats.api.service.NameIndex.Names;
+import com.mlbstats.common.cache.DataVersions;
+import com.mlbstats.common.cache.DataVersions.Domain;
+import com.mlbstats.common.config.SearchIndexProperties;
+import com.mlbstats.common.util.DateUtils;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.player.PlayerRepository;
+import com.mlbstats.domain.stats.PlayerBattingStatsRepository;
+import com.mlbstats.domain.stats.PlayerPitchingStatsRepository;
+import com.mlbstats.domain.team.Team;
+import com.mlbstats.domain.team.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory autocomplete over active players and teams, behind the global search box. Each
+ * keystroke is a lookup in a {@link NameIndex} rather than a {@code LIKE} scan.
+ * <p>
+ * Players rank by recent playing time (plate appearances plus three per inning pitched over
+ * the last few seasons), so regulars come before September call-ups with the same name.
+ * The index is rebuilt when the players, stats, rosters or teams {@link DataVersions} move,
+ * i.e. after a sync touched them; the post-sync warm-up does that before the next search.
+ * <p>
+ * With {@code cache.search-index.enabled=false} searches run bounded name queries instead,
+ * in name order.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndex {
+
+    private static final Set<Domain> DOMAINS = EnumSet.of(Domain.PLAYERS, Domain.STATS, Domain.ROSTERS,
+            Domain.TEAMS);
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerBattingStatsRepository battingStatsRepository;
+    private final PlayerPitchingStatsRepository pitchingStatsRepository;
+    private final DataVersions dataVersions;
+    private final SearchIndexProperties properties;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(String version, NameIndex<TeamDto> teams, NameIndex<PlayerDto> players) {}
+
+    public SearchResultDto search(String query, int limit) {
+        if (!properties.isEnabled()) {
+            return new SearchResultDto(
+                    teamRepository.searchTeams(query, Limit.of(limit)).stream().map(TeamDto::fromEntity).toList(),
+                    playerRepository.searchActiveByName(query, Limit.of(limit)).stream()
+                            .map(PlayerDto::fromEntity)
+                            .toList());
+        }
+        Snapshot current = current();
+        return new SearchResultDto(current.teams().search(query, limit), current.players().search(query, limit));
+    }
+
+    /**
+     * Builds the index if it is kept and isn't current, e.g. during cache warm-up.
+     */
+    public void prepare() {
+        if (properties.isEnabled()) {
+            current();
+        }
+    }
+
+    private Snapshot current() {
+        String version = dataVersions.tag(DOMAINS);
+        Snapshot current = snapshot;
+        if (current != null && current.version().equals(version)) {
+            return current;
+        }
+        synchronized (this) {
+            version = dataVersions.tag(DOMAINS);
+            current = snapshot;
+            if (current == null || !current.version().equals(version)) {
+                current = build(version);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot build(String version) {
+        long start = System.currentTimeMillis();
+        NameIndex<TeamDto> teams = NameIndex.build(
+                teamRepository.findAllOrderByLeagueAndDivision().stream()
+                        .sorted(Comparator.comparing(Team::getName))
+                        .map(TeamDto::fromEntity)
+                        .toList(),
+                team -> new Names(team.name(), nickname(team), List.of(
+                        team.abbreviation() != null ? team.abbreviation() : "",
+                        team.locationName() != null ? team.locationName() : "")));
+
+        Map<Long, Long> playingTime = playingTime();
+        NameIndex<PlayerDto> players = NameIndex.build(
+                playerRepository.findByActiveTrue().stream()
+                        .sorted(Comparator.comparingLong((Player player) -> -playingTime.getOrDefault(player.getId(), 0L))
+                                .thenComparing(Player::getFullName, Comparator.nullsLast(Comparator.naturalOrder())))
+                        .map(PlayerDto::fromEntity)
+                        .toList(),
+                player -> new Names(player.fullName(), player.lastName(), List.of()));
+
+        log.debug("Built search index ({} teams, {} players) in {} ms", teams.size(), players.size(),
+                System.currentTimeMillis() - start);
+        return new Snapshot(version, teams, players);
+    }
+
+    private Map<Long, Long> playingTime() {
+        int fromSeason = DateUtils.getCurrentSeason() - properties.getPopularitySeasons() + 1;
+        Map<Long, Long> playingTime = new HashMap<>();
+        for (Object[] row : battingStatsRepository.sumPlateAppearancesByPlayerSince(fromSeason)) {
+            playingTime.merge((Long) row[0], row[1] != null ? ((Number) row[1]).longValue() : 0L, Long::sum);
+        }
+        for (Object[] row : pitchingStatsRepository.sumInningsPitchedByPlayerSince(fromSeason)) {
+            long battersFaced = row[1] != null ? ((BigDecimal) row[1]).multiply(BigDecimal.valueOf(3)).longValue() : 0L;
+            playingTime.merge((Long) row[0], battersFaced, Long::sum);
+        }
+        return playingTime;
+    }
+
+    /**
+     * "Yankees" for the New York Yankees: the name without its location.
+     */
+    private static String nickname(TeamDto team) {
+        String name = team.name();
+        String location = team.locationName();
+        if (name != null && location != null && name.startsWith(location + " ")) {
+            return name.substring(location.length() + 1);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,81 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.TeamDto;
+import com.mlbstats.common.cache.CacheWarmer;
+import com.mlbstats.common.config.CacheConfig;
+import com.mlbstats.common.util.DateUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Warms standings and the caches behind team pages. Per-team keys follow the
+ * {@code @Cacheable} keys in {@link TeamApiService}: {@code <teamId>_<season>}.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamCacheWarmer implements CacheWarmer {
+
+    private static final Set<String> PER_TEAM_CACHES = Set.of(
+            CacheConfig.ROSTERS, CacheConfig.TEAM_STANDINGS, CacheConfig.TEAM_AGGREGATE_STATS);
+
+    private final TeamApiService teamApiService;
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of(CacheConfig.TEAMS, CacheConfig.TEAMS_BY_ID, CacheConfig.STANDINGS,
+                CacheConfig.ROSTERS, CacheConfig.TEAM_STANDINGS, CacheConfig.TEAM_AGGREGATE_STATS);
+    }
+
+    @Override
+    public Collection<WarmupKey> defaultKeys() {
+        List<WarmupKey> keys = new ArrayList<>();
+        keys.add(new WarmupKey(CacheConfig.TEAMS, SimpleKey.EMPTY));
+        keys.add(new WarmupKey(CacheConfig.STANDINGS, DateUtils.getCurrentSeason()));
+        // Team pages load without a season, so their keys end in "_null"
+        for (TeamDto team : teamApiService.getAllTeams()) {
+            keys.add(new WarmupKey(CacheConfig.TEAMS_BY_ID, team.id()));
+            keys.add(new WarmupKey(CacheConfig.ROSTERS, team.id() + "_null"));
+            keys.add(new WarmupKey(CacheConfig.TEAM_AGGREGATE_STATS, team.id() + "_null"));
+        }
+        return keys;
+    }
+
+    @Override
+    public boolean warm(WarmupKey warmupKey) {
+        String cacheName = warmupKey.cacheName();
+        Object key = warmupKey.key();
+        if (CacheConfig.TEAMS.equals(cacheName)) {
+            teamApiService.getAllTeams();
+            return true;
+        }
+        if (CacheConfig.TEAMS_BY_ID.equals(cacheName) && key instanceof Long teamId) {
+            teamApiService.getTeamById(teamId);
+            return true;
+        }
+        if (CacheConfig.STANDINGS.equals(cacheName) && key instanceof Integer season) {
+            teamApiService.getStandings(season);
+            return true;
+        }
+        if (PER_TEAM_CACHES.contains(cacheName) && key instanceof String teamSeason) {
+            String[] parts = teamSeason.split("_");
+            if (parts.length != 2) {
+                return false;
+            }
+            Long teamId = Long.valueOf(parts[0]);
+            Integer season = "null".equals(parts[1]) ? null : Integer.valueOf(parts[1]);
+            switch (cacheName) {
+                case CacheConfig.ROSTERS -> teamApiService.getTeamRoster(teamId, season);
+                case CacheConfig.TEAM_STANDINGS -> teamApiService.getTeamStanding(teamId, season);
+                default -> teamApiService.getTeamAggregateStats(teamId, season);
+            }
+            return true;
+        }
+        return false;
+    }
+}
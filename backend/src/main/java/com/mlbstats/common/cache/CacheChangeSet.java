@@ -0,0 +1,162 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.common.cache.DataVersions.Domain;
+import com.mlbstats.common.event.DataChangeEvent;
+import com.mlbstats.common.event.DataChangeEvent.BoxScoreChanged;
+import com.mlbstats.common.event.DataChangeEvent.GameChanged;
+import com.mlbstats.common.event.DataChangeEvent.PlayerChanged;
+import com.mlbstats.common.event.DataChangeEvent.PlayerStatsChanged;
+import com.mlbstats.common.event.DataChangeEvent.RosterChanged;
+import com.mlbstats.common.event.DataChangeEvent.StandingsChanged;
+import com.mlbstats.common.event.DataChangeEvent.TeamsChanged;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Data changes accumulated between invalidation flushes, in a form that fits one event bus
+ * payload. When a dimension collects more than {@value #MAX_KEYS} ids it is widened to
+ * "everything", which costs a full cache clear but keeps the payload small.
+ */
+final class CacheChangeSet {
+
+    static final int MAX_KEYS = 100;
+
+    final Set<Long> gameIds = new HashSet<>();
+    final Set<LocalDate> gameDates = new HashSet<>();
+    final Set<Long> boxScoreGameIds = new HashSet<>();
+    final Set<Long> playerIds = new HashSet<>();
+    final Set<Integer> statsSeasons = new HashSet<>();
+    final Set<String> rosterKeys = new HashSet<>();
+    final Set<Integer> standingsSeasons = new HashSet<>();
+    boolean teams;
+    boolean allGames;
+    boolean allBoxScores;
+    boolean allPlayers;
+    boolean allRosters;
+    // Data version assigned when the set is flushed; 0 until then
+    long version;
+
+    void record(DataChangeEvent event) {
+        switch (event) {
+            case GameChanged e -> {
+                // Without an id the game's own entries can't be targeted
+                allGames = e.gameId() == null || add(gameIds, e.gameId(), allGames);
+                allGames = add(gameDates, e.gameDate(), allGames);
+            }
+            case BoxScoreChanged e -> allBoxScores = add(boxScoreGameIds, e.gameId(), allBoxScores);
+            case PlayerStatsChanged e -> {
+                allPlayers = add(playerIds, e.playerId(), allPlayers);
+                if (e.season() != null) {
+                    statsSeasons.add(e.season());
+                }
+            }
+            case PlayerChanged e -> allPlayers = add(playerIds, e.playerId(), allPlayers);
+            case RosterChanged e -> allRosters = add(rosterKeys, e.teamId() + "_" + e.season(), allRosters);
+            case StandingsChanged e -> {
+                if (e.season() != null) {
+                    standingsSeasons.add(e.season());
+                }
+            }
+            case TeamsChanged e -> teams = true;
+        }
+    }
+
+    boolean isEmpty() {
+        return gameIds.isEmpty() && gameDates.isEmpty() && boxScoreGameIds.isEmpty() && playerIds.isEmpty()
+                && statsSeasons.isEmpty() && rosterKeys.isEmpty() && standingsSeasons.isEmpty()
+                && !teams && !allGames && !allBoxScores && !allPlayers && !allRosters;
+    }
+
+    /**
+     * The data domains these changes touch, i.e. whose versions move forward.
+     */
+    Set<Domain> domains() {
+        Set<Domain> domains = EnumSet.noneOf(Domain.class);
+        if (allGames || allBoxScores || !gameIds.isEmpty() || !gameDates.isEmpty() || !boxScoreGameIds.isEmpty()) {
+            domains.add(Domain.GAMES);
+        }
+        if (!statsSeasons.isEmpty()) {
+            domains.add(Domain.STATS);
+        }
+        if (allPlayers || !playerIds.isEmpty()) {
+            domains.add(Domain.PLAYERS);
+        }
+        if (allRosters || !rosterKeys.isEmpty()) {
+            domains.add(Domain.ROSTERS);
+        }
+        if (!standingsSeasons.isEmpty()) {
+            domains.add(Domain.STANDINGS);
+        }
+        if (teams) {
+            domains.add(Domain.TEAMS);
+        }
+        return domains;
+    }
+
+    Map<String, Object> toPayload() {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("gameIds", List.copyOf(gameIds));
+        payload.put("gameDates", gameDates.stream().map(LocalDate::toString).toList());
+        payload.put("boxScoreGameIds", List.copyOf(boxScoreGameIds));
+        payload.put("playerIds", List.copyOf(playerIds));
+        payload.put("statsSeasons", List.copyOf(statsSeasons));
+        payload.put("rosterKeys", List.copyOf(rosterKeys));
+        payload.put("standingsSeasons", List.copyOf(standingsSeasons));
+        payload.put("teams", teams);
+        payload.put("allGames", allGames);
+        payload.put("allBoxScores", allBoxScores);
+        payload.put("allPlayers", allPlayers);
+        payload.put("allRosters", allRosters);
+        payload.put("version", version);
+        return payload;
+    }
+
+    static CacheChangeSet fromPayload(Map<String, Object> payload) {
+        CacheChangeSet changes = new CacheChangeSet();
+        changes.gameIds.addAll(values(payload, "gameIds", v -> ((Number) v).longValue()));
+        changes.gameDates.addAll(values(payload, "gameDates", v -> LocalDate.parse(v.toString())));
+        changes.boxScoreGameIds.addAll(values(payload, "boxScoreGameIds", v -> ((Number) v).longValue()));
+        changes.playerIds.addAll(values(payload, "playerIds", v -> ((Number) v).longValue()));
+        changes.statsSeasons.addAll(values(payload, "statsSeasons", v -> ((Number) v).intValue()));
+        changes.rosterKeys.addAll(values(payload, "rosterKeys", Object::toString));
+        changes.standingsSeasons.addAll(values(payload, "standingsSeasons", v -> ((Number) v).intValue()));
+        changes.teams = Boolean.TRUE.equals(payload.get("teams"));
+        changes.allGames = Boolean.TRUE.equals(payload.get("allGames"));
+        changes.allBoxScores = Boolean.TRUE.equals(payload.get("allBoxScores"));
+        changes.allPlayers = Boolean.TRUE.equals(payload.get("allPlayers"));
+        changes.allRosters = Boolean.TRUE.equals(payload.get("allRosters"));
+        changes.version = payload.get("version") instanceof Number version ? version.longValue() : 0;
+        return changes;
+    }
+
+    /**
+     * Adds a key unless the dimension is already widened; returns whether it is widened now.
+     */
+    private static <T> boolean add(Set<T> keys, T key, boolean widened) {
+        if (widened || key == null) {
+            return widened;
+        }
+        keys.add(key);
+        if (keys.size() > MAX_KEYS) {
+            keys.clear();
+            return true;
+        }
+        return false;
+    }
+
+    private static <T> Set<T> values(Map<String, Object> payload, String name, Function<Object, T> mapper) {
+        if (!(payload.get(name) instanceof Collection<?> values)) {
+            return Set.of();
+        }
+        return values.stream().map(mapper).collect(Collectors.toSet());
+    }
+}
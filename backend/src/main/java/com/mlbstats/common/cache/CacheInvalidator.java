@@ -0,0 +1,232 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.common.config.CacheConfig;
+import com.mlbstats.common.event.DataChangeEvent;
+import com.mlbstats.common.event.PostgresEventBus;
+import com.mlbstats.common.util.DateUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Maps {@link DataChangeEvent}s to the cache entries that depend on the changed data, so a
+ * sync only evicts what it touched instead of clearing whole caches.
+ * <p>
+ * Events are collected after commit and flushed once a second as a single event bus
+ * message, so every node evicts the same entries from its local caches. Keys are matched
+ * against the {@code @Cacheable} key expressions in the API services: exact keys where the
+ * key is an id or date, and key patterns for composite keys such as team aggregates
+ * ({@code <teamId>_<season>}) or calendar ranges ({@code <start>-<end>-<teamId>}).
+ * <p>
+ * When the shared L2 tier is enabled, this is also what keeps every node's L1 coherent:
+ * the node that applies an eviction first clears the shared entry, and the others clear
+ * their own L1 copies from the same message.
+ * <p>
+ * Each batch also carries the new {@link DataVersions} of the domains it touched, which
+ * every node applies once its evictions are done.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    static final String TOPIC = "cache.invalidate";
+    private static final long FLUSH_INTERVAL_MS = 1000;
+
+    private final CacheManager cacheManager;
+    private final PostgresEventBus eventBus;
+    private final DataVersions dataVersions;
+
+    private final Object lock = new Object();
+    private CacheChangeSet pending = new CacheChangeSet();
+
+    @PostConstruct
+    void subscribe() {
+        eventBus.subscribe(TOPIC, payload -> apply(CacheChangeSet.fromPayload(payload)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChange(DataChangeEvent event) {
+        synchronized (lock) {
+            pending.record(event);
+        }
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public void flush() {
+        CacheChangeSet changes;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            changes = pending;
+            pending = new CacheChangeSet();
+        }
+        changes.version = dataVersions.next(changes.domains());
+        eventBus.publish(TOPIC, changes.toPayload());
+    }
+
+    void apply(CacheChangeSet changes) {
+        log.debug("Invalidating caches for {}", changes.toPayload());
+
+        if (changes.allGames) {
+            clear(CacheConfig.GAMES, CacheConfig.GAMES_BY_DATE, CacheConfig.CALENDAR_GAMES,
+                    CacheConfig.CALENDAR_COUNTS, CacheConfig.BOX_SCORES, CacheConfig.LINESCORES);
+        } else {
+            // Box scores and linescores embed the game's status and score
+            evictKeys(changes.gameIds, CacheConfig.GAMES, CacheConfig.BOX_SCORES, CacheConfig.LINESCORES);
+            evictKeys(changes.gameDates, CacheConfig.GAMES_BY_DATE);
+            if (!changes.gameDates.isEmpty()) {
+                Predicate<Object> coversChangedDate = key -> calendarRangeCovers(key, changes.gameDates);
+                evictMatching(CacheConfig.CALENDAR_GAMES, coversChangedDate);
+                evictMatching(CacheConfig.CALENDAR_COUNTS, coversChangedDate);
+            }
+        }
+
+        if (changes.allBoxScores) {
+            clear(CacheConfig.BOX_SCORES, CacheConfig.LINESCORES);
+        } else {
+            evictKeys(changes.boxScoreGameIds, CacheConfig.BOX_SCORES, CacheConfig.LINESCORES);
+        }
+
+        if (!changes.statsSeasons.isEmpty()) {
+            Set<String> seasonTokens = seasonTokens(changes.statsSeasons);
+            evictMatching(CacheConfig.TEAM_AGGREGATE_STATS, key -> hasSeasonSuffix(key, seasonTokens));
+        }
+
+        if (changes.allPlayers) {
+            clear(CacheConfig.PLAYERS, CacheConfig.PLAYER_COMPARISON);
+        } else if (!changes.playerIds.isEmpty()) {
+            evictKeys(changes.playerIds, CacheConfig.PLAYERS);
+            evictMatching(CacheConfig.PLAYER_COMPARISON, key -> comparesAnyPlayer(key, changes.playerIds));
+        }
+
+        if (changes.allRosters) {
+            clear(CacheConfig.ROSTERS);
+        } else if (!changes.rosterKeys.isEmpty()) {
+            evictKeys(withCurrentSeasonAliases(changes.rosterKeys), CacheConfig.ROSTERS);
+        }
+
+        if (!changes.standingsSeasons.isEmpty()) {
+            evictKeys(changes.standingsSeasons, CacheConfig.STANDINGS);
+            Set<String> seasonTokens = seasonTokens(changes.standingsSeasons);
+            evictMatching(CacheConfig.TEAM_STANDINGS, key -> hasSeasonSuffix(key, seasonTokens));
+        }
+
+        if (changes.teams) {
+            clear(CacheConfig.TEAMS, CacheConfig.TEAMS_BY_ID, CacheConfig.TEAMS_BY_LEAGUE,
+                    CacheConfig.TEAMS_BY_DIVISION);
+        }
+
+        // Only after evicting, so nothing rebuilt from the old entries is keyed by the new version
+        Set<DataVersions.Domain> domains = changes.domains();
+        dataVersions.advance(domains, changes.version != 0 ? changes.version : dataVersions.next(domains));
+    }
+
+    private void clear(String... cacheNames) {
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private void evictKeys(Collection<?> keys, String... cacheNames) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                keys.forEach(cache::evict);
+            }
+        }
+    }
+
+    private void evictMatching(String cacheName, Predicate<Object> keyMatches) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof PatternEvictable patternEvictable) {
+            patternEvictable.evictIf(keyMatches);
+        } else if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap().keySet().removeIf(keyMatches);
+        }
+    }
+
+    /**
+     * Keys built from a null season resolve to the current season, and render as "null".
+     */
+    private static Set<String> seasonTokens(Set<Integer> seasons) {
+        Set<String> tokens = seasons.stream().map(String::valueOf).collect(Collectors.toCollection(HashSet::new));
+        if (seasons.contains(DateUtils.getCurrentSeason())) {
+            tokens.add("null");
+        }
+        return tokens;
+    }
+
+    private static Set<String> withCurrentSeasonAliases(Set<String> rosterKeys) {
+        String currentSuffix = "_" + DateUtils.getCurrentSeason();
+        Set<String> keys = new HashSet<>(rosterKeys);
+        rosterKeys.stream()
+                .filter(key -> key.endsWith(currentSuffix))
+                .map(key -> key.substring(0, key.length() - currentSuffix.length()) + "_null")
+                .forEach(keys::add);
+        return keys;
+    }
+
+    static boolean hasSeasonSuffix(Object key, Set<String> seasonTokens) {
+        String value = key.toString();
+        return seasonTokens.contains(value.substring(value.lastIndexOf('_') + 1));
+    }
+
+    /**
+     * Comparison keys look like {@code compare_[1, 2]_[2024, 2023]_false}.
+     */
+    static boolean comparesAnyPlayer(Object key, Set<Long> playerIds) {
+        String value = key.toString();
+        int start = value.indexOf('[');
+        int end = value.indexOf(']');
+        if (start < 0 || end < start) {
+            return true;
+        }
+        return Arrays.stream(value.substring(start + 1, end).split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .anyMatch(id -> {
+                    try {
+                        return playerIds.contains(Long.parseLong(id));
+                    } catch (NumberFormatException e) {
+                        return true;
+                    }
+                });
+    }
+
+    /**
+     * Calendar keys look like {@code 2024-06-01-2024-06-30-147}; unparseable keys are evicted.
+     */
+    static boolean calendarRangeCovers(Object key, Set<LocalDate> dates) {
+        String value = key.toString();
+        try {
+            LocalDate start = LocalDate.parse(value.substring(0, 10));
+            LocalDate end = LocalDate.parse(value.substring(11, 21));
+            return dates.stream().anyMatch(date -> !date.isBefore(start) && !date.isAfter(end));
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            return true;
+        }
+    }
+}
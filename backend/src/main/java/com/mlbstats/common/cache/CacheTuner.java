@@ -0,0 +1,123 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.common.event.PostgresEventBus;
+import com.mlbstats.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports each cache's estimated heap use against its budget, and changes TTLs and
+ * budgets at runtime. Changes are broadcast so every node applies them; they last until
+ * the next restart, when the configured values apply again.
+ * <p>
+ * Metrics: {@code cache.retained.bytes} and {@code cache.budget.bytes}, tagged by cache.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheTuner {
+
+    static final String TOPIC = "cache.tuning";
+
+    private final CacheManager cacheManager;
+    private final PostgresEventBus eventBus;
+    private final MeterRegistry meterRegistry;
+
+    public record CacheStatus(String name, long ttlSeconds, long budgetBytes, long retainedBytes, long entries) {}
+
+    @PostConstruct
+    void init() {
+        eventBus.subscribe(TOPIC, this::apply);
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Gauge.builder("cache.retained.bytes", () -> status(cacheName).retainedBytes())
+                    .description("Estimated heap retained by cache entries")
+                    .baseUnit("bytes")
+                    .tag("cache", cacheName)
+                    .register(meterRegistry);
+            Gauge.builder("cache.budget.bytes", () -> status(cacheName).budgetBytes())
+                    .description("Heap budget of the cache")
+                    .baseUnit("bytes")
+                    .tag("cache", cacheName)
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<CacheStatus> describe() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(this::status)
+                .toList();
+    }
+
+    /**
+     * Changes a cache's TTL and/or budget on every node. Null values are left unchanged.
+     */
+    public CacheStatus update(String cacheName, Duration ttl, Long budgetBytes) {
+        nativeCache(cacheName);
+        if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+            throw new IllegalArgumentException("TTL must be positive");
+        }
+        if (budgetBytes != null && budgetBytes <= 0) {
+            throw new IllegalArgumentException("Budget must be positive");
+        }
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("cache", cacheName);
+        if (ttl != null) {
+            payload.put("ttlMillis", ttl.toMillis());
+        }
+        if (budgetBytes != null) {
+            payload.put("budgetBytes", budgetBytes);
+        }
+        // Applied here first so the response reflects it; re-applying from the bus is a no-op
+        apply(payload);
+        eventBus.publish(TOPIC, payload);
+        return status(cacheName);
+    }
+
+    void apply(Map<String, Object> payload) {
+        String cacheName = (String) payload.get("cache");
+        com.github.benmanes.caffeine.cache.Cache<?, ?> cache = nativeCache(cacheName);
+        if (payload.get("ttlMillis") instanceof Number ttlMillis) {
+            cache.policy().expireAfterWrite().ifPresent(expiration ->
+                    expiration.setExpiresAfter(Duration.ofMillis(ttlMillis.longValue())));
+        }
+        if (payload.get("budgetBytes") instanceof Number budgetBytes) {
+            cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(budgetBytes.longValue()));
+        }
+        log.info("Cache {} tuned: {}", cacheName, payload);
+    }
+
+    private CacheStatus status(String cacheName) {
+        com.github.benmanes.caffeine.cache.Cache<?, ?> cache = nativeCache(cacheName);
+        // Settles pending writes and evictions so sizes are current
+        cache.cleanUp();
+        long ttlSeconds = cache.policy().expireAfterWrite()
+                .map(expiration -> expiration.getExpiresAfter().toSeconds())
+                .orElse(0L);
+        long budgetBytes = cache.policy().eviction().map(eviction -> eviction.getMaximum()).orElse(0L);
+        long retainedBytes = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return new CacheStatus(cacheName, ttlSeconds, budgetBytes, retainedBytes, cache.estimatedSize());
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache(String cacheName) {
+        Cache cache = cacheName != null ? cacheManager.getCache(cacheName) : null;
+        if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            throw new ResourceNotFoundException("Cache not found: " + cacheName);
+        }
+        return nativeCache;
+    }
+}
@@ -0,0 +1,28 @@
+package com.mlbstats.common.cache;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Rebuilds entries of some caches from their keys, by calling the {@code @Cacheable}
+ * method the key belongs to. Implementations live next to the services that own the caches.
+ */
+public interface CacheWarmer {
+
+    /**
+     * Caches whose keys this warmer can rebuild.
+     */
+    Set<String> cacheNames();
+
+    /**
+     * Entries worth warming regardless of traffic.
+     */
+    Collection<WarmupKey> defaultKeys();
+
+    /**
+     * Loads one entry through its cached method. Returns false for keys this warmer doesn't recognize.
+     */
+    boolean warm(WarmupKey key);
+
+    record WarmupKey(String cacheName, Object key) {}
+}
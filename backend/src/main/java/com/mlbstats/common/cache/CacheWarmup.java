@@ -0,0 +1,194 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.common.cache.CacheWarmer.WarmupKey;
+import com.mlbstats.common.config.CacheWarmupProperties;
+import com.mlbstats.common.event.PostgresEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pre-populates hot cache entries so the first users after a deploy or a sync don't pay
+ * for cold caches. Each run loads the {@link CacheWarmer}s' default keys plus the keys
+ * {@link HotKeyRegistry} learned from traffic, in parallel.
+ * <p>
+ * At startup the warm-up runs as an {@link ApplicationRunner}, which Spring Boot finishes
+ * before it marks the application ready, so the readiness probe (and {@code /actuator/health})
+ * report out of service until the caches are warm or {@code cache.warmup.startup-timeout}
+ * passes. After a sync, {@link #requestWarmup()} tells every node to warm its own caches
+ * once invalidation has settled; requests that arrive close together share one run.
+ */
+@Slf4j
+@Component
+public class CacheWarmup implements ApplicationRunner {
+
+    static final String TOPIC = "cache.warmup";
+
+    private final List<CacheWarmer> warmers;
+    private final HotKeyRegistry hotKeyRegistry;
+    private final PostgresEventBus eventBus;
+    private final CacheWarmupProperties properties;
+
+    private final ExecutorService loaders;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("cache-warmup-scheduler").daemon(true).factory());
+    private ScheduledFuture<?> pendingRun;
+
+    private final Timer startupTimer;
+    private final Timer syncTimer;
+    private final Counter loadedEntries;
+    private final Counter failedEntries;
+
+    public CacheWarmup(List<CacheWarmer> warmers, HotKeyRegistry hotKeyRegistry, PostgresEventBus eventBus,
+                       CacheWarmupProperties properties, MeterRegistry meterRegistry) {
+        this.warmers = warmers;
+        this.hotKeyRegistry = hotKeyRegistry;
+        this.eventBus = eventBus;
+        this.properties = properties;
+        this.loaders = Executors.newFixedThreadPool(properties.getThreads(),
+                Thread.ofPlatform().name("cache-warmup-", 0).daemon(true).factory());
+        this.startupTimer = warmupTimer(meterRegistry, "startup");
+        this.syncTimer = warmupTimer(meterRegistry, "sync");
+        this.loadedEntries = entryCounter(meterRegistry, "loaded");
+        this.failedEntries = entryCounter(meterRegistry, "failed");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        eventBus.subscribe(TOPIC, payload -> scheduleWarmup());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        loaders.shutdownNow();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isEnabled()) {
+            startupTimer.record(() -> {
+                warmUp(properties.getStartupTimeout());
+            });
+        }
+    }
+
+    /**
+     * Asks every node to re-warm its caches, e.g. after a sync job completes.
+     */
+    public void requestWarmup() {
+        if (properties.isEnabled()) {
+            eventBus.publish(TOPIC, Map.of());
+        }
+    }
+
+    synchronized void scheduleWarmup() {
+        if (pendingRun != null) {
+            pendingRun.cancel(false);
+        }
+        pendingRun = scheduler.schedule(() -> syncTimer.record(() -> {
+                    warmUp(null);
+                }),
+                properties.getDelayAfterSync().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Loads every known hot entry, waiting at most {@code timeout} (null waits for all).
+     *
+     * @return the number of entries loaded before returning
+     */
+    int warmUp(Duration timeout) {
+        long start = System.currentTimeMillis();
+        List<WarmupTask> tasks = collectTasks();
+        List<CompletableFuture<Boolean>> loads = new ArrayList<>(tasks.size());
+        for (WarmupTask task : tasks) {
+            loads.add(CompletableFuture.supplyAsync(() -> load(task), loaders));
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new));
+        try {
+            if (timeout != null) {
+                all.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } else {
+                all.join();
+            }
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up timed out after {}; remaining entries load in the background", timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Cache warm-up failed: {}", e.getMessage());
+        }
+
+        int loaded = (int) loads.stream().filter(load -> load.getNow(false)).count();
+        log.info("Warmed {} of {} cache entries in {} ms", loaded, tasks.size(), System.currentTimeMillis() - start);
+        return loaded;
+    }
+
+    private List<WarmupTask> collectTasks() {
+        Set<WarmupTask> tasks = new LinkedHashSet<>();
+        for (CacheWarmer warmer : warmers) {
+            try {
+                warmer.defaultKeys().forEach(key -> tasks.add(new WarmupTask(warmer, key)));
+            } catch (RuntimeException e) {
+                log.warn("Failed to list default warm-up keys from {}: {}", warmer.getClass().getSimpleName(),
+                        e.getMessage());
+            }
+            for (String cacheName : warmer.cacheNames()) {
+                hotKeyRegistry.hotKeys(cacheName).forEach(key ->
+                        tasks.add(new WarmupTask(warmer, new WarmupKey(cacheName, key))));
+            }
+        }
+        return List.copyOf(tasks);
+    }
+
+    private boolean load(WarmupTask task) {
+        try {
+            boolean loaded = task.warmer().warm(task.key());
+            if (loaded) {
+                loadedEntries.increment();
+            }
+            return loaded;
+        } catch (RuntimeException e) {
+            failedEntries.increment();
+            log.debug("Failed to warm {}: {}", task.key(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static Timer warmupTimer(MeterRegistry meterRegistry, String trigger) {
+        return Timer.builder("cache.warmup")
+                .description("Time spent warming caches")
+                .tag("trigger", trigger)
+                .register(meterRegistry);
+    }
+
+    private static Counter entryCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.warmup.entries")
+                .description("Cache entries loaded by warm-up")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record WarmupTask(CacheWarmer warmer, WarmupKey key) {}
+}
@@ -0,0 +1,148 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.common.cache.DataVersions.Domain;
+import com.mlbstats.common.config.HttpCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Strong ETags and {@code Cache-Control} for the read API, derived from the
+ * {@link DataVersions} of the domains each endpoint reads rather than from the body, so a
+ * matching {@code If-None-Match} is answered with 304 before any controller, service or
+ * cache runs. The tag also carries the date, because "today" and a missing season resolve
+ * against it.
+ * <p>
+ * Metrics: {@code http.conditional.requests}, tagged by whether the client's copy was current.
+ */
+@Component
+@Order(2)
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    /**
+     * First match wins, so specific paths come before their prefixes.
+     */
+    private static final List<Rule> RULES = List.of(
+            rule("/api/teams/standings", Domain.STANDINGS, Domain.TEAMS),
+            rule("/api/teams/{id}/standing", Domain.STANDINGS, Domain.TEAMS),
+            rule("/api/teams/{id}/roster", Domain.ROSTERS, Domain.PLAYERS, Domain.TEAMS),
+            rule("/api/teams/{id}/games", Domain.GAMES, Domain.TEAMS),
+            rule("/api/teams/{id}/stats", Domain.STATS, Domain.ROSTERS, Domain.PLAYERS, Domain.TEAMS),
+            rule("/api/teams/{id}/aggregate-stats", Domain.STATS, Domain.ROSTERS, Domain.PLAYERS, Domain.TEAMS),
+            rule("/api/teams/**", Domain.TEAMS),
+            rule("/api/games/**", Domain.GAMES, Domain.TEAMS),
+            rule("/api/players/leaders/**", Domain.STATS, Domain.PLAYERS, Domain.TEAMS),
+            rule("/api/players/**", Domain.PLAYERS, Domain.ROSTERS, Domain.STATS, Domain.GAMES, Domain.TEAMS),
+            rule("/api/search/**", Domain.PLAYERS, Domain.STATS, Domain.ROSTERS, Domain.TEAMS));
+
+    private final HttpCacheProperties properties;
+    private final DataVersions dataVersions;
+    private final Counter notModified;
+    private final Counter modified;
+
+    record Rule(PathPattern pattern, Set<Domain> domains) {}
+
+    public ConditionalGetFilter(HttpCacheProperties properties, DataVersions dataVersions,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dataVersions = dataVersions;
+        this.notModified = conditionalCounter(meterRegistry, "not_modified");
+        this.modified = conditionalCounter(meterRegistry, "modified");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !(HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Rule rule = match(request.getRequestURI());
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Read before the body is built: if data changes meanwhile, the next request just misses
+        String etag = etag(rule);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, properties.getCacheControl());
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            if (matches(ifNoneMatch, etag)) {
+                notModified.increment();
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            modified.increment();
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    String etag(Rule rule) {
+        return "\"" + dataVersions.tag(rule.domains()) + "-"
+                + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "\"";
+    }
+
+    static Rule match(String requestUri) {
+        PathContainer path = PathContainer.parsePath(requestUri);
+        for (Rule rule : RULES) {
+            if (rule.pattern().matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * If-None-Match uses weak comparison, so a W/ prefix on the client's tag is ignored.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Rule rule(String pattern, Domain first, Domain... rest) {
+        return new Rule(PathPatternParser.defaultInstance.parse(pattern), EnumSet.of(first, rest));
+    }
+
+    private static Counter conditionalCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("http.conditional.requests")
+                .description("Requests carrying If-None-Match, by whether the client's copy was current")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
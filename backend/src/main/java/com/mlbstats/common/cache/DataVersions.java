@@ -0,0 +1,114 @@
+package com.mlbstats.common.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters per data domain, moved forward whenever {@link CacheInvalidator} applies
+ * a batch of changes from ingestion. Anything keyed by them, such as the serialized
+ * responses in {@link ResponseCacheFilter} or the ETags from {@link ConditionalGetFilter},
+ * stops matching as soon as the data behind it changes.
+ * <p>
+ * The node that flushes a batch picks its version and records it in the data_versions
+ * table; every node then applies the same value from the event bus, so all replicas agree
+ * on versions and a restarted node picks up where the others are. Without the table (H2
+ * in tests) versions are node-local and start from the clock.
+ */
+@Slf4j
+@Component
+public class DataVersions {
+
+    public enum Domain {
+        GAMES, STATS, STANDINGS, ROSTERS, PLAYERS, TEAMS
+    }
+
+    private static final String RAISE_VERSION =
+            "UPDATE data_versions SET version = GREATEST(version, ?) WHERE domain = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Domain, AtomicLong> versions = new EnumMap<>(Domain.class);
+    private volatile boolean persistent;
+
+    public DataVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        long start = System.currentTimeMillis();
+        for (Domain domain : Domain.values()) {
+            versions.put(domain, new AtomicLong(start));
+        }
+    }
+
+    @PostConstruct
+    void load() {
+        try {
+            jdbcTemplate.query("SELECT domain, version FROM data_versions", rs -> {
+                try {
+                    versions.get(Domain.valueOf(rs.getString("domain"))).set(rs.getLong("version"));
+                } catch (IllegalArgumentException e) {
+                    log.debug("Ignoring unknown data version domain {}", rs.getString("domain"));
+                }
+            });
+            persistent = true;
+        } catch (DataAccessException e) {
+            log.info("data_versions table not available, data versions are node-local");
+        }
+    }
+
+    public long current(Domain domain) {
+        return versions.get(domain).get();
+    }
+
+    /**
+     * The newest version of any domain.
+     */
+    public long current() {
+        return versions.values().stream().mapToLong(AtomicLong::get).max().orElse(0);
+    }
+
+    /**
+     * A compact token of the given domains' versions, for keys and ETags.
+     */
+    public String tag(Collection<Domain> domains) {
+        StringJoiner tag = new StringJoiner(".");
+        for (Domain domain : domains) {
+            tag.add(Long.toString(current(domain), 36));
+        }
+        return tag.toString();
+    }
+
+    /**
+     * Picks a version newer than the domains' current ones and records it as their shared
+     * high-water mark. Nodes apply it with {@link #advance}, including this one.
+     */
+    long next(Set<Domain> domains) {
+        long version = System.currentTimeMillis();
+        for (Domain domain : domains) {
+            version = Math.max(version, current(domain) + 1);
+        }
+        if (persistent) {
+            try {
+                for (Domain domain : domains) {
+                    jdbcTemplate.update(RAISE_VERSION, version, domain.name());
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not record data version {}: {}", version, e.getMessage());
+            }
+        }
+        return version;
+    }
+
+    void advance(Set<Domain> domains, long version) {
+        for (Domain domain : domains) {
+            versions.get(domain).accumulateAndGet(version, Math::max);
+        }
+    }
+}
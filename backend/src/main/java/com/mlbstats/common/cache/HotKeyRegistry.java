@@ -0,0 +1,73 @@
+package com.mlbstats.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SequencedSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Learns which cache keys are hot from live traffic. Once a minute it samples Caffeine's
+ * most frequently used keys in each cache, and keeps the most recently hot ones even after
+ * they are evicted, so warm-up can rebuild what users were actually reading before a sync
+ * cleared it.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotKeyRegistry {
+
+    static final int SAMPLE_SIZE = 20;
+    static final int MAX_KEYS_PER_CACHE = 50;
+    private static final long SAMPLE_INTERVAL_MS = 60_000;
+
+    private final CacheManager cacheManager;
+
+    private final Map<String, SequencedSet<Object>> hotKeys = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelay = SAMPLE_INTERVAL_MS)
+    public void sample() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                nativeCache.policy().eviction().ifPresent(eviction ->
+                        record(cacheName, List.copyOf(eviction.hottest(SAMPLE_SIZE).keySet())));
+            }
+        }
+    }
+
+    /**
+     * Marks keys as hot, most recent last.
+     */
+    void record(String cacheName, List<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        SequencedSet<Object> known = hotKeys.computeIfAbsent(cacheName, name -> new LinkedHashSet<>());
+        synchronized (known) {
+            // Re-adding moves a key to the most recent end; the coldest drop off the front
+            for (int i = keys.size() - 1; i >= 0; i--) {
+                known.remove(keys.get(i));
+                known.addLast(keys.get(i));
+            }
+            while (known.size() > MAX_KEYS_PER_CACHE) {
+                known.removeFirst();
+            }
+        }
+    }
+
+    public List<Object> hotKeys(String cacheName) {
+        SequencedSet<Object> known = hotKeys.get(cacheName);
+        if (known == null) {
+            return List.of();
+        }
+        synchronized (known) {
+            return List.copyOf(known.reversed());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.mlbstats.common.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-local stand-in for a shared L2 store, for development and tests. It exercises the
+ * same encoding and tiering as a shared store but is not visible to other nodes.
+ */
+public class InMemoryL2CacheStore implements L2CacheStore {
+
+    private final Map<String, Map<String, Entry>> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        Entry entry = cache(cacheName).get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt().isBefore(Instant.now())) {
+            cache(cacheName).remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        cache(cacheName).put(key, new Entry(value, Instant.now().plus(ttl)));
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        cache(cacheName).remove(key);
+    }
+
+    @Override
+    public void evictAll(String cacheName, Collection<String> keys) {
+        cache(cacheName).keySet().removeAll(keys);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        caches.remove(cacheName);
+    }
+
+    @Override
+    public List<String> keys(String cacheName) {
+        return List.copyOf(cache(cacheName).keySet());
+    }
+
+    private Map<String, Entry> cache(String cacheName) {
+        return caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+    }
+
+    private record Entry(byte[] value, Instant expiresAt) {}
+}
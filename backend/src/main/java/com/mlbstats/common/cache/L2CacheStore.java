@@ -0,0 +1,28 @@
+package com.mlbstats.common.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Shared second-level cache storage behind the per-node Caffeine caches. Values are opaque
+ * bytes keyed by cache name and key string. Implementations must be safe for concurrent use
+ * and may drop entries at any time; callers treat every failure as a miss.
+ */
+public interface L2CacheStore {
+
+    byte[] get(String cacheName, String key);
+
+    void put(String cacheName, String key, byte[] value, Duration ttl);
+
+    void evict(String cacheName, String key);
+
+    /**
+     * Evicts {@code keys} in one round trip, for pattern evictions that match many entries.
+     */
+    void evictAll(String cacheName, Collection<String> keys);
+
+    void clear(String cacheName);
+
+    List<String> keys(String cacheName);
+}
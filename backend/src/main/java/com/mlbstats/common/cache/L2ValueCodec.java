@@ -0,0 +1,74 @@
+package com.mlbstats.common.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Encodes cached API values for the L2 store as JSON with just enough type information to
+ * read them back: the value's class, or the element class for lists. Cached values are
+ * API DTO records or lists of them, so no general polymorphic typing is needed, and only
+ * application classes are ever instantiated when decoding.
+ */
+class L2ValueCodec {
+
+    private static final String TRUSTED_PACKAGE = "com.mlbstats.";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    /**
+     * Returns null for values that can't be stored in L2; they stay in L1 only.
+     */
+    byte[] encode(Object value) throws IOException {
+        Class<?> type;
+        boolean list = value instanceof List<?>;
+        if (list) {
+            List<?> values = (List<?>) value;
+            type = values.isEmpty() ? null : values.get(0).getClass();
+        } else {
+            type = value.getClass();
+        }
+        if (type != null && !type.getName().startsWith(TRUSTED_PACKAGE)) {
+            return null;
+        }
+
+        ObjectNode envelope = objectMapper.createObjectNode();
+        envelope.put("type", type != null ? type.getName() : null);
+        envelope.put("list", list);
+        envelope.set("value", objectMapper.valueToTree(value));
+        return objectMapper.writeValueAsBytes(envelope);
+    }
+
+    Object decode(byte[] bytes) throws IOException {
+        JsonNode envelope = objectMapper.readTree(bytes);
+        String typeName = envelope.path("type").asText(null);
+        boolean list = envelope.path("list").asBoolean();
+        if (typeName == null) {
+            return list ? List.of() : null;
+        }
+        if (!typeName.startsWith(TRUSTED_PACKAGE)) {
+            throw new IOException("Refusing to decode untrusted type " + typeName);
+        }
+
+        Class<?> type;
+        try {
+            type = Class.forName(typeName, false, L2ValueCodec.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unknown cached type " + typeName, e);
+        }
+        JavaType javaType = list
+                ? objectMapper.getTypeFactory().constructCollectionType(List.class, type)
+                : objectMapper.getTypeFactory().constructType(type);
+        return objectMapper.treeToValue(envelope.get("value"), javaType);
+    }
+}
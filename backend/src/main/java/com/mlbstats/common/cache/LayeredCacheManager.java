@@ -0,0 +1,33 @@
+package com.mlbstats.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Serves decorated versions of some caches (shared L2, refresh-ahead) and delegates the
+ * rest to the underlying per-node cache manager.
+ */
+public class LayeredCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, Cache> decoratedCaches;
+
+    public LayeredCacheManager(CacheManager delegate, Map<String, Cache> decoratedCaches) {
+        this.delegate = delegate;
+        this.decoratedCaches = Map.copyOf(decoratedCaches);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = decoratedCaches.get(name);
+        return cache != null ? cache : delegate.getCache(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
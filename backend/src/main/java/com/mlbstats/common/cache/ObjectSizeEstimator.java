@@ -0,0 +1,162 @@
+package com.mlbstats.common.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the heap retained by a cached value, assuming a 64-bit JVM with compressed
+ * references. It walks records, lists, maps and arrays and sizes common JDK value types
+ * from their layout, so the result is an approximation meant for cache budgets, not an
+ * exact measurement. Objects reachable twice are counted once.
+ */
+public final class ObjectSizeEstimator {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int MAX_DEPTH = 32;
+
+    private static final ClassValue<List<Field>> INSTANCE_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return List.copyOf(fields);
+        }
+    };
+
+    private ObjectSizeEstimator() {
+    }
+
+    public static long estimate(Object value) {
+        return estimate(value, new IdentityHashMap<>(), 0);
+    }
+
+    private static long estimate(Object value, Map<Object, Boolean> visited, int depth) {
+        if (value == null || depth > MAX_DEPTH || value instanceof Enum<?> || value instanceof Class<?>
+                || visited.put(value, Boolean.TRUE) != null) {
+            return 0;
+        }
+
+        if (value instanceof String string) {
+            // String object plus its byte[] (Latin-1 for the data cached here)
+            return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + string.length());
+        }
+        if (value instanceof Long || value instanceof Double) {
+            return 24;
+        }
+        if (value instanceof Number && !(value instanceof BigDecimal) && !(value instanceof BigInteger)
+                || value instanceof Boolean || value instanceof Character) {
+            return 16;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 40;
+        }
+        if (value instanceof LocalDate || value instanceof LocalTime || value instanceof Instant) {
+            return 24;
+        }
+        if (value instanceof LocalDateTime) {
+            return 72;
+        }
+        if (value instanceof OffsetDateTime || value instanceof ZonedDateTime) {
+            return 96;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            long size = collection instanceof Set<?>
+                    ? 48 + 32L * collection.size()
+                    : 24 + align(ARRAY_HEADER + (long) REFERENCE * collection.size());
+            for (Object element : collection) {
+                size += estimate(element, visited, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = 48 + 32L * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimate(entry.getKey(), visited, depth + 1);
+                size += estimate(entry.getValue(), visited, depth + 1);
+            }
+            return size;
+        }
+        if (value.getClass().isArray()) {
+            return estimateArray(value, visited, depth);
+        }
+        if (value.getClass().getName().startsWith("java.")) {
+            // Other JDK types can't be inspected reflectively; count them as a small object
+            return 16;
+        }
+        return estimateFields(value, visited, depth);
+    }
+
+    private static long estimateArray(Object array, Map<Object, Boolean> visited, int depth) {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+        if (componentType.isPrimitive()) {
+            return align(ARRAY_HEADER + (long) primitiveSize(componentType) * length);
+        }
+        long size = align(ARRAY_HEADER + (long) REFERENCE * length);
+        for (int i = 0; i < length; i++) {
+            size += estimate(Array.get(array, i), visited, depth + 1);
+        }
+        return size;
+    }
+
+    private static long estimateFields(Object value, Map<Object, Boolean> visited, int depth) {
+        long shallow = OBJECT_HEADER;
+        long referenced = 0;
+        for (Field field : INSTANCE_FIELDS.get(value.getClass())) {
+            Class<?> type = field.getType();
+            if (type.isPrimitive()) {
+                shallow += primitiveSize(type);
+                continue;
+            }
+            shallow += REFERENCE;
+            try {
+                referenced += estimate(field.get(value), visited, depth + 1);
+            } catch (IllegalAccessException e) {
+                // Counted as a reference only
+            }
+        }
+        return align(shallow) + referenced;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,12 @@
+package com.mlbstats.common.cache;
+
+import java.util.function.Predicate;
+
+/**
+ * A cache that can evict entries by key pattern, for composite keys that can't be evicted
+ * one by one.
+ */
+public interface PatternEvictable {
+
+    void evictIf(Predicate<Object> keyMatches);
+}
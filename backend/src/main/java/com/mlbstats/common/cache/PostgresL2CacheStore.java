@@ -0,0 +1,84 @@
+package com.mlbstats.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * L2 store in the cache_entries table. The table is UNLOGGED: writes skip the WAL and its
+ * contents are truncated after a crash, which is fine for a cache. Expired rows are
+ * ignored on read and purged every {@value #PURGE_EVERY_PUTS} writes.
+ */
+@Slf4j
+public class PostgresL2CacheStore implements L2CacheStore {
+
+    private static final int PURGE_EVERY_PUTS = 500;
+
+    private static final String SELECT_VALUE = """
+            SELECT value FROM cache_entries
+            WHERE cache_name = ? AND cache_key = ? AND expires_at > ?
+            """;
+
+    private static final String UPSERT = """
+            INSERT INTO cache_entries (cache_name, cache_key, value, expires_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (cache_name, cache_key)
+            DO UPDATE SET value = EXCLUDED.value, expires_at = EXCLUDED.expires_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicInteger putsSincePurge = new AtomicInteger();
+
+    public PostgresL2CacheStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        List<byte[]> values = jdbcTemplate.query(SELECT_VALUE, (rs, rowNum) -> rs.getBytes(1),
+                cacheName, key, LocalDateTime.now());
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        jdbcTemplate.update(UPSERT, cacheName, key, value, LocalDateTime.now().plus(ttl));
+        if (putsSincePurge.incrementAndGet() >= PURGE_EVERY_PUTS) {
+            putsSincePurge.set(0);
+            int purged = jdbcTemplate.update("DELETE FROM cache_entries WHERE expires_at <= ?", LocalDateTime.now());
+            log.debug("Purged {} expired L2 cache entries", purged);
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        jdbcTemplate.update("DELETE FROM cache_entries WHERE cache_name = ? AND cache_key = ?", cacheName, key);
+    }
+
+    @Override
+    public void evictAll(String cacheName, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM cache_entries WHERE cache_name = ? AND cache_key = ANY(?)", ps -> {
+            ps.setString(1, cacheName);
+            ps.setArray(2, ps.getConnection().createArrayOf("text", keys.toArray()));
+        });
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        jdbcTemplate.update("DELETE FROM cache_entries WHERE cache_name = ?", cacheName);
+    }
+
+    @Override
+    public List<String> keys(String cacheName) {
+        return jdbcTemplate.queryForList("SELECT cache_key FROM cache_entries WHERE cache_name = ?",
+                String.class, cacheName);
+    }
+}
@@ -0,0 +1,153 @@
+package com.mlbstats.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Serves entries older than the refresh interval while one background task reloads them,
+ * so a popular key never expires under load. Entries still expire at the cache's hard TTL
+ * if nothing reads them.
+ * <p>
+ * Refreshes need the {@code @Cacheable} method to be {@code sync = true}: the value loader
+ * Spring passes to {@link #get(Object, Callable)} is what gets re-run in the background.
+ * The same path makes concurrent misses for a key share one load, as Caffeine runs the
+ * loader once per key. A refresh that races an eviction is discarded rather than written
+ * back. Metrics: {@code cache.refreshes} tagged by cache and result (success, failure).
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache, PatternEvictable {
+
+    private final Cache delegate;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache;
+    private final Duration refreshAfter;
+    private final Executor executor;
+
+    private final Map<Object, Boolean> refreshing = new ConcurrentHashMap<>();
+    // Bumped on every eviction so in-flight refreshes started before it are dropped
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+
+    /**
+     * @param delegate a Caffeine-backed cache whose native cache expires after write
+     */
+    @SuppressWarnings("unchecked")
+    public RefreshAheadCache(Cache delegate, Duration refreshAfter, Executor executor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.nativeCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>) delegate.getNativeCache();
+        this.refreshAfter = refreshAfter;
+        this.executor = executor;
+        this.refreshSuccesses = refreshCounter(meterRegistry, delegate.getName(), "success");
+        this.refreshFailures = refreshCounter(meterRegistry, delegate.getName(), "failure");
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return nativeCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        T value = delegate.get(key, valueLoader);
+        if (isDueForRefresh(key)) {
+            refresh(key, valueLoader);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.incrementAndGet();
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        evictions.incrementAndGet();
+        delegate.clear();
+    }
+
+    @Override
+    public void evictIf(Predicate<Object> keyMatches) {
+        evictions.incrementAndGet();
+        if (delegate instanceof PatternEvictable patternEvictable) {
+            patternEvictable.evictIf(keyMatches);
+        } else {
+            nativeCache.asMap().keySet().removeIf(keyMatches);
+        }
+    }
+
+    private boolean isDueForRefresh(Object key) {
+        return nativeCache.policy().expireAfterWrite()
+                .flatMap(expiration -> expiration.ageOf(key))
+                .map(age -> age.compareTo(refreshAfter) >= 0)
+                .orElse(false);
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader) {
+        if (refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        long evictionsAtStart = evictions.get();
+        try {
+            executor.execute(() -> {
+                try {
+                    Object value = valueLoader.call();
+                    if (evictions.get() == evictionsAtStart) {
+                        delegate.put(key, value);
+                    }
+                    refreshSuccesses.increment();
+                } catch (Exception e) {
+                    // The stale value keeps being served; the next read past the interval retries
+                    refreshFailures.increment();
+                    log.warn("Failed to refresh {} in cache {}: {}", key, getName(), e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            refreshFailures.increment();
+        }
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("cache.refreshes")
+                .description("Background refreshes of entries past their refresh interval")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,181 @@
+package com.mlbstats.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mlbstats.common.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches the serialized, gzip-compressed bodies of hot read endpoints, so a hit is a single
+ * write of ready-made bytes instead of a trip through the controller, Jackson and
+ * compression. Entries are keyed by path, the sorted query parameters, the
+ * newest {@link DataVersions} version and the current date, so they stop matching as soon as a sync
+ * changes data, and endpoints that resolve "today" or the current season roll over with
+ * the date.
+ * <p>
+ * Only successful JSON responses are stored. Clients that don't accept gzip get the body
+ * decompressed on a hit. Metrics are the usual cache meters under {@code cache="httpResponses"}.
+ */
+@Component
+@Order(3)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_NAME = "httpResponses";
+    static final String CACHE_STATUS_HEADER = "X-Response-Cache";
+
+    private final ResponseCacheProperties properties;
+    private final DataVersions dataVersions;
+    private final List<PathPattern> paths;
+    private final Cache<String, CachedResponse> responses;
+
+    record CachedResponse(String contentType, byte[] gzippedBody) {}
+
+    public ResponseCacheFilter(ResponseCacheProperties properties, DataVersions dataVersions,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dataVersions = dataVersions;
+        this.paths = properties.getPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(properties.getBudget().toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.gzippedBody().length)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        return paths.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = cacheKey(request);
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null) {
+            response.setHeader(CACHE_STATUS_HEADER, "HIT");
+            write(cached, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (!isCacheable(wrapper, body)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        CachedResponse entry = new CachedResponse(wrapper.getContentType(), gzip(body));
+        responses.put(key, entry);
+        response.setHeader(CACHE_STATUS_HEADER, "MISS");
+        if (acceptsGzip(request)) {
+            write(entry, request, response);
+        } else {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private String cacheKey(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI()).append('?');
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        parameters.forEach((name, values) -> key.append(name).append('=')
+                .append(String.join(",", Arrays.asList(values))).append('&'));
+        return key.append('#').append(dataVersions.current())
+                .append('#').append(LocalDate.now())
+                .toString();
+    }
+
+    private boolean isCacheable(HttpServletResponse response, byte[] body) {
+        if (response.getStatus() != HttpServletResponse.SC_OK || body.length == 0
+                || body.length > properties.getMaxEntrySize().toBytes()) {
+            return false;
+        }
+        String contentType = response.getContentType();
+        return contentType != null
+                && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        byte[] body = cached.gzippedBody();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        } else {
+            body = gunzip(body);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+}
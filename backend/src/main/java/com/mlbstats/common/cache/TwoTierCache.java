@@ -0,0 +1,235 @@
+package com.mlbstats.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+
+/**
+ * A per-node Caffeine cache (L1) backed by a shared {@link L2CacheStore}. Reads try L1, then
+ * L2, then load; L2 hits are copied into L1. Writes and evictions go to both tiers. Any L2
+ * failure is treated as a miss so the store can never fail a request.
+ * <p>
+ * Evicting here only affects this node's L1; {@link CacheInvalidator} applies invalidations
+ * on every node. Metrics: {@code cache.tier.gets} tagged by cache, tier and result, and
+ * {@code cache.tier.hit.ratio} per cache and tier.
+ */
+@Slf4j
+public class TwoTierCache implements Cache, PatternEvictable {
+
+    // Matches the cache_entries.cache_key column
+    static final int MAX_KEY_LENGTH = 512;
+
+    private final CaffeineCache l1;
+    private final L2CacheStore l2;
+    private final L2ValueCodec codec;
+    private final Duration ttl;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l2Errors;
+
+    public TwoTierCache(CaffeineCache l1, L2CacheStore l2, Duration ttl, MeterRegistry meterRegistry) {
+        this.l1 = l1;
+        this.l2 = l2;
+        this.codec = new L2ValueCodec();
+        this.ttl = ttl;
+
+        String name = l1.getName();
+        this.l1Hits = getCounter(meterRegistry, name, "l1", "hit");
+        this.l1Misses = getCounter(meterRegistry, name, "l1", "miss");
+        this.l2Hits = getCounter(meterRegistry, name, "l2", "hit");
+        this.l2Misses = getCounter(meterRegistry, name, "l2", "miss");
+        this.l2Errors = Counter.builder("cache.tier.errors")
+                .description("L2 cache store failures, served as misses")
+                .tag("cache", name)
+                .register(meterRegistry);
+        hitRatioGauge(meterRegistry, name, "l1", l1Hits, l1Misses);
+        hitRatioGauge(meterRegistry, name, "l2", l2Hits, l2Misses);
+    }
+
+    @Override
+    public String getName() {
+        return l1.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper local = l1.get(key);
+        if (local != null) {
+            l1Hits.increment();
+            return local;
+        }
+        l1Misses.increment();
+
+        Object remote = readL2(key);
+        if (remote == null) {
+            return null;
+        }
+        l1.put(key, remote);
+        return new SimpleValueWrapper(remote);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper local = l1.get(key);
+        if (local != null) {
+            l1Hits.increment();
+            return (T) local.get();
+        }
+        l1Misses.increment();
+
+        // Caffeine runs the loader once per key, so concurrent misses share one L2 read or load
+        return l1.get(key, () -> {
+            Object remote = readL2(key);
+            if (remote != null) {
+                return (T) remote;
+            }
+            T loaded = valueLoader.call();
+            writeL2(key, loaded);
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l1.put(key, value);
+        writeL2(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        l1.evict(key);
+        String l2Key = l2Key(key);
+        if (l2Key != null) {
+            try {
+                l2.evict(getName(), l2Key);
+            } catch (RuntimeException e) {
+                l2Errors.increment();
+                log.warn("Failed to evict {} from L2 cache {}: {}", l2Key, getName(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        l1.clear();
+        try {
+            l2.clear(getName());
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.warn("Failed to clear L2 cache {}: {}", getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Evicts every entry whose key matches, in both tiers. L2 keys are matched by their string
+     * form and evicted in a single batch.
+     */
+    @Override
+    public void evictIf(Predicate<Object> keyMatches) {
+        l1.getNativeCache().asMap().keySet().removeIf(keyMatches);
+        try {
+            List<String> matching = l2.keys(getName()).stream()
+                    .filter(keyMatches)
+                    .toList();
+            if (!matching.isEmpty()) {
+                l2.evictAll(getName(), matching);
+            }
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.warn("Failed to evict matching keys from L2 cache {}: {}", getName(), e.getMessage());
+        }
+    }
+
+    private Object readL2(Object key) {
+        String l2Key = l2Key(key);
+        if (l2Key == null) {
+            l2Misses.increment();
+            return null;
+        }
+        try {
+            byte[] bytes = l2.get(getName(), l2Key);
+            Object value = bytes != null ? codec.decode(bytes) : null;
+            (value != null ? l2Hits : l2Misses).increment();
+            return value;
+        } catch (Exception e) {
+            l2Errors.increment();
+            l2Misses.increment();
+            log.debug("L2 read failed for {} in {}: {}", l2Key, getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeL2(Object key, Object value) {
+        String l2Key = l2Key(key);
+        if (l2Key == null || value == null) {
+            return;
+        }
+        try {
+            byte[] bytes = codec.encode(value);
+            if (bytes != null) {
+                l2.put(getName(), l2Key, bytes, ttl);
+            }
+        } catch (Exception e) {
+            l2Errors.increment();
+            log.debug("L2 write failed for {} in {}: {}", l2Key, getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Keys in a cache share one type, so their string form is unique within the cache.
+     */
+    private static String l2Key(Object key) {
+        String value = String.valueOf(key);
+        return value.length() <= MAX_KEY_LENGTH ? value : null;
+    }
+
+    private static Counter getCounter(MeterRegistry meterRegistry, String cache, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("Cache lookups by tier and result")
+                .tag("cache", cache)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void hitRatioGauge(MeterRegistry meterRegistry, String cache, String tier,
+                                      Counter hits, Counter misses) {
+        Gauge.builder("cache.tier.hit.ratio", () -> {
+                    double total = hits.count() + misses.count();
+                    return total > 0 ? hits.count() / total : 0.0;
+                })
+                .description("Share of lookups served by the tier")
+                .tag("cache", cache)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
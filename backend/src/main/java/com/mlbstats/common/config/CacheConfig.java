@@ -1,14 +1,38 @@
 package com.mlbstats.common.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mlbstats.common.cache.InMemoryL2CacheStore;
+import com.mlbstats.common.cache.L2CacheStore;
+import com.mlbstats.common.cache.LayeredCacheManager;
+import com.mlbstats.common.cache.ObjectSizeEstimator;
+import com.mlbstats.common.cache.PostgresL2CacheStore;
+import com.mlbstats.common.cache.RefreshAheadCache;
+import com.mlbstats.common.cache.TwoTierCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+@Slf4j
 @Configuration
 public class CacheConfig {
 
@@ -21,57 +45,163 @@ public class CacheConfig {
     public static final String STANDINGS = "standings";
     public static final String TEAM_STANDINGS = "teamStandings";
     public static final String PLAYERS = "players";
-    public static final String LEADERBOARDS = "leaderboards";
     public static final String GAMES = "games";
     public static final String GAMES_BY_DATE = "gamesByDate";
     public static final String BOX_SCORES = "boxScores";
     public static final String LINESCORES = "linescores";
     public static final String CALENDAR_GAMES = "calendarGames";
     public static final String CALENDAR_COUNTS = "calendarCounts";
-    public static final String SEARCH = "search";
     public static final String TEAM_AGGREGATE_STATS = "teamAggregateStats";
     public static final String PLAYER_COMPARISON = "playerComparison";
 
+    private static final int REFRESH_THREADS = 2;
+
+    // Heap budget used when none is configured, e.g. in tests
+    public static final DataSize DEFAULT_MEMORY_BUDGET = DataSize.ofMegabytes(128);
+
+    // Each cache gets budgetShare percent of the memory budget, weighed by estimated bytes
+    // per entry. Caches with a refresh interval are served stale past it while one reload
+    // runs in the background; the TTL is then only the hard limit for entries nobody reads.
     private static final Map<String, CacheSpec> CACHE_SPECS = Map.ofEntries(
             Map.entry(TEAMS, new CacheSpec(Duration.ofHours(24), 1)),
-            Map.entry(TEAMS_BY_ID, new CacheSpec(Duration.ofHours(24), 50)),
-            Map.entry(TEAMS_BY_LEAGUE, new CacheSpec(Duration.ofHours(24), 10)),
-            Map.entry(TEAMS_BY_DIVISION, new CacheSpec(Duration.ofHours(24), 20)),
-            Map.entry(ROSTERS, new CacheSpec(Duration.ofDays(7), 100)),
-            Map.entry(STANDINGS, new CacheSpec(Duration.ofMinutes(15), 10)),
-            Map.entry(TEAM_STANDINGS, new CacheSpec(Duration.ofMinutes(15), 100)),
-            Map.entry(PLAYERS, new CacheSpec(Duration.ofHours(24), 1000)),
-            Map.entry(LEADERBOARDS, new CacheSpec(Duration.ofMinutes(30), 50)),
-            Map.entry(GAMES, new CacheSpec(Duration.ofHours(1), 500)),
-            Map.entry(GAMES_BY_DATE, new CacheSpec(Duration.ofHours(1), 60)),
-            Map.entry(BOX_SCORES, new CacheSpec(Duration.ofHours(24), 200)),
-            Map.entry(LINESCORES, new CacheSpec(Duration.ofHours(24), 500)),
-            Map.entry(CALENDAR_GAMES, new CacheSpec(Duration.ofMinutes(15), 100)),
-            Map.entry(CALENDAR_COUNTS, new CacheSpec(Duration.ofMinutes(30), 200)),
-            Map.entry(SEARCH, new CacheSpec(Duration.ofMinutes(5), 100)),
-            Map.entry(TEAM_AGGREGATE_STATS, new CacheSpec(Duration.ofMinutes(30), 100)),
-            Map.entry(PLAYER_COMPARISON, new CacheSpec(Duration.ofMinutes(30), 200))
+            Map.entry(TEAMS_BY_ID, new CacheSpec(Duration.ofHours(24), 1)),
+            Map.entry(TEAMS_BY_LEAGUE, new CacheSpec(Duration.ofHours(24), 1)),
+            Map.entry(TEAMS_BY_DIVISION, new CacheSpec(Duration.ofHours(24), 1)),
+            Map.entry(ROSTERS, new CacheSpec(Duration.ofDays(7), 8)),
+            Map.entry(STANDINGS, new CacheSpec(Duration.ofHours(1), 2, Duration.ofMinutes(15))),
+            Map.entry(TEAM_STANDINGS, new CacheSpec(Duration.ofMinutes(15), 2)),
+            Map.entry(PLAYERS, new CacheSpec(Duration.ofHours(24), 21)),
+            Map.entry(GAMES, new CacheSpec(Duration.ofHours(1), 6)),
+            Map.entry(GAMES_BY_DATE, new CacheSpec(Duration.ofHours(1), 6)),
+            Map.entry(BOX_SCORES, new CacheSpec(Duration.ofHours(24), 20)),
+            Map.entry(LINESCORES, new CacheSpec(Duration.ofHours(24), 5)),
+            Map.entry(CALENDAR_GAMES, new CacheSpec(Duration.ofHours(1), 8, Duration.ofMinutes(15))),
+            Map.entry(CALENDAR_COUNTS, new CacheSpec(Duration.ofMinutes(30), 3)),
+            Map.entry(TEAM_AGGREGATE_STATS, new CacheSpec(Duration.ofMinutes(30), 5)),
+            Map.entry(PLAYER_COMPARISON, new CacheSpec(Duration.ofMinutes(30), 10))
     );
 
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(REFRESH_THREADS,
+            Thread.ofPlatform().name("cache-refresh-", 0).daemon(true).factory());
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(CacheMemoryProperties memoryProperties,
+                                     L2CacheProperties l2Properties,
+                                     ObjectProvider<JdbcTemplate> jdbcTemplate,
+                                     ObjectProvider<PlatformTransactionManager> transactionManager,
+                                     ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        CaffeineCacheManager caffeineCacheManager = caffeineCacheManager(memoryProperties.getBudget());
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        Map<String, Cache> decoratedCaches = new HashMap<>();
+
+        if (l2Properties.isEnabled()) {
+            L2CacheStore l2 = "memory".equalsIgnoreCase(l2Properties.getStore())
+                    ? new InMemoryL2CacheStore()
+                    : new PostgresL2CacheStore(jdbcTemplate.getObject());
+            log.info("L2 cache enabled ({}) for {}", l2Properties.getStore(), l2Properties.getCaches());
+            for (String cacheName : l2Properties.getCaches()) {
+                if (caffeineCacheManager.getCache(cacheName) instanceof CaffeineCache l1) {
+                    decoratedCaches.put(cacheName, new TwoTierCache(l1, l2, ttlFor(cacheName), meterRegistry));
+                }
+            }
+        }
+
+        Executor refresher = refreshExecutor(transactionManager.getIfAvailable());
+        CACHE_SPECS.forEach((cacheName, spec) -> {
+            if (spec.refreshAfter() != null) {
+                Cache cache = decoratedCaches.getOrDefault(cacheName, caffeineCacheManager.getCache(cacheName));
+                decoratedCaches.put(cacheName,
+                        new RefreshAheadCache(cache, spec.refreshAfter(), refresher, meterRegistry));
+            }
+        });
+
+        // Boot only binds cache metrics to plain CaffeineCache instances
+        decoratedCaches.forEach((cacheName, cache) ->
+                CaffeineCacheMetrics.monitor(meterRegistry, nativeCache(cache), cacheName));
+        return new LayeredCacheManager(caffeineCacheManager, decoratedCaches);
+    }
+
+    @PreDestroy
+    void shutdownRefreshExecutor() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Refreshes re-run service methods off the request thread, so they get their own
+     * read-only transaction for any lazy loading done while mapping to DTOs.
+     */
+    private Executor refreshExecutor(PlatformTransactionManager transactionManager) {
+        if (transactionManager == null) {
+            return refreshExecutor;
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return task -> refreshExecutor.execute(() -> transactionTemplate.executeWithoutResult(status -> task.run()));
+    }
+
+    public static CaffeineCacheManager caffeineCacheManager() {
+        return caffeineCacheManager(DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * The per-node Caffeine caches, which are also the L1 tier when L2 is enabled.
+     */
+    public static CaffeineCacheManager caffeineCacheManager(DataSize memoryBudget) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setAsyncCacheMode(false);
+        // Static: only the caches below exist, lookups of any other name return null.
+        // setCacheNames creates default caches, so it must run before the custom ones replace them.
+        cacheManager.setCacheNames(CACHE_SPECS.keySet());
 
         // Register each cache with its specific configuration
         CACHE_SPECS.forEach((cacheName, spec) ->
-            cacheManager.registerCustomCache(cacheName, buildCache(spec)));
+            cacheManager.registerCustomCache(cacheName, buildCache(spec, budgetFor(cacheName, memoryBudget))));
 
         return cacheManager;
     }
 
-    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(CacheSpec spec) {
+    /**
+     * A cache's share of the total memory budget, in bytes.
+     */
+    public static long budgetFor(String cacheName, DataSize memoryBudget) {
+        return memoryBudget.toBytes() * specFor(cacheName).budgetShare() / 100;
+    }
+
+    public static Duration ttlFor(String cacheName) {
+        return specFor(cacheName).ttl();
+    }
+
+    private static CacheSpec specFor(String cacheName) {
+        CacheSpec spec = CACHE_SPECS.get(cacheName);
+        if (spec == null) {
+            throw new IllegalArgumentException("Unknown cache: " + cacheName);
+        }
+        return spec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(CacheSpec spec,
+                                                                                       long budgetBytes) {
         return Caffeine.newBuilder()
                 .expireAfterWrite(spec.ttl())
-                .maximumSize(spec.maxSize())
+                .maximumWeight(budgetBytes)
+                .weigher(CacheConfig::weigh)
                 .recordStats()
                 .build();
     }
 
-    private record CacheSpec(Duration ttl, int maxSize) {}
+    private static int weigh(Object key, Object value) {
+        long bytes = ObjectSizeEstimator.estimate(key) + ObjectSizeEstimator.estimate(value);
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private record CacheSpec(Duration ttl, int budgetShare, Duration refreshAfter) {
+        CacheSpec(Duration ttl, int budgetShare) {
+            this(ttl, budgetShare, null);
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package com.mlbstats.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.memory")
+public class CacheMemoryProperties {
+
+    // Heap shared by the per-node caches, split by each cache's share in CacheConfig
+    private DataSize budget = CacheConfig.DEFAULT_MEMORY_BUDGET;
+
+    public DataSize getBudget() {
+        return budget;
+    }
+
+    public void setBudget(DataSize budget) {
+        this.budget = budget;
+    }
+}
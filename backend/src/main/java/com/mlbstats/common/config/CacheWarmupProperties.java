@@ -0,0 +1,50 @@
+package com.mlbstats.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.warmup")
+public class CacheWarmupProperties {
+
+    private boolean enabled = true;
+    // Readiness is held at most this long at startup; unfinished loads keep running afterwards
+    private Duration startupTimeout = Duration.ofSeconds(60);
+    // Gives the cache invalidation flush time to land before re-warming after a sync
+    private Duration delayAfterSync = Duration.ofSeconds(5);
+    private int threads = 4;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getStartupTimeout() {
+        return startupTimeout;
+    }
+
+    public void setStartupTimeout(Duration startupTimeout) {
+        this.startupTimeout = startupTimeout;
+    }
+
+    public Duration getDelayAfterSync() {
+        return delayAfterSync;
+    }
+
+    public void setDelayAfterSync(Duration delayAfterSync) {
+        this.delayAfterSync = delayAfterSync;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+}
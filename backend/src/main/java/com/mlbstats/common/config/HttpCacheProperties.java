@@ -0,0 +1,30 @@
+package com.mlbstats.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.http")
+public class HttpCacheProperties {
+
+    private boolean enabled = true;
+
+    // The API requires a login, so shared caches must not store responses; clients revalidate with ETags
+    private String cacheControl = "private, no-cache";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getCacheControl() {
+        return cacheControl;
+    }
+
+    public void setCacheControl(String cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+}
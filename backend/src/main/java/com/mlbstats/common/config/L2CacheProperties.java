@@ -0,0 +1,45 @@
+package com.mlbstats.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.l2")
+public class L2CacheProperties {
+
+    private boolean enabled = false;
+    // "postgres" for the shared unlogged table, "memory" for a single-node stand-in
+    private String store = "postgres";
+    private List<String> caches = new ArrayList<>(List.of(
+            CacheConfig.STANDINGS,
+            CacheConfig.TEAM_STANDINGS,
+            CacheConfig.TEAM_AGGREGATE_STATS,
+            CacheConfig.CALENDAR_GAMES));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public List<String> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(List<String> caches) {
+        this.caches = caches;
+    }
+}
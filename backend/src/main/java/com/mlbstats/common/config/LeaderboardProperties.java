@@ -0,0 +1,32 @@
+package com.mlbstats.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.leaderboards")
+public class LeaderboardProperties {
+
+    // Keep each season's leaderboard tables between requests; when off, the named leaderboards
+    // run their own top-N query and other requests load the season
+    private boolean enabled = true;
+
+    // Seasons held in memory at once; the least recently built is dropped first
+    private int maxSeasons = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxSeasons() {
+        return maxSeasons;
+    }
+
+    public void setMaxSeasons(int maxSeasons) {
+        this.maxSeasons = maxSeasons;
+    }
+}
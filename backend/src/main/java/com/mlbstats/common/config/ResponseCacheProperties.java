@@ -0,0 +1,71 @@
+package com.mlbstats.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.response")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    // GET endpoints whose serialized, gzipped responses are cached
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/teams/standings",
+            "/api/games/today",
+            "/api/players/leaders/**"));
+
+    // Heap for the compressed bodies, separate from cache.memory.budget
+    private DataSize budget = DataSize.ofMegabytes(16);
+
+    // Bodies larger than this (uncompressed) are served but not cached
+    private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+
+    // Upper bound on staleness for data that changes without a sync, e.g. the current date
+    private Duration ttl = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public DataSize getBudget() {
+        return budget;
+    }
+
+    public void setBudget(DataSize budget) {
+        this.budget = budget;
+    }
+
+    public DataSize getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public void setMaxEntrySize(DataSize maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+}
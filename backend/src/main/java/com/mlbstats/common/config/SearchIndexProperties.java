@@ -0,0 +1,31 @@
+package com.mlbstats.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.search-index")
+public class SearchIndexProperties {
+
+    // Keep the name index between requests; when off, each search runs bounded name queries
+    private boolean enabled = true;
+
+    // Seasons of playing time, counting back from the current one, that rank players
+    private int popularitySeasons = 2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPopularitySeasons() {
+        return popularitySeasons;
+    }
+
+    public void setPopularitySeasons(int popularitySeasons) {
+        this.popularitySeasons = popularitySeasons;
+    }
+}
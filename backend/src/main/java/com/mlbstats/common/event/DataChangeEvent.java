@@ -0,0 +1,47 @@
+package com.mlbstats.common.event;
+
+import java.time.LocalDate;
+
+/**
+ * Application events raised by ingestion when stored data changes, so caches and other
+ * derived state can react to exactly what changed instead of a whole sync type.
+ * Published through Spring's {@code ApplicationEventPublisher}; listeners that read the
+ * database should use {@code @TransactionalEventListener} so they run after commit.
+ */
+public sealed interface DataChangeEvent {
+
+    /**
+     * A game's schedule, status or score changed. A null id stands for any game, e.g. after a bulk load.
+     */
+    record GameChanged(Long gameId, LocalDate gameDate) implements DataChangeEvent {}
+
+    /**
+     * A game's box score lines or linescore innings were stored.
+     */
+    record BoxScoreChanged(Long gameId) implements DataChangeEvent {}
+
+    /**
+     * A player's season stats row changed.
+     */
+    record PlayerStatsChanged(Long playerId, Integer season) implements DataChangeEvent {}
+
+    /**
+     * A player's biographical record was created or updated.
+     */
+    record PlayerChanged(Long playerId) implements DataChangeEvent {}
+
+    /**
+     * A team's roster for a season changed.
+     */
+    record RosterChanged(Long teamId, Integer season) implements DataChangeEvent {}
+
+    /**
+     * Standings for a season changed.
+     */
+    record StandingsChanged(Integer season) implements DataChangeEvent {}
+
+    /**
+     * Team records (names, leagues, divisions) changed.
+     */
+    record TeamsChanged() implements DataChangeEvent {}
+}
@@ -0,0 +1,179 @@
+package com.mlbstats.common.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Lightweight cross-node event bus on Postgres LISTEN/NOTIFY, so every replica sees
+ * events raised on any other (e.g. sync job progress for SSE subscribers).
+ * <p>
+ * Events are JSON envelopes of a topic and a map payload on a single channel. Publishing
+ * inside a transaction delivers on commit. Each node keeps one dedicated connection
+ * listening on the channel and dispatches to its local handlers, including for events
+ * it published itself. Delivery is at-most-once: events raised while a node is
+ * reconnecting are not replayed, so only publish state that is re-sent or re-readable.
+ * <p>
+ * Without Postgres (H2 in tests) events are dispatched in-process.
+ */
+@Slf4j
+@Component
+public class PostgresEventBus {
+
+    static final String CHANNEL = "mlb_events";
+    // NOTIFY payloads must be shorter than 8000 bytes
+    static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private static final TypeReference<Map<String, Object>> ENVELOPE_TYPE = new TypeReference<>() {};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final Map<String, List<Consumer<Map<String, Object>>>> handlers = new ConcurrentHashMap<>();
+
+    private volatile boolean notifySupported;
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresEventBus(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void subscribe(String topic, Consumer<Map<String, Object>> handler) {
+        handlers.computeIfAbsent(topic, k -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * Publishes an event to every node. Payloads too large for NOTIFY are only delivered locally.
+     */
+    public void publish(String topic, Map<String, Object> payload) {
+        if (!notifySupported) {
+            dispatch(topic, payload);
+            return;
+        }
+
+        String envelope;
+        try {
+            envelope = objectMapper.writeValueAsString(Map.of("topic", topic, "payload", payload));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} event: {}", topic, e.getMessage());
+            return;
+        }
+        if (envelope.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            log.warn("{} event too large for NOTIFY, delivering on this node only", topic);
+            dispatch(topic, payload);
+            return;
+        }
+
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, CHANNEL, envelope);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Boolean supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.isWrapperFor(PGConnection.class));
+        notifySupported = Boolean.TRUE.equals(supported);
+        if (!notifySupported) {
+            log.info("LISTEN/NOTIFY not available, events are delivered in-process only");
+            return;
+        }
+
+        running = true;
+        listenerThread = Thread.ofPlatform().name("event-bus-listener").daemon(true).start(this::listen);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for events on channel {}", CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handleNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Event bus listener lost its connection, retrying in {} ms: {}",
+                        RECONNECT_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handleNotification(String envelope) {
+        try {
+            Map<String, Object> event = objectMapper.readValue(envelope, ENVELOPE_TYPE);
+            Object payload = event.get("payload");
+            dispatch((String) event.get("topic"), payload instanceof Map ? (Map<String, Object>) payload : Map.of());
+        } catch (JsonProcessingException | ClassCastException e) {
+            log.warn("Ignoring malformed event: {}", e.getMessage());
+        }
+    }
+
+    private void dispatch(String topic, Map<String, Object> payload) {
+        List<Consumer<Map<String, Object>>> topicHandlers = handlers.get(topic);
+        if (topicHandlers == null) {
+            return;
+        }
+        for (Consumer<Map<String, Object>> handler : topicHandlers) {
+            try {
+                handler.accept(payload);
+            } catch (Exception e) {
+                log.warn("Event handler for {} failed: {}", topic, e.getMessage());
+            }
+        }
+    }
+}
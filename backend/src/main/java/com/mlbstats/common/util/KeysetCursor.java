@@ -0,0 +1,31 @@
+package com.mlbstats.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position after the last row of a page: its sort key and id. Clients get it as an
+ * opaque token and pass it back unchanged for the next page, which then starts right after
+ * that row no matter how many rows came before it.
+ */
+public record KeysetCursor(String key, long id) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException when {@code token} wasn't made by {@link #encode()}
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The key may contain the separator, the id can't
+            int separator = decoded.lastIndexOf(':');
+            return new KeysetCursor(decoded.substring(0, separator), Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.mlbstats.domain.game;
 
+import com.mlbstats.api.dto.CalendarGameDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,24 +23,35 @@ public interface GameRepository extends JpaRepository<Game, Long> {
 
     List<Game> findByGameDate(LocalDate gameDate);
 
-    @Query("SELECT g FROM Game g WHERE g.gameDate BETWEEN :startDate AND :endDate ORDER BY g.gameDate")
-    List<Game> findByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
-
     @Query("SELECT g FROM Game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam " +
            "LEFT JOIN FETCH g.homeProbablePitcher LEFT JOIN FETCH g.awayProbablePitcher " +
            "WHERE g.gameDate BETWEEN :startDate AND :endDate " +
            "ORDER BY g.gameDate, g.scheduledTime")
     List<Game> findByDateRangeWithTeams(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
-    @Query("SELECT g FROM Game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam " +
-           "LEFT JOIN FETCH g.homeProbablePitcher LEFT JOIN FETCH g.awayProbablePitcher " +
-           "WHERE (g.homeTeam.id = :teamId OR g.awayTeam.id = :teamId) " +
+    /**
+     * Calendar rows for a date range, selected straight into the DTO without loading games.
+     */
+    @Query("SELECT new com.mlbstats.api.dto.CalendarGameDto(g.id, g.gameDate, g.scheduledTime, g.status, " +
+           "h.id, h.abbreviation, a.id, a.abbreviation, g.homeScore, g.awayScore) " +
+           "FROM Game g JOIN g.homeTeam h JOIN g.awayTeam a " +
+           "WHERE g.gameDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY g.gameDate, g.scheduledTime")
+    List<CalendarGameDto> findCalendarGames(@Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Like {@link #findCalendarGames} but only one team's games.
+     */
+    @Query("SELECT new com.mlbstats.api.dto.CalendarGameDto(g.id, g.gameDate, g.scheduledTime, g.status, " +
+           "h.id, h.abbreviation, a.id, a.abbreviation, g.homeScore, g.awayScore) " +
+           "FROM Game g JOIN g.homeTeam h JOIN g.awayTeam a " +
+           "WHERE (h.id = :teamId OR a.id = :teamId) " +
            "AND g.gameDate BETWEEN :startDate AND :endDate " +
            "ORDER BY g.gameDate, g.scheduledTime")
-    List<Game> findByDateRangeAndTeamWithTeams(
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            @Param("teamId") Long teamId);
+    List<CalendarGameDto> findCalendarGamesForTeam(@Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate,
+                                                   @Param("teamId") Long teamId);
 
     @Query("SELECT g FROM Game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam " +
            "LEFT JOIN FETCH g.homeProbablePitcher LEFT JOIN FETCH g.awayProbablePitcher " +
@@ -54,8 +68,26 @@ public interface GameRepository extends JpaRepository<Game, Long> {
            "WHERE (g.homeTeam.id = :teamId OR g.awayTeam.id = :teamId) AND g.season = :season ORDER BY g.gameDate")
     List<Game> findByTeamIdAndSeason(@Param("teamId") Long teamId, @Param("season") Integer season);
 
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam", "homeProbablePitcher", "awayProbablePitcher"})
     Page<Game> findBySeasonOrderByGameDateDesc(Integer season, Pageable pageable);
 
+    /**
+     * A season's latest games, for cursor paging.
+     */
+    @Query("SELECT g FROM Game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam " +
+           "LEFT JOIN FETCH g.homeProbablePitcher LEFT JOIN FETCH g.awayProbablePitcher " +
+           "WHERE g.season = :season ORDER BY g.gameDate DESC, g.id DESC")
+    List<Game> findLatestBySeason(@Param("season") Integer season, Limit limit);
+
+    /**
+     * A season's games before ({@code gameDate}, {@code id}), latest first, for cursor paging.
+     */
+    @Query("SELECT g FROM Game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam " +
+           "LEFT JOIN FETCH g.homeProbablePitcher LEFT JOIN FETCH g.awayProbablePitcher " +
+           "WHERE g.season = :season AND (g.gameDate, g.id) < (:gameDate, :id) ORDER BY g.gameDate DESC, g.id DESC")
+    List<Game> findBySeasonBefore(@Param("season") Integer season, @Param("gameDate") LocalDate gameDate,
+                                  @Param("id") Long id, Limit limit);
+
     @Query("SELECT g FROM Game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam " +
            "WHERE g.season = :season AND g.status = :status ORDER BY g.gameDate")
     List<Game> findBySeasonAndStatus(@Param("season") Integer season, @Param("status") String status);
@@ -64,6 +96,20 @@ public interface GameRepository extends JpaRepository<Game, Long> {
            "LEFT JOIN FETCH g.homeProbablePitcher LEFT JOIN FETCH g.awayProbablePitcher WHERE g.id = :id")
     Optional<Game> findByIdWithTeams(@Param("id") Long id);
 
+    @Query("SELECT DISTINCT g.gameDate FROM Game g WHERE g.season = :season AND g.gameType = 'R' " +
+           "AND g.gameDate BETWEEN :startDate AND :endDate ORDER BY g.gameDate")
+    List<LocalDate> findRegularSeasonDatesBetween(@Param("season") Integer season,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    /**
+     * The date of the season's latest Final regular-season game on or before {@code through},
+     * or null when none has finished yet.
+     */
+    @Query("SELECT MAX(g.gameDate) FROM Game g WHERE g.season = :season AND g.gameType = 'R' " +
+           "AND g.status = 'Final' AND g.gameDate <= :through")
+    LocalDate findLastFinalGameDate(@Param("season") Integer season, @Param("through") LocalDate through);
+
     boolean existsByMlbId(Integer mlbId);
 
     @Query("SELECT DISTINCT g.season FROM Game g ORDER BY g.season DESC")
@@ -0,0 +1,50 @@
+package com.mlbstats.domain.player;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Player filters for faceted browsing. Values within a facet are alternatives (position C or
+ * 1B) and facets narrow each other (catchers who bat left); an empty set or null matches
+ * everything. Teams are matched in {@code season} when one is given, otherwise in any season.
+ */
+public record PlayerFacetFilter(
+        Set<String> positions,
+        Set<String> positionTypes,
+        Set<String> bats,
+        Set<String> throwsHands,
+        Boolean active,
+        Set<Long> teamIds,
+        Integer season
+) {
+    public PlayerFacetFilter {
+        positions = values(positions);
+        positionTypes = values(positionTypes);
+        bats = values(bats);
+        throwsHands = values(throwsHands);
+        teamIds = teamIds != null ? Set.copyOf(teamIds) : Set.of();
+    }
+
+    /**
+     * The same filters as {@code criteria}, minus its search term.
+     */
+    public static PlayerFacetFilter of(PlayerSearchCriteria criteria) {
+        return new PlayerFacetFilter(single(criteria.position()), single(criteria.positionType()),
+                single(criteria.bats()), single(criteria.throwsHand()), criteria.active(), null, null);
+    }
+
+    private static Set<String> values(Collection<String> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static Set<String> single(String value) {
+        return value != null ? Set.of(value) : Set.of();
+    }
+}
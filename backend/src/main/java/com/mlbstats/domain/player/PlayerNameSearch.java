@@ -0,0 +1,92 @@
+package com.mlbstats.domain.player;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Ranked, filtered player name search on the trigram index from V20. Results come in
+ * relevance order rather than the requested sort, and totals past {@value #EXACT_COUNT_LIMIT}
+ * matches are the planner's estimate instead of a full count, since anyone paging that far
+ * should narrow the search.
+ * <p>
+ * Postgres-only; callers fall back to {@link PlayerSpecification} elsewhere (e.g. H2 in tests).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerNameSearch {
+
+    static final int EXACT_COUNT_LIMIT = 1000;
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*(\\d+)");
+
+    private final PlayerRepository playerRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean supported;
+
+    /**
+     * Whether the database is Postgres with the V20 search function in place.
+     */
+    public boolean isSupported() {
+        Boolean current = supported;
+        if (current == null) {
+            try {
+                current = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                        connection.isWrapperFor(PGConnection.class)))
+                        && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                        "SELECT to_regprocedure('immutable_unaccent(text)') IS NOT NULL", Boolean.class));
+            } catch (DataAccessException e) {
+                log.debug("Trigram player search unavailable: {}", e.getMessage());
+                current = false;
+            }
+            supported = current;
+        }
+        return current;
+    }
+
+    public Page<Player> search(PlayerSearchCriteria criteria, Pageable pageable) {
+        List<Player> players = playerRepository.searchRanked(criteria.search(), criteria.position(),
+                criteria.positionType(), criteria.bats(), criteria.throwsHand(), criteria.active(),
+                pageable.getPageSize(), pageable.getOffset());
+        return new PageImpl<>(players, pageable, count(criteria));
+    }
+
+    private long count(PlayerSearchCriteria criteria) {
+        long counted = playerRepository.countRankedUpTo(criteria.search(), criteria.position(),
+                criteria.positionType(), criteria.bats(), criteria.throwsHand(), criteria.active(),
+                EXACT_COUNT_LIMIT);
+        if (counted < EXACT_COUNT_LIMIT) {
+            return counted;
+        }
+        return Math.max(counted, estimate(criteria));
+    }
+
+    private long estimate(PlayerSearchCriteria criteria) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("search", criteria.search())
+                .addValue("position", criteria.position())
+                .addValue("positionType", criteria.positionType())
+                .addValue("bats", criteria.bats())
+                .addValue("throwsHand", criteria.throwsHand())
+                .addValue("active", criteria.active());
+        String plan = new NamedParameterJdbcTemplate(jdbcTemplate).queryForObject(
+                "EXPLAIN (FORMAT JSON) SELECT 1 " + PlayerRepository.RANKED_SEARCH_WHERE, params, String.class);
+        Matcher rows = plan != null ? PLAN_ROWS.matcher(plan) : null;
+        return rows != null && rows.find() ? Long.parseLong(rows.group(1)) : 0L;
+    }
+}
@@ -1,5 +1,6 @@
 package com.mlbstats.domain.player;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,6 +15,19 @@ import java.util.Optional;
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long>, JpaSpecificationExecutor<Player> {
 
+    /**
+     * Postgres-only (V20): names containing the search, or with a word similar to it, among
+     * players matching the optional filters. Null filters match everything.
+     */
+    String RANKED_SEARCH_WHERE = "FROM players p " +
+            "WHERE (lower(immutable_unaccent(p.full_name)) LIKE '%' || lower(immutable_unaccent(CAST(:search AS text))) || '%' " +
+            "OR lower(immutable_unaccent(CAST(:search AS text))) <% lower(immutable_unaccent(p.full_name))) " +
+            "AND (CAST(:position AS text) IS NULL OR p.position = CAST(:position AS text)) " +
+            "AND (CAST(:positionType AS text) IS NULL OR p.position_type = CAST(:positionType AS text)) " +
+            "AND (CAST(:bats AS text) IS NULL OR p.bats = CAST(:bats AS text)) " +
+            "AND (CAST(:throwsHand AS text) IS NULL OR p.throws = CAST(:throwsHand AS text)) " +
+            "AND (CAST(:active AS boolean) IS NULL OR p.active = CAST(:active AS boolean)) ";
+
     Optional<Player> findByMlbId(Integer mlbId);
 
     List<Player> findByPosition(String position);
@@ -22,6 +36,43 @@ public interface PlayerRepository extends JpaRepository<Player, Long>, JpaSpecif
 
     Page<Player> findByActiveTrue(Pageable pageable);
 
+    List<Player> findByActiveTrue();
+
+    long countByActiveTrue();
+
+    /**
+     * The first active players in name order, for cursor paging.
+     */
+    List<Player> findByActiveTrueOrderByFullNameAscIdAsc(Limit limit);
+
+    /**
+     * Active players after ({@code fullName}, {@code id}) in name order, for cursor paging.
+     * The row comparison lets Postgres start the scan at that name in the V21 index.
+     */
+    @Query("SELECT p FROM Player p WHERE p.active = true AND (p.fullName, p.id) > (:fullName, :id) " +
+           "ORDER BY p.fullName, p.id")
+    List<Player> findActiveAfter(@Param("fullName") String fullName, @Param("id") Long id, Limit limit);
+
+    /**
+     * Every player in name order, the order {@link #findActiveAfter} pages in.
+     */
+    List<Player> findAllByOrderByFullNameAscIdAsc();
+
+    /**
+     * How many players come up to and including ({@code fullName}, {@code id}) in name order.
+     */
+    @Query("SELECT COUNT(p) FROM Player p WHERE (p.fullName, p.id) <= (:fullName, :id)")
+    long countInNameOrderThrough(@Param("fullName") String fullName, @Param("id") Long id);
+
+    /**
+     * Active players whose name contains the search, for global search when its in-memory
+     * index is off.
+     */
+    @Query("SELECT p FROM Player p WHERE p.active = true AND " +
+           "LOWER(p.fullName) LIKE LOWER(CONCAT('%', :search, '%')) " +
+           "ORDER BY p.fullName, p.id")
+    List<Player> searchActiveByName(@Param("search") String search, Limit limit);
+
     @Query("SELECT p FROM Player p WHERE LOWER(p.fullName) LIKE LOWER(CONCAT('%', :name, '%'))")
     Page<Player> searchByName(@Param("name") String name, Pageable pageable);
 
@@ -30,10 +81,28 @@ public interface PlayerRepository extends JpaRepository<Player, Long>, JpaSpecif
            "LOWER(p.position) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<Player> searchPlayers(@Param("search") String search, Pageable pageable);
 
-    @Query("SELECT p FROM Player p WHERE p.active = true AND " +
-           "LOWER(p.fullName) LIKE LOWER(CONCAT('%', :search, '%')) " +
-           "ORDER BY p.fullName")
-    List<Player> searchPlayersByName(@Param("search") String search);
+    /**
+     * One page of {@link #RANKED_SEARCH_WHERE}: names starting with the search first, then by
+     * word similarity, then by name.
+     */
+    @Query(value = "SELECT p.* " + RANKED_SEARCH_WHERE +
+            "ORDER BY (lower(immutable_unaccent(p.full_name)) LIKE lower(immutable_unaccent(CAST(:search AS text))) || '%') DESC, " +
+            "word_similarity(lower(immutable_unaccent(CAST(:search AS text))), lower(immutable_unaccent(p.full_name))) DESC, " +
+            "p.full_name, p.id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Player> searchRanked(@Param("search") String search, @Param("position") String position,
+                              @Param("positionType") String positionType, @Param("bats") String bats,
+                              @Param("throwsHand") String throwsHand, @Param("active") Boolean active,
+                              @Param("limit") int limit, @Param("offset") long offset);
+
+    /**
+     * Counts {@link #RANKED_SEARCH_WHERE} matches, stopping at {@code cap}.
+     */
+    @Query(value = "SELECT count(*) FROM (SELECT 1 " + RANKED_SEARCH_WHERE + "LIMIT :cap) matches", nativeQuery = true)
+    long countRankedUpTo(@Param("search") String search, @Param("position") String position,
+                         @Param("positionType") String positionType, @Param("bats") String bats,
+                         @Param("throwsHand") String throwsHand, @Param("active") Boolean active,
+                         @Param("cap") int cap);
 
     boolean existsByMlbId(Integer mlbId);
 
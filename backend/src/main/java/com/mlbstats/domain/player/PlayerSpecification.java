@@ -14,6 +14,15 @@ public class PlayerSpecification {
                 .and(withActive(criteria.active()));
     }
 
+    /**
+     * Players after ({@code fullName}, {@code id}) in name order, for cursor paging.
+     */
+    public static Specification<Player> after(String fullName, long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.<String>get("fullName"), fullName),
+                cb.and(cb.equal(root.get("fullName"), fullName), cb.greaterThan(root.<Long>get("id"), id)));
+    }
+
     private static Specification<Player> withSearch(String search) {
         if (search == null || search.isBlank()) {
             return (root, query, cb) -> null;
@@ -1,5 +1,6 @@
 package com.mlbstats.domain.player;
 
+import com.mlbstats.api.dto.RosterEntryDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,6 +20,17 @@ public interface TeamRosterRepository extends JpaRepository<TeamRoster, Long> {
     @Query("SELECT tr FROM TeamRoster tr JOIN FETCH tr.player WHERE tr.team.id = :teamId AND tr.season = :season")
     List<TeamRoster> findByTeamIdAndSeasonWithPlayer(@Param("teamId") Long teamId, @Param("season") Integer season);
 
+    /**
+     * A team's roster for a season, selected straight into the DTO without loading entries or players.
+     * Entries ended by a release, trade or option off the roster are left out.
+     */
+    @Query("SELECT new com.mlbstats.api.dto.RosterEntryDto(tr.id, tr.season, tr.status, tr.jerseyNumber, " +
+           "tr.position, p.id, p.mlbId, p.fullName, p.firstName, p.lastName, p.jerseyNumber, p.position, " +
+           "p.positionType, p.bats, p.throwsHand, p.birthDate, p.height, p.weight, p.mlbDebutDate, p.active) " +
+           "FROM TeamRoster tr JOIN tr.player p WHERE tr.team.id = :teamId AND tr.season = :season " +
+           "AND tr.endDate IS NULL")
+    List<RosterEntryDto> findRosterEntries(@Param("teamId") Long teamId, @Param("season") Integer season);
+
     @Query("SELECT tr FROM TeamRoster tr JOIN FETCH tr.team WHERE tr.player.id = :playerId AND tr.season = :season")
     List<TeamRoster> findByPlayerIdAndSeasonWithTeam(@Param("playerId") Long playerId, @Param("season") Integer season);
 
@@ -27,6 +39,19 @@ public interface TeamRosterRepository extends JpaRepository<TeamRoster, Long> {
 
     boolean existsByTeamIdAndPlayerIdAndSeason(Long teamId, Long playerId, Integer season);
 
+    Optional<TeamRoster> findFirstByTeamIdAndPlayerIdAndSeasonOrderByStartDateDesc(
+            Long teamId, Long playerId, Integer season);
+
+    List<TeamRoster> findByPlayerIdAndSeasonAndEndDateIsNull(Long playerId, Integer season);
+
+    List<TeamRoster> findByTeamIdAndSeasonAndEndDateIsNull(Long teamId, Integer season);
+
+    /**
+     * Every (player id, team id, season) a player was rostered in.
+     */
+    @Query("SELECT DISTINCT tr.player.id, tr.team.id, tr.season FROM TeamRoster tr")
+    List<Object[]> findPlayerTeamSeasons();
+
     long countBySeason(Integer season);
 
     void deleteBySeason(Integer season);
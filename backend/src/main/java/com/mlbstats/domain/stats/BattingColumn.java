@@ -0,0 +1,85 @@
+package com.mlbstats.domain.stats;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Every rankable column of {@link PlayerBattingStats}.
+ */
+public enum BattingColumn implements StatColumn<PlayerBattingStats> {
+    GAMES_PLAYED("gamesPlayed", 0, false, PlayerBattingStats::getGamesPlayed),
+    AT_BATS("atBats", 0, false, PlayerBattingStats::getAtBats),
+    PLATE_APPEARANCES("plateAppearances", 0, false, PlayerBattingStats::getPlateAppearances),
+    RUNS("runs", 0, false, PlayerBattingStats::getRuns),
+    HITS("hits", 0, false, PlayerBattingStats::getHits),
+    DOUBLES("doubles", 0, false, PlayerBattingStats::getDoubles),
+    TRIPLES("triples", 0, false, PlayerBattingStats::getTriples),
+    HOME_RUNS("homeRuns", 0, false, PlayerBattingStats::getHomeRuns),
+    RBI("rbi", 0, false, PlayerBattingStats::getRbi),
+    STOLEN_BASES("stolenBases", 0, false, PlayerBattingStats::getStolenBases),
+    CAUGHT_STEALING("caughtStealing", 0, true, PlayerBattingStats::getCaughtStealing),
+    WALKS("walks", 0, false, PlayerBattingStats::getWalks),
+    STRIKEOUTS("strikeouts", 0, true, PlayerBattingStats::getStrikeouts),
+    TOTAL_BASES("totalBases", 0, false, PlayerBattingStats::getTotalBases),
+    EXTRA_BASE_HITS("extraBaseHits", 0, false, PlayerBattingStats::getExtraBaseHits),
+    INTENTIONAL_WALKS("intentionalWalks", 0, false, PlayerBattingStats::getIntentionalWalks),
+    HIT_BY_PITCH("hitByPitch", 0, false, PlayerBattingStats::getHitByPitch),
+    SAC_FLIES("sacFlies", 0, false, PlayerBattingStats::getSacFlies),
+    GROUND_INTO_DP("groundIntoDp", 0, true, PlayerBattingStats::getGroundIntoDp),
+    BATTING_AVG("battingAvg", 3, false, PlayerBattingStats::getBattingAvg),
+    OBP("obp", 3, false, PlayerBattingStats::getObp),
+    SLG("slg", 3, false, PlayerBattingStats::getSlg),
+    OPS("ops", 3, false, PlayerBattingStats::getOps),
+    BABIP("babip", 3, false, PlayerBattingStats::getBabip),
+    ISO("iso", 3, false, PlayerBattingStats::getIso),
+    WAR("war", 1, false, PlayerBattingStats::getWar),
+    WOBA("woba", 3, false, PlayerBattingStats::getWoba),
+    WRC_PLUS("wrcPlus", 0, false, PlayerBattingStats::getWrcPlus),
+    HARD_HIT_PCT("hardHitPct", 1, false, PlayerBattingStats::getHardHitPct),
+    BARREL_PCT("barrelPct", 1, false, PlayerBattingStats::getBarrelPct),
+    AVG_EXIT_VELOCITY("avgExitVelocity", 1, false, PlayerBattingStats::getAvgExitVelocity),
+    AVG_LAUNCH_ANGLE("avgLaunchAngle", 1, false, PlayerBattingStats::getAvgLaunchAngle),
+    SPRINT_SPEED("sprintSpeed", 1, false, PlayerBattingStats::getSprintSpeed),
+    XBA("xba", 3, false, PlayerBattingStats::getXba),
+    XSLG("xslg", 3, false, PlayerBattingStats::getXslg),
+    XWOBA("xwoba", 3, false, PlayerBattingStats::getXwoba),
+    K_PCT("kPct", 1, true, PlayerBattingStats::getKPct),
+    BB_PCT("bbPct", 1, false, PlayerBattingStats::getBbPct);
+
+    private final String key;
+    private final int scale;
+    private final boolean lowerIsBetter;
+    private final Function<PlayerBattingStats, Number> value;
+
+    BattingColumn(String key, int scale, boolean lowerIsBetter, Function<PlayerBattingStats, Number> value) {
+        this.key = key;
+        this.scale = scale;
+        this.lowerIsBetter = lowerIsBetter;
+        this.value = value;
+    }
+
+    public static Optional<BattingColumn> fromKey(String key) {
+        return Arrays.stream(values()).filter(column -> column.key.equalsIgnoreCase(key)).findFirst();
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public int scale() {
+        return scale;
+    }
+
+    @Override
+    public boolean lowerIsBetter() {
+        return lowerIsBetter;
+    }
+
+    @Override
+    public Number valueOf(PlayerBattingStats stats) {
+        return value.apply(stats);
+    }
+}
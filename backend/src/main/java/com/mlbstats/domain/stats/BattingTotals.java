@@ -0,0 +1,39 @@
+package com.mlbstats.domain.stats;
+
+/**
+ * A player's batting counting stats summed in SQL over their season rows, e.g. across the
+ * teams of a traded player's season or across a career. Sums are null when every summed
+ * row was null; the season is null for career totals.
+ */
+public record BattingTotals(
+        Long playerId,
+        Integer season,
+        Long gamesPlayed,
+        Long atBats,
+        Long runs,
+        Long hits,
+        Long doubles,
+        Long triples,
+        Long homeRuns,
+        Long rbi,
+        Long stolenBases,
+        Long caughtStealing,
+        Long walks,
+        Long strikeouts,
+        Long plateAppearances,
+        Long totalBases,
+        Long extraBaseHits,
+        Long hitByPitch,
+        Long sacFlies
+) {
+    /**
+     * Career totals, which have no season.
+     */
+    public BattingTotals(Long playerId, Long gamesPlayed, Long atBats, Long runs, Long hits, Long doubles,
+                         Long triples, Long homeRuns, Long rbi, Long stolenBases, Long caughtStealing, Long walks,
+                         Long strikeouts, Long plateAppearances, Long totalBases, Long extraBaseHits,
+                         Long hitByPitch, Long sacFlies) {
+        this(playerId, null, gamesPlayed, atBats, runs, hits, doubles, triples, homeRuns, rbi, stolenBases,
+                caughtStealing, walks, strikeouts, plateAppearances, totalBases, extraBaseHits, hitByPitch, sacFlies);
+    }
+}
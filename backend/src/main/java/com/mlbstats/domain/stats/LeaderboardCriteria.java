@@ -0,0 +1,25 @@
+package com.mlbstats.domain.stats;
+
+import java.math.BigDecimal;
+
+/**
+ * A request for one page of a leaderboard. {@code group} is "batting" or "pitching",
+ * {@code stat} a {@link BattingColumn} or {@link PitchingColumn} key, and {@code minimum}
+ * the plate appearances (batting) or innings (pitching) a line needs to qualify.
+ */
+public record LeaderboardCriteria(
+        String group,
+        String stat,
+        String order,
+        Integer season,
+        String league,
+        Long teamId,
+        String position,
+        BigDecimal minimum,
+        String cursor,
+        int limit
+) {
+    public boolean isPitching() {
+        return "pitching".equalsIgnoreCase(group);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mlbstats.domain.stats;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Every rankable column of {@link PlayerPitchingStats}.
+ */
+public enum PitchingColumn implements StatColumn<PlayerPitchingStats> {
+    GAMES_PLAYED("gamesPlayed", 0, false, PlayerPitchingStats::getGamesPlayed),
+    GAMES_STARTED("gamesStarted", 0, false, PlayerPitchingStats::getGamesStarted),
+    WINS("wins", 0, false, PlayerPitchingStats::getWins),
+    LOSSES("losses", 0, true, PlayerPitchingStats::getLosses),
+    SAVES("saves", 0, false, PlayerPitchingStats::getSaves),
+    HOLDS("holds", 0, false, PlayerPitchingStats::getHolds),
+    INNINGS_PITCHED("inningsPitched", 1, false, PlayerPitchingStats::getInningsPitched),
+    HITS_ALLOWED("hitsAllowed", 0, true, PlayerPitchingStats::getHitsAllowed),
+    RUNS_ALLOWED("runsAllowed", 0, true, PlayerPitchingStats::getRunsAllowed),
+    EARNED_RUNS("earnedRuns", 0, true, PlayerPitchingStats::getEarnedRuns),
+    HOME_RUNS_ALLOWED("homeRunsAllowed", 0, true, PlayerPitchingStats::getHomeRunsAllowed),
+    WALKS("walks", 0, true, PlayerPitchingStats::getWalks),
+    STRIKEOUTS("strikeouts", 0, false, PlayerPitchingStats::getStrikeouts),
+    ERA("era", 2, true, PlayerPitchingStats::getEra),
+    WHIP("whip", 2, true, PlayerPitchingStats::getWhip),
+    K_PER_9("kPer9", 2, false, PlayerPitchingStats::getKPer9),
+    BB_PER_9("bbPer9", 2, true, PlayerPitchingStats::getBbPer9),
+    H_PER_9("hPer9", 2, true, PlayerPitchingStats::getHPer9),
+    PITCHES_THROWN("pitchesThrown", 0, false, PlayerPitchingStats::getPitchesThrown),
+    STRIKES("strikes", 0, false, PlayerPitchingStats::getStrikes),
+    BALLS("balls", 0, true, PlayerPitchingStats::getBalls),
+    COMPLETE_GAMES("completeGames", 0, false, PlayerPitchingStats::getCompleteGames),
+    SHUTOUTS("shutouts", 0, false, PlayerPitchingStats::getShutouts),
+    QUALITY_STARTS("qualityStarts", 0, false, PlayerPitchingStats::getQualityStarts),
+    WAR("war", 1, false, PlayerPitchingStats::getWar),
+    FIP("fip", 2, true, PlayerPitchingStats::getFip),
+    XFIP("xfip", 2, true, PlayerPitchingStats::getXfip),
+    SIERA("siera", 2, true, PlayerPitchingStats::getSiera),
+    K_PCT("kPct", 1, false, PlayerPitchingStats::getKPct),
+    BB_PCT("bbPct", 1, true, PlayerPitchingStats::getBbPct),
+    GB_PCT("gbPct", 1, false, PlayerPitchingStats::getGbPct),
+    FB_PCT("fbPct", 1, false, PlayerPitchingStats::getFbPct),
+    HARD_HIT_PCT_AGAINST("hardHitPctAgainst", 1, true, PlayerPitchingStats::getHardHitPctAgainst),
+    AVG_EXIT_VELOCITY_AGAINST("avgExitVelocityAgainst", 1, true, PlayerPitchingStats::getAvgExitVelocityAgainst),
+    XERA("xera", 2, true, PlayerPitchingStats::getXera),
+    AVG_SPIN_RATE("avgSpinRate", 0, false, PlayerPitchingStats::getAvgSpinRate),
+    WHIFF_PCT("whiffPct", 1, false, PlayerPitchingStats::getWhiffPct),
+    CHASE_PCT("chasePct", 1, false, PlayerPitchingStats::getChasePct);
+
+    private final String key;
+    private final int scale;
+    private final boolean lowerIsBetter;
+    private final Function<PlayerPitchingStats, Number> value;
+
+    PitchingColumn(String key, int scale, boolean lowerIsBetter, Function<PlayerPitchingStats, Number> value) {
+        this.key = key;
+        this.scale = scale;
+        this.lowerIsBetter = lowerIsBetter;
+        this.value = value;
+    }
+
+    public static Optional<PitchingColumn> fromKey(String key) {
+        return Arrays.stream(values()).filter(column -> column.key.equalsIgnoreCase(key)).findFirst();
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public int scale() {
+        return scale;
+    }
+
+    @Override
+    public boolean lowerIsBetter() {
+        return lowerIsBetter;
+    }
+
+    @Override
+    public Number valueOf(PlayerPitchingStats stats) {
+        return value.apply(stats);
+    }
+}
@@ -0,0 +1,39 @@
+package com.mlbstats.domain.stats;
+
+import java.math.BigDecimal;
+
+/**
+ * A player's pitching counting stats summed in SQL over their season rows, e.g. across the
+ * teams of a traded player's season or across a career. Innings are summed as outs, since
+ * baseball notation (6.2 = 6 2/3) can't be added as decimals. Sums are null when every
+ * summed row was null; the season is null for career totals.
+ */
+public record PitchingTotals(
+        Long playerId,
+        Integer season,
+        Long gamesPlayed,
+        Long gamesStarted,
+        Long wins,
+        Long losses,
+        Long saves,
+        Long holds,
+        BigDecimal outs,
+        Long hitsAllowed,
+        Long runsAllowed,
+        Long earnedRuns,
+        Long homeRunsAllowed,
+        Long walks,
+        Long strikeouts,
+        Long completeGames,
+        Long shutouts
+) {
+    /**
+     * Career totals, which have no season.
+     */
+    public PitchingTotals(Long playerId, Long gamesPlayed, Long gamesStarted, Long wins, Long losses, Long saves,
+                          Long holds, BigDecimal outs, Long hitsAllowed, Long runsAllowed, Long earnedRuns,
+                          Long homeRunsAllowed, Long walks, Long strikeouts, Long completeGames, Long shutouts) {
+        this(playerId, null, gamesPlayed, gamesStarted, wins, losses, saves, holds, outs, hitsAllowed, runsAllowed,
+                earnedRuns, homeRunsAllowed, walks, strikeouts, completeGames, shutouts);
+    }
+}
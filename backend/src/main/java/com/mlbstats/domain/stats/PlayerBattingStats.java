@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -144,6 +145,10 @@ public class PlayerBattingStats {
     @Column(name = "bb_pct", precision = 4, scale = 1)
     private BigDecimal bbPct;
 
+    // Last game date covered by the API totals; later box scores are applied as deltas
+    @Column(name = "reconciled_through")
+    private LocalDate reconciledThrough;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -1,10 +1,12 @@
 package com.mlbstats.domain.stats;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,33 +25,61 @@ public interface PlayerBattingStatsRepository extends JpaRepository<PlayerBattin
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player WHERE pbs.team.id = :teamId AND pbs.season = :season ORDER BY pbs.battingAvg DESC")
     List<PlayerBattingStats> findByTeamIdAndSeasonWithPlayer(@Param("teamId") Long teamId, @Param("season") Integer season);
 
+    @Query("SELECT pbs.player.id, SUM(pbs.plateAppearances) FROM PlayerBattingStats pbs WHERE pbs.season >= :fromSeason GROUP BY pbs.player.id")
+    List<Object[]> sumPlateAppearancesByPlayerSince(@Param("fromSeason") Integer fromSeason);
+
+    @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season ORDER BY pbs.id")
+    List<PlayerBattingStats> findBySeasonWithPlayerAndTeam(@Param("season") Integer season);
+
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season ORDER BY pbs.homeRuns DESC")
-    List<PlayerBattingStats> findTopHomeRunHitters(@Param("season") Integer season);
+    List<PlayerBattingStats> findTopHomeRunHitters(@Param("season") Integer season, Pageable pageable);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season AND pbs.atBats >= :minAtBats ORDER BY pbs.battingAvg DESC")
-    List<PlayerBattingStats> findTopBattingAverage(@Param("season") Integer season, @Param("minAtBats") Integer minAtBats);
+    List<PlayerBattingStats> findTopBattingAverage(@Param("season") Integer season, @Param("minAtBats") Integer minAtBats, Pageable pageable);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season ORDER BY pbs.rbi DESC")
-    List<PlayerBattingStats> findTopRbi(@Param("season") Integer season);
+    List<PlayerBattingStats> findTopRbi(@Param("season") Integer season, Pageable pageable);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season ORDER BY pbs.runs DESC")
-    List<PlayerBattingStats> findTopRuns(@Param("season") Integer season);
+    List<PlayerBattingStats> findTopRuns(@Param("season") Integer season, Pageable pageable);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season ORDER BY pbs.hits DESC")
-    List<PlayerBattingStats> findTopHits(@Param("season") Integer season);
+    List<PlayerBattingStats> findTopHits(@Param("season") Integer season, Pageable pageable);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season ORDER BY pbs.stolenBases DESC")
-    List<PlayerBattingStats> findTopStolenBases(@Param("season") Integer season);
+    List<PlayerBattingStats> findTopStolenBases(@Param("season") Integer season, Pageable pageable);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season AND pbs.atBats >= :minAtBats ORDER BY pbs.ops DESC")
-    List<PlayerBattingStats> findTopOps(@Param("season") Integer season, @Param("minAtBats") Integer minAtBats);
+    List<PlayerBattingStats> findTopOps(@Param("season") Integer season, @Param("minAtBats") Integer minAtBats, Pageable pageable);
 
     long countBySeason(Integer season);
 
     void deleteBySeason(Integer season);
 
-    @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player WHERE pbs.player.id IN :playerIds")
-    List<PlayerBattingStats> findByPlayerIdIn(@Param("playerIds") List<Long> playerIds);
+    /**
+     * Each player's totals per season for the given seasons, summed across their team rows.
+     * Grouped in SQL, so at most one row per player and season comes back.
+     */
+    @Query("SELECT new com.mlbstats.domain.stats.BattingTotals(pbs.player.id, pbs.season, " +
+           "SUM(pbs.gamesPlayed), SUM(pbs.atBats), SUM(pbs.runs), SUM(pbs.hits), SUM(pbs.doubles), " +
+           "SUM(pbs.triples), SUM(pbs.homeRuns), SUM(pbs.rbi), SUM(pbs.stolenBases), SUM(pbs.caughtStealing), " +
+           "SUM(pbs.walks), SUM(pbs.strikeouts), SUM(pbs.plateAppearances), SUM(pbs.totalBases), " +
+           "SUM(pbs.extraBaseHits), SUM(pbs.hitByPitch), SUM(pbs.sacFlies)) " +
+           "FROM PlayerBattingStats pbs WHERE pbs.player.id IN :playerIds AND pbs.season IN :seasons " +
+           "GROUP BY pbs.player.id, pbs.season")
+    List<BattingTotals> sumByPlayerAndSeason(@Param("playerIds") Collection<Long> playerIds,
+                                             @Param("seasons") Collection<Integer> seasons);
+
+    /**
+     * Each player's career totals, summed in SQL over all their season rows.
+     */
+    @Query("SELECT new com.mlbstats.domain.stats.BattingTotals(pbs.player.id, " +
+           "SUM(pbs.gamesPlayed), SUM(pbs.atBats), SUM(pbs.runs), SUM(pbs.hits), SUM(pbs.doubles), " +
+           "SUM(pbs.triples), SUM(pbs.homeRuns), SUM(pbs.rbi), SUM(pbs.stolenBases), SUM(pbs.caughtStealing), " +
+           "SUM(pbs.walks), SUM(pbs.strikeouts), SUM(pbs.plateAppearances), SUM(pbs.totalBases), " +
+           "SUM(pbs.extraBaseHits), SUM(pbs.hitByPitch), SUM(pbs.sacFlies)) " +
+           "FROM PlayerBattingStats pbs WHERE pbs.player.id IN :playerIds GROUP BY pbs.player.id")
+    List<BattingTotals> sumCareerByPlayer(@Param("playerIds") Collection<Long> playerIds);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player WHERE pbs.player.id = :playerId AND pbs.season = :season AND pbs.gameType = 'R'")
     Optional<PlayerBattingStats> findByPlayerIdAndSeasonSingle(@Param("playerId") Long playerId, @Param("season") Integer season);
@@ -59,17 +89,17 @@ public interface PlayerBattingStatsRepository extends JpaRepository<PlayerBattin
 
     // Advanced Stats Leaderboards
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season AND pbs.war IS NOT NULL ORDER BY pbs.war DESC")
-    List<PlayerBattingStats> findTopWar(@Param("season") Integer season);
+    List<PlayerBattingStats> findTopWar(@Param("season") Integer season, Pageable pageable);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season AND pbs.plateAppearances >= :minPa AND pbs.woba IS NOT NULL ORDER BY pbs.woba DESC")
-    List<PlayerBattingStats> findTopWoba(@Param("season") Integer season, @Param("minPa") Integer minPa);
+    List<PlayerBattingStats> findTopWoba(@Param("season") Integer season, @Param("minPa") Integer minPa, Pageable pageable);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season AND pbs.plateAppearances >= :minPa AND pbs.wrcPlus IS NOT NULL ORDER BY pbs.wrcPlus DESC")
-    List<PlayerBattingStats> findTopWrcPlus(@Param("season") Integer season, @Param("minPa") Integer minPa);
+    List<PlayerBattingStats> findTopWrcPlus(@Param("season") Integer season, @Param("minPa") Integer minPa, Pageable pageable);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season AND pbs.plateAppearances >= :minPa AND pbs.avgExitVelocity IS NOT NULL ORDER BY pbs.avgExitVelocity DESC")
-    List<PlayerBattingStats> findTopExitVelocity(@Param("season") Integer season, @Param("minPa") Integer minPa);
+    List<PlayerBattingStats> findTopExitVelocity(@Param("season") Integer season, @Param("minPa") Integer minPa, Pageable pageable);
 
     @Query("SELECT pbs FROM PlayerBattingStats pbs JOIN FETCH pbs.player JOIN FETCH pbs.team WHERE pbs.season = :season AND pbs.plateAppearances >= :minPa AND pbs.barrelPct IS NOT NULL ORDER BY pbs.barrelPct DESC")
-    List<PlayerBattingStats> findTopBarrelPct(@Param("season") Integer season, @Param("minPa") Integer minPa);
+    List<PlayerBattingStats> findTopBarrelPct(@Param("season") Integer season, @Param("minPa") Integer minPa, Pageable pageable);
 }
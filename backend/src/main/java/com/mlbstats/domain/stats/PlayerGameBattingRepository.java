@@ -1,5 +1,6 @@
 package com.mlbstats.domain.stats;
 
+import com.mlbstats.api.dto.BattingGameLogDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -19,14 +20,26 @@ public interface PlayerGameBattingRepository extends JpaRepository<PlayerGameBat
 
     Optional<PlayerGameBatting> findByPlayerIdAndGameId(Long playerId, Long gameId);
 
+    @Query("SELECT DISTINCT pgb.game.id FROM PlayerGameBatting pgb WHERE pgb.game.season = :season")
+    List<Long> findGameIdsWithBoxScoreBySeason(@Param("season") Integer season);
+
     @Query("SELECT pgb FROM PlayerGameBatting pgb JOIN FETCH pgb.player JOIN FETCH pgb.team WHERE pgb.game.id = :gameId ORDER BY pgb.team.id, pgb.battingOrder")
     List<PlayerGameBatting> findByGameIdWithPlayer(@Param("gameId") Long gameId);
 
     @Query("SELECT pgb FROM PlayerGameBatting pgb JOIN FETCH pgb.game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam WHERE pgb.player.id = :playerId ORDER BY g.gameDate DESC")
     Page<PlayerGameBatting> findGameLogByPlayerId(@Param("playerId") Long playerId, Pageable pageable);
 
-    @Query("SELECT pgb FROM PlayerGameBatting pgb JOIN FETCH pgb.game g WHERE pgb.player.id = :playerId AND g.season = :season ORDER BY g.gameDate DESC")
-    List<PlayerGameBatting> findByPlayerIdAndSeason(@Param("playerId") Long playerId, @Param("season") Integer season);
+    /**
+     * A player's season game log, latest first, selected straight into the DTO without loading
+     * the batting lines or their games.
+     */
+    @Query("SELECT new com.mlbstats.api.dto.BattingGameLogDto(g.id, g.gameDate, pgb.team.id, " +
+           "h.id, h.name, h.abbreviation, a.id, a.name, a.abbreviation, g.homeScore, g.awayScore, " +
+           "pgb.atBats, pgb.runs, pgb.hits, pgb.doubles, pgb.triples, pgb.homeRuns, pgb.rbi, pgb.walks, " +
+           "pgb.strikeouts, pgb.stolenBases, pgb.battingOrder, pgb.positionPlayed) " +
+           "FROM PlayerGameBatting pgb JOIN pgb.game g JOIN g.homeTeam h JOIN g.awayTeam a " +
+           "WHERE pgb.player.id = :playerId AND g.season = :season ORDER BY g.gameDate DESC")
+    List<BattingGameLogDto> findGameLog(@Param("playerId") Long playerId, @Param("season") Integer season);
 
     @Query("SELECT pgb FROM PlayerGameBatting pgb " +
            "JOIN FETCH pgb.game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam " +
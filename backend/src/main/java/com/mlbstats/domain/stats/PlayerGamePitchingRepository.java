@@ -1,5 +1,6 @@
 package com.mlbstats.domain.stats;
 
+import com.mlbstats.api.dto.PitchingGameLogDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -25,8 +26,18 @@ public interface PlayerGamePitchingRepository extends JpaRepository<PlayerGamePi
     @Query("SELECT pgp FROM PlayerGamePitching pgp JOIN FETCH pgp.game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam WHERE pgp.player.id = :playerId ORDER BY g.gameDate DESC")
     Page<PlayerGamePitching> findGameLogByPlayerId(@Param("playerId") Long playerId, Pageable pageable);
 
-    @Query("SELECT pgp FROM PlayerGamePitching pgp JOIN FETCH pgp.game g WHERE pgp.player.id = :playerId AND g.season = :season ORDER BY g.gameDate DESC")
-    List<PlayerGamePitching> findByPlayerIdAndSeason(@Param("playerId") Long playerId, @Param("season") Integer season);
+    /**
+     * A player's season game log, latest first, selected straight into the DTO without loading
+     * the pitching lines or their games.
+     */
+    @Query("SELECT new com.mlbstats.api.dto.PitchingGameLogDto(g.id, g.gameDate, pgp.team.id, " +
+           "h.id, h.name, h.abbreviation, a.id, a.name, a.abbreviation, g.homeScore, g.awayScore, " +
+           "pgp.isWinner, pgp.isLoser, pgp.isSave, pgp.inningsPitched, pgp.hitsAllowed, pgp.runsAllowed, " +
+           "pgp.earnedRuns, pgp.walks, pgp.strikeouts, pgp.homeRunsAllowed, pgp.pitchesThrown, pgp.strikes, " +
+           "pgp.isStarter) " +
+           "FROM PlayerGamePitching pgp JOIN pgp.game g JOIN g.homeTeam h JOIN g.awayTeam a " +
+           "WHERE pgp.player.id = :playerId AND g.season = :season ORDER BY g.gameDate DESC")
+    List<PitchingGameLogDto> findGameLog(@Param("playerId") Long playerId, @Param("season") Integer season);
 
     @Query("SELECT pgp FROM PlayerGamePitching pgp " +
            "JOIN FETCH pgp.game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam " +
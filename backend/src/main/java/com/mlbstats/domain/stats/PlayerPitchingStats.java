@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -142,6 +143,10 @@ public class PlayerPitchingStats {
     @Column(name = "chase_pct", precision = 4, scale = 1)
     private BigDecimal chasePct;
 
+    // Last game date covered by the API totals; later box scores are applied as deltas
+    @Column(name = "reconciled_through")
+    private LocalDate reconciledThrough;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -1,17 +1,22 @@
 package com.mlbstats.domain.stats;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PlayerPitchingStatsRepository extends JpaRepository<PlayerPitchingStats, Long> {
 
+    // Innings in baseball notation summed as outs: whole innings are 3 outs, the tenths digit is outs
+    String OUTS = "SUM(FLOOR(pps.inningsPitched) * 3 + (pps.inningsPitched - FLOOR(pps.inningsPitched)) * 10)";
+
     List<PlayerPitchingStats> findByPlayerIdAndSeason(Long playerId, Integer season);
 
     List<PlayerPitchingStats> findByPlayerId(Long playerId);
@@ -24,27 +29,55 @@ public interface PlayerPitchingStatsRepository extends JpaRepository<PlayerPitch
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player WHERE pps.team.id = :teamId AND pps.season = :season ORDER BY pps.wins DESC")
     List<PlayerPitchingStats> findByTeamIdAndSeasonWithPlayer(@Param("teamId") Long teamId, @Param("season") Integer season);
 
+    @Query("SELECT pps.player.id, SUM(pps.inningsPitched) FROM PlayerPitchingStats pps WHERE pps.season >= :fromSeason GROUP BY pps.player.id")
+    List<Object[]> sumInningsPitchedByPlayerSince(@Param("fromSeason") Integer fromSeason);
+
+    @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season ORDER BY pps.id")
+    List<PlayerPitchingStats> findBySeasonWithPlayerAndTeam(@Param("season") Integer season);
+
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season ORDER BY pps.wins DESC")
-    List<PlayerPitchingStats> findTopWinners(@Param("season") Integer season);
+    List<PlayerPitchingStats> findTopWinners(@Param("season") Integer season, Pageable pageable);
 
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season AND pps.inningsPitched >= :minInnings ORDER BY pps.era ASC")
-    List<PlayerPitchingStats> findTopEra(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings);
+    List<PlayerPitchingStats> findTopEra(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings, Pageable pageable);
 
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season ORDER BY pps.strikeouts DESC")
-    List<PlayerPitchingStats> findTopStrikeouts(@Param("season") Integer season);
+    List<PlayerPitchingStats> findTopStrikeouts(@Param("season") Integer season, Pageable pageable);
 
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season ORDER BY pps.saves DESC")
-    List<PlayerPitchingStats> findTopSaves(@Param("season") Integer season);
+    List<PlayerPitchingStats> findTopSaves(@Param("season") Integer season, Pageable pageable);
 
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season AND pps.inningsPitched >= :minInnings ORDER BY pps.whip ASC")
-    List<PlayerPitchingStats> findTopWhip(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings);
+    List<PlayerPitchingStats> findTopWhip(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings, Pageable pageable);
 
     long countBySeason(Integer season);
 
     void deleteBySeason(Integer season);
 
-    @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player WHERE pps.player.id IN :playerIds")
-    List<PlayerPitchingStats> findByPlayerIdIn(@Param("playerIds") List<Long> playerIds);
+    /**
+     * Each player's totals per season for the given seasons, summed across their team rows.
+     * Grouped in SQL, so at most one row per player and season comes back.
+     */
+    @Query("SELECT new com.mlbstats.domain.stats.PitchingTotals(pps.player.id, pps.season, " +
+           "SUM(pps.gamesPlayed), SUM(pps.gamesStarted), SUM(pps.wins), SUM(pps.losses), SUM(pps.saves), " +
+           "SUM(pps.holds), " + OUTS + ", SUM(pps.hitsAllowed), SUM(pps.runsAllowed), SUM(pps.earnedRuns), " +
+           "SUM(pps.homeRunsAllowed), SUM(pps.walks), SUM(pps.strikeouts), SUM(pps.completeGames), " +
+           "SUM(pps.shutouts)) " +
+           "FROM PlayerPitchingStats pps WHERE pps.player.id IN :playerIds AND pps.season IN :seasons " +
+           "GROUP BY pps.player.id, pps.season")
+    List<PitchingTotals> sumByPlayerAndSeason(@Param("playerIds") Collection<Long> playerIds,
+                                              @Param("seasons") Collection<Integer> seasons);
+
+    /**
+     * Each player's career totals, summed in SQL over all their season rows.
+     */
+    @Query("SELECT new com.mlbstats.domain.stats.PitchingTotals(pps.player.id, " +
+           "SUM(pps.gamesPlayed), SUM(pps.gamesStarted), SUM(pps.wins), SUM(pps.losses), SUM(pps.saves), " +
+           "SUM(pps.holds), " + OUTS + ", SUM(pps.hitsAllowed), SUM(pps.runsAllowed), SUM(pps.earnedRuns), " +
+           "SUM(pps.homeRunsAllowed), SUM(pps.walks), SUM(pps.strikeouts), SUM(pps.completeGames), " +
+           "SUM(pps.shutouts)) " +
+           "FROM PlayerPitchingStats pps WHERE pps.player.id IN :playerIds GROUP BY pps.player.id")
+    List<PitchingTotals> sumCareerByPlayer(@Param("playerIds") Collection<Long> playerIds);
 
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player WHERE pps.player.id = :playerId AND pps.season = :season AND pps.gameType = 'R'")
     Optional<PlayerPitchingStats> findByPlayerIdAndSeasonSingle(@Param("playerId") Long playerId, @Param("season") Integer season);
@@ -54,17 +87,17 @@ public interface PlayerPitchingStatsRepository extends JpaRepository<PlayerPitch
 
     // Advanced Stats Leaderboards
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season AND pps.war IS NOT NULL ORDER BY pps.war DESC")
-    List<PlayerPitchingStats> findTopWar(@Param("season") Integer season);
+    List<PlayerPitchingStats> findTopWar(@Param("season") Integer season, Pageable pageable);
 
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season AND pps.inningsPitched >= :minInnings AND pps.fip IS NOT NULL ORDER BY pps.fip ASC")
-    List<PlayerPitchingStats> findTopFip(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings);
+    List<PlayerPitchingStats> findTopFip(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings, Pageable pageable);
 
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season AND pps.inningsPitched >= :minInnings AND pps.xfip IS NOT NULL ORDER BY pps.xfip ASC")
-    List<PlayerPitchingStats> findTopXfip(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings);
+    List<PlayerPitchingStats> findTopXfip(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings, Pageable pageable);
 
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season AND pps.inningsPitched >= :minInnings AND pps.xera IS NOT NULL ORDER BY pps.xera ASC")
-    List<PlayerPitchingStats> findTopXera(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings);
+    List<PlayerPitchingStats> findTopXera(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings, Pageable pageable);
 
     @Query("SELECT pps FROM PlayerPitchingStats pps JOIN FETCH pps.player JOIN FETCH pps.team WHERE pps.season = :season AND pps.inningsPitched >= :minInnings AND pps.whiffPct IS NOT NULL ORDER BY pps.whiffPct DESC")
-    List<PlayerPitchingStats> findTopWhiffPct(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings);
+    List<PlayerPitchingStats> findTopWhiffPct(@Param("season") Integer season, @Param("minInnings") BigDecimal minInnings, Pageable pageable);
 }
@@ -0,0 +1,54 @@
+package com.mlbstats.domain.stats;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A numeric column of a season stats entity, as held by the in-memory leaderboards:
+ * decimals are stored as ints scaled by {@link #scale()} digits, and
+ * {@link #NULL} marks a missing value.
+ */
+public interface StatColumn<E> {
+
+    int NULL = Integer.MIN_VALUE;
+
+    /**
+     * The API name, matching the field in the stats DTO.
+     */
+    String key();
+
+    /**
+     * Decimal digits kept when scaling to an int, matching the database column.
+     */
+    int scale();
+
+    /**
+     * Whether leaders are the lowest values, e.g. ERA.
+     */
+    boolean lowerIsBetter();
+
+    Number valueOf(E stats);
+
+    default int scaledValueOf(E stats) {
+        Number value = valueOf(stats);
+        if (value == null) {
+            return NULL;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.movePointRight(scale()).setScale(0, RoundingMode.HALF_UP).intValue();
+        }
+        return value.intValue();
+    }
+
+    /**
+     * Scales a qualifier minimum, rounding up so {@code value >= minimum} keeps its meaning.
+     * Minimums beyond the int range are clamped rather than rejected.
+     */
+    default int scaledMinimum(BigDecimal minimum) {
+        long scaled = minimum.movePointRight(scale()).setScale(0, RoundingMode.CEILING)
+                .max(BigDecimal.valueOf(Integer.MIN_VALUE + 1L))
+                .min(BigDecimal.valueOf(Integer.MAX_VALUE))
+                .longValue();
+        return (int) scaled;
+    }
+}
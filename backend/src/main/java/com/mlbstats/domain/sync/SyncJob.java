@@ -46,6 +46,9 @@ public class SyncJob {
     @Column(name = "current_step")
     private String currentStep;
 
+    @Column(name = "estimated_completion_at")
+    private LocalDateTime estimatedCompletionAt;
+
     @Column(name = "started_at")
     private LocalDateTime startedAt;
 
@@ -89,6 +92,7 @@ public class SyncJob {
     public void complete(int created, int updated, int errors) {
         this.status = SyncJobStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
+        this.estimatedCompletionAt = null;
         this.recordsCreated = created;
         this.recordsUpdated = updated;
         this.errorCount = errors;
@@ -101,6 +105,7 @@ public class SyncJob {
     public void fail(String errorMessage) {
         this.status = SyncJobStatus.FAILED;
         this.completedAt = LocalDateTime.now();
+        this.estimatedCompletionAt = null;
         this.errorMessage = errorMessage;
         // Keep progress at current level on failure (don't force to 100%)
     }
@@ -108,6 +113,7 @@ public class SyncJob {
     public void cancel() {
         this.status = SyncJobStatus.CANCELLED;
         this.completedAt = LocalDateTime.now();
+        this.estimatedCompletionAt = null;
         // Keep progress at current level on cancel (don't force to 100%)
     }
 
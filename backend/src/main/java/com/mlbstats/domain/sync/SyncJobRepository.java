@@ -1,9 +1,13 @@
 package com.mlbstats.domain.sync;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +26,9 @@ public interface SyncJobRepository extends JpaRepository<SyncJob, Long> {
         return findTopByJobTypeAndStatusOrderByCompletedAtDesc(jobType, SyncJobStatus.COMPLETED);
     }
 
+    @Query("SELECT sj FROM SyncJob sj LEFT JOIN FETCH sj.startedByUser WHERE sj.id = :id")
+    Optional<SyncJob> findByIdWithUser(@Param("id") Long id);
+
     @Query("SELECT sj FROM SyncJob sj WHERE sj.status IN ('PENDING', 'RUNNING') ORDER BY sj.createdAt DESC")
     List<SyncJob> findActiveJobs();
 
@@ -29,4 +36,21 @@ public interface SyncJobRepository extends JpaRepository<SyncJob, Long> {
 
     @Query("SELECT sj FROM SyncJob sj WHERE sj.status = 'RUNNING' AND sj.jobType = 'FULL_SYNC'")
     Optional<SyncJob> findRunningFullSync();
+
+    /**
+     * Writes progress only while the job is still running, so a late flush can never
+     * overwrite the final state of a completed, failed or cancelled job.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SyncJob sj SET sj.processedItems = :processed, " +
+           "sj.totalItems = COALESCE(:total, sj.totalItems), sj.currentStep = :currentStep, " +
+           "sj.estimatedCompletionAt = :estimatedCompletionAt, sj.updatedAt = :now " +
+           "WHERE sj.id = :id AND sj.status = 'RUNNING'")
+    int updateRunningProgress(@Param("id") Long id,
+                              @Param("processed") int processed,
+                              @Param("total") Integer total,
+                              @Param("currentStep") String currentStep,
+                              @Param("estimatedCompletionAt") LocalDateTime estimatedCompletionAt,
+                              @Param("now") LocalDateTime now);
 }
@@ -8,7 +8,9 @@ public enum SyncJobType {
     STATS("Stats"),
     STANDINGS("Standings"),
     BOX_SCORES("Box Scores"),
-    LINESCORES("Linescores");
+    LINESCORES("Linescores"),
+    TRANSACTIONS("Transactions"),
+    BACKFILL("Historical Backfill");
 
     private final String displayName;
 
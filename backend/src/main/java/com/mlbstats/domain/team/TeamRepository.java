@@ -1,5 +1,6 @@
 package com.mlbstats.domain.team;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,11 +23,15 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     @Query("SELECT t FROM Team t ORDER BY t.league, t.division, t.name")
     List<Team> findAllOrderByLeagueAndDivision();
 
+    /**
+     * Teams whose name, abbreviation or location contains the search, for global search when
+     * its in-memory index is off.
+     */
     @Query("SELECT t FROM Team t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :search, '%')) " +
            "OR LOWER(t.abbreviation) LIKE LOWER(CONCAT('%', :search, '%')) " +
            "OR LOWER(t.locationName) LIKE LOWER(CONCAT('%', :search, '%')) " +
            "ORDER BY t.name")
-    List<Team> searchTeams(@Param("search") String search);
+    List<Team> searchTeams(@Param("search") String search, Limit limit);
 
     boolean existsByMlbId(Integer mlbId);
 }
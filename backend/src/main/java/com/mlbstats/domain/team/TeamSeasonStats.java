@@ -0,0 +1,127 @@
+package com.mlbstats.domain.team;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A team's season batting and pitching totals summed over its players' season rows, with
+ * the rate stats computed from those totals. Rows are written in SQL by
+ * {@code TeamStatsRollupService}, one per team and season with any stats; a side with no
+ * player rows has a player count of 0.
+ */
+@Entity
+@Table(name = "team_season_stats", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"team_id", "season"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TeamSeasonStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+
+    @Column(nullable = false)
+    private Integer season;
+
+    // Batting
+    @Column(name = "batting_players", nullable = false)
+    private Integer battingPlayers;
+
+    @Column(name = "batting_games_played")
+    private Integer battingGamesPlayed;
+
+    @Column(name = "at_bats")
+    private Integer atBats;
+
+    private Integer runs;
+
+    private Integer hits;
+
+    private Integer doubles;
+
+    private Integer triples;
+
+    @Column(name = "home_runs")
+    private Integer homeRuns;
+
+    private Integer rbi;
+
+    @Column(name = "stolen_bases")
+    private Integer stolenBases;
+
+    private Integer walks;
+
+    private Integer strikeouts;
+
+    @Column(name = "plate_appearances")
+    private Integer plateAppearances;
+
+    @Column(name = "batting_avg", precision = 4, scale = 3)
+    private BigDecimal battingAvg;
+
+    @Column(precision = 4, scale = 3)
+    private BigDecimal obp;
+
+    @Column(precision = 4, scale = 3)
+    private BigDecimal slg;
+
+    @Column(precision = 5, scale = 3)
+    private BigDecimal ops;
+
+    // Pitching
+    @Column(name = "pitching_players", nullable = false)
+    private Integer pitchingPlayers;
+
+    @Column(name = "pitching_games_played")
+    private Integer pitchingGamesPlayed;
+
+    private Integer wins;
+
+    private Integer losses;
+
+    private Integer saves;
+
+    @Column(name = "innings_pitched", precision = 6, scale = 1)
+    private BigDecimal inningsPitched;
+
+    @Column(name = "hits_allowed")
+    private Integer hitsAllowed;
+
+    @Column(name = "earned_runs")
+    private Integer earnedRuns;
+
+    @Column(name = "walks_allowed")
+    private Integer walksAllowed;
+
+    @Column(name = "strikeouts_pitched")
+    private Integer strikeoutsPitched;
+
+    @Column(name = "home_runs_allowed")
+    private Integer homeRunsAllowed;
+
+    @Column(name = "quality_starts")
+    private Integer qualityStarts;
+
+    @Column(precision = 6, scale = 2)
+    private BigDecimal era;
+
+    @Column(precision = 5, scale = 2)
+    private BigDecimal whip;
+
+    @Column(name = "k_per_9", precision = 5, scale = 2)
+    private BigDecimal kPer9;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,12 @@
+package com.mlbstats.domain.team;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TeamSeasonStatsRepository extends JpaRepository<TeamSeasonStats, Long> {
+
+    Optional<TeamSeasonStats> findByTeamIdAndSeason(Long teamId, Integer season);
+}
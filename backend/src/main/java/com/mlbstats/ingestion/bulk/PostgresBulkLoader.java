@@ -0,0 +1,237 @@
+package com.mlbstats.ingestion.bulk;
+
+import com.mlbstats.common.exception.IngestionException;
+import com.mlbstats.domain.game.Game;
+import com.mlbstats.domain.stats.PlayerGameBatting;
+import com.mlbstats.domain.stats.PlayerGamePitching;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk loads ingestion rows with Postgres COPY into unlogged staging tables (V15),
+ * then merges them into the real tables with a single set-based statement per table.
+ * Staging rows carry MLB ids, so foreign keys are resolved by joins during the merge
+ * instead of one lookup per row.
+ * <p>
+ * Each load runs in one transaction: truncate staging, COPY, merge. Only one
+ * backfill job runs at a time, so the staging tables are never shared.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostgresBulkLoader {
+
+    private static final String MERGE_GAMES = """
+            INSERT INTO games (mlb_id, season, game_date, scheduled_time, game_type, status,
+                               home_team_id, away_team_id, home_score, away_score,
+                               venue_name, day_night, scheduled_innings)
+            SELECT DISTINCT ON (s.mlb_id)
+                   s.mlb_id, s.season, s.game_date, s.scheduled_time, s.game_type, s.status,
+                   ht.id, awt.id, s.home_score, s.away_score,
+                   s.venue_name, s.day_night, s.scheduled_innings
+            FROM staging_games s
+            JOIN teams ht ON ht.mlb_id = s.home_team_mlb_id
+            JOIN teams awt ON awt.mlb_id = s.away_team_mlb_id
+            ORDER BY s.mlb_id, s.game_date DESC
+            ON CONFLICT (mlb_id) DO UPDATE SET
+                status = EXCLUDED.status,
+                home_score = EXCLUDED.home_score,
+                away_score = EXCLUDED.away_score,
+                scheduled_time = COALESCE(games.scheduled_time, EXCLUDED.scheduled_time),
+                updated_at = NOW()
+            """;
+
+    private static final String MERGE_PLAYERS = """
+            INSERT INTO players (mlb_id, full_name, active)
+            SELECT DISTINCT ON (s.mlb_id) s.mlb_id, s.full_name, TRUE
+            FROM staging_players s
+            ORDER BY s.mlb_id
+            ON CONFLICT (mlb_id) DO NOTHING
+            """;
+
+    private static final String MERGE_GAME_BATTING = """
+            INSERT INTO player_game_batting (player_id, game_id, team_id, at_bats, runs, hits,
+                                             doubles, triples, home_runs, rbi, walks, strikeouts,
+                                             stolen_bases, batting_order, position_played)
+            SELECT DISTINCT ON (p.id, g.id)
+                   p.id, g.id, t.id, s.at_bats, s.runs, s.hits,
+                   s.doubles, s.triples, s.home_runs, s.rbi, s.walks, s.strikeouts,
+                   s.stolen_bases, s.batting_order, s.position_played
+            FROM staging_player_game_batting s
+            JOIN players p ON p.mlb_id = s.player_mlb_id
+            JOIN games g ON g.mlb_id = s.game_mlb_id
+            JOIN teams t ON t.mlb_id = s.team_mlb_id
+            ORDER BY p.id, g.id
+            ON CONFLICT (player_id, game_id) DO NOTHING
+            """;
+
+    private static final String MERGE_GAME_PITCHING = """
+            INSERT INTO player_game_pitching (player_id, game_id, team_id, innings_pitched,
+                                              hits_allowed, runs_allowed, earned_runs, walks,
+                                              strikeouts, home_runs_allowed, pitches_thrown, strikes,
+                                              is_starter, is_winner, is_loser, is_save)
+            SELECT DISTINCT ON (p.id, g.id)
+                   p.id, g.id, t.id, s.innings_pitched,
+                   s.hits_allowed, s.runs_allowed, s.earned_runs, s.walks,
+                   s.strikeouts, s.home_runs_allowed, s.pitches_thrown, s.strikes,
+                   s.is_starter, s.is_winner, s.is_loser, s.is_save
+            FROM staging_player_game_pitching s
+            JOIN players p ON p.mlb_id = s.player_mlb_id
+            JOIN games g ON g.mlb_id = s.game_mlb_id
+            JOIN teams t ON t.mlb_id = s.team_mlb_id
+            ORDER BY p.id, g.id
+            ON CONFLICT (player_id, game_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * COPY is Postgres-only; callers fall back to the per-row ingestion services elsewhere (e.g. H2 in tests).
+     */
+    public boolean isSupported() {
+        Boolean supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.isWrapperFor(PGConnection.class));
+        return Boolean.TRUE.equals(supported);
+    }
+
+    /**
+     * Upserts schedule rows. Games must have home and away teams set; ids are ignored.
+     *
+     * @return number of games inserted or updated
+     */
+    @Transactional
+    public int mergeGames(List<Game> games) {
+        if (games.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.execute("TRUNCATE staging_games");
+
+        List<Object[]> rows = new ArrayList<>(games.size());
+        for (Game game : games) {
+            rows.add(new Object[]{
+                    game.getMlbId(), game.getSeason(), game.getGameDate(), game.getScheduledTime(),
+                    game.getGameType(), game.getStatus(),
+                    game.getHomeTeam().getMlbId(), game.getAwayTeam().getMlbId(),
+                    game.getHomeScore(), game.getAwayScore(),
+                    game.getVenueName(), game.getDayNight(), game.getScheduledInnings()
+            });
+        }
+        copyIn("staging_games", List.of("mlb_id", "season", "game_date", "scheduled_time",
+                "game_type", "status", "home_team_mlb_id", "away_team_mlb_id", "home_score",
+                "away_score", "venue_name", "day_night", "scheduled_innings"), rows);
+
+        int merged = jdbcTemplate.update(MERGE_GAMES);
+        log.debug("Bulk merged {} of {} staged games", merged, games.size());
+        return merged;
+    }
+
+    /**
+     * Inserts box score lines, creating minimal player records for anyone not yet in the
+     * players table (historical rosters don't include everyone who appeared in a game).
+     * Existing lines are left untouched, matching the per-game box score sync.
+     * Entities only need MLB ids on their player, game and team references.
+     *
+     * @param players MLB player id to full name for every player referenced by the lines
+     * @return number of batting and pitching lines inserted
+     */
+    @Transactional
+    public int mergeBoxScoreLines(Map<Integer, String> players,
+                                  List<PlayerGameBatting> battingLines,
+                                  List<PlayerGamePitching> pitchingLines) {
+        if (battingLines.isEmpty() && pitchingLines.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.execute("TRUNCATE staging_players, staging_player_game_batting, staging_player_game_pitching");
+
+        List<Object[]> playerRows = new ArrayList<>(players.size());
+        players.forEach((mlbId, fullName) -> playerRows.add(new Object[]{mlbId, fullName != null ? fullName : "Unknown"}));
+        copyIn("staging_players", List.of("mlb_id", "full_name"), playerRows);
+
+        List<Object[]> battingRows = new ArrayList<>(battingLines.size());
+        for (PlayerGameBatting line : battingLines) {
+            battingRows.add(new Object[]{
+                    line.getPlayer().getMlbId(), line.getGame().getMlbId(), line.getTeam().getMlbId(),
+                    line.getAtBats(), line.getRuns(), line.getHits(), line.getDoubles(), line.getTriples(),
+                    line.getHomeRuns(), line.getRbi(), line.getWalks(), line.getStrikeouts(),
+                    line.getStolenBases(), line.getBattingOrder(), line.getPositionPlayed()
+            });
+        }
+        copyIn("staging_player_game_batting", List.of("player_mlb_id", "game_mlb_id", "team_mlb_id",
+                "at_bats", "runs", "hits", "doubles", "triples", "home_runs", "rbi", "walks",
+                "strikeouts", "stolen_bases", "batting_order", "position_played"), battingRows);
+
+        List<Object[]> pitchingRows = new ArrayList<>(pitchingLines.size());
+        for (PlayerGamePitching line : pitchingLines) {
+            pitchingRows.add(new Object[]{
+                    line.getPlayer().getMlbId(), line.getGame().getMlbId(), line.getTeam().getMlbId(),
+                    line.getInningsPitched(), line.getHitsAllowed(), line.getRunsAllowed(),
+                    line.getEarnedRuns(), line.getWalks(), line.getStrikeouts(), line.getHomeRunsAllowed(),
+                    line.getPitchesThrown(), line.getStrikes(),
+                    line.getIsStarter(), line.getIsWinner(), line.getIsLoser(), line.getIsSave()
+            });
+        }
+        copyIn("staging_player_game_pitching", List.of("player_mlb_id", "game_mlb_id", "team_mlb_id",
+                "innings_pitched", "hits_allowed", "runs_allowed", "earned_runs", "walks", "strikeouts",
+                "home_runs_allowed", "pitches_thrown", "strikes", "is_starter", "is_winner", "is_loser",
+                "is_save"), pitchingRows);
+
+        int createdPlayers = jdbcTemplate.update(MERGE_PLAYERS);
+        int merged = jdbcTemplate.update(MERGE_GAME_BATTING) + jdbcTemplate.update(MERGE_GAME_PITCHING);
+        log.debug("Bulk merged {} box score lines ({} new players)", merged, createdPlayers);
+        return merged;
+    }
+
+    private void copyIn(String table, List<String> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        String csv = toCsv(rows);
+
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                return copyManager.copyIn(sql, new StringReader(csv));
+            } catch (IOException e) {
+                throw new SQLException("COPY into " + table + " failed", e);
+            }
+        });
+        if (copied == null || copied != rows.size()) {
+            throw new IngestionException("COPY into " + table + " loaded " + copied + " of " + rows.size() + " rows");
+        }
+    }
+
+    /**
+     * Encodes rows as CSV. Nulls are written as empty unquoted fields (COPY's CSV null),
+     * everything else is quoted so commas and quotes in names survive.
+     */
+    static String toCsv(List<Object[]> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 64);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                Object value = row[i];
+                if (value != null) {
+                    csv.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+                }
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+}
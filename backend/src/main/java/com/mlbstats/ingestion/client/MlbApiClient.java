@@ -78,6 +78,19 @@ public class MlbApiClient {
         return getSchedule(startDate, endDate);
     }
 
+    public TransactionsResponse getTransactions(LocalDate startDate, LocalDate endDate) {
+        log.info("Fetching transactions from {} to {}", startDate, endDate);
+        try {
+            return restClient.get()
+                    .uri("/transactions?sportId=1&startDate={startDate}&endDate={endDate}",
+                            startDate.format(DATE_FORMAT), endDate.format(DATE_FORMAT))
+                    .retrieve()
+                    .body(TransactionsResponse.class);
+        } catch (RestClientException e) {
+            throw new IngestionException("Failed to fetch transactions", e);
+        }
+    }
+
     public StatsResponse getPlayerStats(Integer playerId, Integer season, String statGroup) {
         log.debug("Fetching {} stats for player {} season {}", statGroup, playerId, season);
         try {
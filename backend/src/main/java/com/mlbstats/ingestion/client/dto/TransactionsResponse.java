@@ -0,0 +1,41 @@
+package com.mlbstats.ingestion.client.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TransactionsResponse {
+
+    private List<TransactionData> transactions;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class TransactionData {
+        private Long id;
+        private PersonData person;
+        private TeamRef fromTeam;
+        private TeamRef toTeam;
+        private String date;
+        private String effectiveDate;
+        private String typeCode;
+        private String typeDesc;
+        private String description;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PersonData {
+        private Integer id;
+        private String fullName;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class TeamRef {
+        private Integer id;
+        private String name;
+    }
+}
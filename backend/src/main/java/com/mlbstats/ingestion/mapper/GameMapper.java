@@ -24,6 +24,25 @@ public class GameMapper {
     private final PlayerRepository playerRepository;
 
     public Game toEntity(ScheduleResponse.GameData dto, Team homeTeam, Team awayTeam) {
+        Game game = toEntityWithoutPitchers(dto, homeTeam, awayTeam);
+
+        if (dto.getTeams() != null) {
+            if (dto.getTeams().getHome() != null) {
+                setProbablePitcher(dto.getTeams().getHome(), game, true);
+            }
+            if (dto.getTeams().getAway() != null) {
+                setProbablePitcher(dto.getTeams().getAway(), game, false);
+            }
+        }
+
+        return game;
+    }
+
+    /**
+     * Maps a game without resolving probable pitchers, which costs a player lookup each.
+     * Used by bulk loading, where historical games don't need them.
+     */
+    public Game toEntityWithoutPitchers(ScheduleResponse.GameData dto, Team homeTeam, Team awayTeam) {
         Game game = new Game();
         game.setMlbId(dto.getGamePk());
         game.setSeason(dto.getSeason());
@@ -54,11 +73,9 @@ public class GameMapper {
         if (dto.getTeams() != null) {
             if (dto.getTeams().getHome() != null) {
                 game.setHomeScore(dto.getTeams().getHome().getScore());
-                setProbablePitcher(dto.getTeams().getHome(), game, true);
             }
             if (dto.getTeams().getAway() != null) {
                 game.setAwayScore(dto.getTeams().getAway().getScore());
-                setProbablePitcher(dto.getTeams().getAway(), game, false);
             }
         }
 
@@ -1,6 +1,7 @@
 package com.mlbstats.ingestion.scheduler;
 
 import com.mlbstats.common.util.DateUtils;
+import com.mlbstats.domain.sync.TriggerType;
 import com.mlbstats.ingestion.service.GameIngestionService;
 import com.mlbstats.ingestion.service.IngestionOrchestrator;
 import com.mlbstats.ingestion.service.RosterIngestionService;
@@ -68,22 +69,43 @@ public class IngestionScheduler {
     }
 
     /**
-     * Weekly: Full roster sync on Sunday at 3 AM
+     * Hourly at :30: Apply roster moves from the transactions feed (yesterday and today)
      */
-    @Scheduled(cron = "0 0 3 * * SUN")
-    public void weeklyRosterSync() {
+    @Scheduled(cron = "0 30 * * * *")
+    public void hourlyTransactionsSync() {
         if (!ingestionEnabled) {
             log.debug("Scheduled ingestion is disabled");
             return;
         }
 
-        log.info("Starting weekly roster sync");
+        log.info("Starting hourly transactions sync");
+        try {
+            LocalDate today = LocalDate.now();
+            orchestrator.createAndRunTrackedTransactionsSync(today.minusDays(1), today, TriggerType.SCHEDULED, null);
+            log.info("Hourly transactions sync completed");
+        } catch (Exception e) {
+            log.error("Hourly transactions sync failed", e);
+        }
+    }
+
+    /**
+     * Monthly: Full roster reconciliation on the first Sunday at 3 AM.
+     * Day-to-day moves are applied by the hourly transactions sync.
+     */
+    @Scheduled(cron = "0 0 3 * * SUN#1")
+    public void monthlyRosterReconciliation() {
+        if (!ingestionEnabled) {
+            log.debug("Scheduled ingestion is disabled");
+            return;
+        }
+
+        log.info("Starting monthly roster reconciliation");
         try {
             int season = DateUtils.getCurrentSeason();
             rosterIngestionService.syncAllRosters(season);
-            log.info("Weekly roster sync completed");
+            log.info("Monthly roster reconciliation completed");
         } catch (Exception e) {
-            log.error("Weekly roster sync failed", e);
+            log.error("Monthly roster reconciliation failed", e);
         }
     }
 }
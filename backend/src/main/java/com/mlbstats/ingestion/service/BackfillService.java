@@ -0,0 +1,156 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.common.util.DateUtils;
+import com.mlbstats.domain.sync.SyncJobStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads a range of historical seasons in one tracked job. The plan covers every
+ * ingestion step per season; schedule and box score rows go through the COPY-based
+ * bulk paths, the rest reuse the regular ingestion services.
+ * <p>
+ * Progress is reported per step with an ETA extrapolated from the relative cost
+ * of the steps completed so far. Cancelling the job stops it before the next step.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackfillService {
+
+    static final int MAX_SEASONS = 25;
+
+    private final TeamIngestionService teamIngestionService;
+    private final RosterIngestionService rosterIngestionService;
+    private final GameIngestionService gameIngestionService;
+    private final StatsIngestionService statsIngestionService;
+    private final StandingsIngestionService standingsIngestionService;
+    private final BoxScoreIngestionService boxScoreIngestionService;
+    private final LinescoreIngestionService linescoreIngestionService;
+    private final SyncJobService syncJobService;
+
+    /**
+     * Plans the steps for a season range, newest season first so the most useful data lands early.
+     * Teams are synced once up front; within a season, games come first because box scores and
+     * linescores hang off them, and rosters before stats because stats are fetched per rostered player.
+     */
+    public List<BackfillStep> planBackfill(int fromSeason, int toSeason) {
+        if (fromSeason > toSeason) {
+            throw new IllegalArgumentException("fromSeason must not be after toSeason");
+        }
+        if (toSeason > DateUtils.getCurrentSeason()) {
+            throw new IllegalArgumentException("Cannot backfill future season " + toSeason);
+        }
+        if (toSeason - fromSeason + 1 > MAX_SEASONS) {
+            throw new IllegalArgumentException("Backfill is limited to " + MAX_SEASONS + " seasons per job");
+        }
+
+        List<BackfillStep> steps = new ArrayList<>();
+        steps.add(new BackfillStep(null, StepType.TEAMS));
+        for (int season = toSeason; season >= fromSeason; season--) {
+            for (StepType type : StepType.values()) {
+                if (type != StepType.TEAMS) {
+                    steps.add(new BackfillStep(season, type));
+                }
+            }
+        }
+        return steps;
+    }
+
+    public BackfillResult runBackfill(Long jobId, List<BackfillStep> steps) {
+        int totalWeight = steps.stream().mapToInt(step -> step.type().getWeight()).sum();
+        int completedWeight = 0;
+        int records = 0;
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        for (int i = 0; i < steps.size(); i++) {
+            if (syncJobService.getJob(jobId).getStatus() == SyncJobStatus.CANCELLED) {
+                log.info("Backfill job {} cancelled after {} of {} steps", jobId, i, steps.size());
+                return new BackfillResult(records, i, true);
+            }
+
+            BackfillStep step = steps.get(i);
+            LocalDateTime eta = estimateCompletion(startedAt, LocalDateTime.now(), completedWeight,
+                    totalWeight - completedWeight);
+            syncJobService.updateProgress(jobId, i, steps.size(), step.describe(), eta);
+
+            log.info("Backfill step {}/{}: {}", i + 1, steps.size(), step.describe());
+            records += runStep(step);
+            completedWeight += step.type().getWeight();
+        }
+
+        return new BackfillResult(records, steps.size(), false);
+    }
+
+    private int runStep(BackfillStep step) {
+        return switch (step.type()) {
+            case TEAMS -> teamIngestionService.syncAllTeams();
+            case GAMES -> gameIngestionService.bulkSyncGamesForSeason(step.season());
+            case ROSTERS -> rosterIngestionService.syncAllRosters(step.season());
+            case STATS -> statsIngestionService.syncAllPlayerStats(step.season());
+            case STANDINGS -> standingsIngestionService.syncStandings(step.season());
+            case BOX_SCORES -> boxScoreIngestionService.bulkSyncBoxScoresForSeason(step.season());
+            case LINESCORES -> linescoreIngestionService.syncLinescoresForSeason(step.season());
+        };
+    }
+
+    /**
+     * Extrapolates the remaining time from the average time per unit of step weight so far.
+     * Returns null until at least one step has completed.
+     */
+    static LocalDateTime estimateCompletion(LocalDateTime startedAt, LocalDateTime now,
+                                            int completedWeight, int remainingWeight) {
+        if (completedWeight <= 0) {
+            return null;
+        }
+        long elapsedMillis = Duration.between(startedAt, now).toMillis();
+        long remainingMillis = elapsedMillis * remainingWeight / completedWeight;
+        return now.plus(Duration.ofMillis(remainingMillis));
+    }
+
+    /**
+     * Backfill steps with a rough relative cost, used to weight the ETA.
+     * Stats, box scores and linescores make one API call per player or game.
+     */
+    public enum StepType {
+        TEAMS("Teams", 1),
+        GAMES("Schedule", 2),
+        ROSTERS("Rosters", 5),
+        STATS("Player stats", 40),
+        STANDINGS("Standings", 1),
+        BOX_SCORES("Box scores", 40),
+        LINESCORES("Linescores", 20);
+
+        private final String displayName;
+        private final int weight;
+
+        StepType(String displayName, int weight) {
+            this.displayName = displayName;
+            this.weight = weight;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+    }
+
+    public record BackfillStep(Integer season, StepType type) {
+        public String describe() {
+            return season != null
+                    ? season + ": " + type.getDisplayName()
+                    : type.getDisplayName();
+        }
+    }
+
+    public record BackfillResult(int records, int completedSteps, boolean cancelled) {}
+}
@@ -1,5 +1,6 @@
 package com.mlbstats.ingestion.service;
 
+import com.mlbstats.common.event.DataChangeEvent.BoxScoreChanged;
 import com.mlbstats.domain.game.Game;
 import com.mlbstats.domain.game.GameRepository;
 import com.mlbstats.domain.player.Player;
@@ -9,14 +10,18 @@ import com.mlbstats.domain.stats.PlayerGameBattingRepository;
 import com.mlbstats.domain.stats.PlayerGamePitching;
 import com.mlbstats.domain.stats.PlayerGamePitchingRepository;
 import com.mlbstats.domain.team.Team;
+import com.mlbstats.ingestion.bulk.PostgresBulkLoader;
 import com.mlbstats.ingestion.client.MlbApiClient;
 import com.mlbstats.ingestion.client.dto.BoxScoreResponse;
 import com.mlbstats.ingestion.mapper.BoxScoreMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +38,13 @@ public class BoxScoreIngestionService {
     private final PlayerGameBattingRepository gameBattingRepository;
     private final PlayerGamePitchingRepository gamePitchingRepository;
     private final BoxScoreMapper boxScoreMapper;
+    private final PostgresBulkLoader bulkLoader;
+    private final SplitAggregationService splitAggregationService;
+    private final SeasonStatsAccumulator seasonStatsAccumulator;
+    private final TeamStatsRollupService teamStatsRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int BULK_CHUNK_GAMES = 50;
 
     @Transactional
     public int syncBoxScoreForGame(Long gameId) {
@@ -47,7 +59,13 @@ public class BoxScoreIngestionService {
             return 0;
         }
 
-        return syncBoxScore(game);
+        int synced = syncBoxScore(game);
+        if (synced > 0) {
+            splitAggregationService.refreshSplitsForGame(game.getId(), game.getSeason());
+            teamStatsRollupService.refreshTeams(game.getSeason(),
+                    List.of(game.getHomeTeam().getId(), game.getAwayTeam().getId()));
+        }
+        return synced;
     }
 
     @Transactional
@@ -71,9 +89,130 @@ public class BoxScoreIngestionService {
         }
 
         log.info("Synced box scores for {} games", count);
+        if (count > 0) {
+            splitAggregationService.refreshSplitsForSeason(season);
+            teamStatsRollupService.refreshSeason(season);
+        }
         return count;
     }
 
+    /**
+     * Backfill variant of {@link #syncBoxScoresForSeason}: box score lines are accumulated
+     * across games and written through COPY + merge every {@value #BULK_CHUNK_GAMES} games,
+     * creating minimal records for players missing from the players table instead of
+     * skipping them. Falls back to the per-row sync when COPY is unavailable.
+     * Season stats are not accumulated here; backfill takes them from the API stats step.
+     */
+    public int bulkSyncBoxScoresForSeason(Integer season) {
+        if (!bulkLoader.isSupported()) {
+            return syncBoxScoresForSeason(season);
+        }
+
+        log.info("Bulk syncing box scores for season {}", season);
+        Set<Long> loadedGameIds = new HashSet<>(gameBattingRepository.findGameIdsWithBoxScoreBySeason(season));
+        List<Game> games = gameRepository.findBySeasonAndStatus(season, "Final").stream()
+                .filter(game -> !loadedGameIds.contains(game.getId()))
+                .toList();
+
+        Map<Integer, String> players = new HashMap<>();
+        List<PlayerGameBatting> battingLines = new ArrayList<>();
+        List<PlayerGamePitching> pitchingLines = new ArrayList<>();
+        List<Long> chunkGameIds = new ArrayList<>();
+        int gamesInChunk = 0;
+        int count = 0;
+
+        for (Game game : games) {
+            BoxScoreResponse response = mlbApiClient.getBoxScore(game.getMlbId());
+            if (response != null && response.getTeams() != null) {
+                if (response.getTeams().getAway() != null) {
+                    collectTeamLines(game, game.getAwayTeam(), response.getTeams().getAway(),
+                            players, battingLines, pitchingLines);
+                }
+                if (response.getTeams().getHome() != null) {
+                    collectTeamLines(game, game.getHomeTeam(), response.getTeams().getHome(),
+                            players, battingLines, pitchingLines);
+                }
+                chunkGameIds.add(game.getId());
+                count++;
+            }
+
+            if (++gamesInChunk >= BULK_CHUNK_GAMES) {
+                mergeChunk(players, battingLines, pitchingLines, chunkGameIds);
+                gamesInChunk = 0;
+            }
+
+            // Small delay to avoid overwhelming the API
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        mergeChunk(players, battingLines, pitchingLines, chunkGameIds);
+        if (count > 0) {
+            splitAggregationService.refreshSplitsForSeason(season);
+        }
+
+        log.info("Bulk synced box scores for {} games", count);
+        return count;
+    }
+
+    /**
+     * Writes one chunk of collected lines, then announces its games. Publishing only after the
+     * merge keeps caches from being evicted and refilled from box scores not yet written.
+     */
+    private void mergeChunk(Map<Integer, String> players, List<PlayerGameBatting> battingLines,
+                            List<PlayerGamePitching> pitchingLines, List<Long> gameIds) {
+        bulkLoader.mergeBoxScoreLines(players, battingLines, pitchingLines);
+        gameIds.forEach(gameId -> eventPublisher.publishEvent(new BoxScoreChanged(gameId)));
+        players.clear();
+        battingLines.clear();
+        pitchingLines.clear();
+        gameIds.clear();
+    }
+
+    private void collectTeamLines(Game game, Team team, BoxScoreResponse.TeamBoxScore teamData,
+                                  Map<Integer, String> players,
+                                  List<PlayerGameBatting> battingLines,
+                                  List<PlayerGamePitching> pitchingLines) {
+        if (teamData.getPlayers() == null) {
+            return;
+        }
+        Integer starterId = teamData.getPitchers() != null && !teamData.getPitchers().isEmpty()
+                ? teamData.getPitchers().get(0)
+                : null;
+
+        for (BoxScoreResponse.PlayerStats playerStats : teamData.getPlayers().values()) {
+            if (playerStats.getPerson() == null || playerStats.getPerson().getId() == null
+                    || playerStats.getStats() == null) {
+                continue;
+            }
+            Integer mlbPlayerId = playerStats.getPerson().getId();
+
+            // Only the MLB id is needed; the bulk merge resolves the real player row
+            Player player = new Player();
+            player.setMlbId(mlbPlayerId);
+            player.setFullName(playerStats.getPerson().getFullName());
+
+            boolean batted = playerStats.getStats().getBatting() != null
+                    && playerStats.getStats().getBatting().getAtBats() != null;
+            boolean pitched = playerStats.getStats().getPitching() != null
+                    && playerStats.getStats().getPitching().getInningsPitched() != null;
+
+            if (batted) {
+                battingLines.add(boxScoreMapper.toGameBatting(playerStats, player, game, team));
+            }
+            if (pitched) {
+                boolean isStarter = mlbPlayerId.equals(starterId);
+                pitchingLines.add(boxScoreMapper.toGamePitching(playerStats, player, game, team, isStarter));
+            }
+            if (batted || pitched) {
+                players.put(mlbPlayerId, player.getFullName());
+            }
+        }
+    }
+
     private int syncBoxScore(Game game) {
         BoxScoreResponse response = mlbApiClient.getBoxScore(game.getMlbId());
         if (response == null) {
@@ -105,7 +244,11 @@ public class BoxScoreIngestionService {
             log.warn("No home team data in box score for game {}", game.getId());
         }
 
-        return count > 0 ? 1 : 0;
+        if (count == 0) {
+            return 0;
+        }
+        eventPublisher.publishEvent(new BoxScoreChanged(game.getId()));
+        return 1;
     }
 
     private int processTeamBoxScore(Game game, Team team, BoxScoreResponse.TeamBoxScore teamData) {
@@ -152,6 +295,7 @@ public class BoxScoreIngestionService {
                 if (gameBattingRepository.findByPlayerIdAndGameId(player.getId(), game.getId()).isEmpty()) {
                     PlayerGameBatting batting = boxScoreMapper.toGameBatting(playerStats, player, game, team);
                     gameBattingRepository.save(batting);
+                    seasonStatsAccumulator.applyBatting(batting);
                     count++;
                 }
             }
@@ -165,6 +309,7 @@ public class BoxScoreIngestionService {
                     boolean isStarter = starterIds.contains(mlbPlayerId);
                     PlayerGamePitching pitching = boxScoreMapper.toGamePitching(playerStats, player, game, team, isStarter);
                     gamePitchingRepository.save(pitching);
+                    seasonStatsAccumulator.applyPitching(pitching);
                     count++;
                 }
             }
@@ -1,19 +1,28 @@
 package com.mlbstats.ingestion.service;
 
+import com.mlbstats.common.event.DataChangeEvent.GameChanged;
 import com.mlbstats.domain.game.Game;
 import com.mlbstats.domain.game.GameRepository;
+import com.mlbstats.domain.player.Player;
 import com.mlbstats.domain.team.Team;
 import com.mlbstats.domain.team.TeamRepository;
+import com.mlbstats.ingestion.bulk.PostgresBulkLoader;
 import com.mlbstats.ingestion.client.MlbApiClient;
 import com.mlbstats.ingestion.client.dto.ScheduleResponse;
 import com.mlbstats.ingestion.mapper.GameMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -24,6 +33,8 @@ public class GameIngestionService {
     private final GameRepository gameRepository;
     private final TeamRepository teamRepository;
     private final GameMapper gameMapper;
+    private final PostgresBulkLoader bulkLoader;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public int syncGamesForDateRange(LocalDate startDate, LocalDate endDate) {
@@ -57,6 +68,58 @@ public class GameIngestionService {
         return syncGamesForDateRange(startDate, endDate);
     }
 
+    /**
+     * Loads a season's schedule through COPY + merge instead of one lookup and save per game.
+     * Probable pitchers are not resolved. Falls back to the per-row sync when COPY is unavailable.
+     */
+    public int bulkSyncGamesForSeason(Integer season) {
+        if (!bulkLoader.isSupported()) {
+            return syncGamesForSeason(season);
+        }
+
+        log.info("Bulk syncing games for season {}", season);
+        ScheduleResponse response = mlbApiClient.getScheduleForSeason(season);
+        if (response == null || response.getDates() == null) {
+            log.warn("No schedule data returned");
+            return 0;
+        }
+
+        Map<Integer, Team> teamsByMlbId = teamRepository.findAll().stream()
+                .collect(Collectors.toMap(Team::getMlbId, Function.identity()));
+
+        List<Game> games = new ArrayList<>();
+        for (ScheduleResponse.DateEntry dateEntry : response.getDates()) {
+            if (dateEntry.getGames() == null) {
+                continue;
+            }
+            for (ScheduleResponse.GameData gameData : dateEntry.getGames()) {
+                if (gameData.getTeams() == null ||
+                        gameData.getTeams().getHome() == null ||
+                        gameData.getTeams().getAway() == null ||
+                        gameData.getTeams().getHome().getTeam() == null ||
+                        gameData.getTeams().getAway().getTeam() == null) {
+                    continue;
+                }
+                Team homeTeam = teamsByMlbId.get(gameData.getTeams().getHome().getTeam().getId());
+                Team awayTeam = teamsByMlbId.get(gameData.getTeams().getAway().getTeam().getId());
+                if (homeTeam == null || awayTeam == null) {
+                    log.debug("Teams not found for game {}", gameData.getGamePk());
+                    continue;
+                }
+                Game game = gameMapper.toEntityWithoutPitchers(gameData, homeTeam, awayTeam);
+                if (game.getGameDate() != null) {
+                    games.add(game);
+                }
+            }
+        }
+
+        int count = bulkLoader.mergeGames(games);
+        // The merge doesn't report which rows changed, so a bulk load invalidates every game
+        eventPublisher.publishEvent(new GameChanged(null, null));
+        log.info("Bulk synced {} games for season {}", count, season);
+        return count;
+    }
+
     @Transactional
     public Game syncGame(ScheduleResponse.GameData gameData) {
         if (gameData.getTeams() == null ||
@@ -82,16 +145,39 @@ public class GameIngestionService {
 
         return gameRepository.findByMlbId(gameData.getGamePk())
                 .map(existing -> {
+                    GameState before = GameState.of(existing);
                     gameMapper.updateEntity(existing, gameData);
-                    return gameRepository.save(existing);
+                    Game saved = gameRepository.save(existing);
+                    // Most games in a sync window are unchanged; only changed ones invalidate caches
+                    if (!before.equals(GameState.of(saved))) {
+                        eventPublisher.publishEvent(new GameChanged(saved.getId(), saved.getGameDate()));
+                    }
+                    return saved;
                 })
                 .orElseGet(() -> {
-                    Game game = gameMapper.toEntity(gameData, homeTeam, awayTeam);
-                    return gameRepository.save(game);
+                    Game game = gameRepository.save(gameMapper.toEntity(gameData, homeTeam, awayTeam));
+                    eventPublisher.publishEvent(new GameChanged(game.getId(), game.getGameDate()));
+                    return game;
                 });
     }
 
     public List<Game> getGamesByDate(LocalDate date) {
         return gameRepository.findByDateWithTeams(date);
     }
+
+    /**
+     * The fields a schedule sync can change, compared to tell whether a game actually changed.
+     */
+    private record GameState(String status, LocalTime scheduledTime, Integer homeScore, Integer awayScore,
+                             Long homeProbablePitcherId, Long awayProbablePitcherId) {
+        static GameState of(Game game) {
+            return new GameState(game.getStatus(), game.getScheduledTime(), game.getHomeScore(),
+                    game.getAwayScore(), playerId(game.getHomeProbablePitcher()),
+                    playerId(game.getAwayProbablePitcher()));
+        }
+
+        private static Long playerId(Player player) {
+            return player != null ? player.getId() : null;
+        }
+    }
 }
@@ -1,6 +1,5 @@
 package com.mlbstats.ingestion.service;
 
-import com.mlbstats.common.config.CacheConfig;
 import com.mlbstats.common.util.DateUtils;
 import com.mlbstats.domain.sync.SyncJob;
 import com.mlbstats.domain.sync.SyncJobType;
@@ -8,11 +7,18 @@ import com.mlbstats.domain.sync.TriggerType;
 import com.mlbstats.domain.user.AppUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Runs ingestion syncs, tracked as sync jobs or untracked for the scheduler and legacy endpoints.
+ * Syncs don't evict caches themselves: ingestion services raise data change events for
+ * what they actually changed, and {@link com.mlbstats.common.cache.CacheInvalidator}
+ * evicts the dependent entries.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -26,43 +32,15 @@ public class IngestionOrchestrator {
     private final StandingsIngestionService standingsIngestionService;
     private final BoxScoreIngestionService boxScoreIngestionService;
     private final LinescoreIngestionService linescoreIngestionService;
+    private final TransactionIngestionService transactionIngestionService;
+    private final BackfillService backfillService;
     private final SyncJobService syncJobService;
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.TEAMS, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_ID, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_LEAGUE, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_DIVISION, allEntries = true),
-            @CacheEvict(value = CacheConfig.ROSTERS, allEntries = true),
-            @CacheEvict(value = CacheConfig.STANDINGS, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAM_STANDINGS, allEntries = true),
-            @CacheEvict(value = CacheConfig.PLAYERS, allEntries = true),
-            @CacheEvict(value = CacheConfig.LEADERBOARDS, allEntries = true),
-            @CacheEvict(value = CacheConfig.GAMES, allEntries = true),
-            @CacheEvict(value = CacheConfig.GAMES_BY_DATE, allEntries = true),
-            @CacheEvict(value = CacheConfig.BOX_SCORES, allEntries = true),
-            @CacheEvict(value = CacheConfig.SEARCH, allEntries = true)
-    })
     public void runFullSync() {
         int season = DateUtils.getCurrentSeason();
         runFullSync(season);
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.TEAMS, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_ID, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_LEAGUE, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_DIVISION, allEntries = true),
-            @CacheEvict(value = CacheConfig.ROSTERS, allEntries = true),
-            @CacheEvict(value = CacheConfig.STANDINGS, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAM_STANDINGS, allEntries = true),
-            @CacheEvict(value = CacheConfig.PLAYERS, allEntries = true),
-            @CacheEvict(value = CacheConfig.LEADERBOARDS, allEntries = true),
-            @CacheEvict(value = CacheConfig.GAMES, allEntries = true),
-            @CacheEvict(value = CacheConfig.GAMES_BY_DATE, allEntries = true),
-            @CacheEvict(value = CacheConfig.BOX_SCORES, allEntries = true),
-            @CacheEvict(value = CacheConfig.SEARCH, allEntries = true)
-    })
     public void runFullSync(int season) {
         log.info("Starting full data sync for season {}", season);
         long startTime = System.currentTimeMillis();
@@ -106,21 +84,6 @@ public class IngestionOrchestrator {
      * This method runs asynchronously and updates job status via SSE.
      */
     @Async
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.TEAMS, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_ID, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_LEAGUE, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_DIVISION, allEntries = true),
-            @CacheEvict(value = CacheConfig.ROSTERS, allEntries = true),
-            @CacheEvict(value = CacheConfig.STANDINGS, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAM_STANDINGS, allEntries = true),
-            @CacheEvict(value = CacheConfig.PLAYERS, allEntries = true),
-            @CacheEvict(value = CacheConfig.LEADERBOARDS, allEntries = true),
-            @CacheEvict(value = CacheConfig.GAMES, allEntries = true),
-            @CacheEvict(value = CacheConfig.GAMES_BY_DATE, allEntries = true),
-            @CacheEvict(value = CacheConfig.BOX_SCORES, allEntries = true),
-            @CacheEvict(value = CacheConfig.SEARCH, allEntries = true)
-    })
     public void runTrackedFullSync(Long jobId, int season) {
         log.info("Starting tracked full sync for season {} (job {})", season, jobId);
         int totalCreated = 0;
@@ -180,13 +143,6 @@ public class IngestionOrchestrator {
     }
 
     @Async
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.TEAMS, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_ID, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_LEAGUE, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_DIVISION, allEntries = true),
-            @CacheEvict(value = CacheConfig.SEARCH, allEntries = true)
-    })
     public void runTrackedTeamsSync(Long jobId) {
         log.info("Starting tracked teams sync (job {})", jobId);
         try {
@@ -210,10 +166,6 @@ public class IngestionOrchestrator {
     }
 
     @Async
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.ROSTERS, allEntries = true),
-            @CacheEvict(value = CacheConfig.PLAYERS, allEntries = true)
-    })
     public void runTrackedRostersSync(Long jobId, int season) {
         log.info("Starting tracked rosters sync for season {} (job {})", season, jobId);
         try {
@@ -237,10 +189,6 @@ public class IngestionOrchestrator {
     }
 
     @Async
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.GAMES, allEntries = true),
-            @CacheEvict(value = CacheConfig.GAMES_BY_DATE, allEntries = true)
-    })
     public void runTrackedGamesSync(Long jobId, int season) {
         log.info("Starting tracked games sync for season {} (job {})", season, jobId);
         try {
@@ -264,10 +212,6 @@ public class IngestionOrchestrator {
     }
 
     @Async
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.LEADERBOARDS, allEntries = true),
-            @CacheEvict(value = CacheConfig.PLAYERS, allEntries = true)
-    })
     public void runTrackedStatsSync(Long jobId, int season) {
         log.info("Starting tracked stats sync for season {} (job {})", season, jobId);
         try {
@@ -291,10 +235,6 @@ public class IngestionOrchestrator {
     }
 
     @Async
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.STANDINGS, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAM_STANDINGS, allEntries = true)
-    })
     public void runTrackedStandingsSync(Long jobId, int season) {
         log.info("Starting tracked standings sync for season {} (job {})", season, jobId);
         try {
@@ -318,11 +258,6 @@ public class IngestionOrchestrator {
     }
 
     @Async
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.BOX_SCORES, allEntries = true),
-            @CacheEvict(value = CacheConfig.LINESCORES, allEntries = true),
-            @CacheEvict(value = CacheConfig.LEADERBOARDS, allEntries = true)
-    })
     public void runTrackedBoxScoresSync(Long jobId, int season) {
         log.info("Starting tracked box scores sync for season {} (job {})", season, jobId);
         try {
@@ -349,9 +284,6 @@ public class IngestionOrchestrator {
     }
 
     @Async
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.LINESCORES, allEntries = true)
-    })
     public void runTrackedLinescoresSync(Long jobId, int season) {
         log.info("Starting tracked linescores sync for season {} (job {})", season, jobId);
         try {
@@ -374,69 +306,91 @@ public class IngestionOrchestrator {
         return job;
     }
 
+    @Async
+    public void runTrackedTransactionsSync(Long jobId, LocalDate startDate, LocalDate endDate) {
+        log.info("Starting tracked transactions sync from {} to {} (job {})", startDate, endDate, jobId);
+        try {
+            syncJobService.startJob(jobId);
+            syncJobService.updateProgress(jobId, 0, 1, "Applying roster transactions...");
+
+            int transactionCount = transactionIngestionService.syncTransactions(startDate, endDate);
+
+            syncJobService.completeJob(jobId, 0, transactionCount, 0);
+            log.info("Tracked transactions sync completed (job {})", jobId);
+        } catch (Exception e) {
+            log.error("Tracked transactions sync failed (job {})", jobId, e);
+            syncJobService.failJob(jobId, e.getMessage());
+        }
+    }
+
+    public SyncJob createAndRunTrackedTransactionsSync(LocalDate startDate, LocalDate endDate,
+                                                       TriggerType trigger, AppUser user) {
+        SyncJob job = syncJobService.createJob(SyncJobType.TRANSACTIONS, endDate.getYear(), trigger, user);
+        runTrackedTransactionsSync(job.getId(), startDate, endDate);
+        return job;
+    }
+
+    /**
+     * Run a tracked multi-season backfill. Progress and ETA are reported per planned step.
+     */
+    @Async
+    public void runTrackedBackfill(Long jobId, List<BackfillService.BackfillStep> steps) {
+        log.info("Starting tracked backfill of {} steps (job {})", steps.size(), jobId);
+        try {
+            syncJobService.startJob(jobId);
+
+            BackfillService.BackfillResult result = backfillService.runBackfill(jobId, steps);
+
+            if (!result.cancelled()) {
+                syncJobService.completeJob(jobId, result.records(), 0, 0);
+                log.info("Tracked backfill completed (job {})", jobId);
+            }
+        } catch (Exception e) {
+            log.error("Tracked backfill failed (job {})", jobId, e);
+            syncJobService.failJob(jobId, e.getMessage());
+        }
+    }
+
+    public SyncJob createAndRunTrackedBackfill(int fromSeason, int toSeason, TriggerType trigger, AppUser user) {
+        // Plan first so an invalid range is rejected before a job is created
+        List<BackfillService.BackfillStep> steps = backfillService.planBackfill(fromSeason, toSeason);
+        SyncJob job = syncJobService.createJob(SyncJobType.BACKFILL, toSeason, trigger, user);
+        runTrackedBackfill(job.getId(), steps);
+        return job;
+    }
+
     // Legacy untracked methods for backward compatibility
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.TEAMS, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_ID, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_LEAGUE, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAMS_BY_DIVISION, allEntries = true),
-            @CacheEvict(value = CacheConfig.SEARCH, allEntries = true)
-    })
     public void runTeamsSync() {
         log.info("Running teams-only sync");
         teamIngestionService.syncAllTeams();
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.ROSTERS, allEntries = true),
-            @CacheEvict(value = CacheConfig.PLAYERS, allEntries = true)
-    })
     public void runRostersSync(int season) {
         log.info("Running rosters-only sync for season {}", season);
         rosterIngestionService.syncAllRosters(season);
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.GAMES, allEntries = true),
-            @CacheEvict(value = CacheConfig.GAMES_BY_DATE, allEntries = true)
-    })
     public void runGamesSync(int season) {
         log.info("Running games-only sync for season {}", season);
         gameIngestionService.syncGamesForSeason(season);
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.LEADERBOARDS, allEntries = true),
-            @CacheEvict(value = CacheConfig.PLAYERS, allEntries = true)
-    })
     public void runStatsSync(int season) {
         log.info("Running stats-only sync for season {}", season);
         statsIngestionService.syncAllPlayerStats(season);
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.PLAYERS, allEntries = true)
-    })
     public int runIncompletePlayersSync() {
         log.info("Running sync for players with incomplete data");
         return playerIngestionService.syncIncompletePlayers();
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.STANDINGS, allEntries = true),
-            @CacheEvict(value = CacheConfig.TEAM_STANDINGS, allEntries = true)
-    })
     public int runStandingsSync(int season) {
         log.info("Running standings sync for season {}", season);
         return standingsIngestionService.syncStandings(season);
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.BOX_SCORES, allEntries = true),
-            @CacheEvict(value = CacheConfig.LINESCORES, allEntries = true),
-            @CacheEvict(value = CacheConfig.LEADERBOARDS, allEntries = true)
-    })
     public int runBoxScoresSync(int season) {
         log.info("Running box scores sync for season {}", season);
         int boxScoreCount = boxScoreIngestionService.syncBoxScoresForSeason(season);
@@ -444,10 +398,6 @@ public class IngestionOrchestrator {
         return boxScoreCount + linescoreCount;
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.BOX_SCORES, key = "#gameId"),
-            @CacheEvict(value = CacheConfig.LINESCORES, key = "#gameId")
-    })
     public int runBoxScoreForGame(Long gameId) {
         log.info("Running box score sync for game {}", gameId);
         boxScoreIngestionService.syncBoxScoreForGame(gameId);
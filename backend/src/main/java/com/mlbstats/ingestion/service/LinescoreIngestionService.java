@@ -1,5 +1,7 @@
 package com.mlbstats.ingestion.service;
 
+import com.mlbstats.common.event.DataChangeEvent.BoxScoreChanged;
+import com.mlbstats.common.event.DataChangeEvent.GameChanged;
 import com.mlbstats.domain.game.Game;
 import com.mlbstats.domain.game.GameInning;
 import com.mlbstats.domain.game.GameInningRepository;
@@ -8,6 +10,7 @@ import com.mlbstats.ingestion.client.MlbApiClient;
 import com.mlbstats.ingestion.client.dto.LinescoreResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +24,7 @@ public class LinescoreIngestionService {
     private final MlbApiClient mlbApiClient;
     private final GameRepository gameRepository;
     private final GameInningRepository gameInningRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public int syncLinescoreForGame(Long gameId) {
@@ -83,6 +87,7 @@ public class LinescoreIngestionService {
         updateLiveState(game, response);
 
         gameRepository.save(game);
+        eventPublisher.publishEvent(new GameChanged(game.getId(), game.getGameDate()));
 
         // Process innings
         if (response.getInnings() == null || response.getInnings().isEmpty()) {
@@ -101,6 +106,7 @@ public class LinescoreIngestionService {
         }
 
         log.debug("Synced {} innings for game {} (mlbId: {})", count, game.getId(), game.getMlbId());
+        eventPublisher.publishEvent(new BoxScoreChanged(game.getId()));
         return 1;
     }
 
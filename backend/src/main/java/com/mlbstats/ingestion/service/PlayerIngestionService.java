@@ -1,5 +1,6 @@
 package com.mlbstats.ingestion.service;
 
+import com.mlbstats.common.event.DataChangeEvent.PlayerChanged;
 import com.mlbstats.domain.player.Player;
 import com.mlbstats.domain.player.PlayerRepository;
 import com.mlbstats.ingestion.client.MlbApiClient;
@@ -7,6 +8,7 @@ import com.mlbstats.ingestion.client.dto.PlayerResponse;
 import com.mlbstats.ingestion.mapper.PlayerMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ public class PlayerIngestionService {
     private final MlbApiClient mlbApiClient;
     private final PlayerRepository playerRepository;
     private final PlayerMapper playerMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Player syncPlayer(Integer mlbPlayerId) {
@@ -35,7 +38,7 @@ public class PlayerIngestionService {
 
     @Transactional
     public Player syncPlayer(PlayerResponse.PlayerData playerData) {
-        return playerRepository.findByMlbId(playerData.getId())
+        Player saved = playerRepository.findByMlbId(playerData.getId())
                 .map(existing -> {
                     playerMapper.updateEntity(existing, playerData);
                     return playerRepository.save(existing);
@@ -44,6 +47,8 @@ public class PlayerIngestionService {
                     Player player = playerMapper.toEntity(playerData);
                     return playerRepository.save(player);
                 });
+        eventPublisher.publishEvent(new PlayerChanged(saved.getId()));
+        return saved;
     }
 
     @Transactional
@@ -73,7 +78,9 @@ public class PlayerIngestionService {
                         player.setMlbId(mlbPlayerId);
                         player.setFullName(fullName);
                         player.setActive(true);
-                        return playerRepository.save(player);
+                        Player saved = playerRepository.save(player);
+                        eventPublisher.publishEvent(new PlayerChanged(saved.getId()));
+                        return saved;
                     }
                 });
     }
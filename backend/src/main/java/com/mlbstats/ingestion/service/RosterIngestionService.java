@@ -1,5 +1,6 @@
 package com.mlbstats.ingestion.service;
 
+import com.mlbstats.common.event.DataChangeEvent.RosterChanged;
 import com.mlbstats.domain.player.Player;
 import com.mlbstats.domain.player.TeamRoster;
 import com.mlbstats.domain.player.TeamRosterRepository;
@@ -9,11 +10,14 @@ import com.mlbstats.ingestion.client.MlbApiClient;
 import com.mlbstats.ingestion.client.dto.RosterResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -24,6 +28,7 @@ public class RosterIngestionService {
     private final TeamRepository teamRepository;
     private final TeamRosterRepository teamRosterRepository;
     private final PlayerIngestionService playerIngestionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public int syncAllRosters(Integer season) {
@@ -51,19 +56,29 @@ public class RosterIngestionService {
         }
 
         int count = 0;
+        Set<Long> rosteredPlayerIds = new HashSet<>();
         for (RosterResponse.RosterEntry entry : response.getRoster()) {
-            syncRosterEntry(team, entry, season);
+            Player player = syncRosterEntry(team, entry, season);
+            if (player != null) {
+                rosteredPlayerIds.add(player.getId());
+            }
             count++;
         }
+        closeDepartedEntries(team, season, rosteredPlayerIds);
 
         log.debug("Synced {} players for team {}", count, team.getName());
         return count;
     }
 
+    /**
+     * Upserts one roster entry.
+     *
+     * @return the rostered player, or null when the entry names no one
+     */
     @Transactional
-    public void syncRosterEntry(Team team, RosterResponse.RosterEntry entry, Integer season) {
+    public Player syncRosterEntry(Team team, RosterResponse.RosterEntry entry, Integer season) {
         if (entry.getPerson() == null) {
-            return;
+            return null;
         }
 
         // Get or create player
@@ -72,24 +87,55 @@ public class RosterIngestionService {
                 entry.getPerson().getFullName()
         );
 
-        // Check if roster entry already exists
-        boolean exists = teamRosterRepository.existsByTeamIdAndPlayerIdAndSeason(
-                team.getId(), player.getId(), season);
-
-        if (!exists) {
-            TeamRoster roster = new TeamRoster();
-            roster.setTeam(team);
-            roster.setPlayer(player);
-            roster.setSeason(season);
-            roster.setStatus(entry.getStatus() != null ? entry.getStatus().getDescription() : null);
-            roster.setJerseyNumber(entry.getJerseyNumber());
-            roster.setStartDate(LocalDate.of(season, 3, 1));
-
-            if (entry.getPosition() != null) {
-                roster.setPosition(entry.getPosition().getAbbreviation());
+        // Reconcile against the latest entry; the transactions feed keeps these current between full syncs
+        TeamRoster roster = teamRosterRepository
+                .findFirstByTeamIdAndPlayerIdAndSeasonOrderByStartDateDesc(team.getId(), player.getId(), season)
+                .orElseGet(() -> {
+                    TeamRoster created = new TeamRoster();
+                    created.setTeam(team);
+                    created.setPlayer(player);
+                    created.setSeason(season);
+                    created.setStartDate(LocalDate.of(season, 3, 1));
+                    return created;
+                });
+
+        roster.setEndDate(null);
+        roster.setStatus(entry.getStatus() != null ? entry.getStatus().getDescription() : null);
+        roster.setJerseyNumber(entry.getJerseyNumber());
+
+        if (entry.getPosition() != null) {
+            roster.setPosition(entry.getPosition().getAbbreviation());
+        }
+
+        teamRosterRepository.save(roster);
+        eventPublisher.publishEvent(new RosterChanged(team.getId(), season));
+        return player;
+    }
+
+    /**
+     * Ends the open entries of players who are no longer on the team's roster, e.g. after a
+     * release or trade the transactions feed missed. A past season's entries end on its last day.
+     */
+    private void closeDepartedEntries(Team team, Integer season, Set<Long> rosteredPlayerIds) {
+        // An empty roster is more likely a feed hiccup than the whole team being released
+        if (rosteredPlayerIds.isEmpty()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate endDate = today.getYear() > season ? LocalDate.of(season, 12, 31) : today;
+        int closed = 0;
+        for (TeamRoster open : teamRosterRepository.findByTeamIdAndSeasonAndEndDateIsNull(team.getId(), season)) {
+            if (!rosteredPlayerIds.contains(open.getPlayer().getId())) {
+                open.setEndDate(endDate);
+                teamRosterRepository.save(open);
+                closed++;
             }
+        }
 
-            teamRosterRepository.save(roster);
+        if (closed > 0) {
+            log.debug("Closed {} departed roster entries for team {}", closed, team.getName());
+            eventPublisher.publishEvent(new RosterChanged(team.getId(), season));
         }
     }
 
@@ -0,0 +1,220 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.common.event.DataChangeEvent.PlayerStatsChanged;
+import com.mlbstats.domain.game.Game;
+import com.mlbstats.domain.stats.PlayerBattingStats;
+import com.mlbstats.domain.stats.PlayerBattingStatsRepository;
+import com.mlbstats.domain.stats.PlayerGameBatting;
+import com.mlbstats.domain.stats.PlayerGamePitching;
+import com.mlbstats.domain.stats.PlayerPitchingStats;
+import com.mlbstats.domain.stats.PlayerPitchingStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Keeps season rows in player_batting_stats / player_pitching_stats current between
+ * API stats syncs by adding each newly stored box score line to the player's
+ * season totals and recomputing the rate stats from the new totals.
+ * <p>
+ * The API sync stays the source of truth: it overwrites the totals and records the
+ * last game date it covers in {@code reconciledThrough}. Lines from games on or
+ * before that date are already included and are skipped, so a box score is never
+ * counted twice. Stats the box score doesn't carry (HBP, sac flies, WAR, Statcast)
+ * keep their API values until the next reconciliation.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeasonStatsAccumulator {
+
+    private static final String REGULAR_SEASON = "R";
+    private static final BigDecimal MAX_ERA = new BigDecimal("999.99");
+    private static final BigDecimal MAX_PER_NINE = new BigDecimal("99.99");
+
+    private final PlayerBattingStatsRepository battingStatsRepository;
+    private final PlayerPitchingStatsRepository pitchingStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Adds a newly stored batting line to the player's season row for the line's team.
+     *
+     * @return true if the totals changed
+     */
+    public boolean applyBatting(PlayerGameBatting line) {
+        Game game = line.getGame();
+        if (!REGULAR_SEASON.equals(game.getGameType())) {
+            return false;
+        }
+
+        PlayerBattingStats stats = battingStatsRepository.findByPlayerIdAndTeamIdAndSeasonAndGameType(
+                        line.getPlayer().getId(), line.getTeam().getId(), game.getSeason(), REGULAR_SEASON)
+                .orElseGet(() -> {
+                    PlayerBattingStats created = new PlayerBattingStats();
+                    created.setPlayer(line.getPlayer());
+                    created.setTeam(line.getTeam());
+                    created.setSeason(game.getSeason());
+                    return created;
+                });
+        if (isReconciled(stats.getReconciledThrough(), game)) {
+            return false;
+        }
+
+        stats.setGamesPlayed(add(stats.getGamesPlayed(), 1));
+        stats.setAtBats(add(stats.getAtBats(), line.getAtBats()));
+        stats.setRuns(add(stats.getRuns(), line.getRuns()));
+        stats.setHits(add(stats.getHits(), line.getHits()));
+        stats.setDoubles(add(stats.getDoubles(), line.getDoubles()));
+        stats.setTriples(add(stats.getTriples(), line.getTriples()));
+        stats.setHomeRuns(add(stats.getHomeRuns(), line.getHomeRuns()));
+        stats.setRbi(add(stats.getRbi(), line.getRbi()));
+        stats.setWalks(add(stats.getWalks(), line.getWalks()));
+        stats.setStrikeouts(add(stats.getStrikeouts(), line.getStrikeouts()));
+        stats.setStolenBases(add(stats.getStolenBases(), line.getStolenBases()));
+        // Box scores don't carry HBP or sac flies, so the line adds AB + BB to PA
+        stats.setPlateAppearances(add(stats.getPlateAppearances(), nullSafe(line.getAtBats()) + nullSafe(line.getWalks())));
+        recomputeBattingRates(stats);
+
+        battingStatsRepository.save(stats);
+        eventPublisher.publishEvent(new PlayerStatsChanged(stats.getPlayer().getId(), stats.getSeason()));
+        return true;
+    }
+
+    /**
+     * Adds a newly stored pitching line to the player's season row for the line's team.
+     *
+     * @return true if the totals changed
+     */
+    public boolean applyPitching(PlayerGamePitching line) {
+        Game game = line.getGame();
+        if (!REGULAR_SEASON.equals(game.getGameType())) {
+            return false;
+        }
+
+        PlayerPitchingStats stats = pitchingStatsRepository.findByPlayerIdAndTeamIdAndSeasonAndGameType(
+                        line.getPlayer().getId(), line.getTeam().getId(), game.getSeason(), REGULAR_SEASON)
+                .orElseGet(() -> {
+                    PlayerPitchingStats created = new PlayerPitchingStats();
+                    created.setPlayer(line.getPlayer());
+                    created.setTeam(line.getTeam());
+                    created.setSeason(game.getSeason());
+                    return created;
+                });
+        if (isReconciled(stats.getReconciledThrough(), game)) {
+            return false;
+        }
+
+        int outs = inningsPitchedToOuts(stats.getInningsPitched()) + inningsPitchedToOuts(line.getInningsPitched());
+        stats.setInningsPitched(outsToInningsPitched(outs));
+        stats.setGamesPlayed(add(stats.getGamesPlayed(), 1));
+        stats.setGamesStarted(add(stats.getGamesStarted(), flag(line.getIsStarter())));
+        stats.setWins(add(stats.getWins(), flag(line.getIsWinner())));
+        stats.setLosses(add(stats.getLosses(), flag(line.getIsLoser())));
+        stats.setSaves(add(stats.getSaves(), flag(line.getIsSave())));
+        stats.setHitsAllowed(add(stats.getHitsAllowed(), line.getHitsAllowed()));
+        stats.setRunsAllowed(add(stats.getRunsAllowed(), line.getRunsAllowed()));
+        stats.setEarnedRuns(add(stats.getEarnedRuns(), line.getEarnedRuns()));
+        stats.setHomeRunsAllowed(add(stats.getHomeRunsAllowed(), line.getHomeRunsAllowed()));
+        stats.setWalks(add(stats.getWalks(), line.getWalks()));
+        stats.setStrikeouts(add(stats.getStrikeouts(), line.getStrikeouts()));
+        stats.setPitchesThrown(add(stats.getPitchesThrown(), line.getPitchesThrown()));
+        stats.setStrikes(add(stats.getStrikes(), line.getStrikes()));
+        recomputePitchingRates(stats, outs);
+
+        pitchingStatsRepository.save(stats);
+        eventPublisher.publishEvent(new PlayerStatsChanged(stats.getPlayer().getId(), stats.getSeason()));
+        return true;
+    }
+
+    static void recomputeBattingRates(PlayerBattingStats stats) {
+        int atBats = nullSafe(stats.getAtBats());
+        int hits = nullSafe(stats.getHits());
+        int totalBases = hits + nullSafe(stats.getDoubles()) + 2 * nullSafe(stats.getTriples())
+                + 3 * nullSafe(stats.getHomeRuns());
+        int timesOnBase = hits + nullSafe(stats.getWalks()) + nullSafe(stats.getHitByPitch());
+        int obpDenominator = atBats + nullSafe(stats.getWalks()) + nullSafe(stats.getHitByPitch())
+                + nullSafe(stats.getSacFlies());
+
+        stats.setTotalBases(totalBases);
+        stats.setExtraBaseHits(nullSafe(stats.getDoubles()) + nullSafe(stats.getTriples())
+                + nullSafe(stats.getHomeRuns()));
+
+        BigDecimal avg = ratio(hits, atBats, 3);
+        BigDecimal obp = ratio(timesOnBase, obpDenominator, 3);
+        BigDecimal slg = ratio(totalBases, atBats, 3);
+        stats.setBattingAvg(avg);
+        stats.setObp(obp);
+        stats.setSlg(slg);
+        stats.setOps(obp != null && slg != null ? obp.add(slg) : null);
+        stats.setIso(avg != null && slg != null ? slg.subtract(avg) : null);
+    }
+
+    static void recomputePitchingRates(PlayerPitchingStats stats, int outs) {
+        if (outs <= 0) {
+            stats.setEra(null);
+            stats.setWhip(null);
+            stats.setKPer9(null);
+            stats.setBbPer9(null);
+            stats.setHPer9(null);
+            return;
+        }
+        int hits = nullSafe(stats.getHitsAllowed());
+        int walks = nullSafe(stats.getWalks());
+        stats.setEra(perNine(nullSafe(stats.getEarnedRuns()), outs).min(MAX_ERA));
+        stats.setWhip(ratio((hits + walks) * 3, outs, 2).min(MAX_PER_NINE));
+        stats.setKPer9(perNine(nullSafe(stats.getStrikeouts()), outs).min(MAX_PER_NINE));
+        stats.setBbPer9(perNine(walks, outs).min(MAX_PER_NINE));
+        stats.setHPer9(perNine(hits, outs).min(MAX_PER_NINE));
+    }
+
+    /**
+     * A line is already part of the API totals if its game is on or before the reconciled date.
+     */
+    private static boolean isReconciled(LocalDate reconciledThrough, Game game) {
+        return reconciledThrough != null && game.getGameDate() != null
+                && !game.getGameDate().isAfter(reconciledThrough);
+    }
+
+    // Nine innings is 27 outs
+    private static BigDecimal perNine(int value, int outs) {
+        return ratio(value * 27, outs, 2);
+    }
+
+    private static BigDecimal ratio(int numerator, int denominator, int scale) {
+        if (denominator <= 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), scale, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Convert baseball notation innings pitched to outs, e.g. 6.2 IP = 20 outs.
+     */
+    static int inningsPitchedToOuts(BigDecimal inningsPitched) {
+        if (inningsPitched == null) {
+            return 0;
+        }
+        int fullInnings = inningsPitched.intValue();
+        int partialOuts = inningsPitched.remainder(BigDecimal.ONE).movePointRight(1).intValue();
+        return fullInnings * 3 + partialOuts;
+    }
+
+    static BigDecimal outsToInningsPitched(int outs) {
+        return BigDecimal.valueOf(outs / 3).add(BigDecimal.valueOf(outs % 3, 1));
+    }
+
+    private static Integer add(Integer total, Integer delta) {
+        return nullSafe(total) + nullSafe(delta);
+    }
+
+    private static int flag(Boolean value) {
+        return Boolean.TRUE.equals(value) ? 1 : 0;
+    }
+
+    private static int nullSafe(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,204 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.domain.game.GameRepository;
+import com.mlbstats.domain.stats.SplitType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Derives home/away, day/night, monthly and first/second half splits from the
+ * box score game logs instead of fetching them per player from the MLB API.
+ * <p>
+ * Each refresh is a delete plus one INSERT ... SELECT per table: every game log row
+ * is fanned out to one row per split family with UNION ALL and grouped by split type,
+ * so the work is a handful of set-based passes regardless of how many players are
+ * affected. After a single box score lands only the players in that game are
+ * recomputed. Split rows are season-wide (team_id is null), covering regular season
+ * games only.
+ * <p>
+ * Handedness and base-state splits need pitch-level data and are not derived here;
+ * rows of those types are left untouched.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SplitAggregationService {
+
+    static final List<SplitType> DERIVED_SPLITS = List.of(
+            SplitType.HOME, SplitType.AWAY, SplitType.DAY, SplitType.NIGHT,
+            SplitType.FIRST_HALF, SplitType.SECOND_HALF,
+            SplitType.MONTH_MAR, SplitType.MONTH_APR, SplitType.MONTH_MAY, SplitType.MONTH_JUN,
+            SplitType.MONTH_JUL, SplitType.MONTH_AUG, SplitType.MONTH_SEP, SplitType.MONTH_OCT);
+
+    // Used when the All-Star break can't be found in the synced schedule
+    private static final int DEFAULT_BREAK_MONTH = 7;
+    private static final int DEFAULT_BREAK_DAY = 15;
+    // No regular season games are played for at least three days around the All-Star Game
+    private static final int MIN_BREAK_DAYS = 3;
+
+    // One expression per split family, evaluated against a game log row x joined to games g
+    private static final List<String> SPLIT_EXPRESSIONS = List.of(
+            "CASE WHEN g.home_team_id = x.team_id THEN 'HOME' ELSE 'AWAY' END",
+            "CASE WHEN LOWER(g.day_night) IN ('d', 'day') THEN 'DAY' " +
+                    "WHEN LOWER(g.day_night) IN ('n', 'night') THEN 'NIGHT' END",
+            "CASE EXTRACT(MONTH FROM g.game_date) WHEN 3 THEN 'MONTH_MAR' WHEN 4 THEN 'MONTH_APR' " +
+                    "WHEN 5 THEN 'MONTH_MAY' WHEN 6 THEN 'MONTH_JUN' WHEN 7 THEN 'MONTH_JUL' " +
+                    "WHEN 8 THEN 'MONTH_AUG' WHEN 9 THEN 'MONTH_SEP' WHEN 10 THEN 'MONTH_OCT' END",
+            "CASE WHEN g.game_date < :secondHalfStart THEN 'FIRST_HALF' ELSE 'SECOND_HALF' END");
+
+    private static final String BATTING_COLUMNS = """
+            COALESCE(x.at_bats, 0) AS at_bats, COALESCE(x.runs, 0) AS runs, COALESCE(x.hits, 0) AS hits,
+            COALESCE(x.doubles, 0) AS doubles, COALESCE(x.triples, 0) AS triples,
+            COALESCE(x.home_runs, 0) AS home_runs, COALESCE(x.rbi, 0) AS rbi, COALESCE(x.walks, 0) AS walks,
+            COALESCE(x.strikeouts, 0) AS strikeouts, COALESCE(x.stolen_bases, 0) AS stolen_bases
+            """;
+
+    private static final String PITCHING_COLUMNS = """
+            CASE WHEN x.is_starter THEN 1 ELSE 0 END AS started,
+            CASE WHEN x.is_winner THEN 1 ELSE 0 END AS won,
+            CASE WHEN x.is_loser THEN 1 ELSE 0 END AS lost,
+            CASE WHEN x.is_save THEN 1 ELSE 0 END AS saved,
+            CAST(FLOOR(COALESCE(x.innings_pitched, 0)) AS INTEGER) * 3
+                + CAST(ROUND((COALESCE(x.innings_pitched, 0) - FLOOR(COALESCE(x.innings_pitched, 0))) * 10, 0) AS INTEGER) AS outs,
+            COALESCE(x.hits_allowed, 0) AS hits_allowed, COALESCE(x.runs_allowed, 0) AS runs_allowed,
+            COALESCE(x.earned_runs, 0) AS earned_runs, COALESCE(x.home_runs_allowed, 0) AS home_runs_allowed,
+            COALESCE(x.walks, 0) AS walks, COALESCE(x.strikeouts, 0) AS strikeouts
+            """;
+
+    // Game logs carry no HBP or sacrifice flies, so PA and OBP are built from AB + BB only
+    private static final String INSERT_BATTING = """
+            INSERT INTO player_batting_splits (player_id, season, split_type, games_played, plate_appearances,
+                                               at_bats, runs, hits, doubles, triples, home_runs, rbi, walks,
+                                               strikeouts, stolen_bases, batting_avg, obp, slg, ops,
+                                               created_at, updated_at)
+            SELECT s.player_id, s.season, s.split_type, COUNT(*), SUM(s.at_bats + s.walks),
+                   SUM(s.at_bats), SUM(s.runs), SUM(s.hits), SUM(s.doubles), SUM(s.triples), SUM(s.home_runs),
+                   SUM(s.rbi), SUM(s.walks), SUM(s.strikeouts), SUM(s.stolen_bases),
+                   ROUND(CAST(SUM(s.hits) AS DECIMAL(12, 6)) / NULLIF(SUM(s.at_bats), 0), 3),
+                   ROUND(CAST(SUM(s.hits + s.walks) AS DECIMAL(12, 6)) / NULLIF(SUM(s.at_bats + s.walks), 0), 3),
+                   ROUND(CAST(SUM(s.hits + s.doubles + 2 * s.triples + 3 * s.home_runs) AS DECIMAL(12, 6))
+                         / NULLIF(SUM(s.at_bats), 0), 3),
+                   ROUND(CAST(SUM(s.hits + s.walks) AS DECIMAL(12, 6)) / NULLIF(SUM(s.at_bats + s.walks), 0)
+                         + CAST(SUM(s.hits + s.doubles + 2 * s.triples + 3 * s.home_runs) AS DECIMAL(12, 6))
+                         / NULLIF(SUM(s.at_bats), 0), 3),
+                   CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM (%s) s
+            WHERE s.split_type IS NOT NULL
+            GROUP BY s.player_id, s.season, s.split_type
+            """;
+
+    // Innings are summed as outs; rate caps keep tiny samples within the column precision
+    private static final String INSERT_PITCHING = """
+            INSERT INTO player_pitching_splits (player_id, season, split_type, games_played, games_started,
+                                                innings_pitched, wins, losses, saves, hits_allowed, runs_allowed,
+                                                earned_runs, home_runs_allowed, walks, strikeouts,
+                                                era, whip, k_per_9, bb_per_9, created_at, updated_at)
+            SELECT s.player_id, s.season, s.split_type, COUNT(*), SUM(s.started),
+                   SUM(s.outs) / 3 + MOD(SUM(s.outs), 3) * 0.1,
+                   SUM(s.won), SUM(s.lost), SUM(s.saved), SUM(s.hits_allowed), SUM(s.runs_allowed),
+                   SUM(s.earned_runs), SUM(s.home_runs_allowed), SUM(s.walks), SUM(s.strikeouts),
+                   CASE WHEN SUM(s.outs) > 0 THEN LEAST(ROUND(
+                       CAST(SUM(s.earned_runs) * 27 AS DECIMAL(12, 6)) / SUM(s.outs), 2), 999.99) END,
+                   CASE WHEN SUM(s.outs) > 0 THEN LEAST(ROUND(
+                       CAST(SUM(s.hits_allowed + s.walks) * 3 AS DECIMAL(12, 6)) / SUM(s.outs), 2), 99.99) END,
+                   CASE WHEN SUM(s.outs) > 0 THEN LEAST(ROUND(
+                       CAST(SUM(s.strikeouts) * 27 AS DECIMAL(12, 6)) / SUM(s.outs), 2), 99.99) END,
+                   CASE WHEN SUM(s.outs) > 0 THEN LEAST(ROUND(
+                       CAST(SUM(s.walks) * 27 AS DECIMAL(12, 6)) / SUM(s.outs), 2), 99.99) END,
+                   CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM (%s) s
+            WHERE s.split_type IS NOT NULL
+            GROUP BY s.player_id, s.season, s.split_type
+            """;
+
+    // Scope filters, formatted with the player id column of the table being filtered
+    private static final String SEASON_SCOPE = "";
+    private static final String GAME_SCOPE = """
+             AND %s IN (SELECT b.player_id FROM player_game_batting b WHERE b.game_id = :gameId
+                        UNION SELECT p.player_id FROM player_game_pitching p WHERE p.game_id = :gameId)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final GameRepository gameRepository;
+
+    /**
+     * Recomputes derived splits for every player with game logs in the season.
+     *
+     * @return number of split rows written
+     */
+    @Transactional
+    public int refreshSplitsForSeason(int season) {
+        int rows = refresh(season, SEASON_SCOPE, new MapSqlParameterSource());
+        log.info("Refreshed {} derived split rows for season {}", rows, season);
+        return rows;
+    }
+
+    /**
+     * Recomputes derived splits for the players who appeared in one game, after its box score is stored.
+     *
+     * @return number of split rows written
+     */
+    @Transactional
+    public int refreshSplitsForGame(Long gameId, int season) {
+        int rows = refresh(season, GAME_SCOPE, new MapSqlParameterSource("gameId", gameId));
+        log.debug("Refreshed {} derived split rows for game {}", rows, gameId);
+        return rows;
+    }
+
+    private int refresh(int season, String scope, MapSqlParameterSource params) {
+        params.addValue("season", season)
+                .addValue("secondHalfStart", findSecondHalfStart(season))
+                .addValue("splitTypes", DERIVED_SPLITS.stream().map(Enum::name).toList());
+
+        String deleteScope = scope.formatted("player_id");
+        jdbcTemplate.update("DELETE FROM player_batting_splits WHERE season = :season " +
+                "AND split_type IN (:splitTypes)" + deleteScope, params);
+        jdbcTemplate.update("DELETE FROM player_pitching_splits WHERE season = :season " +
+                "AND split_type IN (:splitTypes)" + deleteScope, params);
+
+        int batting = jdbcTemplate.update(
+                INSERT_BATTING.formatted(splitRows("player_game_batting", BATTING_COLUMNS, scope)), params);
+        int pitching = jdbcTemplate.update(
+                INSERT_PITCHING.formatted(splitRows("player_game_pitching", PITCHING_COLUMNS, scope)), params);
+        return batting + pitching;
+    }
+
+    /**
+     * One SELECT per split family over the game logs, stacked with UNION ALL.
+     */
+    private static String splitRows(String table, String columns, String scope) {
+        return SPLIT_EXPRESSIONS.stream()
+                .map(splitType -> "SELECT x.player_id, g.season, " + splitType + " AS split_type, " + columns +
+                        " FROM " + table + " x JOIN games g ON g.id = x.game_id" +
+                        " WHERE g.season = :season AND g.game_type = 'R'" + scope.formatted("x.player_id"))
+                .collect(Collectors.joining(" UNION ALL "));
+    }
+
+    /**
+     * The second half starts with the first game after the All-Star break, found as the first
+     * gap of {@value #MIN_BREAK_DAYS}+ days in the July schedule.
+     */
+    LocalDate findSecondHalfStart(int season) {
+        List<LocalDate> julyDates = gameRepository.findRegularSeasonDatesBetween(
+                season, LocalDate.of(season, 7, 1), LocalDate.of(season, 7, 31));
+        return secondHalfStart(julyDates, season);
+    }
+
+    static LocalDate secondHalfStart(List<LocalDate> julyDates, int season) {
+        for (int i = 1; i < julyDates.size(); i++) {
+            if (ChronoUnit.DAYS.between(julyDates.get(i - 1), julyDates.get(i)) >= MIN_BREAK_DAYS) {
+                return julyDates.get(i);
+            }
+        }
+        return LocalDate.of(season, DEFAULT_BREAK_MONTH, DEFAULT_BREAK_DAY);
+    }
+}
@@ -1,5 +1,6 @@
 package com.mlbstats.ingestion.service;
 
+import com.mlbstats.common.event.DataChangeEvent.StandingsChanged;
 import com.mlbstats.domain.team.Team;
 import com.mlbstats.domain.team.TeamRepository;
 import com.mlbstats.domain.team.TeamStanding;
@@ -8,6 +9,7 @@ import com.mlbstats.ingestion.client.MlbApiClient;
 import com.mlbstats.ingestion.client.dto.StandingsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class StandingsIngestionService {
     private final MlbApiClient mlbApiClient;
     private final TeamRepository teamRepository;
     private final TeamStandingRepository standingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public int syncStandings(Integer season) {
@@ -95,6 +98,9 @@ public class StandingsIngestionService {
         }
 
         log.info("Synced {} team standings for season {}", count, season);
+        if (count > 0) {
+            eventPublisher.publishEvent(new StandingsChanged(season));
+        }
         return count;
     }
 }
@@ -1,5 +1,7 @@
 package com.mlbstats.ingestion.service;
 
+import com.mlbstats.common.event.DataChangeEvent.PlayerStatsChanged;
+import com.mlbstats.domain.game.GameRepository;
 import com.mlbstats.domain.player.Player;
 import com.mlbstats.domain.player.PlayerRepository;
 import com.mlbstats.domain.player.TeamRoster;
@@ -15,10 +17,12 @@ import com.mlbstats.ingestion.client.dto.StatsResponse;
 import com.mlbstats.ingestion.mapper.StatsMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -32,7 +36,10 @@ public class StatsIngestionService {
     private final TeamRosterRepository teamRosterRepository;
     private final PlayerBattingStatsRepository battingStatsRepository;
     private final PlayerPitchingStatsRepository pitchingStatsRepository;
+    private final GameRepository gameRepository;
     private final StatsMapper statsMapper;
+    private final TeamStatsRollupService teamStatsRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Syncs stats for all players. Each player is processed in a separate transaction
@@ -69,6 +76,7 @@ public class StatsIngestionService {
 
         log.info("Completed stats sync. Processed {} players, saved {} batting stats, {} pitching stats, {} errors",
                 totalPlayers, battingStatsSaved, pitchingStatsSaved, errors);
+        teamStatsRollupService.refreshSeason(season);
         return totalPlayers;
     }
 
@@ -200,6 +208,7 @@ public class StatsIngestionService {
                                     log.debug("Updating existing batting stats for player {} team {} season {}",
                                             player.getFullName(), statsTeam.getName(), finalStatsSeason);
                                     statsMapper.updateBattingStats(existing, split.getStat());
+                                    existing.setReconciledThrough(reconciledThrough(finalStatsSeason));
                                     battingStatsRepository.save(existing);
                                     saved[0] = 1;
                                 },
@@ -208,6 +217,7 @@ public class StatsIngestionService {
                                             player.getFullName(), statsTeam.getName(), finalStatsSeason);
                                     PlayerBattingStats stats = statsMapper.toBattingStats(
                                             split.getStat(), player, statsTeam, finalStatsSeason);
+                                    stats.setReconciledThrough(reconciledThrough(finalStatsSeason));
                                     log.debug("Mapped batting stats: games={}, atBats={}, hits={}, avg={}",
                                             stats.getGamesPlayed(), stats.getAtBats(), stats.getHits(), stats.getBattingAvg());
                                     battingStatsRepository.save(stats);
@@ -215,6 +225,7 @@ public class StatsIngestionService {
                                 }
                         );
                 savedCount += saved[0];
+                eventPublisher.publishEvent(new PlayerStatsChanged(player.getId(), finalStatsSeason));
             }
         }
 
@@ -291,6 +302,7 @@ public class StatsIngestionService {
                                     log.debug("Updating existing pitching stats for player {} team {} season {}",
                                             player.getFullName(), statsTeam.getName(), finalStatsSeason);
                                     statsMapper.updatePitchingStats(existing, split.getStat());
+                                    existing.setReconciledThrough(reconciledThrough(finalStatsSeason));
                                     pitchingStatsRepository.save(existing);
                                     saved[0] = 1;
                                 },
@@ -299,6 +311,7 @@ public class StatsIngestionService {
                                             player.getFullName(), statsTeam.getName(), finalStatsSeason);
                                     PlayerPitchingStats stats = statsMapper.toPitchingStats(
                                             split.getStat(), player, statsTeam, finalStatsSeason);
+                                    stats.setReconciledThrough(reconciledThrough(finalStatsSeason));
                                     log.debug("Mapped pitching stats: games={}, wins={}, losses={}, era={}",
                                             stats.getGamesPlayed(), stats.getWins(), stats.getLosses(), stats.getEra());
                                     pitchingStatsRepository.save(stats);
@@ -306,9 +319,21 @@ public class StatsIngestionService {
                                 }
                         );
                 savedCount += saved[0];
+                eventPublisher.publishEvent(new PlayerStatsChanged(player.getId(), finalStatsSeason));
             }
         }
 
         return savedCount;
     }
+
+    /**
+     * API totals include the games that are Final by now, so they cover the season through its
+     * latest Final game before today; later games are added by the box score sync (see
+     * {@link SeasonStatsAccumulator}). Today is left out because a date can't tell a game that
+     * finished before this sync from one that finishes after it, such as a night game or the
+     * second game of a doubleheader. Null before the season's first game has finished.
+     */
+    private LocalDate reconciledThrough(Integer season) {
+        return gameRepository.findLastFinalGameDate(season, LocalDate.now().minusDays(1));
+    }
 }
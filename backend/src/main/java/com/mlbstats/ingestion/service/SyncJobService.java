@@ -1,32 +1,48 @@
 package com.mlbstats.ingestion.service;
 
+import com.mlbstats.common.cache.CacheWarmup;
+import com.mlbstats.common.event.PostgresEventBus;
 import com.mlbstats.common.exception.ResourceNotFoundException;
 import com.mlbstats.common.exception.SyncJobConflictException;
 import com.mlbstats.domain.sync.*;
 import com.mlbstats.domain.user.AppUser;
+import com.mlbstats.ingestion.service.SyncProgressAccumulator.ProgressSnapshot;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SyncJobService {
 
-    private static final long SSE_TIMEOUT = 30 * 60 * 1000L; // 30 minutes
     private static final List<SyncJobStatus> ACTIVE_STATUSES = List.of(SyncJobStatus.PENDING, SyncJobStatus.RUNNING);
+    static final String JOB_PROGRESS_TOPIC = "sync-job.progress";
+    static final String JOB_FINISHED_TOPIC = "sync-job.finished";
 
     private final SyncJobRepository syncJobRepository;
-    private final Map<Long, CopyOnWriteArrayList<SseEmitter>> jobEmitters = new ConcurrentHashMap<>();
+    private final SyncProgressAccumulator progressAccumulator;
+    private final SyncProgressBroadcaster progressBroadcaster;
+    private final PostgresEventBus eventBus;
+    private final CacheWarmup cacheWarmup;
+
+    /**
+     * Progress travels over the event bus so subscribers on every node see jobs running
+     * on any node; each node fans events out to its own SSE subscribers.
+     */
+    @PostConstruct
+    void subscribeToJobEvents() {
+        eventBus.subscribe(JOB_PROGRESS_TOPIC, data -> progressBroadcaster.publish(jobIdOf(data), data));
+        eventBus.subscribe(JOB_FINISHED_TOPIC, data -> progressBroadcaster.complete(jobIdOf(data)));
+    }
 
     /**
      * Creates a new sync job after checking for conflicts.
@@ -78,42 +94,76 @@ public class SyncJobService {
         return savedJob;
     }
 
-    @Transactional
-    public SyncJob updateProgress(Long jobId, int processed, Integer total, String currentStep) {
-        SyncJob job = getJob(jobId);
-        job.updateProgress(processed, total, currentStep);
-        SyncJob savedJob = syncJobRepository.save(job);
-        broadcastProgress(savedJob);
-        return savedJob;
+    /**
+     * Records progress in memory; it reaches sync_jobs and SSE subscribers on the next flush.
+     */
+    public void updateProgress(Long jobId, int processed, Integer total, String currentStep) {
+        progressAccumulator.set(jobId, processed, total, currentStep, null);
     }
 
-    @Transactional
-    public SyncJob incrementProgress(Long jobId, String currentStep) {
-        SyncJob job = getJob(jobId);
-        int processed = job.getProcessedItems() != null ? job.getProcessedItems() + 1 : 1;
-        job.updateProgress(processed, null, currentStep);
-        SyncJob savedJob = syncJobRepository.save(job);
-        broadcastProgress(savedJob);
-        return savedJob;
+    /**
+     * Updates progress along with an estimated completion time, for long-running
+     * jobs such as multi-season backfills.
+     */
+    public void updateProgress(Long jobId, int processed, Integer total, String currentStep,
+                               LocalDateTime estimatedCompletionAt) {
+        progressAccumulator.set(jobId, processed, total, currentStep, estimatedCompletionAt);
+    }
+
+    public void incrementProgress(Long jobId, String currentStep) {
+        int persisted = 0;
+        if (!progressAccumulator.isTracked(jobId)) {
+            Integer processed = getJob(jobId).getProcessedItems();
+            persisted = processed != null ? processed : 0;
+        }
+        progressAccumulator.increment(jobId, persisted, currentStep);
+    }
+
+    /**
+     * Writes coalesced progress for jobs updated since the last flush and publishes it to
+     * subscribers on every node. Each job costs one conditional UPDATE, one read and one
+     * NOTIFY, however many updates it received in between.
+     */
+    @Scheduled(fixedDelayString = "${ingestion.progress-flush-interval:500}")
+    public void flushProgress() {
+        for (ProgressSnapshot snapshot : progressAccumulator.drainDirty()) {
+            try {
+                int updated = syncJobRepository.updateRunningProgress(snapshot.jobId(), snapshot.processed(),
+                        snapshot.total(), snapshot.currentStep(), snapshot.estimatedCompletionAt(),
+                        LocalDateTime.now());
+                if (updated == 0) {
+                    // Finished or cancelled in the meantime; the final state was written with it
+                    progressAccumulator.remove(snapshot.jobId());
+                    continue;
+                }
+                // Subscribers may be on another node, so publish whether or not any are local
+                syncJobRepository.findByIdWithUser(snapshot.jobId()).ifPresent(this::broadcastProgress);
+            } catch (Exception e) {
+                log.warn("Failed to flush progress for job {}: {}", snapshot.jobId(), e.getMessage());
+            }
+        }
     }
 
     @Transactional
     public SyncJob completeJob(Long jobId, int created, int updated, int errors) {
         SyncJob job = getJob(jobId);
+        applyPendingProgress(job);
         job.complete(created, updated, errors);
         SyncJob savedJob = syncJobRepository.save(job);
         broadcastProgress(savedJob);
-        closeEmitters(jobId);
+        eventBus.publish(JOB_FINISHED_TOPIC, Map.of("id", jobId));
+        cacheWarmup.requestWarmup();
         return savedJob;
     }
 
     @Transactional
     public SyncJob failJob(Long jobId, String errorMessage) {
         SyncJob job = getJob(jobId);
+        applyPendingProgress(job);
         job.fail(errorMessage);
         SyncJob savedJob = syncJobRepository.save(job);
         broadcastProgress(savedJob);
-        closeEmitters(jobId);
+        eventBus.publish(JOB_FINISHED_TOPIC, Map.of("id", jobId));
         return savedJob;
     }
 
@@ -123,10 +173,11 @@ public class SyncJobService {
         if (!job.isRunning() && job.getStatus() != SyncJobStatus.PENDING) {
             throw new SyncJobConflictException("Can only cancel pending or running jobs");
         }
+        applyPendingProgress(job);
         job.cancel();
         SyncJob savedJob = syncJobRepository.save(job);
         broadcastProgress(savedJob);
-        closeEmitters(jobId);
+        eventBus.publish(JOB_FINISHED_TOPIC, Map.of("id", jobId));
         return savedJob;
     }
 
@@ -153,26 +204,7 @@ public class SyncJobService {
     public SseEmitter subscribeToJob(Long jobId) {
         // Verify job exists
         SyncJob job = getJob(jobId);
-
-        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-
-        jobEmitters.computeIfAbsent(jobId, k -> new CopyOnWriteArrayList<>()).add(emitter);
-
-        emitter.onCompletion(() -> removeEmitter(jobId, emitter));
-        emitter.onTimeout(() -> removeEmitter(jobId, emitter));
-        emitter.onError(e -> removeEmitter(jobId, emitter));
-
-        // Send initial state
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("progress")
-                    .data(buildProgressData(job)));
-        } catch (IOException e) {
-            log.warn("Failed to send initial SSE event for job {}", jobId, e);
-            removeEmitter(jobId, emitter);
-        }
-
-        return emitter;
+        return progressBroadcaster.subscribe(jobId, buildProgressData(job));
     }
 
     public Map<SyncJobType, DataFreshness> getDataFreshness() {
@@ -247,6 +279,16 @@ public class SyncJobService {
                 if (hours < 24) yield FreshnessLevel.STALE;
                 yield FreshnessLevel.CRITICAL;
             }
+            case BACKFILL -> {
+                // Backfills load historical seasons, which don't go stale
+                if (days < 30) yield FreshnessLevel.FRESH;
+                yield FreshnessLevel.STALE;
+            }
+            case TRANSACTIONS -> {
+                if (hours < 2) yield FreshnessLevel.FRESH;
+                if (hours < 24) yield FreshnessLevel.STALE;
+                yield FreshnessLevel.CRITICAL;
+            }
             case FULL_SYNC -> {
                 if (hours < 24) yield FreshnessLevel.FRESH;
                 if (days < 7) yield FreshnessLevel.STALE;
@@ -270,24 +312,23 @@ public class SyncJobService {
         return months + " month" + (months == 1 ? "" : "s") + " ago";
     }
 
-    private void broadcastProgress(SyncJob job) {
-        CopyOnWriteArrayList<SseEmitter> emitters = jobEmitters.get(job.getId());
-        if (emitters == null || emitters.isEmpty()) {
-            return;
-        }
+    /**
+     * Folds progress not yet flushed into the job, so the final write carries the latest state.
+     */
+    private void applyPendingProgress(SyncJob job) {
+        progressAccumulator.remove(job.getId()).ifPresent(progress -> {
+            job.updateProgress(progress.processed(), progress.total(), progress.currentStep());
+            job.setEstimatedCompletionAt(progress.estimatedCompletionAt());
+        });
+    }
 
-        Map<String, Object> data = buildProgressData(job);
+    private void broadcastProgress(SyncJob job) {
+        eventBus.publish(JOB_PROGRESS_TOPIC, buildProgressData(job));
+    }
 
-        for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("progress")
-                        .data(data));
-            } catch (IOException e) {
-                log.debug("Failed to send SSE event, removing emitter for job {}", job.getId());
-                emitters.remove(emitter);
-            }
-        }
+    // Ids arrive as Integer once an event has round-tripped through JSON
+    private static Long jobIdOf(Map<String, Object> data) {
+        return ((Number) data.get("id")).longValue();
     }
 
     private Map<String, Object> buildProgressData(SyncJob job) {
@@ -303,6 +344,7 @@ public class SyncJobService {
         data.put("totalItems", job.getTotalItems());
         data.put("progressPercentage", job.getProgressPercentage());
         data.put("currentStep", job.getCurrentStep());
+        data.put("estimatedCompletionAt", job.getEstimatedCompletionAt());
         data.put("startedAt", job.getStartedAt());
         data.put("completedAt", job.getCompletedAt());
         // Calculate duration
@@ -320,29 +362,6 @@ public class SyncJobService {
         return data;
     }
 
-    private void removeEmitter(Long jobId, SseEmitter emitter) {
-        CopyOnWriteArrayList<SseEmitter> emitters = jobEmitters.get(jobId);
-        if (emitters != null) {
-            emitters.remove(emitter);
-            if (emitters.isEmpty()) {
-                jobEmitters.remove(jobId);
-            }
-        }
-    }
-
-    private void closeEmitters(Long jobId) {
-        CopyOnWriteArrayList<SseEmitter> emitters = jobEmitters.remove(jobId);
-        if (emitters != null) {
-            for (SseEmitter emitter : emitters) {
-                try {
-                    emitter.complete();
-                } catch (Exception e) {
-                    log.debug("Error completing emitter for job {}", jobId, e);
-                }
-            }
-        }
-    }
-
     public enum FreshnessLevel {
         FRESH, STALE, CRITICAL
     }
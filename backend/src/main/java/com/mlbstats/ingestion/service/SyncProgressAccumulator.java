@@ -0,0 +1,96 @@
+package com.mlbstats.ingestion.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the latest progress of running sync jobs in memory so ingestion workers can
+ * report every item without a database round trip. Updates are lock-free; a job is
+ * marked dirty on each update and {@link SyncJobService} periodically drains the
+ * dirty jobs to sync_jobs and SSE subscribers, so many updates coalesce into one write.
+ */
+@Component
+public class SyncProgressAccumulator {
+
+    private final ConcurrentMap<Long, PendingProgress> pending = new ConcurrentHashMap<>();
+
+    public boolean isTracked(Long jobId) {
+        return pending.containsKey(jobId);
+    }
+
+    /**
+     * Records absolute progress. A null total keeps the previous total.
+     */
+    public void set(Long jobId, int processed, Integer total, String currentStep, LocalDateTime estimatedCompletionAt) {
+        PendingProgress progress = pending.computeIfAbsent(jobId, id -> new PendingProgress(processed));
+        progress.processed.set(processed);
+        if (total != null) {
+            progress.total = total;
+        }
+        progress.currentStep = currentStep;
+        progress.estimatedCompletionAt = estimatedCompletionAt;
+        progress.dirty.set(true);
+    }
+
+    /**
+     * Adds one processed item to a job already being tracked, or one seeded with the persisted count.
+     */
+    public void increment(Long jobId, int persistedProcessed, String currentStep) {
+        PendingProgress progress = pending.computeIfAbsent(jobId, id -> new PendingProgress(persistedProcessed));
+        progress.processed.incrementAndGet();
+        progress.currentStep = currentStep;
+        progress.dirty.set(true);
+    }
+
+    /**
+     * Returns a snapshot of every job updated since the last drain and clears their dirty flags.
+     */
+    public List<ProgressSnapshot> drainDirty() {
+        List<ProgressSnapshot> snapshots = new ArrayList<>();
+        pending.forEach((jobId, progress) -> {
+            if (progress.dirty.compareAndSet(true, false)) {
+                snapshots.add(progress.snapshot(jobId));
+            }
+        });
+        return snapshots;
+    }
+
+    /**
+     * Stops tracking a job, returning its last state so it can be written with the final status.
+     */
+    public Optional<ProgressSnapshot> remove(Long jobId) {
+        return Optional.ofNullable(pending.remove(jobId)).map(progress -> progress.snapshot(jobId));
+    }
+
+    public record ProgressSnapshot(
+            Long jobId,
+            int processed,
+            Integer total,
+            String currentStep,
+            LocalDateTime estimatedCompletionAt
+    ) {}
+
+    private static final class PendingProgress {
+        private final AtomicInteger processed;
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private volatile Integer total;
+        private volatile String currentStep;
+        private volatile LocalDateTime estimatedCompletionAt;
+
+        private PendingProgress(int processed) {
+            this.processed = new AtomicInteger(processed);
+        }
+
+        private ProgressSnapshot snapshot(Long jobId) {
+            return new ProgressSnapshot(jobId, processed.get(), total, currentStep, estimatedCompletionAt);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.mlbstats.ingestion.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers sync job progress to SSE subscribers off the caller's thread.
+ * <p>
+ * Each subscriber has a small bounded queue drained on a virtual thread of its own, so a
+ * stalled browser only blocks its own sends and never holds up another subscriber's frames. Progress frames are conflated: a new frame
+ * replaces one still waiting in the queue, since only the latest progress matters.
+ * Completing a job queues a terminal frame that closes the stream after pending
+ * frames are sent.
+ * <p>
+ * Metrics: {@code sync.sse.emitters} (open subscribers) and {@code sync.sse.frames}
+ * tagged by outcome (sent, conflated, dropped).
+ */
+@Slf4j
+@Component
+public class SyncProgressBroadcaster {
+
+    static final long SSE_TIMEOUT = 30 * 60 * 1000L; // 30 minutes
+    static final int QUEUE_CAPACITY = 16;
+    private static final String PROGRESS_EVENT = "progress";
+
+    private final Map<Long, CopyOnWriteArrayList<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // emitter.send blocks until the client reads, so a bounded pool could be held by a few stalled connections
+    private final ExecutorService dispatcher = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sse-dispatcher-", 0).factory());
+
+    private final Counter sentFrames;
+    private final Counter conflatedFrames;
+    private final Counter droppedFrames;
+
+    public SyncProgressBroadcaster(MeterRegistry meterRegistry) {
+        Gauge.builder("sync.sse.emitters", subscribers, SyncProgressBroadcaster::countSubscribers)
+                .description("Open SSE subscriptions to sync job progress")
+                .register(meterRegistry);
+        this.sentFrames = frameCounter(meterRegistry, "sent");
+        this.conflatedFrames = frameCounter(meterRegistry, "conflated");
+        this.droppedFrames = frameCounter(meterRegistry, "dropped");
+    }
+
+    public SseEmitter subscribe(Long jobId, Map<String, Object> initialProgress) {
+        return subscribe(jobId, initialProgress, new SseEmitter(SSE_TIMEOUT));
+    }
+
+    SseEmitter subscribe(Long jobId, Map<String, Object> initialProgress, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(jobId, emitter);
+        subscribers.computeIfAbsent(jobId, k -> new CopyOnWriteArrayList<>()).add(subscriber);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscriber.offer(new Frame(PROGRESS_EVENT, initialProgress, false));
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long jobId) {
+        List<Subscriber> jobSubscribers = subscribers.get(jobId);
+        return jobSubscribers != null && !jobSubscribers.isEmpty();
+    }
+
+    /**
+     * Queues a progress frame for every subscriber of the job; never blocks on the network.
+     */
+    public void publish(Long jobId, Map<String, Object> progress) {
+        List<Subscriber> jobSubscribers = subscribers.get(jobId);
+        if (jobSubscribers == null) {
+            return;
+        }
+        Frame frame = new Frame(PROGRESS_EVENT, progress, false);
+        for (Subscriber subscriber : jobSubscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    /**
+     * Closes every stream for the job once its queued frames have been sent.
+     */
+    public void complete(Long jobId) {
+        List<Subscriber> jobSubscribers = subscribers.remove(jobId);
+        if (jobSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : jobSubscribers) {
+            subscriber.offer(new Frame(null, null, true));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.jobId, (jobId, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private static double countSubscribers(Map<Long, CopyOnWriteArrayList<Subscriber>> subscribers) {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static Counter frameCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("sync.sse.frames")
+                .description("SSE progress frames by delivery outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Frame(String name, Object data, boolean terminal) {
+        boolean conflatable() {
+            return !terminal && PROGRESS_EVENT.equals(name);
+        }
+    }
+
+    private final class Subscriber {
+        private final Long jobId;
+        private final SseEmitter emitter;
+        private final Deque<Frame> queue = new ArrayDeque<>(QUEUE_CAPACITY);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Long jobId, SseEmitter emitter) {
+            this.jobId = jobId;
+            this.emitter = emitter;
+        }
+
+        void offer(Frame frame) {
+            if (closed) {
+                return;
+            }
+            synchronized (queue) {
+                Frame last = queue.peekLast();
+                if (frame.conflatable() && last != null && last.conflatable()) {
+                    queue.pollLast();
+                    conflatedFrames.increment();
+                } else if (queue.size() >= QUEUE_CAPACITY) {
+                    queue.pollFirst();
+                    droppedFrames.increment();
+                }
+                queue.addLast(frame);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed && (frame = poll()) != null) {
+                    if (frame.terminal()) {
+                        closed = true;
+                        emitter.complete();
+                        return;
+                    }
+                    emitter.send(SseEmitter.event().name(frame.name()).data(frame.data()));
+                    sentFrames.increment();
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Failed to send SSE event, removing subscriber for job {}", jobId);
+                closed = true;
+                remove(this);
+            } finally {
+                scheduled.set(false);
+                // A frame offered after the last poll but before the flag reset would otherwise wait
+                if (!closed && hasQueued()) {
+                    schedule();
+                }
+            }
+        }
+
+        private Frame poll() {
+            synchronized (queue) {
+                return queue.pollFirst();
+            }
+        }
+
+        private boolean hasQueued() {
+            synchronized (queue) {
+                return !queue.isEmpty();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mlbstats.ingestion.service;
 
+import com.mlbstats.common.event.DataChangeEvent.TeamsChanged;
 import com.mlbstats.domain.team.Team;
 import com.mlbstats.domain.team.TeamRepository;
 import com.mlbstats.ingestion.client.MlbApiClient;
@@ -7,6 +8,7 @@ import com.mlbstats.ingestion.client.dto.TeamResponse;
 import com.mlbstats.ingestion.mapper.TeamMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class TeamIngestionService {
     private final MlbApiClient mlbApiClient;
     private final TeamRepository teamRepository;
     private final TeamMapper teamMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public int syncAllTeams() {
@@ -43,6 +46,7 @@ public class TeamIngestionService {
 
     @Transactional
     public Team syncTeam(TeamResponse.TeamData teamData) {
+        eventPublisher.publishEvent(new TeamsChanged());
         return teamRepository.findByMlbId(teamData.getId())
                 .map(existing -> {
                     teamMapper.updateEntity(existing, teamData);
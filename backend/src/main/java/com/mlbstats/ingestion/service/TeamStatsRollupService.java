@@ -0,0 +1,132 @@
+package com.mlbstats.ingestion.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maintains team_season_stats, the team batting and pitching totals behind
+ * {@code /api/teams/{id}/aggregate-stats}, so serving them is a single-row read.
+ * <p>
+ * Each refresh is a delete plus one INSERT ... SELECT: batting and pitching season rows
+ * are stacked with UNION ALL and grouped by team, so both sides of a team's row come from
+ * one pass. Innings are summed as outs. After a stats sync the whole season is recomputed;
+ * after a single box score only the two teams in that game are.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamStatsRollupService {
+
+    private static final String BATTING_ROWS = """
+            SELECT x.team_id, x.season, 1 AS batters, COALESCE(x.games_played, 0) AS batting_games,
+                   COALESCE(x.at_bats, 0) AS at_bats, COALESCE(x.runs, 0) AS runs, COALESCE(x.hits, 0) AS hits,
+                   COALESCE(x.doubles, 0) AS doubles, COALESCE(x.triples, 0) AS triples,
+                   COALESCE(x.home_runs, 0) AS home_runs, COALESCE(x.rbi, 0) AS rbi,
+                   COALESCE(x.stolen_bases, 0) AS stolen_bases, COALESCE(x.walks, 0) AS walks,
+                   COALESCE(x.strikeouts, 0) AS strikeouts, COALESCE(x.plate_appearances, 0) AS plate_appearances,
+                   COALESCE(x.hit_by_pitch, 0) AS hit_by_pitch, COALESCE(x.sac_flies, 0) AS sac_flies,
+                   COALESCE(x.total_bases, 0) AS total_bases,
+                   0 AS pitchers, 0 AS pitching_games, 0 AS wins, 0 AS losses, 0 AS saves, 0 AS outs,
+                   0 AS hits_allowed, 0 AS earned_runs, 0 AS walks_allowed, 0 AS strikeouts_pitched,
+                   0 AS home_runs_allowed, 0 AS quality_starts
+            FROM player_batting_stats x
+            WHERE x.season = :season AND x.team_id IS NOT NULL%s
+            """;
+
+    private static final String PITCHING_ROWS = """
+            SELECT x.team_id, x.season, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                   1, COALESCE(x.games_played, 0), COALESCE(x.wins, 0), COALESCE(x.losses, 0),
+                   COALESCE(x.saves, 0),
+                   CAST(FLOOR(COALESCE(x.innings_pitched, 0)) AS INTEGER) * 3
+                       + CAST(ROUND((COALESCE(x.innings_pitched, 0) - FLOOR(COALESCE(x.innings_pitched, 0))) * 10, 0) AS INTEGER),
+                   COALESCE(x.hits_allowed, 0), COALESCE(x.earned_runs, 0), COALESCE(x.walks, 0),
+                   COALESCE(x.strikeouts, 0), COALESCE(x.home_runs_allowed, 0), COALESCE(x.quality_starts, 0)
+            FROM player_pitching_stats x
+            WHERE x.season = :season AND x.team_id IS NOT NULL%s
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO team_season_stats (team_id, season,
+                                           batting_players, batting_games_played, at_bats, runs, hits, doubles,
+                                           triples, home_runs, rbi, stolen_bases, walks, strikeouts,
+                                           plate_appearances, batting_avg, obp, slg, ops,
+                                           pitching_players, pitching_games_played, wins, losses, saves,
+                                           innings_pitched, hits_allowed, earned_runs, walks_allowed,
+                                           strikeouts_pitched, home_runs_allowed, quality_starts,
+                                           era, whip, k_per_9, updated_at)
+            SELECT s.team_id, s.season,
+                   SUM(s.batters), MAX(s.batting_games), SUM(s.at_bats), SUM(s.runs), SUM(s.hits), SUM(s.doubles),
+                   SUM(s.triples), SUM(s.home_runs), SUM(s.rbi), SUM(s.stolen_bases), SUM(s.walks),
+                   SUM(s.strikeouts), SUM(s.plate_appearances),
+                   ROUND(CAST(SUM(s.hits) AS DECIMAL(12, 6)) / NULLIF(SUM(s.at_bats), 0), 3),
+                   ROUND(CAST(SUM(s.hits + s.walks + s.hit_by_pitch) AS DECIMAL(12, 6))
+                         / NULLIF(SUM(s.at_bats + s.walks + s.hit_by_pitch + s.sac_flies), 0), 3),
+                   ROUND(CAST(SUM(s.total_bases) AS DECIMAL(12, 6)) / NULLIF(SUM(s.at_bats), 0), 3),
+                   ROUND(CAST(SUM(s.hits + s.walks + s.hit_by_pitch) AS DECIMAL(12, 6))
+                         / NULLIF(SUM(s.at_bats + s.walks + s.hit_by_pitch + s.sac_flies), 0), 3)
+                       + ROUND(CAST(SUM(s.total_bases) AS DECIMAL(12, 6)) / NULLIF(SUM(s.at_bats), 0), 3),
+                   SUM(s.pitchers), MAX(s.pitching_games), SUM(s.wins), SUM(s.losses), SUM(s.saves),
+                   SUM(s.outs) / 3 + MOD(SUM(s.outs), 3) * 0.1,
+                   SUM(s.hits_allowed), SUM(s.earned_runs), SUM(s.walks_allowed), SUM(s.strikeouts_pitched),
+                   SUM(s.home_runs_allowed), SUM(s.quality_starts),
+                   CASE WHEN SUM(s.outs) > 0 THEN ROUND(
+                       CAST(SUM(s.earned_runs) * 27 AS DECIMAL(12, 6)) / SUM(s.outs), 2) END,
+                   CASE WHEN SUM(s.outs) > 0 THEN ROUND(
+                       CAST(SUM(s.hits_allowed + s.walks_allowed) * 3 AS DECIMAL(12, 6)) / SUM(s.outs), 2) END,
+                   CASE WHEN SUM(s.outs) > 0 THEN ROUND(
+                       CAST(SUM(s.strikeouts_pitched) * 27 AS DECIMAL(12, 6)) / SUM(s.outs), 2) END,
+                   CURRENT_TIMESTAMP
+            FROM (%s UNION ALL %s) s
+            GROUP BY s.team_id, s.season
+            """;
+
+    // Scope filters, formatted with the team id column of the table being filtered
+    private static final String SEASON_SCOPE = "";
+    private static final String TEAMS_SCOPE = " AND %s IN (:teamIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Recomputes every team's totals for the season, after a stats or box score sync.
+     *
+     * @return number of team rows written
+     */
+    @Transactional
+    public int refreshSeason(int season) {
+        int rows = refresh(season, SEASON_SCOPE, new MapSqlParameterSource());
+        log.info("Refreshed {} team stat rollups for season {}", rows, season);
+        return rows;
+    }
+
+    /**
+     * Recomputes the totals of the given teams only, e.g. the two teams in a game whose box
+     * score just landed.
+     *
+     * @return number of team rows written
+     */
+    @Transactional
+    public int refreshTeams(int season, Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return 0;
+        }
+        int rows = refresh(season, TEAMS_SCOPE, new MapSqlParameterSource("teamIds", List.copyOf(teamIds)));
+        log.debug("Refreshed {} team stat rollups for teams {} in season {}", rows, teamIds, season);
+        return rows;
+    }
+
+    private int refresh(int season, String scope, MapSqlParameterSource params) {
+        params.addValue("season", season);
+        jdbcTemplate.update("DELETE FROM team_season_stats WHERE season = :season" + scope.formatted("team_id"),
+                params);
+        String rows = scope.formatted("x.team_id");
+        return jdbcTemplate.update(INSERT.formatted(BATTING_ROWS.formatted(rows), PITCHING_ROWS.formatted(rows)),
+                params);
+    }
+}
@@ -0,0 +1,240 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.common.event.DataChangeEvent.RosterChanged;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.player.PlayerRepository;
+import com.mlbstats.domain.player.TeamRoster;
+import com.mlbstats.domain.player.TeamRosterRepository;
+import com.mlbstats.domain.team.Team;
+import com.mlbstats.ingestion.client.dto.TransactionsResponse;
+import com.mlbstats.ingestion.client.dto.TransactionsResponse.TransactionData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Applies a single MLB transaction to team_rosters. Kept apart from
+ * {@link TransactionIngestionService} so each call goes through the transactional
+ * proxy and runs in a transaction of its own.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionApplier {
+
+    static final String STATUS_ACTIVE = "Active";
+    static final String STATUS_OPTIONED = "Optioned";
+
+    // Transaction type codes from the MLB Stats API
+    private static final String TRADE = "TR";
+    private static final String STATUS_CHANGE = "SC";
+    private static final String OPTIONED = "OPT";
+    private static final Set<String> ROSTER_ADD_CODES = Set.of("CU", "SE", "CLW");
+    private static final Set<String> SIGNING_CODES = Set.of("SFA", "SGN");
+    private static final Set<String> ROSTER_REMOVAL_CODES = Set.of("DES", "OUT", "REL", "RET");
+
+    private static final Pattern INJURED_LIST_PATTERN = Pattern.compile("(\\d+)-day injured list");
+
+    private final TeamRosterRepository teamRosterRepository;
+    private final PlayerRepository playerRepository;
+    private final PlayerIngestionService playerIngestionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Applies one transaction in its own database transaction, so a failure rolls back only
+     * that move instead of leaving the caller's session unusable.
+     *
+     * @return whether the transaction changed a roster
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean apply(TransactionData transaction, Map<Integer, Team> teamsByMlbId) {
+        if (transaction.getPerson() == null || transaction.getPerson().getId() == null
+                || transaction.getTypeCode() == null) {
+            return false;
+        }
+
+        Team fromTeam = resolveTeam(transaction.getFromTeam(), teamsByMlbId);
+        Team toTeam = resolveTeam(transaction.getToTeam(), teamsByMlbId);
+        LocalDate date = transactionDate(transaction);
+        if ((fromTeam == null && toTeam == null) || date == null) {
+            return false;
+        }
+
+        int season = date.getYear();
+        String code = transaction.getTypeCode();
+
+        if (TRADE.equals(code)) {
+            return applyTrade(transaction, fromTeam, toTeam, season, date);
+        }
+        if (ROSTER_ADD_CODES.contains(code)) {
+            return toTeam != null && addToRoster(transaction, toTeam, season, date);
+        }
+        if (SIGNING_CODES.contains(code)) {
+            // Minor league deals are reported against the parent club but don't touch the 40-man roster
+            return toTeam != null && !isMinorLeagueDeal(transaction)
+                    && addToRoster(transaction, toTeam, season, date);
+        }
+        if (OPTIONED.equals(code)) {
+            return fromTeam != null && updateStatus(transaction, fromTeam, season, STATUS_OPTIONED);
+        }
+        if (ROSTER_REMOVAL_CODES.contains(code)) {
+            return fromTeam != null && removeFromRoster(transaction, fromTeam, season, date);
+        }
+        if (STATUS_CHANGE.equals(code)) {
+            String status = statusFromDescription(transaction.getDescription());
+            Team team = toTeam != null ? toTeam : fromTeam;
+            return status != null && updateStatus(transaction, team, season, status);
+        }
+        return false;
+    }
+
+    private boolean applyTrade(TransactionData transaction, Team fromTeam, Team toTeam,
+                               int season, LocalDate date) {
+        if (toTeam == null) {
+            return fromTeam != null && removeFromRoster(transaction, fromTeam, season, date);
+        }
+        if (fromTeam != null) {
+            // Prospects traded off minor league rosters are reported between parent clubs too
+            boolean onFromRoster = findRosterEntry(transaction, fromTeam, season)
+                    .map(entry -> entry.getEndDate() == null)
+                    .orElse(false);
+            if (!onFromRoster) {
+                return false;
+            }
+        }
+        return addToRoster(transaction, toTeam, season, date);
+    }
+
+    private boolean addToRoster(TransactionData transaction, Team team, int season, LocalDate date) {
+        Player player = playerIngestionService.getOrCreatePlayer(
+                transaction.getPerson().getId(),
+                transaction.getPerson().getFullName()
+        );
+        if (player == null) {
+            return false;
+        }
+
+        // A player is on at most one 40-man roster at a time
+        for (TeamRoster open : teamRosterRepository.findByPlayerIdAndSeasonAndEndDateIsNull(player.getId(), season)) {
+            if (!open.getTeam().getId().equals(team.getId())) {
+                open.setEndDate(date);
+                saveRoster(open);
+            }
+        }
+
+        TeamRoster roster = teamRosterRepository
+                .findFirstByTeamIdAndPlayerIdAndSeasonOrderByStartDateDesc(team.getId(), player.getId(), season)
+                .orElseGet(() -> {
+                    TeamRoster created = new TeamRoster();
+                    created.setTeam(team);
+                    created.setPlayer(player);
+                    created.setSeason(season);
+                    created.setStartDate(date);
+                    created.setJerseyNumber(player.getJerseyNumber());
+                    created.setPosition(player.getPosition());
+                    return created;
+                });
+        roster.setEndDate(null);
+        roster.setStatus(STATUS_ACTIVE);
+        saveRoster(roster);
+        return true;
+    }
+
+    private boolean removeFromRoster(TransactionData transaction, Team team, int season, LocalDate date) {
+        return findRosterEntry(transaction, team, season)
+                .filter(entry -> entry.getEndDate() == null)
+                .map(entry -> {
+                    entry.setEndDate(date);
+                    saveRoster(entry);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private boolean updateStatus(TransactionData transaction, Team team, int season, String status) {
+        return findRosterEntry(transaction, team, season)
+                .map(entry -> {
+                    entry.setStatus(status);
+                    saveRoster(entry);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private void saveRoster(TeamRoster roster) {
+        teamRosterRepository.save(roster);
+        eventPublisher.publishEvent(new RosterChanged(roster.getTeam().getId(), roster.getSeason()));
+    }
+
+    private Optional<TeamRoster> findRosterEntry(TransactionData transaction, Team team, int season) {
+        Integer mlbPlayerId = transaction.getPerson().getId();
+        return playerRepository.findByMlbId(mlbPlayerId)
+                .flatMap(player -> teamRosterRepository.findFirstByTeamIdAndPlayerIdAndSeasonOrderByStartDateDesc(
+                        team.getId(), player.getId(), season));
+    }
+
+    private static Team resolveTeam(TransactionsResponse.TeamRef ref, Map<Integer, Team> teamsByMlbId) {
+        return ref != null && ref.getId() != null ? teamsByMlbId.get(ref.getId()) : null;
+    }
+
+    private static boolean isMinorLeagueDeal(TransactionData transaction) {
+        return transaction.getDescription() != null
+                && transaction.getDescription().toLowerCase(Locale.ROOT).contains("minor league");
+    }
+
+    static LocalDate transactionDate(TransactionData transaction) {
+        String value = transaction.getEffectiveDate() != null ? transaction.getEffectiveDate() : transaction.getDate();
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Derives a roster status from a status change description, e.g.
+     * "placed RHP X on the 15-day injured list" -> "Injured 15-Day".
+     * Transfers mention both lists, so the last one wins.
+     */
+    static String statusFromDescription(String description) {
+        if (description == null) {
+            return null;
+        }
+        String text = description.toLowerCase(Locale.ROOT);
+        if (text.contains("activated") || text.contains("reinstated") || text.contains("recalled")) {
+            return STATUS_ACTIVE;
+        }
+
+        Matcher matcher = INJURED_LIST_PATTERN.matcher(text);
+        String days = null;
+        while (matcher.find()) {
+            days = matcher.group(1);
+        }
+        if (days != null) {
+            return "Injured " + days + "-Day";
+        }
+        if (text.contains("paternity list")) {
+            return "Paternity List";
+        }
+        if (text.contains("bereavement list")) {
+            return "Bereavement List";
+        }
+        if (text.contains("restricted list")) {
+            return "Restricted List";
+        }
+        return null;
+    }
+}
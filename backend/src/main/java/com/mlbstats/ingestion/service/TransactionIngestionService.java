@@ -0,0 +1,72 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.domain.team.Team;
+import com.mlbstats.domain.team.TeamRepository;
+import com.mlbstats.ingestion.client.MlbApiClient;
+import com.mlbstats.ingestion.client.dto.TransactionsResponse;
+import com.mlbstats.ingestion.client.dto.TransactionsResponse.TransactionData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies roster deltas from the MLB transactions feed (call-ups, options,
+ * injured list moves, trades, releases) to team_rosters, so roster changes
+ * show up within the hour instead of waiting for the full roster sync.
+ * <p>
+ * Only transactions touching a team in the teams table (MLB clubs) are applied;
+ * moves between minor league affiliates are ignored. Replaying the same window
+ * is idempotent, which lets the scheduler use an overlapping lookback. Each
+ * transaction is applied in its own database transaction by {@link TransactionApplier}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionIngestionService {
+
+    private final MlbApiClient mlbApiClient;
+    private final TeamRepository teamRepository;
+    private final TransactionApplier transactionApplier;
+
+    public int syncTransactions(LocalDate startDate, LocalDate endDate) {
+        log.info("Starting transactions sync from {} to {}", startDate, endDate);
+        TransactionsResponse response = mlbApiClient.getTransactions(startDate, endDate);
+
+        if (response == null || response.getTransactions() == null) {
+            log.warn("No transactions returned for {} to {}", startDate, endDate);
+            return 0;
+        }
+
+        Map<Integer, Team> teamsByMlbId = teamRepository.findAll().stream()
+                .collect(Collectors.toMap(Team::getMlbId, Function.identity()));
+
+        // Apply in the order the moves happened so a same-day option + recall ends in the right state
+        List<TransactionData> ordered = response.getTransactions().stream()
+                .sorted(Comparator.comparing(TransactionApplier::transactionDate,
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(TransactionData::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        int applied = 0;
+        for (TransactionData transaction : ordered) {
+            try {
+                // Each transaction commits on its own so one bad move doesn't roll back the rest
+                if (transactionApplier.apply(transaction, teamsByMlbId)) {
+                    applied++;
+                }
+            } catch (Exception e) {
+                log.warn("Failed to apply transaction {}: {}", transaction.getId(), e.getMessage());
+            }
+        }
+
+        log.info("Completed transactions sync. Applied {} of {} transactions", applied, ordered.size());
+        return applied;
+    }
+}
@@ -0,0 +1,10 @@
+-- Add TRANSACTIONS to the valid_job_type check constraint
+-- and index open roster entries, which the transactions sync looks up per player
+
+ALTER TABLE sync_jobs DROP CONSTRAINT valid_job_type;
+
+ALTER TABLE sync_jobs ADD CONSTRAINT valid_job_type
+    CHECK (job_type IN ('FULL_SYNC', 'TEAMS', 'ROSTERS', 'GAMES', 'STATS', 'STANDINGS', 'BOX_SCORES', 'LINESCORES', 'TRANSACTIONS'));
+
+CREATE INDEX IF NOT EXISTS idx_team_rosters_player_season_open
+    ON team_rosters(player_id, season) WHERE end_date IS NULL;
@@ -0,0 +1,72 @@
+-- Historical backfill: BACKFILL job type, ETA on sync jobs, and staging tables
+-- that bulk-loaded rows are COPY'd into before being merged into the real tables.
+-- Staging rows carry MLB ids so foreign keys are resolved set-based during the merge.
+
+ALTER TABLE sync_jobs DROP CONSTRAINT valid_job_type;
+
+ALTER TABLE sync_jobs ADD CONSTRAINT valid_job_type
+    CHECK (job_type IN ('FULL_SYNC', 'TEAMS', 'ROSTERS', 'GAMES', 'STATS', 'STANDINGS', 'BOX_SCORES', 'LINESCORES', 'TRANSACTIONS', 'BACKFILL'));
+
+ALTER TABLE sync_jobs ADD COLUMN estimated_completion_at TIMESTAMP;
+
+-- ============================================================================
+-- STAGING TABLES (unlogged: contents are transient and truncated per load)
+-- ============================================================================
+
+CREATE UNLOGGED TABLE IF NOT EXISTS staging_games (
+    mlb_id INTEGER NOT NULL,
+    season INTEGER NOT NULL,
+    game_date DATE NOT NULL,
+    scheduled_time TIME,
+    game_type VARCHAR(10),
+    status VARCHAR(20),
+    home_team_mlb_id INTEGER NOT NULL,
+    away_team_mlb_id INTEGER NOT NULL,
+    home_score INTEGER,
+    away_score INTEGER,
+    venue_name VARCHAR(100),
+    day_night VARCHAR(10),
+    scheduled_innings INTEGER
+);
+
+CREATE UNLOGGED TABLE IF NOT EXISTS staging_players (
+    mlb_id INTEGER NOT NULL,
+    full_name VARCHAR(100) NOT NULL
+);
+
+CREATE UNLOGGED TABLE IF NOT EXISTS staging_player_game_batting (
+    player_mlb_id INTEGER NOT NULL,
+    game_mlb_id INTEGER NOT NULL,
+    team_mlb_id INTEGER NOT NULL,
+    at_bats INTEGER,
+    runs INTEGER,
+    hits INTEGER,
+    doubles INTEGER,
+    triples INTEGER,
+    home_runs INTEGER,
+    rbi INTEGER,
+    walks INTEGER,
+    strikeouts INTEGER,
+    stolen_bases INTEGER,
+    batting_order INTEGER,
+    position_played VARCHAR(20)
+);
+
+CREATE UNLOGGED TABLE IF NOT EXISTS staging_player_game_pitching (
+    player_mlb_id INTEGER NOT NULL,
+    game_mlb_id INTEGER NOT NULL,
+    team_mlb_id INTEGER NOT NULL,
+    innings_pitched DECIMAL(4,1),
+    hits_allowed INTEGER,
+    runs_allowed INTEGER,
+    earned_runs INTEGER,
+    walks INTEGER,
+    strikeouts INTEGER,
+    home_runs_allowed INTEGER,
+    pitches_thrown INTEGER,
+    strikes INTEGER,
+    is_starter BOOLEAN,
+    is_winner BOOLEAN,
+    is_loser BOOLEAN,
+    is_save BOOLEAN
+);
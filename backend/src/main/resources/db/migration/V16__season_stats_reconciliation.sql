@@ -0,0 +1,10 @@
+-- Season stats rows are kept current from box scores between API syncs.
+-- reconciled_through is the last game date already covered by the API totals;
+-- box score deltas are only applied for games after it.
+
+ALTER TABLE player_batting_stats ADD COLUMN reconciled_through DATE;
+ALTER TABLE player_pitching_stats ADD COLUMN reconciled_through DATE;
+
+-- Existing rows came from the API sync, which covers every game before the day it ran
+UPDATE player_batting_stats SET reconciled_through = CAST(updated_at AS DATE) - 1 WHERE updated_at IS NOT NULL;
+UPDATE player_pitching_stats SET reconciled_through = CAST(updated_at AS DATE) - 1 WHERE updated_at IS NOT NULL;
@@ -0,0 +1,11 @@
+-- Shared L2 cache behind the per-node Caffeine caches (enabled with cache.l2.enabled).
+-- UNLOGGED skips the WAL; the table is emptied after a crash, which is fine for a cache.
+CREATE UNLOGGED TABLE cache_entries (
+    cache_name VARCHAR(64) NOT NULL,
+    cache_key VARCHAR(512) NOT NULL,
+    value BYTEA NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (cache_name, cache_key)
+);
+
+CREATE INDEX idx_cache_entries_expires_at ON cache_entries(expires_at);
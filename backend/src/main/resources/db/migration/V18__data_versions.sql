@@ -0,0 +1,10 @@
+-- Per-domain data versions behind response caching and ETags, raised after each sync
+-- flush so every node (and a restarted one) derives the same ETags.
+CREATE TABLE data_versions (
+    domain VARCHAR(32) PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO data_versions (domain, version)
+SELECT domain, (EXTRACT(EPOCH FROM NOW()) * 1000)::BIGINT
+FROM (VALUES ('GAMES'), ('STATS'), ('STANDINGS'), ('ROSTERS'), ('PLAYERS'), ('TEAMS')) AS domains(domain);
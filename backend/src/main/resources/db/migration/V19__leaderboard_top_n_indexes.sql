@@ -0,0 +1,64 @@
+-- Leaderboard queries now fetch only the top N rows (LIMIT in SQL), so each one can be
+-- answered by walking an index in sort order and stopping after N matches.
+-- V6 and V12 cover most sort orders; this fills the gaps and narrows V12's advanced stat
+-- indexes to the rows the queries can return.
+
+-- =============================================================================
+-- BATTING
+-- =============================================================================
+
+-- Runs leaders (the only counting stat V6 missed)
+CREATE INDEX idx_batting_stats_season_runs ON player_batting_stats(season, runs DESC);
+
+-- Qualified rate stats at the default minimum (100 AB); other minimums use the V6 indexes
+CREATE INDEX idx_batting_stats_season_avg_qualified ON player_batting_stats(season, batting_avg DESC)
+    WHERE at_bats >= 100;
+CREATE INDEX idx_batting_stats_season_ops_qualified ON player_batting_stats(season, ops DESC)
+    WHERE at_bats >= 100;
+
+-- Advanced stats are null until computed and the queries filter nulls out, so the indexes skip
+-- them. Plate appearances are carried in the index so any minimum is checked without a heap fetch.
+DROP INDEX IF EXISTS idx_batting_stats_season_war;
+DROP INDEX IF EXISTS idx_batting_stats_season_woba;
+DROP INDEX IF EXISTS idx_batting_stats_season_wrc_plus;
+DROP INDEX IF EXISTS idx_batting_stats_season_exit_velo;
+DROP INDEX IF EXISTS idx_batting_stats_season_barrel;
+
+CREATE INDEX idx_batting_stats_season_war ON player_batting_stats(season, war DESC)
+    WHERE war IS NOT NULL;
+CREATE INDEX idx_batting_stats_season_woba ON player_batting_stats(season, woba DESC)
+    INCLUDE (plate_appearances) WHERE woba IS NOT NULL;
+CREATE INDEX idx_batting_stats_season_wrc_plus ON player_batting_stats(season, wrc_plus DESC)
+    INCLUDE (plate_appearances) WHERE wrc_plus IS NOT NULL;
+CREATE INDEX idx_batting_stats_season_exit_velo ON player_batting_stats(season, avg_exit_velocity DESC)
+    INCLUDE (plate_appearances) WHERE avg_exit_velocity IS NOT NULL;
+CREATE INDEX idx_batting_stats_season_barrel ON player_batting_stats(season, barrel_pct DESC)
+    INCLUDE (plate_appearances) WHERE barrel_pct IS NOT NULL;
+
+-- =============================================================================
+-- PITCHING
+-- =============================================================================
+
+-- Qualified rate stats at the default minimum (50 IP); other minimums use the V6 indexes
+CREATE INDEX idx_pitching_stats_season_era_qualified ON player_pitching_stats(season, era ASC)
+    WHERE innings_pitched >= 50;
+CREATE INDEX idx_pitching_stats_season_whip_qualified ON player_pitching_stats(season, whip ASC)
+    WHERE innings_pitched >= 50;
+
+-- Same treatment as the batting advanced stats, carrying innings pitched
+DROP INDEX IF EXISTS idx_pitching_stats_season_war;
+DROP INDEX IF EXISTS idx_pitching_stats_season_fip;
+DROP INDEX IF EXISTS idx_pitching_stats_season_xfip;
+DROP INDEX IF EXISTS idx_pitching_stats_season_xera;
+DROP INDEX IF EXISTS idx_pitching_stats_season_whiff;
+
+CREATE INDEX idx_pitching_stats_season_war ON player_pitching_stats(season, war DESC)
+    WHERE war IS NOT NULL;
+CREATE INDEX idx_pitching_stats_season_fip ON player_pitching_stats(season, fip ASC)
+    INCLUDE (innings_pitched) WHERE fip IS NOT NULL;
+CREATE INDEX idx_pitching_stats_season_xfip ON player_pitching_stats(season, xfip ASC)
+    INCLUDE (innings_pitched) WHERE xfip IS NOT NULL;
+CREATE INDEX idx_pitching_stats_season_xera ON player_pitching_stats(season, xera ASC)
+    INCLUDE (innings_pitched) WHERE xera IS NOT NULL;
+CREATE INDEX idx_pitching_stats_season_whiff ON player_pitching_stats(season, whiff_pct DESC)
+    INCLUDE (innings_pitched) WHERE whiff_pct IS NOT NULL;
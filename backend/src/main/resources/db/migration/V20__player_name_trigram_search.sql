@@ -0,0 +1,18 @@
+-- Ranked player name search (/api/players?search=). LIKE '%x%' on lower(full_name) can't use
+-- the b-tree on full_name, so every search was a sequential scan. A trigram GIN index serves
+-- both the substring match and the word-similarity match (<%), over accent-folded names.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is only STABLE (its dictionary could change), so it can't appear in an index
+-- expression. Pinning the dictionary makes the result depend on the input alone. Both are
+-- schema-qualified so the result doesn't depend on the caller's search_path either, which
+-- SET search_path would also do at the cost of keeping the function from being inlined.
+CREATE OR REPLACE FUNCTION public.immutable_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+-- Must match the expression in PlayerRepository.RANKED_SEARCH_WHERE
+CREATE INDEX idx_players_full_name_trgm ON players
+    USING gin (lower(immutable_unaccent(full_name)) gin_trgm_ops);
@@ -0,0 +1,9 @@
+-- Cursor paging walks these in sort order from the last row of the previous page, so a deep
+-- page costs the same as the first and needs no OFFSET scan or COUNT(*).
+
+-- /api/players: active players by name
+CREATE INDEX idx_players_active_name_id ON players(full_name, id) WHERE active;
+
+-- /api/games: a season's games, latest first. Also serves everything idx_games_season_date did.
+CREATE INDEX idx_games_season_date_id ON games(season, game_date DESC, id DESC);
+DROP INDEX IF EXISTS idx_games_season_date;
@@ -0,0 +1,104 @@
+-- Team batting and pitching totals per season, summed from the player season rows so
+-- /api/teams/{id}/aggregate-stats reads one row instead of aggregating the team's players.
+-- Kept current by TeamStatsRollupService after stats and box score syncs.
+
+CREATE TABLE team_season_stats (
+    id BIGSERIAL PRIMARY KEY,
+    team_id BIGINT NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    season INTEGER NOT NULL,
+
+    -- Batting
+    batting_players INTEGER NOT NULL,
+    batting_games_played INTEGER,
+    at_bats INTEGER,
+    runs INTEGER,
+    hits INTEGER,
+    doubles INTEGER,
+    triples INTEGER,
+    home_runs INTEGER,
+    rbi INTEGER,
+    stolen_bases INTEGER,
+    walks INTEGER,
+    strikeouts INTEGER,
+    plate_appearances INTEGER,
+    batting_avg DECIMAL(4,3),
+    obp DECIMAL(4,3),
+    slg DECIMAL(4,3),
+    ops DECIMAL(5,3),
+
+    -- Pitching
+    pitching_players INTEGER NOT NULL,
+    pitching_games_played INTEGER,
+    wins INTEGER,
+    losses INTEGER,
+    saves INTEGER,
+    innings_pitched DECIMAL(6,1),
+    hits_allowed INTEGER,
+    earned_runs INTEGER,
+    walks_allowed INTEGER,
+    strikeouts_pitched INTEGER,
+    home_runs_allowed INTEGER,
+    quality_starts INTEGER,
+    era DECIMAL(6,2),
+    whip DECIMAL(5,2),
+    k_per_9 DECIMAL(5,2),
+
+    updated_at TIMESTAMP DEFAULT NOW(),
+
+    CONSTRAINT uk_team_season_stats_team_season UNIQUE(team_id, season)
+);
+
+-- Seed every season that already has stats; later refreshes are per season or per team
+INSERT INTO team_season_stats (team_id, season,
+                               batting_players, batting_games_played, at_bats, runs, hits, doubles,
+                               triples, home_runs, rbi, stolen_bases, walks, strikeouts,
+                               plate_appearances, batting_avg, obp, slg, ops,
+                               pitching_players, pitching_games_played, wins, losses, saves,
+                               innings_pitched, hits_allowed, earned_runs, walks_allowed,
+                               strikeouts_pitched, home_runs_allowed, quality_starts,
+                               era, whip, k_per_9, updated_at)
+SELECT s.team_id, s.season,
+       SUM(s.batters), MAX(s.batting_games), SUM(s.at_bats), SUM(s.runs), SUM(s.hits), SUM(s.doubles),
+       SUM(s.triples), SUM(s.home_runs), SUM(s.rbi), SUM(s.stolen_bases), SUM(s.walks),
+       SUM(s.strikeouts), SUM(s.plate_appearances),
+       ROUND(CAST(SUM(s.hits) AS DECIMAL(12, 6)) / NULLIF(SUM(s.at_bats), 0), 3),
+       ROUND(CAST(SUM(s.hits + s.walks + s.hit_by_pitch) AS DECIMAL(12, 6))
+             / NULLIF(SUM(s.at_bats + s.walks + s.hit_by_pitch + s.sac_flies), 0), 3),
+       ROUND(CAST(SUM(s.total_bases) AS DECIMAL(12, 6)) / NULLIF(SUM(s.at_bats), 0), 3),
+       ROUND(CAST(SUM(s.hits + s.walks + s.hit_by_pitch) AS DECIMAL(12, 6))
+             / NULLIF(SUM(s.at_bats + s.walks + s.hit_by_pitch + s.sac_flies), 0), 3)
+           + ROUND(CAST(SUM(s.total_bases) AS DECIMAL(12, 6)) / NULLIF(SUM(s.at_bats), 0), 3),
+       SUM(s.pitchers), MAX(s.pitching_games), SUM(s.wins), SUM(s.losses), SUM(s.saves),
+       SUM(s.outs) / 3 + MOD(SUM(s.outs), 3) * 0.1,
+       SUM(s.hits_allowed), SUM(s.earned_runs), SUM(s.walks_allowed), SUM(s.strikeouts_pitched),
+       SUM(s.home_runs_allowed), SUM(s.quality_starts),
+       CASE WHEN SUM(s.outs) > 0 THEN ROUND(CAST(SUM(s.earned_runs) * 27 AS DECIMAL(12, 6)) / SUM(s.outs), 2) END,
+       CASE WHEN SUM(s.outs) > 0 THEN ROUND(
+           CAST(SUM(s.hits_allowed + s.walks_allowed) * 3 AS DECIMAL(12, 6)) / SUM(s.outs), 2) END,
+       CASE WHEN SUM(s.outs) > 0 THEN ROUND(CAST(SUM(s.strikeouts_pitched) * 27 AS DECIMAL(12, 6)) / SUM(s.outs), 2) END,
+       NOW()
+FROM (
+    SELECT x.team_id, x.season, 1 AS batters, COALESCE(x.games_played, 0) AS batting_games,
+           COALESCE(x.at_bats, 0) AS at_bats, COALESCE(x.runs, 0) AS runs, COALESCE(x.hits, 0) AS hits,
+           COALESCE(x.doubles, 0) AS doubles, COALESCE(x.triples, 0) AS triples,
+           COALESCE(x.home_runs, 0) AS home_runs, COALESCE(x.rbi, 0) AS rbi,
+           COALESCE(x.stolen_bases, 0) AS stolen_bases, COALESCE(x.walks, 0) AS walks,
+           COALESCE(x.strikeouts, 0) AS strikeouts, COALESCE(x.plate_appearances, 0) AS plate_appearances,
+           COALESCE(x.hit_by_pitch, 0) AS hit_by_pitch, COALESCE(x.sac_flies, 0) AS sac_flies,
+           COALESCE(x.total_bases, 0) AS total_bases,
+           0 AS pitchers, 0 AS pitching_games, 0 AS wins, 0 AS losses, 0 AS saves, 0 AS outs,
+           0 AS hits_allowed, 0 AS earned_runs, 0 AS walks_allowed, 0 AS strikeouts_pitched,
+           0 AS home_runs_allowed, 0 AS quality_starts
+    FROM player_batting_stats x
+    WHERE x.team_id IS NOT NULL
+    UNION ALL
+    SELECT x.team_id, x.season, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+           1, COALESCE(x.games_played, 0), COALESCE(x.wins, 0), COALESCE(x.losses, 0), COALESCE(x.saves, 0),
+           CAST(FLOOR(COALESCE(x.innings_pitched, 0)) AS INTEGER) * 3
+               + CAST(ROUND((COALESCE(x.innings_pitched, 0) - FLOOR(COALESCE(x.innings_pitched, 0))) * 10, 0) AS INTEGER),
+           COALESCE(x.hits_allowed, 0), COALESCE(x.earned_runs, 0), COALESCE(x.walks, 0),
+           COALESCE(x.strikeouts, 0), COALESCE(x.home_runs_allowed, 0), COALESCE(x.quality_starts, 0)
+    FROM player_pitching_stats x
+    WHERE x.team_id IS NOT NULL
+) s
+GROUP BY s.team_id, s.season;
@@ -0,0 +1,18 @@
+-- V16 backfilled reconciled_through as the day before each row's last update, assuming the
+-- API totals then covered every earlier game. Totals only include Final games, so cap the
+-- date at the season's latest Final regular-season game on or before it; a row with no
+-- Final game by then is not reconciled at all.
+
+UPDATE player_batting_stats s
+SET reconciled_through = (
+    SELECT MAX(g.game_date) FROM games g
+    WHERE g.season = s.season AND g.game_type = 'R' AND g.status = 'Final'
+      AND g.game_date <= s.reconciled_through)
+WHERE s.reconciled_through IS NOT NULL;
+
+UPDATE player_pitching_stats s
+SET reconciled_through = (
+    SELECT MAX(g.game_date) FROM games g
+    WHERE g.season = s.season AND g.game_type = 'R' AND g.status = 'Final'
+      AND g.game_date <= s.reconciled_through)
+WHERE s.reconciled_through IS NOT NULL;
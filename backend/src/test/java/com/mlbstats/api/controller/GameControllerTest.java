@@ -61,6 +61,19 @@ class GameControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(2)));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void getGamesByDateRange_shouldRejectUnboundedRanges() throws Exception {
+        mockMvc.perform(get("/api/games")
+                        .param("startDate", "2024-03-01")
+                        .param("endDate", "2024-10-31"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/games/calendar")
+                        .param("startDate", "2024-04-05")
+                        .param("endDate", "2024-04-01"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void getGamesByTeam_shouldReturnTeamGames() throws Exception {
@@ -95,6 +108,49 @@ class GameControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.totalElements").value(3));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void getGamesBySeason_shouldPageByCursor() throws Exception {
+        // Given
+        createTestGame(745123, yankees, redSox, LocalDate.of(2024, 4, 1));
+        createTestGame(745124, dodgers, mets, LocalDate.of(2024, 4, 1));
+        createTestGame(745125, yankees, redSox, LocalDate.of(2024, 4, 2));
+
+        // When - an empty cursor asks for the first page
+        String firstPage = mockMvc.perform(get("/api/games")
+                        .param("season", "2024")
+                        .param("size", "2")
+                        .param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].mlbId", contains(745125, 745124)))
+                .andExpect(jsonPath("$.first").value(true))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = com.jayway.jsonpath.JsonPath.read(firstPage, "$.nextCursor");
+
+        // Then
+        mockMvc.perform(get("/api/games")
+                        .param("season", "2024")
+                        .param("size", "2")
+                        .param("cursor", cursor)
+                        .param("count", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].mlbId", contains(745123)))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(3));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getGamesBySeason_shouldRejectInvalidCursors() throws Exception {
+        mockMvc.perform(get("/api/games")
+                        .param("season", "2024")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void getGameById_shouldReturnGame() throws Exception {
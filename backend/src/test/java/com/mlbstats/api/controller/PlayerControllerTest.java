@@ -1,6 +1,7 @@
 package com.mlbstats.api.controller;
 
 import com.mlbstats.BaseIntegrationTest;
+import com.mlbstats.api.service.PlayerApiService;
 import com.mlbstats.domain.player.Player;
 import com.mlbstats.domain.team.Team;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +9,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -69,6 +73,110 @@ class PlayerControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.content", hasSize(0)));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void getPlayers_shouldPageByCursor() throws Exception {
+        // Given
+        createTestPlayer(665742, "Juan Soto", "RF");
+
+        // When
+        String firstPage = mockMvc.perform(get("/api/players")
+                        .param("size", "2")
+                        .param("cursor", "")
+                        .param("count", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].fullName", contains("Aaron Judge", "Gerrit Cole")))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.page").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = com.jayway.jsonpath.JsonPath.read(firstPage, "$.nextCursor");
+
+        // Then
+        mockMvc.perform(get("/api/players")
+                        .param("size", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].fullName", contains("Juan Soto")))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getPlayers_shouldPageFiltersByCursor() throws Exception {
+        // Given
+        createTestPlayer(665742, "Juan Soto", "RF");
+
+        // When
+        String firstPage = mockMvc.perform(get("/api/players")
+                        .param("position", "RF")
+                        .param("size", "1")
+                        .param("cursor", "")
+                        .param("count", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].fullName", contains("Aaron Judge")))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = com.jayway.jsonpath.JsonPath.read(firstPage, "$.nextCursor");
+
+        // Then
+        mockMvc.perform(get("/api/players")
+                        .param("position", "RF")
+                        .param("size", "1")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].fullName", contains("Juan Soto")))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.last").value(true));
+        mockMvc.perform(get("/api/players")
+                        .param("search", "Soto")
+                        .param("cursor", ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getPlayers_shouldFilterWithoutASearchTerm() throws Exception {
+        mockMvc.perform(get("/api/players")
+                        .param("positionType", "Pitcher"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].fullName").value("Gerrit Cole"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void browsePlayers_shouldReturnFacetCountsWithThePage() throws Exception {
+        // Given - Soto played for the Yankees in 2024 only
+        Team mets = createTestTeam(121, "New York Mets", "NYM", "National League", "East");
+        Player soto = createTestPlayer(665742, "Juan Soto", "RF");
+        soto.setBats("L");
+        soto.setThrowsHand("L");
+        playerRepository.save(soto);
+        createTestRosterEntry(yankees, judge, 2024);
+        createTestRosterEntry(yankees, judge, 2025);
+        createTestRosterEntry(yankees, cole, 2025);
+        createTestRosterEntry(yankees, soto, 2024);
+        createTestRosterEntry(mets, soto, 2025);
+
+        // When/Then
+        mockMvc.perform(get("/api/players/facets")
+                        .param("team", yankees.getId().toString())
+                        .param("season", "2025")
+                        .param("position", "RF", "P"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.content[*].fullName", contains("Aaron Judge", "Gerrit Cole")))
+                .andExpect(jsonPath("$.page.totalElements").value(2))
+                // Counts for a facet ignore its own filter
+                .andExpect(jsonPath("$.facets.position.RF").value(1))
+                .andExpect(jsonPath("$.facets.position.P").value(1))
+                .andExpect(jsonPath("$.facets.team['" + mets.getId() + "']").value(1))
+                .andExpect(jsonPath("$.facets.season['2024']").value(2))
+                .andExpect(jsonPath("$.facets.bats.R").value(2))
+                .andExpect(jsonPath("$.facets.bats.L").value(0));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void getPlayerById_shouldReturnPlayer() throws Exception {
@@ -143,6 +251,77 @@ class PlayerControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$[1].homeRuns").value(41));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void getLeaders_shouldPageThroughAnyStatWithACursor() throws Exception {
+        // Given
+        Team mets = createTestTeam(121, "New York Mets", "NYM", "National League", "East");
+        Player alonso = createTestPlayer(624413, "Pete Alonso", "1B");
+        Player volpe = createTestPlayer(683011, "Anthony Volpe", "SS");
+        saveBattingStats(judge, yankees, 58);
+        saveBattingStats(alonso, mets, 34);
+        saveBattingStats(volpe, yankees, 21);
+
+        // When
+        String firstPage = mockMvc.perform(get("/api/players/leaders")
+                        .param("stat", "homeRuns")
+                        .param("season", "2024")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.order").value("desc"))
+                .andExpect(jsonPath("$.content[*].homeRuns", contains(58, 34)))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = com.jayway.jsonpath.JsonPath.read(firstPage, "$.nextCursor");
+
+        // Then
+        mockMvc.perform(get("/api/players/leaders")
+                        .param("stat", "homeRuns")
+                        .param("season", "2024")
+                        .param("limit", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].homeRuns", contains(21)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getLeaders_shouldFilterByLeagueAndPosition() throws Exception {
+        // Given
+        Team mets = createTestTeam(121, "New York Mets", "NYM", "National League", "East");
+        Player alonso = createTestPlayer(624413, "Pete Alonso", "1B");
+        Player volpe = createTestPlayer(683011, "Anthony Volpe", "SS");
+        saveBattingStats(judge, yankees, 58);
+        saveBattingStats(alonso, mets, 34);
+        saveBattingStats(volpe, yankees, 21);
+
+        // When/Then
+        mockMvc.perform(get("/api/players/leaders")
+                        .param("stat", "homeRuns")
+                        .param("season", "2024")
+                        .param("league", "AL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].homeRuns", contains(58, 21)));
+        mockMvc.perform(get("/api/players/leaders")
+                        .param("stat", "homeRuns")
+                        .param("season", "2024")
+                        .param("position", "SS")
+                        .param("order", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].homeRuns", contains(21)));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getLeaders_shouldRejectUnknownStatsAndCursors() throws Exception {
+        mockMvc.perform(get("/api/players/leaders").param("stat", "notAStat"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/players/leaders").param("stat", "era").param("group", "pitching")
+                        .param("cursor", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void getBattingAverageLeaders_shouldReturnTopBatters() throws Exception {
@@ -531,18 +710,44 @@ class PlayerControllerTest extends BaseIntegrationTest {
     @Test
     @WithMockUser(roles = "USER")
     void comparePlayers_shouldReturnBadRequestForTooManyPlayers() throws Exception {
-        Player p1 = createTestPlayer(1, "Player 1", "1B");
-        Player p2 = createTestPlayer(2, "Player 2", "2B");
-        Player p3 = createTestPlayer(3, "Player 3", "3B");
-        Player p4 = createTestPlayer(4, "Player 4", "SS");
-        Player p5 = createTestPlayer(5, "Player 5", "LF");
+        List<String> ids = new ArrayList<>();
+        for (int i = 1; i <= PlayerApiService.MAX_COMPARED_PLAYERS + 1; i++) {
+            ids.add(String.valueOf(createTestPlayer(i, "Player " + i, "1B").getId()));
+        }
 
         mockMvc.perform(get("/api/players/compare")
-                        .param("players", p1.getId() + "," + p2.getId() + "," + p3.getId() + "," + p4.getId() + "," + p5.getId())
-                        .param("seasons", "2024,2024,2024,2024,2024"))
+                        .param("players", String.join(",", ids))
+                        .param("mode", "career"))
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void comparePlayers_shouldCompareUpToTheCapInSeasonMode() throws Exception {
+        // Given - the last player was traded mid-season, so their season spans two team rows
+        List<String> ids = new ArrayList<>();
+        List<String> seasons = new ArrayList<>();
+        Player traded = null;
+        for (int i = 1; i <= PlayerApiService.MAX_COMPARED_PLAYERS; i++) {
+            Player player = createTestPlayer(i, "Player " + i, "1B");
+            createTestBattingStats(player, yankees, 2024);
+            ids.add(String.valueOf(player.getId()));
+            seasons.add("2024");
+            traded = player;
+        }
+        createTestBattingStats(traded, createTestTeam(111, "Boston Red Sox", "BOS"), 2024);
+
+        // When/Then
+        mockMvc.perform(get("/api/players/compare")
+                        .param("players", String.join(",", ids))
+                        .param("seasons", String.join(",", seasons)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.players", hasSize(PlayerApiService.MAX_COMPARED_PLAYERS)))
+                .andExpect(jsonPath("$.players[0].battingStats.homeRuns").value(20))
+                .andExpect(jsonPath("$.players[24].battingStats.homeRuns").value(40))
+                .andExpect(jsonPath("$.leaders.batting.homeRuns").value(traded.getId()));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void comparePlayers_shouldReturnBadRequestWhenSeasonsMismatch() throws Exception {
@@ -663,4 +868,10 @@ class PlayerControllerTest extends BaseIntegrationTest {
                 // Soto should be HR leader with 41 vs 37
                 .andExpect(jsonPath("$.leaders.batting.homeRuns").value(soto.getId()));
     }
+
+    private void saveBattingStats(Player player, Team team, int homeRuns) {
+        var stats = createTestBattingStats(player, team, 2024);
+        stats.setHomeRuns(homeRuns);
+        battingStatsRepository.save(stats);
+    }
 }
@@ -0,0 +1,52 @@
+package com.mlbstats.api.controller;
+
+import com.mlbstats.BaseIntegrationTest;
+import com.mlbstats.domain.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class SearchControllerTest extends BaseIntegrationTest {
+
+    @BeforeEach
+    void setUpData() {
+        createTestTeam(147, "New York Yankees", "NYY");
+        createTestTeam(121, "New York Mets", "NYM", "National League", "East");
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void search_shouldMatchTeamNicknamesAndAbbreviations() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "yank"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teams[*].abbreviation", contains("NYY")));
+        mockMvc.perform(get("/api/search").param("q", "nym"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teams[*].abbreviation", contains("NYM")));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void search_shouldMatchActivePlayersByName() throws Exception {
+        // Given - the tests run with the index off, so this is the bounded query path
+        createTestPlayer(111111, "Aaron Bench", "C");
+        createTestPlayer(592450, "Aaron Judge", "RF");
+        Player retired = createTestPlayer(116539, "Aaron Boone", "3B");
+        retired.setActive(false);
+
+        // When/Then
+        mockMvc.perform(get("/api/search").param("q", "aaron").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.players[*].fullName", contains("Aaron Bench")));
+        mockMvc.perform(get("/api/search").param("q", "judg"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.players[*].fullName", contains("Aaron Judge")));
+        mockMvc.perform(get("/api/search").param("q", "boone"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.players", empty()));
+    }
+}
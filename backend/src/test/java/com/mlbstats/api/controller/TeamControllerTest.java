@@ -2,9 +2,12 @@ package com.mlbstats.api.controller;
 
 import com.mlbstats.BaseIntegrationTest;
 import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.player.TeamRoster;
 import com.mlbstats.domain.team.Team;
+import com.mlbstats.ingestion.service.TeamStatsRollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 
@@ -16,6 +19,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 class TeamControllerTest extends BaseIntegrationTest {
 
+    @Autowired
+    private TeamStatsRollupService teamStatsRollupService;
+
     private Team yankees;
     private Team redSox;
     private Team dodgers;
@@ -94,6 +100,25 @@ class TeamControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$[*].player.fullName", hasItems("Aaron Judge", "Gerrit Cole")));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void getTeamRoster_shouldLeaveOutReleasedPlayers() throws Exception {
+        // Given
+        Player judge = createTestPlayer(592450, "Aaron Judge", "RF");
+        Player rizzo = createTestPlayer(519203, "Anthony Rizzo", "1B");
+        createTestRosterEntry(yankees, judge, 2024);
+        TeamRoster released = createTestRosterEntry(yankees, rizzo, 2024);
+        released.setEndDate(LocalDate.of(2024, 8, 1));
+        teamRosterRepository.save(released);
+
+        // When/Then
+        mockMvc.perform(get("/api/teams/{id}/roster", yankees.getId())
+                        .param("season", "2024"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].player.fullName").value("Aaron Judge"));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void getTeamGames_shouldReturnGames() throws Exception {
@@ -172,6 +197,9 @@ class TeamControllerTest extends BaseIntegrationTest {
         createTestBattingStats(judge, yankees, 2024);
         createTestBattingStats(stanton, yankees, 2024);
         createTestPitchingStats(cole, yankees, 2024);
+        // The rollup is refreshed in SQL after a sync, so the rows must be flushed first
+        pitchingStatsRepository.flush();
+        teamStatsRollupService.refreshSeason(2024);
 
         // When/Then
         mockMvc.perform(get("/api/teams/{id}/aggregate-stats", yankees.getId())
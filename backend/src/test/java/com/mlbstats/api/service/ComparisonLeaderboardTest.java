@@ -0,0 +1,42 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.PlayerComparisonDto.ComparisonPitchingStats;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComparisonLeaderboardTest {
+
+    @Test
+    void leaders_shouldPickHighestOrLowestPerStatAndSkipMissingLines() {
+        // Given - the second player has no pitching line
+        ComparisonPitchingStats cole = pitching(15, "3.00");
+        ComparisonPitchingStats skubal = pitching(18, "2.39");
+
+        // When
+        Map<String, Long> leaders = ComparisonLeaderboard.leaders(ComparisonLeaderboard.PITCHING,
+                Arrays.asList(1L, 2L, 3L), Arrays.asList(cole, null, skubal));
+
+        // Then
+        assertThat(leaders).containsEntry("wins", 3L).containsEntry("era", 3L);
+        assertThat(leaders).doesNotContainKey("holds");
+    }
+
+    @Test
+    void leader_shouldGiveTiesToTheFirstPlayerAndIgnoreNaN() {
+        // When/Then
+        assertThat(ComparisonLeaderboard.leader(new double[]{Double.NaN, 5, 5, 3}, false)).isEqualTo(1);
+        assertThat(ComparisonLeaderboard.leader(new double[]{Double.NaN, 5, 5, 3}, true)).isEqualTo(3);
+        assertThat(ComparisonLeaderboard.leader(new double[]{Double.NaN, Double.NaN}, false)).isEqualTo(-1);
+    }
+
+    private static ComparisonPitchingStats pitching(int wins, String era) {
+        return new ComparisonPitchingStats(30, 30, wins, 8, 0, null, new BigDecimal("180.0"), 160, 70, 60,
+                20, 50, 200, new BigDecimal(era), new BigDecimal("1.17"), new BigDecimal("10.00"),
+                new BigDecimal("2.50"), 1, 0);
+    }
+}
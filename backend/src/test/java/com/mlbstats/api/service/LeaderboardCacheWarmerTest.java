@@ -0,0 +1,49 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.common.cache.CacheWarmer.WarmupKey;
+import com.mlbstats.common.config.CacheConfig;
+import com.mlbstats.common.util.DateUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class LeaderboardCacheWarmerTest {
+
+    private final LeaderboardEngine leaderboardEngine = mock(LeaderboardEngine.class);
+    private final LeaderboardCacheWarmer warmer = new LeaderboardCacheWarmer(leaderboardEngine);
+
+    @Test
+    void warm_shouldPrepareTheKeysSeason() {
+        // When
+        boolean loaded = warmer.warm(new WarmupKey(LeaderboardCacheWarmer.LEADERBOARDS, 2024));
+
+        // Then
+        assertThat(loaded).isTrue();
+        verify(leaderboardEngine).prepare(2024);
+    }
+
+    @Test
+    void warm_shouldRejectUnknownKeys() {
+        // When
+        boolean wrongShape = warmer.warm(new WarmupKey(LeaderboardCacheWarmer.LEADERBOARDS, "hr_2024_10"));
+        boolean otherCache = warmer.warm(new WarmupKey(CacheConfig.STANDINGS, 2024));
+
+        // Then
+        assertThat(wrongShape).isFalse();
+        assertThat(otherCache).isFalse();
+        verifyNoInteractions(leaderboardEngine);
+    }
+
+    @Test
+    void defaultKeys_shouldCoverTheCurrentSeason() {
+        // When
+        warmer.defaultKeys().forEach(warmer::warm);
+
+        // Then
+        assertThat(warmer.cacheNames()).isEmpty();
+        verify(leaderboardEngine).prepare(DateUtils.getCurrentSeason());
+    }
+}
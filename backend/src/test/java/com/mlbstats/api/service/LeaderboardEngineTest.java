@@ -0,0 +1,122 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.BattingStatsDto;
+import com.mlbstats.common.cache.DataVersions;
+import com.mlbstats.common.config.LeaderboardProperties;
+import com.mlbstats.domain.stats.BattingColumn;
+import com.mlbstats.domain.stats.PlayerBattingStats;
+import com.mlbstats.domain.stats.PlayerBattingStatsRepository;
+import com.mlbstats.domain.stats.PlayerPitchingStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaderboardEngineTest {
+
+    private final PlayerBattingStatsRepository battingStatsRepository = mock(PlayerBattingStatsRepository.class);
+    private final PlayerPitchingStatsRepository pitchingStatsRepository = mock(PlayerPitchingStatsRepository.class);
+    private final DataVersions dataVersions = mock(DataVersions.class);
+    private final LeaderboardEngine engine = new LeaderboardEngine(battingStatsRepository, pitchingStatsRepository,
+            dataVersions, new LeaderboardProperties());
+
+    private String statsVersion = "1";
+
+    @BeforeEach
+    void setUp() {
+        when(dataVersions.tag(any())).thenAnswer(invocation -> statsVersion);
+    }
+
+    @Test
+    void topBatting_shouldLoadASeasonOncePerDataVersion() {
+        // Given
+        when(battingStatsRepository.findBySeasonWithPlayerAndTeam(2024)).thenReturn(List.of(batting(1L, 30)));
+
+        // When
+        engine.topBatting(2024, BattingColumn.HOME_RUNS, 10);
+        engine.topBatting(2024, BattingColumn.RBI, 5);
+        engine.prepare(2024);
+
+        // Then
+        verify(battingStatsRepository, times(1)).findBySeasonWithPlayerAndTeam(2024);
+        verify(pitchingStatsRepository, times(1)).findBySeasonWithPlayerAndTeam(2024);
+    }
+
+    @Test
+    void topBatting_shouldRebuildOnceStatsVersionMoves() {
+        // Given
+        when(battingStatsRepository.findBySeasonWithPlayerAndTeam(2024))
+                .thenReturn(List.of(batting(1L, 30)))
+                .thenReturn(List.of(batting(1L, 30), batting(2L, 41)));
+        List<BattingStatsDto> before = engine.topBatting(2024, BattingColumn.HOME_RUNS, 10);
+
+        // When
+        statsVersion = "2";
+        List<BattingStatsDto> after = engine.topBatting(2024, BattingColumn.HOME_RUNS, 10);
+
+        // Then
+        assertThat(before).extracting(BattingStatsDto::homeRuns).containsExactly(30);
+        assertThat(after).extracting(BattingStatsDto::homeRuns).containsExactly(41, 30);
+    }
+
+    @Test
+    void topBatting_shouldUseTheLeaderboardQueryWhenDisabled() {
+        // Given
+        LeaderboardProperties disabled = new LeaderboardProperties();
+        disabled.setEnabled(false);
+        LeaderboardEngine uncached = new LeaderboardEngine(battingStatsRepository, pitchingStatsRepository,
+                dataVersions, disabled);
+        when(battingStatsRepository.findTopOps(2024, 300, PageRequest.of(0, 5))).thenReturn(List.of(batting(1L, 30)));
+
+        // When
+        List<BattingStatsDto> leaders = uncached.topBatting(2024, BattingColumn.OPS, false, BattingColumn.AT_BATS,
+                BigDecimal.valueOf(300), 5);
+
+        // Then
+        assertThat(leaders).extracting(BattingStatsDto::homeRuns).containsExactly(30);
+        verify(battingStatsRepository, never()).findBySeasonWithPlayerAndTeam(any());
+    }
+
+    @Test
+    void topBatting_shouldLoadTheSeasonWhenDisabledAndNoQueryMatches() {
+        // Given
+        LeaderboardProperties disabled = new LeaderboardProperties();
+        disabled.setEnabled(false);
+        LeaderboardEngine uncached = new LeaderboardEngine(battingStatsRepository, pitchingStatsRepository,
+                dataVersions, disabled);
+        when(battingStatsRepository.findBySeasonWithPlayerAndTeam(2024))
+                .thenReturn(List.of(batting(1L, 30), batting(2L, 41)));
+
+        // When - ascending home runs has no query of its own
+        List<BattingStatsDto> trailers = uncached.topBatting(2024, BattingColumn.HOME_RUNS, true, null, null, 1);
+
+        // Then
+        assertThat(trailers).extracting(BattingStatsDto::homeRuns).containsExactly(30);
+        verify(battingStatsRepository, never()).findTopHomeRunHitters(any(), any());
+    }
+
+    @Test
+    void topBatting_shouldRejectNonPositiveLimits() {
+        assertThatThrownBy(() -> engine.topBatting(2024, BattingColumn.HOME_RUNS, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PlayerBattingStats batting(Long id, int homeRuns) {
+        PlayerBattingStats stats = new PlayerBattingStats();
+        stats.setId(id);
+        stats.setSeason(2024);
+        stats.setHomeRuns(homeRuns);
+        return stats;
+    }
+}
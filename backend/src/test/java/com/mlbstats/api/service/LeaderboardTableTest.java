@@ -0,0 +1,151 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.domain.stats.BattingColumn;
+import com.mlbstats.domain.stats.PitchingColumn;
+import com.mlbstats.domain.stats.PlayerBattingStats;
+import com.mlbstats.domain.stats.PlayerPitchingStats;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeaderboardTableTest {
+
+    @Test
+    void top_shouldReturnTheBestRowsInOrder() {
+        // Given
+        LeaderboardTable<Long> table = battingTable(
+                batting(1L, 30, 500, "0.280"),
+                batting(2L, 45, 550, "0.260"),
+                batting(3L, 12, 300, "0.310"),
+                batting(4L, 38, 520, "0.295"),
+                batting(5L, 22, 480, "0.250"));
+
+        // When
+        List<Long> leaders = table.top(BattingColumn.HOME_RUNS.ordinal(), false, -1, 0, 3);
+
+        // Then
+        assertThat(leaders).containsExactly(2L, 4L, 1L);
+    }
+
+    @Test
+    void top_shouldSkipRowsBelowTheQualifierAndWithoutAValue() {
+        // Given
+        LeaderboardTable<Long> table = battingTable(
+                batting(1L, 30, 500, "0.280"),
+                batting(2L, 45, 80, "0.400"),
+                batting(3L, 12, 300, null),
+                batting(4L, 38, 520, "0.295"));
+
+        // When
+        List<Long> leaders = table.top(BattingColumn.BATTING_AVG.ordinal(), false, BattingColumn.AT_BATS.ordinal(),
+                BattingColumn.AT_BATS.scaledMinimum(new BigDecimal("100")), 10);
+
+        // Then
+        assertThat(leaders).containsExactly(4L, 1L);
+    }
+
+    @Test
+    void top_shouldRankAscendingWithScaledDecimals() {
+        // Given
+        LeaderboardTable<Long> table = LeaderboardTable.build(List.of(
+                pitching(1L, "3.12", "180.0"),
+                pitching(2L, "2.98", "45.2"),
+                pitching(3L, "3.05", "50.0"),
+                pitching(4L, "3.12", "190.1")), PitchingColumn.class, PlayerPitchingStats::getId,
+                stats -> new LeaderboardTable.Row(stats.getId(), null, null, null));
+
+        // When
+        List<Long> leaders = table.top(PitchingColumn.ERA.ordinal(), true, PitchingColumn.INNINGS_PITCHED.ordinal(),
+                PitchingColumn.INNINGS_PITCHED.scaledMinimum(new BigDecimal("50")), 10);
+
+        // Then - ties keep load order
+        assertThat(leaders).containsExactly(3L, 1L, 4L);
+    }
+
+    @Test
+    void top_shouldReturnEveryRowWhenLimitExceedsTheTable() {
+        // Given
+        LeaderboardTable<Long> table = battingTable(batting(1L, 5, 100, "0.200"), batting(2L, 9, 100, "0.210"));
+
+        // When / Then
+        assertThat(table.top(BattingColumn.HOME_RUNS.ordinal(), false, -1, 0, 50)).containsExactly(2L, 1L);
+        assertThat(battingTable().top(BattingColumn.HOME_RUNS.ordinal(), false, -1, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void page_shouldWalkEveryRowOnceThroughCursors() {
+        // Given - ties on 30 must not be skipped or repeated across pages
+        LeaderboardTable<Long> table = battingTable(
+                batting(1L, 30, 500, "0.280"),
+                batting(2L, 45, 550, "0.260"),
+                batting(3L, 30, 300, "0.310"),
+                batting(4L, 38, 520, "0.295"),
+                batting(5L, 30, 480, "0.250"));
+
+        // When
+        LeaderboardTable.Slice<Long> first = table.page(BattingColumn.HOME_RUNS.ordinal(), false, -1, 0, null, null, 2);
+        LeaderboardTable.Slice<Long> second = table.page(BattingColumn.HOME_RUNS.ordinal(), false, -1, 0, null,
+                LeaderboardTable.Cursor.decode(first.next().encode()), 2);
+        LeaderboardTable.Slice<Long> last = table.page(BattingColumn.HOME_RUNS.ordinal(), false, -1, 0, null,
+                second.next(), 2);
+
+        // Then
+        assertThat(first.rows()).containsExactly(2L, 4L);
+        assertThat(second.rows()).containsExactly(1L, 3L);
+        assertThat(last.rows()).containsExactly(5L);
+        assertThat(last.next()).isNull();
+    }
+
+    @Test
+    void page_shouldApplyTeamAndLeagueFilters() {
+        // Given
+        LeaderboardTable<Long> table = battingTable(
+                batting(1L, 30, 500, "0.280"),
+                batting(2L, 45, 550, "0.260"),
+                batting(3L, 12, 300, "0.310"),
+                batting(4L, 38, 520, "0.295"));
+
+        // When
+        List<Long> americanLeague = table.page(BattingColumn.HOME_RUNS.ordinal(), false, -1, 0,
+                table.filter(null, "AL", null), null, 10).rows();
+        List<Long> team = table.page(BattingColumn.HOME_RUNS.ordinal(), false, -1, 0,
+                table.filter(121L, null, "rf"), null, 10).rows();
+
+        // Then
+        assertThat(americanLeague).containsExactly(2L, 4L);
+        assertThat(team).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void decode_shouldRejectMalformedCursors() {
+        assertThatThrownBy(() -> LeaderboardTable.Cursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static LeaderboardTable<Long> battingTable(PlayerBattingStats... rows) {
+        return LeaderboardTable.build(List.of(rows), BattingColumn.class, PlayerBattingStats::getId,
+                stats -> new LeaderboardTable.Row(stats.getId(), stats.getId() % 2 == 0 ? 147L : 121L,
+                        stats.getId() % 2 == 0 ? "American League" : "National League", "RF"));
+    }
+
+    private static PlayerBattingStats batting(Long id, int homeRuns, int atBats, String battingAvg) {
+        PlayerBattingStats stats = new PlayerBattingStats();
+        stats.setId(id);
+        stats.setHomeRuns(homeRuns);
+        stats.setAtBats(atBats);
+        stats.setBattingAvg(battingAvg != null ? new BigDecimal(battingAvg) : null);
+        return stats;
+    }
+
+    private static PlayerPitchingStats pitching(Long id, String era, String inningsPitched) {
+        PlayerPitchingStats stats = new PlayerPitchingStats();
+        stats.setId(id);
+        stats.setEra(new BigDecimal(era));
+        stats.setInningsPitched(new BigDecimal(inningsPitched));
+        return stats;
+    }
+}
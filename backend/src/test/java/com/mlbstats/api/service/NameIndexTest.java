@@ -0,0 +1,62 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.service.NameIndex.Names;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameIndexTest {
+
+    // Most popular first
+    private final NameIndex<String> players = NameIndex.build(
+            List.of("Aaron Judge", "José Ramírez", "Paul O'Neill", "Judge Nelson", "J.D. Martinez", "Aaron Nola"),
+            name -> new Names(name, name.substring(name.lastIndexOf(' ') + 1), List.of()));
+
+    @Test
+    void search_shouldMatchTheStartOfAnyWord() {
+        assertThat(players.search("judg", 10)).containsExactly("Judge Nelson", "Aaron Judge");
+        assertThat(players.search("aaron j", 10)).containsExactly("Aaron Judge");
+        assertThat(players.search("udge", 10)).isEmpty();
+    }
+
+    @Test
+    void search_shouldFoldAccentsAndPunctuation() {
+        assertThat(players.search("jose ramirez", 10)).containsExactly("José Ramírez");
+        assertThat(players.search("RAMÍR", 10)).containsExactly("José Ramírez");
+        assertThat(players.search("oneill", 10)).containsExactly("Paul O'Neill");
+        assertThat(players.search("jd mart", 10)).containsExactly("J.D. Martinez");
+    }
+
+    @Test
+    void search_shouldRankFullNameThenSecondaryNameThenPopularity() {
+        // When - "j" starts three full names, and only the last name of Aaron Judge
+        List<String> leaders = players.search("j", 10);
+
+        // Then
+        assertThat(leaders).containsExactly("José Ramírez", "Judge Nelson", "J.D. Martinez", "Aaron Judge");
+        assertThat(players.search("aaron", 1)).containsExactly("Aaron Judge");
+    }
+
+    @Test
+    void search_shouldMatchOtherNames() {
+        // Given
+        NameIndex<String> teams = NameIndex.build(List.of("New York Yankees", "New York Mets"),
+                name -> new Names(name, name.substring("New York ".length()),
+                        List.of(name.endsWith("Yankees") ? "NYY" : "NYM")));
+
+        // Then
+        assertThat(teams.search("nyy", 5)).containsExactly("New York Yankees");
+        assertThat(teams.search("mets", 5)).containsExactly("New York Mets");
+        assertThat(teams.search("new york", 1)).containsExactly("New York Yankees");
+        assertThat(teams.search("york", 5)).containsExactly("New York Yankees", "New York Mets");
+    }
+
+    @Test
+    void normalize_shouldKeepOnlyLowercaseAsciiWords() {
+        assertThat(NameIndex.normalize("  Ronald Acuña Jr. ")).isEqualTo("ronald acuna jr");
+        assertThat(NameIndex.normalize("Isiah Kiner-Falefa")).isEqualTo("isiah kiner falefa");
+        assertThat(NameIndex.normalize(null)).isEmpty();
+    }
+}
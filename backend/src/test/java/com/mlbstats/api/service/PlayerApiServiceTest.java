@@ -0,0 +1,141 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.FacetedPageDto;
+import com.mlbstats.api.dto.PageDto;
+import com.mlbstats.api.dto.PlayerDto;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.player.PlayerFacetFilter;
+import com.mlbstats.domain.player.PlayerNameSearch;
+import com.mlbstats.domain.player.PlayerRepository;
+import com.mlbstats.domain.player.PlayerSearchCriteria;
+import com.mlbstats.domain.stats.PlayerBattingSplitRepository;
+import com.mlbstats.domain.stats.PlayerBattingStatsRepository;
+import com.mlbstats.domain.stats.PlayerGameBattingRepository;
+import com.mlbstats.domain.stats.PlayerGamePitchingRepository;
+import com.mlbstats.domain.stats.PlayerPitchingSplitRepository;
+import com.mlbstats.domain.stats.PlayerPitchingStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlayerApiServiceTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private final PlayerNameSearch playerNameSearch = mock(PlayerNameSearch.class);
+    private final PlayerFacetIndex playerFacetIndex = mock(PlayerFacetIndex.class);
+    private final PlayerApiService service = new PlayerApiService(playerRepository, playerNameSearch,
+            playerFacetIndex, mock(PlayerBattingStatsRepository.class), mock(PlayerPitchingStatsRepository.class),
+            mock(PlayerGameBattingRepository.class), mock(PlayerGamePitchingRepository.class),
+            mock(PlayerBattingSplitRepository.class), mock(PlayerPitchingSplitRepository.class),
+            mock(LeaderboardEngine.class));
+
+    @Test
+    void searchPlayersWithFilters_shouldUseTheFacetIndexForFiltersOnly() {
+        // Given
+        PageDto<PlayerDto> indexed = PageDto.fromPage(new PageImpl<>(List.of(player(1L))), PlayerDto::fromEntity);
+        when(playerFacetIndex.isEnabled()).thenReturn(true);
+        when(playerFacetIndex.query(any(PlayerFacetFilter.class), eq(0), eq(20)))
+                .thenReturn(new FacetedPageDto<>(indexed, Map.of()));
+
+        // When
+        PageDto<PlayerDto> page = service.searchPlayersWithFilters(criteria(null), FIRST_PAGE);
+
+        // Then
+        assertThat(page).isSameAs(indexed);
+        verify(playerRepository, never()).findAll(ArgumentMatchers.<Specification<Player>>any(), any(Pageable.class));
+        verify(playerNameSearch, never()).search(any(), any());
+    }
+
+    @Test
+    void searchPlayersWithFilters_shouldRankSearchTermsWhenSupported() {
+        // Given - the facet index has no say once there is a search term
+        when(playerFacetIndex.isEnabled()).thenReturn(true);
+        when(playerNameSearch.isSupported()).thenReturn(true);
+        when(playerNameSearch.search(any(), eq(FIRST_PAGE)))
+                .thenReturn(new PageImpl<>(List.of(player(2L)), FIRST_PAGE, 1));
+
+        // When
+        PageDto<PlayerDto> page = service.searchPlayersWithFilters(criteria("judge"), FIRST_PAGE);
+
+        // Then
+        assertThat(page.content()).extracting(PlayerDto::id).containsExactly(2L);
+        verify(playerFacetIndex, never()).query(any(), anyInt(), anyInt());
+        verify(playerRepository, never()).findAll(ArgumentMatchers.<Specification<Player>>any(), any(Pageable.class));
+    }
+
+    @Test
+    void searchPlayersWithFilters_shouldFallBackToTheSpecification() {
+        // Given - a search term without the trigram search
+        when(playerFacetIndex.isEnabled()).thenReturn(true);
+        when(playerNameSearch.isSupported()).thenReturn(false);
+        when(playerRepository.findAll(ArgumentMatchers.<Specification<Player>>any(), eq(FIRST_PAGE)))
+                .thenReturn(new PageImpl<>(List.of(player(3L)), FIRST_PAGE, 1));
+
+        // When
+        PageDto<PlayerDto> page = service.searchPlayersWithFilters(criteria("judge"), FIRST_PAGE);
+
+        // Then
+        assertThat(page.content()).extracting(PlayerDto::id).containsExactly(3L);
+        verify(playerNameSearch, never()).search(any(), any());
+    }
+
+    @Test
+    void searchPlayersWithFilters_shouldQueryFiltersWhenTheFacetIndexIsDisabled() {
+        // Given
+        when(playerFacetIndex.isEnabled()).thenReturn(false);
+        when(playerRepository.findAll(ArgumentMatchers.<Specification<Player>>any(), eq(FIRST_PAGE)))
+                .thenReturn(new PageImpl<>(List.of(player(4L)), FIRST_PAGE, 1));
+
+        // When
+        PageDto<PlayerDto> page = service.searchPlayersWithFilters(criteria(null), FIRST_PAGE);
+
+        // Then
+        assertThat(page.content()).extracting(PlayerDto::id).containsExactly(4L);
+        verify(playerFacetIndex, never()).query(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchPlayersWithFiltersByCursor_shouldOnlyCountWhenAsked() {
+        // Given
+        when(playerFacetIndex.isEnabled()).thenReturn(false);
+        when(playerRepository.findBy(ArgumentMatchers.<Specification<Player>>any(), any()))
+                .thenReturn(List.of(player(5L)));
+
+        // When
+        PageDto<PlayerDto> page = service.searchPlayersWithFilters(criteria(null), "", 20, false);
+
+        // Then
+        assertThat(page.content()).extracting(PlayerDto::id).containsExactly(5L);
+        assertThat(page.totalElements()).isNull();
+        verify(playerRepository, never()).count(ArgumentMatchers.<Specification<Player>>any());
+    }
+
+    private static PlayerSearchCriteria criteria(String search) {
+        return new PlayerSearchCriteria(search, "RF", null, null, null, true);
+    }
+
+    private static Player player(Long id) {
+        Player player = new Player();
+        player.setId(id);
+        player.setMlbId(id.intValue());
+        player.setFullName("Player " + id);
+        return player;
+    }
+}
@@ -0,0 +1,115 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.PlayerDto;
+import com.mlbstats.api.service.PlayerBitmaps.Membership;
+import com.mlbstats.api.service.PlayerBitmaps.Result;
+import com.mlbstats.domain.player.PlayerFacetFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerBitmapsTest {
+
+    private static final long YANKEES = 147L;
+    private static final long METS = 121L;
+
+    // Name order, as the index loads them
+    private final PlayerBitmaps bitmaps = PlayerBitmaps.build(
+            List.of(
+                    player(1L, "Aaron Judge", "RF", "R", true),
+                    player(2L, "Francisco Lindor", "SS", "S", true),
+                    player(3L, "Gerrit Cole", "P", "R", true),
+                    player(4L, "Juan Soto", "RF", "L", true),
+                    player(5L, "Paul O'Neill", "RF", "L", false)),
+            List.of(
+                    new Membership(1L, YANKEES, 2024),
+                    new Membership(1L, YANKEES, 2025),
+                    new Membership(2L, METS, 2025),
+                    new Membership(3L, YANKEES, 2025),
+                    new Membership(4L, YANKEES, 2024),
+                    new Membership(4L, METS, 2025)));
+
+    @Test
+    void query_shouldOrValuesWithinAFacetAndAndAcrossFacets() {
+        // When
+        Result result = bitmaps.query(filter(Set.of("RF", "SS"), Set.of("L", "S"), true, Set.of(), null), 0, 0, 10);
+
+        // Then
+        assertThat(result.players()).extracting(PlayerDto::fullName).containsExactly("Francisco Lindor", "Juan Soto");
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    void query_shouldMatchTeamsWithinTheSeason() {
+        // When - Soto was a Yankee in 2024 only
+        Result in2025 = bitmaps.query(filter(Set.of(), Set.of(), null, Set.of(YANKEES), 2025), 0, 0, 10);
+        Result anySeason = bitmaps.query(filter(Set.of(), Set.of(), null, Set.of(YANKEES), null), 0, 0, 10);
+
+        // Then
+        assertThat(in2025.players()).extracting(PlayerDto::fullName).containsExactly("Aaron Judge", "Gerrit Cole");
+        assertThat(anySeason.players()).extracting(PlayerDto::fullName)
+                .containsExactly("Aaron Judge", "Gerrit Cole", "Juan Soto");
+    }
+
+    @Test
+    void query_shouldCountEachFacetWithoutItsOwnFilter() {
+        // When
+        Result result = bitmaps.query(filter(Set.of("RF"), Set.of(), true, Set.of(YANKEES), 2025), 0, 0, 10);
+
+        // Then
+        assertThat(result.players()).extracting(PlayerDto::fullName).containsExactly("Aaron Judge");
+        assertThat(result.facets().get(PlayerBitmaps.POSITION)).containsEntry("RF", 1).containsEntry("P", 1)
+                .containsEntry("SS", 0);
+        assertThat(result.facets().get(PlayerBitmaps.TEAM)).containsEntry("121", 1).containsEntry("147", 1);
+        assertThat(result.facets().get(PlayerBitmaps.SEASON)).containsEntry("2024", 2).containsEntry("2025", 1);
+        // O'Neill is an outfielder but wasn't a 2025 Yankee, so inactive players would match nobody
+        assertThat(result.facets().get(PlayerBitmaps.ACTIVE)).containsEntry("true", 1).containsEntry("false", 0);
+    }
+
+    @Test
+    void query_shouldPageInNameOrder() {
+        // When
+        Result second = bitmaps.query(filter(Set.of("RF"), Set.of(), null, Set.of(), null), 0, 1, 1);
+        Result pastTheEnd = bitmaps.query(filter(Set.of("RF"), Set.of(), null, Set.of(), null), 0, 5, 1);
+
+        // Then
+        assertThat(second.players()).extracting(PlayerDto::fullName).containsExactly("Juan Soto");
+        assertThat(second.total()).isEqualTo(3);
+        assertThat(pastTheEnd.players()).isEmpty();
+    }
+
+    @Test
+    void query_shouldContinueAfterAPlayer() {
+        // When
+        Result afterJudge = bitmaps.query(filter(Set.of("RF"), Set.of(), null, Set.of(), null),
+                bitmaps.rowOf(1L) + 1, 0, 1);
+
+        // Then
+        assertThat(afterJudge.players()).extracting(PlayerDto::fullName).containsExactly("Juan Soto");
+        assertThat(afterJudge.more()).isTrue();
+        assertThat(bitmaps.rowOf(51L)).isEqualTo(-1);
+    }
+
+    @Test
+    void query_shouldMatchNothingForUnknownValues() {
+        // When
+        Result result = bitmaps.query(filter(Set.of("DH"), Set.of(), null, Set.of(), null), 0, 0, 10);
+
+        // Then
+        assertThat(result.players()).isEmpty();
+        assertThat(result.facets().get(PlayerBitmaps.POSITION)).containsEntry("RF", 3);
+    }
+
+    private static PlayerFacetFilter filter(Set<String> positions, Set<String> bats, Boolean active,
+                                            Set<Long> teamIds, Integer season) {
+        return new PlayerFacetFilter(positions, null, bats, null, active, teamIds, season);
+    }
+
+    private static PlayerDto player(Long id, String fullName, String position, String bats, boolean active) {
+        return new PlayerDto(id, id.intValue(), fullName, null, null, null, position,
+                "P".equals(position) ? "Pitcher" : "Outfielder", bats, "R", null, null, null, null, active, null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.mlbstats.api.service;
+
+import com.mlbstats.api.dto.PlayerDto;
+import com.mlbstats.api.dto.SearchResultDto;
+import com.mlbstats.common.cache.DataVersions;
+import com.mlbstats.common.config.SearchIndexProperties;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.player.PlayerRepository;
+import com.mlbstats.domain.stats.PlayerBattingStatsRepository;
+import com.mlbstats.domain.stats.PlayerPitchingStatsRepository;
+import com.mlbstats.domain.team.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchIndexTest {
+
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final PlayerBattingStatsRepository battingStatsRepository = mock(PlayerBattingStatsRepository.class);
+    private final PlayerPitchingStatsRepository pitchingStatsRepository = mock(PlayerPitchingStatsRepository.class);
+    private final DataVersions dataVersions = mock(DataVersions.class);
+    private final SearchIndexProperties properties = new SearchIndexProperties();
+    private final SearchIndex searchIndex = new SearchIndex(playerRepository, teamRepository,
+            battingStatsRepository, pitchingStatsRepository, dataVersions, properties);
+
+    private String version = "1";
+
+    @BeforeEach
+    void setUp() {
+        when(dataVersions.tag(any())).thenAnswer(invocation -> version);
+        when(playerRepository.findByActiveTrue()).thenReturn(List.of(player(1L, "Aaron Bench"), player(2L, "Aaron Judge")));
+    }
+
+    @Test
+    void search_shouldRankPlayersByPlayingTime() {
+        // Given
+        when(battingStatsRepository.sumPlateAppearancesByPlayerSince(anyInt()))
+                .thenReturn(List.of(new Object[]{1L, 40L}, new Object[]{2L, 700L}));
+
+        // When
+        SearchResultDto result = searchIndex.search("aaron", 5);
+
+        // Then
+        assertThat(result.players()).extracting(PlayerDto::fullName).containsExactly("Aaron Judge", "Aaron Bench");
+    }
+
+    @Test
+    void search_shouldRebuildOnceTheStatsVersionMoves() {
+        // Given
+        when(battingStatsRepository.sumPlateAppearancesByPlayerSince(anyInt()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 40L}))
+                .thenReturn(List.of(new Object[]{1L, 40L}, new Object[]{2L, 700L}));
+        searchIndex.search("aaron", 5);
+        searchIndex.prepare();
+
+        // When - playing time moved, so the ranking does too
+        version = "2";
+        SearchResultDto result = searchIndex.search("aaron", 5);
+
+        // Then
+        assertThat(result.players()).extracting(PlayerDto::fullName).containsExactly("Aaron Judge", "Aaron Bench");
+        verify(playerRepository, times(2)).findByActiveTrue();
+    }
+
+    @Test
+    void search_shouldRunBoundedQueriesWhenDisabled() {
+        // Given
+        properties.setEnabled(false);
+        when(playerRepository.searchActiveByName("aaron", Limit.of(5))).thenReturn(List.of(player(1L, "Aaron Bench")));
+
+        // When
+        SearchResultDto result = searchIndex.search("aaron", 5);
+        searchIndex.prepare();
+
+        // Then
+        assertThat(result.players()).extracting(PlayerDto::fullName).containsExactly("Aaron Bench");
+        verify(teamRepository).searchTeams("aaron", Limit.of(5));
+        verify(playerRepository, never()).findByActiveTrue();
+    }
+
+    private static Player player(Long id, String fullName) {
+        Player player = new Player();
+        player.setId(id);
+        player.setFullName(fullName);
+        player.setLastName(fullName.substring(fullName.indexOf(' ') + 1));
+        player.setActive(true);
+        return player;
+    }
+}
@@ -0,0 +1,127 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.common.config.CacheConfig;
+import com.mlbstats.common.event.DataChangeEvent.GameChanged;
+import com.mlbstats.common.event.DataChangeEvent.PlayerStatsChanged;
+import com.mlbstats.common.event.DataChangeEvent.StandingsChanged;
+import com.mlbstats.common.event.PostgresEventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CacheInvalidatorTest {
+
+    private final CacheManager cacheManager = CacheConfig.caffeineCacheManager();
+    private final PostgresEventBus eventBus = new PostgresEventBus(mock(DataSource.class), mock(JdbcTemplate.class));
+    private final DataVersions dataVersions = new DataVersions(mock(JdbcTemplate.class));
+    private final CacheInvalidator invalidator = new CacheInvalidator(cacheManager, eventBus, dataVersions);
+
+    @BeforeEach
+    void setUp() {
+        invalidator.subscribe();
+    }
+
+    @Test
+    void gameChanged_shouldEvictOnlyThatGameAndRangesCoveringItsDate() {
+        // Given
+        cache(CacheConfig.GAMES).put(1L, "game 1");
+        cache(CacheConfig.GAMES).put(2L, "game 2");
+        cache(CacheConfig.GAMES_BY_DATE).put(LocalDate.of(2024, 6, 1), "june 1");
+        cache(CacheConfig.GAMES_BY_DATE).put(LocalDate.of(2024, 6, 2), "june 2");
+        cache(CacheConfig.CALENDAR_GAMES).put("2024-06-01-2024-06-30-null", "june");
+        cache(CacheConfig.CALENDAR_GAMES).put("2024-07-01-2024-07-31-147", "july");
+
+        // When
+        invalidator.onDataChange(new GameChanged(1L, LocalDate.of(2024, 6, 1)));
+        invalidator.flush();
+
+        // Then
+        assertThat(cache(CacheConfig.GAMES).get(1L)).isNull();
+        assertThat(cache(CacheConfig.GAMES).get(2L)).isNotNull();
+        assertThat(cache(CacheConfig.GAMES_BY_DATE).get(LocalDate.of(2024, 6, 1))).isNull();
+        assertThat(cache(CacheConfig.GAMES_BY_DATE).get(LocalDate.of(2024, 6, 2))).isNotNull();
+        assertThat(cache(CacheConfig.CALENDAR_GAMES).get("2024-06-01-2024-06-30-null")).isNull();
+        assertThat(cache(CacheConfig.CALENDAR_GAMES).get("2024-07-01-2024-07-31-147")).isNotNull();
+    }
+
+    @Test
+    void playerStatsChanged_shouldEvictTeamAggregatesAndComparisonsForThatSeasonAndPlayer() {
+        // Given
+        cache(CacheConfig.TEAM_AGGREGATE_STATS).put("147_2023", "2023 aggregates");
+        cache(CacheConfig.TEAM_AGGREGATE_STATS).put("147_2022", "2022 aggregates");
+        cache(CacheConfig.PLAYER_COMPARISON).put("compare_[5, 6]_[2023, 2023]_false", "with 5");
+        cache(CacheConfig.PLAYER_COMPARISON).put("compare_[7, 8]_[2023, 2023]_false", "without 5");
+
+        // When
+        invalidator.onDataChange(new PlayerStatsChanged(5L, 2023));
+        invalidator.flush();
+
+        // Then
+        assertThat(cache(CacheConfig.TEAM_AGGREGATE_STATS).get("147_2023")).isNull();
+        assertThat(cache(CacheConfig.TEAM_AGGREGATE_STATS).get("147_2022")).isNotNull();
+        assertThat(cache(CacheConfig.PLAYER_COMPARISON).get("compare_[5, 6]_[2023, 2023]_false")).isNull();
+        assertThat(cache(CacheConfig.PLAYER_COMPARISON).get("compare_[7, 8]_[2023, 2023]_false")).isNotNull();
+    }
+
+    @Test
+    void standingsChanged_shouldEvictOnlyThatSeason() {
+        // Given
+        cache(CacheConfig.STANDINGS).put(2023, "2023");
+        cache(CacheConfig.STANDINGS).put(2022, "2022");
+        cache(CacheConfig.TEAM_STANDINGS).put("147_2023", "nyy 2023");
+        cache(CacheConfig.TEAM_STANDINGS).put("147_2022", "nyy 2022");
+
+        // When
+        invalidator.onDataChange(new StandingsChanged(2023));
+        invalidator.flush();
+
+        // Then
+        assertThat(cache(CacheConfig.STANDINGS).get(2023)).isNull();
+        assertThat(cache(CacheConfig.STANDINGS).get(2022)).isNotNull();
+        assertThat(cache(CacheConfig.TEAM_STANDINGS).get("147_2023")).isNull();
+        assertThat(cache(CacheConfig.TEAM_STANDINGS).get("147_2022")).isNotNull();
+    }
+
+    @Test
+    void flush_shouldAdvanceOnlyTheChangedDomainsVersions() {
+        // Given
+        long standingsBefore = dataVersions.current(DataVersions.Domain.STANDINGS);
+        long gamesBefore = dataVersions.current(DataVersions.Domain.GAMES);
+
+        // When
+        invalidator.onDataChange(new StandingsChanged(2023));
+        invalidator.flush();
+
+        // Then
+        assertThat(dataVersions.current(DataVersions.Domain.STANDINGS)).isGreaterThan(standingsBefore);
+        assertThat(dataVersions.current(DataVersions.Domain.GAMES)).isEqualTo(gamesBefore);
+    }
+
+    @Test
+    void changeSet_shouldWidenToWholeCacheWhenTooManyIdsChange() {
+        // Given
+        CacheChangeSet changes = new CacheChangeSet();
+
+        // When
+        for (long id = 1; id <= CacheChangeSet.MAX_KEYS + 1; id++) {
+            changes.record(new GameChanged(id, LocalDate.of(2024, 6, 1)));
+        }
+
+        // Then
+        assertThat(changes.allGames).isTrue();
+        assertThat(changes.gameIds).isEmpty();
+        assertThat(CacheChangeSet.fromPayload(changes.toPayload()).allGames).isTrue();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.common.cache.CacheTuner.CacheStatus;
+import com.mlbstats.common.config.CacheConfig;
+import com.mlbstats.common.event.PostgresEventBus;
+import com.mlbstats.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class CacheTunerTest {
+
+    private final CacheManager cacheManager = CacheConfig.caffeineCacheManager(DataSize.ofMegabytes(100));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheTuner tuner = new CacheTuner(cacheManager,
+            new PostgresEventBus(mock(DataSource.class), mock(JdbcTemplate.class)), meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        tuner.init();
+    }
+
+    @Test
+    void describe_shouldSplitBudgetAndReportRetainedBytes() {
+        // Given
+        cacheManager.getCache(CacheConfig.STANDINGS).put(2024, "x".repeat(10_000));
+
+        // When
+        CacheStatus standings = status(CacheConfig.STANDINGS);
+
+        // Then
+        assertThat(standings.budgetBytes()).isEqualTo(CacheConfig.budgetFor(CacheConfig.STANDINGS, DataSize.ofMegabytes(100)));
+        assertThat(standings.retainedBytes()).isGreaterThan(10_000);
+        assertThat(meterRegistry.get("cache.retained.bytes").tag("cache", CacheConfig.STANDINGS).gauge().value())
+                .isEqualTo(standings.retainedBytes());
+    }
+
+    @Test
+    void update_shouldChangeTtlAndBudget() {
+        // When
+        CacheStatus updated = tuner.update(CacheConfig.PLAYERS, Duration.ofMinutes(10), 1_000_000L);
+
+        // Then
+        assertThat(updated.ttlSeconds()).isEqualTo(600);
+        assertThat(updated.budgetBytes()).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    void update_shouldEvictOnceOverNewBudget() {
+        // Given
+        cacheManager.getCache(CacheConfig.CALENDAR_COUNTS).put("2024-06-01-2024-06-30-null", "x".repeat(50_000));
+
+        // When
+        tuner.update(CacheConfig.CALENDAR_COUNTS, null, 1_000L);
+
+        // Then
+        assertThat(status(CacheConfig.CALENDAR_COUNTS).retainedBytes()).isLessThanOrEqualTo(1_000L);
+    }
+
+    @Test
+    void update_shouldRejectUnknownCachesAndInvalidValues() {
+        assertThatThrownBy(() -> tuner.update("nope", Duration.ofMinutes(1), null))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> tuner.update(CacheConfig.CALENDAR_COUNTS, Duration.ZERO, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CacheStatus status(String cacheName) {
+        return tuner.describe().stream()
+                .filter(status -> status.name().equals(cacheName))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,100 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.common.config.CacheWarmupProperties;
+import com.mlbstats.common.event.PostgresEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CacheWarmupTest {
+
+    private final HotKeyRegistry hotKeyRegistry = new HotKeyRegistry(mock(CacheManager.class));
+    private final RecordingWarmer warmer = new RecordingWarmer();
+    private final CacheWarmup cacheWarmup = new CacheWarmup(List.of(warmer), hotKeyRegistry,
+            new PostgresEventBus(mock(DataSource.class), mock(JdbcTemplate.class)),
+            new CacheWarmupProperties(), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        cacheWarmup.shutdown();
+    }
+
+    @Test
+    void warmUp_shouldLoadDefaultAndLearnedKeysOnce() {
+        // Given
+        hotKeyRegistry.record("standings", List.of(2023, 2024));
+
+        // When
+        int loaded = cacheWarmup.warmUp(Duration.ofSeconds(5));
+
+        // Then - 2024 is both a default and a learned key
+        assertThat(loaded).isEqualTo(2);
+        assertThat(warmer.warmed).containsExactlyInAnyOrder(2023, 2024);
+    }
+
+    @Test
+    void warmUp_shouldSkipKeysTheWarmerDoesNotRecognize() {
+        // Given
+        hotKeyRegistry.record("standings", List.of("not-a-season"));
+
+        // When
+        int loaded = cacheWarmup.warmUp(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(loaded).isEqualTo(1);
+        assertThat(warmer.warmed).containsExactly(2024);
+    }
+
+    @Test
+    void hotKeys_shouldKeepMostRecentlyHotKeysWithinLimit() {
+        // Given
+        for (int i = 0; i < HotKeyRegistry.MAX_KEYS_PER_CACHE; i++) {
+            hotKeyRegistry.record("leaderboards", List.of("old_" + i));
+        }
+
+        // When - hottest first
+        hotKeyRegistry.record("leaderboards", List.of("hr_2024_10", "wins_2024_10"));
+
+        // Then
+        List<Object> hotKeys = hotKeyRegistry.hotKeys("leaderboards");
+        assertThat(hotKeys).hasSize(HotKeyRegistry.MAX_KEYS_PER_CACHE);
+        assertThat(hotKeys).startsWith("hr_2024_10", "wins_2024_10");
+        assertThat(hotKeys).doesNotContain("old_0", "old_1");
+    }
+
+    private static class RecordingWarmer implements CacheWarmer {
+
+        private final Set<Object> warmed = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Set<String> cacheNames() {
+            return Set.of("standings");
+        }
+
+        @Override
+        public Collection<WarmupKey> defaultKeys() {
+            return List.of(new WarmupKey("standings", 2024));
+        }
+
+        @Override
+        public boolean warm(WarmupKey key) {
+            if (!(key.key() instanceof Integer season)) {
+                return false;
+            }
+            warmed.add(season);
+            return true;
+        }
+    }
+}
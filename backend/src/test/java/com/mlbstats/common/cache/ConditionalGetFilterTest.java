@@ -0,0 +1,99 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.common.cache.DataVersions.Domain;
+import com.mlbstats.common.config.HttpCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ConditionalGetFilterTest {
+
+    private final DataVersions dataVersions = new DataVersions(mock(JdbcTemplate.class));
+    private final ConditionalGetFilter filter = new ConditionalGetFilter(new HttpCacheProperties(), dataVersions,
+            new SimpleMeterRegistry());
+
+    @Test
+    void doFilter_shouldAnswerMatchingIfNoneMatchWithNotModified() throws Exception {
+        // Given
+        String etag = get("/api/teams/standings", null).response().getHeader("ETag");
+
+        // When
+        Exchange revalidation = get("/api/teams/standings", etag);
+
+        // Then
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(revalidation.response().getStatus()).isEqualTo(304);
+        assertThat(revalidation.response().getHeader("ETag")).isEqualTo(etag);
+        assertThat(revalidation.response().getHeader("Cache-Control")).isEqualTo("private, no-cache");
+        assertThat(revalidation.chain().getRequest()).isNull();
+    }
+
+    @Test
+    void doFilter_shouldChangeTagOnlyWhenAnEndpointsDomainsChange() throws Exception {
+        // Given
+        String standingsTag = get("/api/teams/standings", null).response().getHeader("ETag");
+        String gamesTag = get("/api/games/today", null).response().getHeader("ETag");
+
+        // When
+        dataVersions.advance(Set.of(Domain.GAMES), dataVersions.current(Domain.GAMES) + 1);
+        Exchange standings = get("/api/teams/standings", standingsTag);
+        Exchange games = get("/api/games/today", gamesTag);
+
+        // Then
+        assertThat(standings.response().getStatus()).isEqualTo(304);
+        assertThat(games.response().getStatus()).isEqualTo(200);
+        assertThat(games.response().getHeader("ETag")).isNotEqualTo(gamesTag);
+        assertThat(games.chain().getRequest()).isNotNull();
+    }
+
+    @Test
+    void doFilter_shouldLeaveUnversionedEndpointsAlone() throws Exception {
+        // When
+        Exchange exchange = get("/api/favorites", "*");
+
+        // Then
+        assertThat(exchange.response().getStatus()).isEqualTo(200);
+        assertThat(exchange.response().getHeader("ETag")).isNull();
+        assertThat(exchange.chain().getRequest()).isNotNull();
+    }
+
+    @Test
+    void match_shouldPreferSpecificPathsOverPrefixes() {
+        assertThat(ConditionalGetFilter.match("/api/teams/147/roster").domains())
+                .containsExactlyInAnyOrder(Domain.ROSTERS, Domain.PLAYERS, Domain.TEAMS);
+        assertThat(ConditionalGetFilter.match("/api/teams").domains()).containsExactly(Domain.TEAMS);
+        assertThat(ConditionalGetFilter.match("/api/players/leaders/home-runs").domains())
+                .containsExactlyInAnyOrder(Domain.STATS, Domain.PLAYERS, Domain.TEAMS);
+        // Player and search results filter on current team, which roster syncs change
+        assertThat(ConditionalGetFilter.match("/api/players/facets").domains()).contains(Domain.ROSTERS);
+        assertThat(ConditionalGetFilter.match("/api/search").domains()).contains(Domain.ROSTERS);
+    }
+
+    @Test
+    void matches_shouldUseWeakComparisonAcrossTagLists() {
+        assertThat(ConditionalGetFilter.matches("\"a\", W/\"b\"", "\"b\"")).isTrue();
+        assertThat(ConditionalGetFilter.matches("*", "\"b\"")).isTrue();
+        assertThat(ConditionalGetFilter.matches("\"a\"", "\"b\"")).isFalse();
+    }
+
+    private Exchange get(String path, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return new Exchange(response, chain);
+    }
+
+    private record Exchange(MockHttpServletResponse response, MockFilterChain chain) {}
+}
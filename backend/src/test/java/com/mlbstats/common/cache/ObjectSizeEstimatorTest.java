@@ -0,0 +1,54 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.api.dto.TeamDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectSizeEstimatorTest {
+
+    // Built per id so no strings are shared, like DTOs mapped from database rows
+    private static TeamDto team(long id) {
+        return new TeamDto(id, 100 + (int) id, "Team " + id, "T" + id, "City " + id, "Stadium " + id,
+                "American League", "American League East " + id, "https://www.mlbstatic.com/team-logos/" + id + ".svg");
+    }
+
+    @Test
+    void estimate_shouldGrowWithContent() {
+        // Given
+        List<TeamDto> teams = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            teams.add(team(id));
+        }
+
+        // When
+        long single = ObjectSizeEstimator.estimate(team(1));
+        long list = ObjectSizeEstimator.estimate(teams);
+
+        // Then - nine fields, most of them strings
+        assertThat(single).isBetween(300L, 1000L);
+        assertThat(list).isGreaterThan(30 * single / 2);
+    }
+
+    @Test
+    void estimate_shouldCountSharedObjectsOnce() {
+        // Given
+        TeamDto team = team(1);
+
+        // When
+        long once = ObjectSizeEstimator.estimate(List.of(team));
+        long twice = ObjectSizeEstimator.estimate(List.of(team, team));
+
+        // Then
+        assertThat(twice - once).isLessThan(16);
+    }
+
+    @Test
+    void estimate_shouldIgnoreNullsAndEnums() {
+        assertThat(ObjectSizeEstimator.estimate(null)).isZero();
+        assertThat(ObjectSizeEstimator.estimate(Thread.State.NEW)).isZero();
+    }
+}
@@ -0,0 +1,125 @@
+package com.mlbstats.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshAheadCacheTest {
+
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(15);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+
+    @Test
+    void get_shouldServeStaleValueAndRefreshInBackground() {
+        // Given
+        RefreshAheadCache cache = newCache(Runnable::run);
+        cache.put("2024", "old standings");
+        advance(REFRESH_AFTER.plusSeconds(1));
+
+        // When
+        String served = cache.get("2024", () -> "new standings");
+
+        // Then
+        assertThat(served).isEqualTo("old standings");
+        assertThat(cache.get("2024").get()).isEqualTo("new standings");
+        assertThat(refreshes("success")).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldNotRefreshFreshValue() {
+        // Given
+        RefreshAheadCache cache = newCache(Runnable::run);
+        cache.put("2024", "standings");
+        advance(REFRESH_AFTER.minusSeconds(1));
+        int[] loads = {0};
+
+        // When
+        String served = cache.get("2024", () -> {
+            loads[0]++;
+            return "reloaded";
+        });
+
+        // Then
+        assertThat(served).isEqualTo("standings");
+        assertThat(loads[0]).isZero();
+    }
+
+    @Test
+    void get_shouldStartOneRefreshPerKey() {
+        // Given
+        RefreshAheadCache cache = newCache(pendingRefreshes::add);
+        cache.put("2024", "old standings");
+        advance(REFRESH_AFTER.plusSeconds(1));
+
+        // When
+        cache.get("2024", () -> "new standings");
+        cache.get("2024", () -> "new standings");
+
+        // Then
+        assertThat(pendingRefreshes).hasSize(1);
+    }
+
+    @Test
+    void get_shouldKeepStaleValueWhenRefreshFails() {
+        // Given
+        RefreshAheadCache cache = newCache(Runnable::run);
+        cache.put("2024", "old standings");
+        advance(REFRESH_AFTER.plusSeconds(1));
+
+        // When
+        String served = cache.get("2024", () -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        // Then
+        assertThat(served).isEqualTo("old standings");
+        assertThat(cache.get("2024").get()).isEqualTo("old standings");
+        assertThat(refreshes("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void evict_shouldDiscardRefreshAlreadyInFlight() {
+        // Given
+        RefreshAheadCache cache = newCache(pendingRefreshes::add);
+        cache.put("2024", "old standings");
+        advance(REFRESH_AFTER.plusSeconds(1));
+        cache.get("2024", () -> "standings read before the change");
+
+        // When
+        cache.evict("2024");
+        pendingRefreshes.forEach(Runnable::run);
+
+        // Then
+        assertThat(cache.get("2024")).isNull();
+    }
+
+    private RefreshAheadCache newCache(Executor executor) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(1))
+                .ticker(nanos::get)
+                .build();
+        return new RefreshAheadCache(new CaffeineCache("standings", nativeCache), REFRESH_AFTER, executor,
+                meterRegistry);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private double refreshes(String result) {
+        return meterRegistry.get("cache.refreshes").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,148 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.common.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "[{\"team\":\"Yankees\",\"wins\":90}]";
+
+    private final DataVersions dataVersions = new DataVersions(mock(JdbcTemplate.class));
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(new ResponseCacheProperties(), dataVersions,
+            new SimpleMeterRegistry());
+    private final AtomicInteger controllerCalls = new AtomicInteger();
+    private int status = HttpServletResponse.SC_OK;
+
+    @Test
+    void doFilter_shouldServeRepeatedRequestsFromGzippedBytes() throws Exception {
+        // Given
+        MockHttpServletResponse first = get("/api/teams/standings", "season=2024", true);
+
+        // When
+        MockHttpServletResponse second = get("/api/teams/standings", "season=2024", true);
+
+        // Then
+        assertThat(controllerCalls).hasValue(1);
+        assertThat(first.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(second.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(second.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(second.getContentType()).startsWith("application/json");
+        assertThat(new String(ResponseCacheFilter.gunzip(second.getContentAsByteArray()), StandardCharsets.UTF_8))
+                .isEqualTo(BODY);
+    }
+
+    @Test
+    void doFilter_shouldKeyByQueryParametersInAnyOrder() throws Exception {
+        // Given
+        get("/api/players/leaders/home-runs", "season=2024&limit=10", true);
+
+        // When
+        get("/api/players/leaders/home-runs", "limit=10&season=2024", true);
+        get("/api/players/leaders/home-runs", "limit=5&season=2024", true);
+
+        // Then
+        assertThat(controllerCalls).hasValue(2);
+    }
+
+    @Test
+    void doFilter_shouldMissAfterDataVersionAdvances() throws Exception {
+        // Given
+        get("/api/games/today", null, true);
+
+        // When
+        dataVersions.advance(Set.of(DataVersions.Domain.GAMES), System.currentTimeMillis() + 1);
+        MockHttpServletResponse response = get("/api/games/today", null, true);
+
+        // Then
+        assertThat(controllerCalls).hasValue(2);
+        assertThat(response.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+    }
+
+    @Test
+    void doFilter_shouldServePlainBodyToClientsWithoutGzip() throws Exception {
+        // Given
+        MockHttpServletResponse miss = get("/api/teams/standings", null, false);
+
+        // When
+        MockHttpServletResponse hit = get("/api/teams/standings", null, false);
+
+        // Then
+        assertThat(controllerCalls).hasValue(1);
+        assertThat(miss.getContentAsString()).isEqualTo(BODY);
+        assertThat(hit.getHeader("Content-Encoding")).isNull();
+        assertThat(hit.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void doFilter_shouldNotCacheErrorsOrOtherPaths() throws Exception {
+        // Given
+        status = HttpServletResponse.SC_NOT_FOUND;
+        get("/api/teams/standings", "season=1850", true);
+        get("/api/teams/standings", "season=1850", true);
+
+        // When
+        status = HttpServletResponse.SC_OK;
+        get("/api/teams/147", null, true);
+        MockHttpServletResponse uncached = get("/api/teams/147", null, true);
+
+        // Then
+        assertThat(controllerCalls).hasValue(4);
+        assertThat(uncached.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)).isNull();
+        assertThat(uncached.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void acceptsGzip_shouldHonorZeroQuality() {
+        assertThat(ResponseCacheFilter.acceptsGzip(withAcceptEncoding("gzip, deflate, br"))).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip(withAcceptEncoding("br;q=1.0, gzip;q=0.8"))).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip(withAcceptEncoding("gzip;q=0"))).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip(withAcceptEncoding("identity"))).isFalse();
+    }
+
+    private MockHttpServletResponse get(String path, String query, boolean gzip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (query != null) {
+            request.setQueryString(query);
+            for (String parameter : query.split("&")) {
+                String[] nameAndValue = parameter.split("=");
+                request.addParameter(nameAndValue[0], nameAndValue[1]);
+            }
+        }
+        if (gzip) {
+            request.addHeader("Accept-Encoding", "gzip, deflate");
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                controllerCalls.incrementAndGet();
+                resp.setStatus(status);
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private static MockHttpServletRequest withAcceptEncoding(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/games/today");
+        request.addHeader("Accept-Encoding", acceptEncoding);
+        return request;
+    }
+}
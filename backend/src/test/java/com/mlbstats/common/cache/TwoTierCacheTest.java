@@ -0,0 +1,138 @@
+package com.mlbstats.common.cache;
+
+import com.mlbstats.api.dto.TeamDto;
+import com.mlbstats.common.config.CacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoTierCacheTest {
+
+    private static final TeamDto YANKEES = new TeamDto(1L, 147, "New York Yankees", "NYY", "Bronx",
+            "Yankee Stadium", "American League", "American League East", null);
+
+    private final InMemoryL2CacheStore l2 = new InMemoryL2CacheStore();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void get_shouldServeL1MissFromSharedL2() {
+        // Given - one node caches the value, another node starts cold
+        TwoTierCache nodeA = newNode();
+        TwoTierCache nodeB = newNode();
+        nodeA.put("2024", List.of(YANKEES));
+
+        // When
+        Cache.ValueWrapper result = nodeB.get("2024");
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.get()).isEqualTo(List.of(YANKEES));
+        assertThat(l1Keys(nodeB)).contains("2024");
+    }
+
+    @Test
+    void getWithLoader_shouldLoadOnceAndShareThroughL2() {
+        // Given
+        TwoTierCache nodeA = newNode();
+        TwoTierCache nodeB = newNode();
+        int[] loads = {0};
+
+        // When
+        TeamDto first = nodeA.get(147, () -> {
+            loads[0]++;
+            return YANKEES;
+        });
+        TeamDto second = nodeB.get(147, () -> {
+            loads[0]++;
+            return YANKEES;
+        });
+
+        // Then
+        assertThat(first).isEqualTo(YANKEES);
+        assertThat(second).isEqualTo(YANKEES);
+        assertThat(loads[0]).isEqualTo(1);
+    }
+
+    @Test
+    void evictIf_shouldRemoveMatchingKeysFromBothTiers() {
+        // Given
+        TwoTierCache cache = newNode();
+        cache.put("147_2023", List.of(YANKEES));
+        cache.put("147_2022", List.of(YANKEES));
+
+        // When
+        cache.evictIf(key -> key.toString().endsWith("_2023"));
+
+        // Then
+        assertThat(cache.get("147_2023")).isNull();
+        assertThat(cache.get("147_2022")).isNotNull();
+        assertThat(l2.keys(CacheConfig.TEAM_AGGREGATE_STATS)).containsExactly("147_2022");
+    }
+
+    @Test
+    void evictIf_shouldEvictMatchingL2KeysInOneBatch() {
+        // Given - keys another node wrote, so they are only in L2
+        L2CacheStore store = mock(L2CacheStore.class);
+        when(store.keys(CacheConfig.TEAM_AGGREGATE_STATS)).thenReturn(List.of("147_2023", "111_2023", "147_2022"));
+        TwoTierCache cache = new TwoTierCache(newL1(), store, Duration.ofMinutes(30), meterRegistry);
+
+        // When
+        cache.evictIf(key -> key.toString().endsWith("_2023"));
+
+        // Then
+        verify(store).evictAll(CacheConfig.TEAM_AGGREGATE_STATS, List.of("147_2023", "111_2023"));
+        verify(store, never()).evict(any(), any());
+    }
+
+    @Test
+    void get_shouldRecordHitsPerTier() {
+        // Given
+        TwoTierCache nodeA = newNode();
+        TwoTierCache nodeB = newNode();
+        nodeA.put("2024", List.of(YANKEES));
+
+        // When
+        nodeA.get("2024");
+        nodeB.get("2024");
+        nodeB.get("2025");
+
+        // Then
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(2);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+        assertThat(count("l2", "miss")).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.tier.hit.ratio").tag("tier", "l2").gauge().value()).isEqualTo(0.5);
+    }
+
+    private TwoTierCache newNode() {
+        return new TwoTierCache(newL1(), l2, Duration.ofMinutes(30), meterRegistry);
+    }
+
+    private static CaffeineCache newL1() {
+        CaffeineCacheManager caffeine = CacheConfig.caffeineCacheManager();
+        return (CaffeineCache) caffeine.getCache(CacheConfig.TEAM_AGGREGATE_STATS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Object> l1Keys(TwoTierCache cache) {
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache()).asMap().keySet();
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.gets").tag("tier", tier).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,52 @@
+package com.mlbstats.common.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PostgresEventBusTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PostgresEventBus eventBus = new PostgresEventBus(mock(DataSource.class), jdbcTemplate);
+
+    @Test
+    void publish_shouldDeliverInProcessToTopicHandlersWithoutNotify() {
+        // Given
+        List<Map<String, Object>> progress = new ArrayList<>();
+        List<Map<String, Object>> finished = new ArrayList<>();
+        eventBus.subscribe("sync-job.progress", progress::add);
+        eventBus.subscribe("sync-job.finished", finished::add);
+
+        // When
+        eventBus.publish("sync-job.progress", Map.of("id", 1L, "processedItems", 10));
+
+        // Then
+        assertThat(progress).containsExactly(Map.of("id", 1L, "processedItems", 10));
+        assertThat(finished).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void publish_shouldKeepDeliveringWhenAHandlerFails() {
+        // Given
+        List<Map<String, Object>> received = new ArrayList<>();
+        eventBus.subscribe("sync-job.finished", data -> {
+            throw new IllegalStateException("boom");
+        });
+        eventBus.subscribe("sync-job.finished", received::add);
+
+        // When
+        eventBus.publish("sync-job.finished", Map.of("id", 2L));
+
+        // Then
+        assertThat(received).containsExactly(Map.of("id", 2L));
+    }
+}
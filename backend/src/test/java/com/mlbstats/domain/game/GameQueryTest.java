@@ -0,0 +1,125 @@
+package com.mlbstats.domain.game;
+
+import com.mlbstats.BaseIntegrationTest;
+import com.mlbstats.api.dto.BattingGameLogDto;
+import com.mlbstats.api.dto.GameDto;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.stats.PlayerGameBatting;
+import com.mlbstats.domain.stats.PlayerGameBattingRepository;
+import com.mlbstats.domain.team.Team;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * List queries must fetch everything their DTOs read, so mapping a page costs no further queries.
+ * Queries that select straight into DTOs must not load entities at all.
+ */
+class GameQueryTest extends BaseIntegrationTest {
+
+    private static final int SEASON = 2024;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlayerGameBattingRepository gameBattingRepository;
+
+    private Statistics statistics;
+
+    @AfterEach
+    void disableStatistics() {
+        if (statistics != null) {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void findBySeasonOrderByGameDateDesc_shouldFetchTeamsAndProbablePitchers() {
+        // Given
+        Team yankees = createTestTeam(147, "New York Yankees", "NYY");
+        Team redSox = createTestTeam(111, "Boston Red Sox", "BOS");
+        Player cole = createTestPlayer(543037, "Gerrit Cole", "P");
+        Player sale = createTestPlayer(519242, "Chris Sale", "P");
+        for (int day = 1; day <= 5; day++) {
+            Game game = createTestGame(745000 + day, yankees, redSox, LocalDate.of(SEASON, 4, day));
+            game.setHomeProbablePitcher(cole);
+            game.setAwayProbablePitcher(sale);
+            gameRepository.save(game);
+        }
+        startCounting();
+
+        // When
+        List<GameDto> games = gameRepository.findBySeasonOrderByGameDateDesc(SEASON, PageRequest.of(0, 20))
+                .map(GameDto::fromEntity)
+                .getContent();
+
+        // Then
+        assertThat(games).hasSize(5);
+        assertThat(games.get(0).homeTeam().name()).isEqualTo("New York Yankees");
+        assertThat(games.get(0).homeProbablePitcher()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findGameLog_shouldSelectRowsWithoutLoadingEntities() {
+        // Given
+        Team yankees = createTestTeam(147, "New York Yankees", "NYY");
+        Team redSox = createTestTeam(111, "Boston Red Sox", "BOS");
+        Player judge = createTestPlayer(592450, "Aaron Judge", "RF");
+        for (int day = 1; day <= 3; day++) {
+            Game game = createTestGame(746000 + day, day % 2 == 0 ? yankees : redSox,
+                    day % 2 == 0 ? redSox : yankees, LocalDate.of(SEASON, 5, day));
+            PlayerGameBatting batting = new PlayerGameBatting();
+            batting.setPlayer(judge);
+            batting.setGame(game);
+            batting.setTeam(yankees);
+            batting.setAtBats(4);
+            gameBattingRepository.save(batting);
+        }
+        startCounting();
+
+        // When
+        List<BattingGameLogDto> log = gameBattingRepository.findGameLog(judge.getId(), SEASON);
+
+        // Then
+        assertThat(log).extracting(BattingGameLogDto::opponent).containsOnly("Boston Red Sox");
+        assertThat(log).extracting(BattingGameLogDto::isHome).containsExactly(false, true, false);
+        assertThat(log).extracting(BattingGameLogDto::result).containsExactly("L 3-5", "W 5-3", "L 3-5");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findLastFinalGameDate_shouldSkipUnfinishedAndFutureGames() {
+        // Given
+        Team yankees = createTestTeam(147, "New York Yankees", "NYY");
+        Team redSox = createTestTeam(111, "Boston Red Sox", "BOS");
+        createTestGame(746001, yankees, redSox, LocalDate.of(SEASON, 6, 1));
+        createTestGame(746002, yankees, redSox, LocalDate.of(SEASON, 6, 2)).setStatus("In Progress");
+        createTestGame(746003, yankees, redSox, LocalDate.of(SEASON, 6, 5));
+
+        // When/Then
+        assertThat(gameRepository.findLastFinalGameDate(SEASON, LocalDate.of(SEASON, 6, 3)))
+                .isEqualTo(LocalDate.of(SEASON, 6, 1));
+        assertThat(gameRepository.findLastFinalGameDate(SEASON, LocalDate.of(SEASON, 5, 31))).isNull();
+    }
+
+        private void startCounting() {
+        // Loads must come from the database, not entities still attached from the setup
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+}
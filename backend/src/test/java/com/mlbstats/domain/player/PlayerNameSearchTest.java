@@ -0,0 +1,81 @@
+package com.mlbstats.domain.player;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlayerNameSearchTest {
+
+    private static final PlayerSearchCriteria CRITERIA = new PlayerSearchCriteria("smith", null, null, null, null, null);
+
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlayerNameSearch playerNameSearch = new PlayerNameSearch(playerRepository, jdbcTemplate);
+
+    @Test
+    void search_shouldCountExactlyBelowTheLimit() {
+        // Given
+        countedUpTo(42);
+
+        // When
+        Page<Player> page = playerNameSearch.search(CRITERIA, PageRequest.of(0, 20));
+
+        // Then - no plan is needed for a small result
+        assertThat(page.getTotalElements()).isEqualTo(42);
+        verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), ArgumentMatchers.<RowMapper<String>>any());
+    }
+
+    @Test
+    void search_shouldUseThePlannerEstimatePastTheLimit() {
+        // Given
+        countedUpTo(PlayerNameSearch.EXACT_COUNT_LIMIT);
+        planned(5400);
+
+        // When
+        Page<Player> page = playerNameSearch.search(CRITERIA, PageRequest.of(0, 20));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(5400);
+    }
+
+    @Test
+    void search_shouldNotReportFewerThanTheLimitWhenTheEstimateIsLow() {
+        // Given
+        countedUpTo(PlayerNameSearch.EXACT_COUNT_LIMIT);
+        planned(300);
+
+        // When
+        Page<Player> page = playerNameSearch.search(CRITERIA, PageRequest.of(0, 20));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(PlayerNameSearch.EXACT_COUNT_LIMIT);
+    }
+
+    private void countedUpTo(long count) {
+        when(playerRepository.searchRanked(eq("smith"), any(), any(), any(), any(), any(), anyInt(), anyLong()))
+                .thenReturn(List.of());
+        when(playerRepository.countRankedUpTo("smith", null, null, null, null, null,
+                PlayerNameSearch.EXACT_COUNT_LIMIT)).thenReturn(count);
+    }
+
+    private void planned(long rows) {
+        String plan = "[{\"Plan\": {\"Node Type\": \"Bitmap Heap Scan\", \"Plan Rows\": " + rows + "}}]";
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), ArgumentMatchers.<RowMapper<String>>any())).thenReturn(List.of(plan));
+    }
+}
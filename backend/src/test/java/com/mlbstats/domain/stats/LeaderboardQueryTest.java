@@ -0,0 +1,95 @@
+package com.mlbstats.domain.stats;
+
+import com.mlbstats.BaseIntegrationTest;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.team.Team;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Leaderboard queries must apply their limit in SQL rather than loading the whole season.
+ */
+class LeaderboardQueryTest extends BaseIntegrationTest {
+
+    private static final int SEASON = 2024;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @AfterEach
+    void disableStatistics() {
+        if (statistics != null) {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void findTopHomeRunHitters_shouldFetchOnlyTheRequestedRows() {
+        // Given
+        Team team = createTestTeam(147, "New York Yankees", "NYY");
+        for (int i = 0; i < 12; i++) {
+            Player player = createTestPlayer(600000 + i, "Batter " + i, "RF");
+            PlayerBattingStats stats = createTestBattingStats(player, team, SEASON);
+            stats.setHomeRuns(10 + i);
+            battingStatsRepository.save(stats);
+        }
+        startCounting();
+
+        // When
+        List<PlayerBattingStats> leaders = battingStatsRepository.findTopHomeRunHitters(SEASON, PageRequest.of(0, 3));
+
+        // Then
+        assertThat(leaders).extracting(PlayerBattingStats::getHomeRuns).containsExactly(21, 20, 19);
+        assertThat(loadCount(PlayerBattingStats.class)).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findTopEra_shouldApplyTheQualifierBeforeTheLimit() {
+        // Given
+        Team team = createTestTeam(147, "New York Yankees", "NYY");
+        for (int i = 0; i < 8; i++) {
+            Player player = createTestPlayer(700000 + i, "Pitcher " + i, "P");
+            PlayerPitchingStats stats = createTestPitchingStats(player, team, SEASON);
+            stats.setEra(new BigDecimal("1.50").add(BigDecimal.valueOf(i)));
+            // The two best ERAs belong to pitchers short of the minimum
+            stats.setInningsPitched(i < 2 ? new BigDecimal("20.0") : new BigDecimal("150.0"));
+            pitchingStatsRepository.save(stats);
+        }
+        startCounting();
+
+        // When
+        List<PlayerPitchingStats> leaders = pitchingStatsRepository.findTopEra(SEASON, new BigDecimal("50"),
+                PageRequest.of(0, 2));
+
+        // Then
+        assertThat(leaders).extracting(PlayerPitchingStats::getEra)
+                .containsExactly(new BigDecimal("3.50"), new BigDecimal("4.50"));
+        assertThat(loadCount(PlayerPitchingStats.class)).isEqualTo(2);
+    }
+
+    private void startCounting() {
+        // Loads must come from the database, not entities still attached from the setup
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    private long loadCount(Class<?> entityType) {
+        return statistics.getEntityStatistics(entityType.getName()).getLoadCount();
+    }
+}
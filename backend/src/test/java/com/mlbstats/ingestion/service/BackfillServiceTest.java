@@ -0,0 +1,100 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.common.util.DateUtils;
+import com.mlbstats.domain.sync.SyncJob;
+import com.mlbstats.domain.sync.SyncJobStatus;
+import com.mlbstats.ingestion.service.BackfillService.BackfillResult;
+import com.mlbstats.ingestion.service.BackfillService.BackfillStep;
+import com.mlbstats.ingestion.service.BackfillService.StepType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BackfillServiceTest {
+
+    @Mock
+    private TeamIngestionService teamIngestionService;
+    @Mock
+    private RosterIngestionService rosterIngestionService;
+    @Mock
+    private GameIngestionService gameIngestionService;
+    @Mock
+    private StatsIngestionService statsIngestionService;
+    @Mock
+    private StandingsIngestionService standingsIngestionService;
+    @Mock
+    private BoxScoreIngestionService boxScoreIngestionService;
+    @Mock
+    private LinescoreIngestionService linescoreIngestionService;
+    @Mock
+    private SyncJobService syncJobService;
+
+    @InjectMocks
+    private BackfillService backfillService;
+
+    @Test
+    void planBackfill_shouldSyncTeamsOnceThenEachSeasonNewestFirst() {
+        // When
+        List<BackfillStep> steps = backfillService.planBackfill(2022, 2023);
+
+        // Then
+        assertThat(steps).hasSize(1 + 2 * 6);
+        assertThat(steps.get(0)).isEqualTo(new BackfillStep(null, StepType.TEAMS));
+        assertThat(steps.get(1)).isEqualTo(new BackfillStep(2023, StepType.GAMES));
+        assertThat(steps.get(7)).isEqualTo(new BackfillStep(2022, StepType.GAMES));
+        assertThat(steps.subList(1, 7)).extracting(BackfillStep::type).containsExactly(
+                StepType.GAMES, StepType.ROSTERS, StepType.STATS,
+                StepType.STANDINGS, StepType.BOX_SCORES, StepType.LINESCORES);
+    }
+
+    @Test
+    void planBackfill_shouldRejectInvalidRanges() {
+        int nextSeason = DateUtils.getCurrentSeason() + 1;
+
+        assertThatThrownBy(() -> backfillService.planBackfill(2023, 2022))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> backfillService.planBackfill(2020, nextSeason))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> backfillService.planBackfill(1950, 1950 + BackfillService.MAX_SEASONS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void runBackfill_shouldStopWhenJobIsCancelled() {
+        // Given
+        SyncJob cancelled = new SyncJob();
+        cancelled.setStatus(SyncJobStatus.CANCELLED);
+        when(syncJobService.getJob(anyLong())).thenReturn(cancelled);
+
+        // When
+        BackfillResult result = backfillService.runBackfill(1L, backfillService.planBackfill(2023, 2023));
+
+        // Then
+        assertThat(result.cancelled()).isTrue();
+        assertThat(result.completedSteps()).isZero();
+        verify(teamIngestionService, never()).syncAllTeams();
+    }
+
+    @Test
+    void estimateCompletion_shouldExtrapolateFromCompletedWeight() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 12, 0);
+        LocalDateTime now = start.plusMinutes(10);
+
+        assertThat(BackfillService.estimateCompletion(start, now, 0, 100)).isNull();
+        // 10 minutes for 20 units of work leaves 30 minutes for the remaining 60
+        assertThat(BackfillService.estimateCompletion(start, now, 20, 60)).isEqualTo(now.plusMinutes(30));
+    }
+}
@@ -0,0 +1,83 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.BaseIntegrationTest;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.player.TeamRoster;
+import com.mlbstats.domain.team.Team;
+import com.mlbstats.ingestion.client.MlbApiClient;
+import com.mlbstats.ingestion.client.dto.RosterResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+class RosterIngestionServiceTest extends BaseIntegrationTest {
+
+    private static final int SEASON = 2024;
+
+    @MockitoBean
+    private MlbApiClient mlbApiClient;
+
+    @Autowired
+    private RosterIngestionService rosterIngestionService;
+
+    private Team yankees;
+    private Player judge;
+    private Player torres;
+
+    @BeforeEach
+    void setUpRoster() {
+        yankees = createTestTeam(147, "New York Yankees", "NYY", "American League", "East");
+        judge = createTestPlayer(592450, "Aaron Judge", "RF");
+        torres = createTestPlayer(650403, "Gleyber Torres", "2B");
+        createTestRosterEntry(yankees, judge, SEASON);
+        createTestRosterEntry(yankees, torres, SEASON);
+        // Players missing from the fixture are created from the roster entry alone
+        when(mlbApiClient.getPlayer(anyInt())).thenThrow(new IllegalStateException("API unavailable"));
+    }
+
+    @Test
+    void syncTeamRoster_shouldCloseEntriesMissingFromTheRoster() {
+        // Given
+        RosterResponse response = loadFixture("mlb-api/roster-response.json", RosterResponse.class);
+        when(mlbApiClient.getTeamRoster(147, SEASON)).thenReturn(response);
+
+        // When
+        int count = rosterIngestionService.syncTeamRoster(yankees, SEASON);
+
+        // Then - a past season's departures end on its last day
+        assertThat(count).isEqualTo(4);
+        assertThat(latestEntry(torres).getEndDate()).isEqualTo(LocalDate.of(SEASON, 12, 31));
+        assertThat(latestEntry(judge).getEndDate()).isNull();
+        assertThat(latestEntry(judge).getJerseyNumber()).isEqualTo("99");
+        assertThat(teamRosterRepository.findByTeamIdAndSeasonAndEndDateIsNull(yankees.getId(), SEASON)).hasSize(4);
+    }
+
+    @Test
+    void syncTeamRoster_shouldLeaveEntriesOpenWhenTheRosterIsEmpty() {
+        // Given
+        RosterResponse response = new RosterResponse();
+        response.setRoster(List.of());
+        when(mlbApiClient.getTeamRoster(147, SEASON)).thenReturn(response);
+
+        // When
+        int count = rosterIngestionService.syncTeamRoster(yankees, SEASON);
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(teamRosterRepository.findByTeamIdAndSeasonAndEndDateIsNull(yankees.getId(), SEASON)).hasSize(2);
+    }
+
+    private TeamRoster latestEntry(Player player) {
+        return teamRosterRepository
+                .findFirstByTeamIdAndPlayerIdAndSeasonOrderByStartDateDesc(yankees.getId(), player.getId(), SEASON)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,145 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.BaseIntegrationTest;
+import com.mlbstats.domain.game.Game;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.stats.PlayerBattingStats;
+import com.mlbstats.domain.stats.PlayerGameBatting;
+import com.mlbstats.domain.stats.PlayerGamePitching;
+import com.mlbstats.domain.stats.PlayerPitchingStats;
+import com.mlbstats.domain.team.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeasonStatsAccumulatorTest extends BaseIntegrationTest {
+
+    private static final LocalDate GAME_DATE = LocalDate.of(2024, 6, 1);
+
+    @Autowired
+    private SeasonStatsAccumulator seasonStatsAccumulator;
+
+    private Team yankees;
+    private Player judge;
+    private Player cole;
+    private Game game;
+
+    @BeforeEach
+    void setUpGame() {
+        yankees = createTestTeam(147, "New York Yankees", "NYY", "American League", "East");
+        Team redSox = createTestTeam(111, "Boston Red Sox", "BOS", "American League", "East");
+        judge = createTestPlayer(592450, "Aaron Judge", "RF");
+        cole = createTestPlayer(543037, "Gerrit Cole", "P");
+        game = createTestGame(1001, yankees, redSox, GAME_DATE);
+    }
+
+    @Test
+    void applyBatting_shouldAddLineAndRecomputeRates() {
+        // Given - 400 AB, 120 H (25 2B, 3 3B, 20 HR), 50 BB reconciled through the day before
+        PlayerBattingStats stats = createTestBattingStats(judge, yankees, 2024);
+        stats.setReconciledThrough(GAME_DATE.minusDays(1));
+        battingStatsRepository.save(stats);
+
+        // When - 4 AB, 2 H with a home run, 1 BB
+        boolean applied = seasonStatsAccumulator.applyBatting(battingLine(4, 2, 1, 1));
+
+        // Then
+        assertThat(applied).isTrue();
+        PlayerBattingStats updated = battingStatsRepository.findById(stats.getId()).orElseThrow();
+        assertThat(updated.getGamesPlayed()).isEqualTo(101);
+        assertThat(updated.getAtBats()).isEqualTo(404);
+        assertThat(updated.getHomeRuns()).isEqualTo(21);
+        assertThat(updated.getBattingAvg()).isEqualByComparingTo("0.302");   // 122 / 404
+        assertThat(updated.getObp()).isEqualByComparingTo("0.380");          // 173 / 455
+        assertThat(updated.getSlg()).isEqualByComparingTo("0.535");          // 216 / 404
+        assertThat(updated.getOps()).isEqualByComparingTo("0.915");
+    }
+
+    @Test
+    void applyBatting_shouldSkipGamesCoveredByApiSync() {
+        // Given
+        PlayerBattingStats stats = createTestBattingStats(judge, yankees, 2024);
+        stats.setReconciledThrough(GAME_DATE);
+        battingStatsRepository.save(stats);
+
+        // When
+        boolean applied = seasonStatsAccumulator.applyBatting(battingLine(4, 2, 1, 1));
+
+        // Then
+        assertThat(applied).isFalse();
+        assertThat(battingStatsRepository.findById(stats.getId()).orElseThrow().getAtBats()).isEqualTo(400);
+    }
+
+    @Test
+    void applyPitching_shouldCreateSeasonRowForNewPitcher() {
+        // Given
+        PlayerGamePitching first = pitchingLine(new BigDecimal("6.2"), 2, true);
+        seasonStatsAccumulator.applyPitching(first);
+        Game second = createTestGame(1002, yankees, game.getAwayTeam(), GAME_DATE.plusDays(5));
+        PlayerGamePitching secondLine = pitchingLine(new BigDecimal("5.1"), 4, true);
+        secondLine.setGame(second);
+
+        // When
+        seasonStatsAccumulator.applyPitching(secondLine);
+
+        // Then - 20 + 16 outs is 12.0 innings
+        PlayerPitchingStats stats = pitchingStatsRepository
+                .findByPlayerIdAndTeamIdAndSeasonAndGameType(cole.getId(), yankees.getId(), 2024, "R")
+                .orElseThrow();
+        assertThat(stats.getGamesStarted()).isEqualTo(2);
+        assertThat(stats.getInningsPitched()).isEqualByComparingTo("12.0");
+        assertThat(stats.getEra()).isEqualByComparingTo("4.50");
+        assertThat(stats.getWhip()).isEqualByComparingTo("1.00");            // (10 H + 2 BB) / 12
+        assertThat(stats.getReconciledThrough()).isNull();
+    }
+
+    @Test
+    void inningsPitchedConversions_shouldUseBaseballNotation() {
+        assertThat(SeasonStatsAccumulator.inningsPitchedToOuts(new BigDecimal("6.2"))).isEqualTo(20);
+        assertThat(SeasonStatsAccumulator.inningsPitchedToOuts(null)).isZero();
+        assertThat(SeasonStatsAccumulator.outsToInningsPitched(20)).isEqualByComparingTo("6.2");
+        assertThat(SeasonStatsAccumulator.outsToInningsPitched(36)).isEqualByComparingTo("12.0");
+    }
+
+    private PlayerGameBatting battingLine(int atBats, int hits, int homeRuns, int walks) {
+        PlayerGameBatting line = new PlayerGameBatting();
+        line.setPlayer(judge);
+        line.setGame(game);
+        line.setTeam(yankees);
+        line.setAtBats(atBats);
+        line.setRuns(homeRuns);
+        line.setHits(hits);
+        line.setDoubles(0);
+        line.setTriples(0);
+        line.setHomeRuns(homeRuns);
+        line.setRbi(homeRuns);
+        line.setWalks(walks);
+        line.setStrikeouts(1);
+        line.setStolenBases(0);
+        return line;
+    }
+
+    private PlayerGamePitching pitchingLine(BigDecimal inningsPitched, int earnedRuns, boolean starter) {
+        PlayerGamePitching line = new PlayerGamePitching();
+        line.setPlayer(cole);
+        line.setGame(game);
+        line.setTeam(yankees);
+        line.setInningsPitched(inningsPitched);
+        line.setHitsAllowed(5);
+        line.setRunsAllowed(earnedRuns);
+        line.setEarnedRuns(earnedRuns);
+        line.setWalks(1);
+        line.setStrikeouts(7);
+        line.setHomeRunsAllowed(1);
+        line.setIsStarter(starter);
+        line.setIsWinner(false);
+        line.setIsLoser(false);
+        line.setIsSave(false);
+        return line;
+    }
+}
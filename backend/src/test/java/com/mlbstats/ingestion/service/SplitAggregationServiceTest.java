@@ -0,0 +1,172 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.BaseIntegrationTest;
+import com.mlbstats.domain.game.Game;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.stats.PlayerBattingSplit;
+import com.mlbstats.domain.stats.PlayerBattingSplitRepository;
+import com.mlbstats.domain.stats.PlayerGameBatting;
+import com.mlbstats.domain.stats.PlayerGameBattingRepository;
+import com.mlbstats.domain.stats.PlayerGamePitching;
+import com.mlbstats.domain.stats.PlayerGamePitchingRepository;
+import com.mlbstats.domain.stats.PlayerPitchingSplit;
+import com.mlbstats.domain.stats.PlayerPitchingSplitRepository;
+import com.mlbstats.domain.stats.SplitType;
+import com.mlbstats.domain.team.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SplitAggregationServiceTest extends BaseIntegrationTest {
+
+    @Autowired
+    private SplitAggregationService splitAggregationService;
+
+    @Autowired
+    private PlayerGameBattingRepository gameBattingRepository;
+
+    @Autowired
+    private PlayerGamePitchingRepository gamePitchingRepository;
+
+    @Autowired
+    private PlayerBattingSplitRepository battingSplitRepository;
+
+    @Autowired
+    private PlayerPitchingSplitRepository pitchingSplitRepository;
+
+    private Team yankees;
+    private Team redSox;
+    private Player judge;
+    private Player cole;
+
+    @BeforeEach
+    void setUpGames() {
+        yankees = createTestTeam(147, "New York Yankees", "NYY", "American League", "East");
+        redSox = createTestTeam(111, "Boston Red Sox", "BOS", "American League", "East");
+        judge = createTestPlayer(592450, "Aaron Judge", "RF");
+        cole = createTestPlayer(543037, "Gerrit Cole", "P");
+
+        // Home night game in April, road day game in August
+        Game april = createTestGame(1001, yankees, redSox, LocalDate.of(2024, 4, 10));
+        Game august = createTestGame(1002, redSox, yankees, LocalDate.of(2024, 8, 20));
+        august.setDayNight("day");
+        gameRepository.saveAndFlush(august);
+
+        createBattingLine(april, 4, 2, 1, 0);
+        createBattingLine(august, 3, 1, 0, 1);
+        createPitchingLine(april, new BigDecimal("6.2"), 2);
+        createPitchingLine(august, new BigDecimal("5.1"), 4);
+    }
+
+    @Test
+    void refreshSplitsForSeason_shouldAggregateGameLogsBySplit() {
+        // When
+        splitAggregationService.refreshSplitsForSeason(2024);
+
+        // Then
+        PlayerBattingSplit home = battingSplit(SplitType.HOME);
+        assertThat(home.getGamesPlayed()).isEqualTo(1);
+        assertThat(home.getAtBats()).isEqualTo(4);
+        assertThat(home.getBattingAvg()).isEqualByComparingTo("0.500");
+        // 2 hits including a home run: 5 total bases over 4 at bats
+        assertThat(home.getSlg()).isEqualByComparingTo("1.250");
+
+        PlayerBattingSplit away = battingSplit(SplitType.AWAY);
+        // 1 hit and 1 walk over 3 at bats + 1 walk
+        assertThat(away.getObp()).isEqualByComparingTo("0.500");
+
+        assertThat(battingSplit(SplitType.NIGHT).getHits()).isEqualTo(2);
+        assertThat(battingSplit(SplitType.DAY).getHits()).isEqualTo(1);
+        assertThat(battingSplit(SplitType.MONTH_APR).getAtBats()).isEqualTo(4);
+        assertThat(battingSplit(SplitType.FIRST_HALF).getAtBats()).isEqualTo(4);
+        assertThat(battingSplit(SplitType.SECOND_HALF).getAtBats()).isEqualTo(3);
+        assertThat(battingSplitRepository.findByPlayerIdAndSeason(judge.getId(), 2024)).hasSize(8);
+
+        List<PlayerPitchingSplit> pitching = pitchingSplitRepository.findByPlayerIdAndSeason(cole.getId(), 2024);
+        assertThat(pitching).hasSize(8);
+        // 5.1 innings is 16 outs: 4 earned runs * 27 / 16 -> 6.75 ERA
+        PlayerPitchingSplit pitchingAway = pitchingSplit(SplitType.AWAY);
+        assertThat(pitchingAway.getInningsPitched()).isEqualByComparingTo("5.1");
+        assertThat(pitchingAway.getEra()).isEqualByComparingTo("6.75");
+        assertThat(pitchingSplit(SplitType.HOME).getGamesStarted()).isEqualTo(1);
+    }
+
+    @Test
+    void refreshSplitsForGame_shouldReplaceExistingRowsWithoutDuplicates() {
+        // Given
+        splitAggregationService.refreshSplitsForSeason(2024);
+        Game september = createTestGame(1003, yankees, redSox, LocalDate.of(2024, 9, 2));
+        createBattingLine(september, 5, 3, 0, 0);
+
+        // When
+        splitAggregationService.refreshSplitsForGame(september.getId(), 2024);
+
+        // Then
+        PlayerBattingSplit home = battingSplit(SplitType.HOME);
+        assertThat(home.getGamesPlayed()).isEqualTo(2);
+        assertThat(home.getAtBats()).isEqualTo(9);
+        assertThat(battingSplit(SplitType.MONTH_SEP).getHits()).isEqualTo(3);
+        assertThat(battingSplitRepository.findByPlayerIdAndSeason(judge.getId(), 2024)).hasSize(9);
+    }
+
+    @Test
+    void secondHalfStart_shouldFollowAllStarBreak() {
+        List<LocalDate> july = List.of(
+                LocalDate.of(2024, 7, 13), LocalDate.of(2024, 7, 14),
+                LocalDate.of(2024, 7, 19), LocalDate.of(2024, 7, 20));
+
+        assertThat(SplitAggregationService.secondHalfStart(july, 2024)).isEqualTo(LocalDate.of(2024, 7, 19));
+        assertThat(SplitAggregationService.secondHalfStart(List.of(), 2024)).isEqualTo(LocalDate.of(2024, 7, 15));
+    }
+
+    private void createBattingLine(Game game, int atBats, int hits, int homeRuns, int walks) {
+        PlayerGameBatting line = new PlayerGameBatting();
+        line.setPlayer(judge);
+        line.setGame(game);
+        line.setTeam(yankees);
+        line.setAtBats(atBats);
+        line.setRuns(homeRuns);
+        line.setHits(hits);
+        line.setDoubles(0);
+        line.setTriples(0);
+        line.setHomeRuns(homeRuns);
+        line.setRbi(homeRuns);
+        line.setWalks(walks);
+        line.setStrikeouts(1);
+        line.setStolenBases(0);
+        gameBattingRepository.save(line);
+    }
+
+    private void createPitchingLine(Game game, BigDecimal inningsPitched, int earnedRuns) {
+        PlayerGamePitching line = new PlayerGamePitching();
+        line.setPlayer(cole);
+        line.setGame(game);
+        line.setTeam(yankees);
+        line.setInningsPitched(inningsPitched);
+        line.setHitsAllowed(5);
+        line.setRunsAllowed(earnedRuns);
+        line.setEarnedRuns(earnedRuns);
+        line.setWalks(1);
+        line.setStrikeouts(7);
+        line.setHomeRunsAllowed(1);
+        line.setIsStarter(true);
+        line.setIsWinner(false);
+        line.setIsLoser(false);
+        line.setIsSave(false);
+        gamePitchingRepository.save(line);
+    }
+
+    private PlayerBattingSplit battingSplit(SplitType splitType) {
+        return battingSplitRepository.findByPlayerIdAndSeasonAndSplitType(judge.getId(), 2024, splitType).get(0);
+    }
+
+    private PlayerPitchingSplit pitchingSplit(SplitType splitType) {
+        return pitchingSplitRepository.findByPlayerIdAndSeasonAndSplitType(cole.getId(), 2024, splitType).get(0);
+    }
+}
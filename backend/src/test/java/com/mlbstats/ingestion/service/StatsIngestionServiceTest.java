@@ -0,0 +1,94 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.BaseIntegrationTest;
+import com.mlbstats.domain.game.Game;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.stats.PlayerBattingStats;
+import com.mlbstats.domain.stats.PlayerGameBatting;
+import com.mlbstats.domain.team.Team;
+import com.mlbstats.ingestion.client.MlbApiClient;
+import com.mlbstats.ingestion.client.dto.StatsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class StatsIngestionServiceTest extends BaseIntegrationTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final int SEASON = TODAY.getYear();
+
+    @MockitoBean
+    private MlbApiClient mlbApiClient;
+
+    @Autowired
+    private StatsIngestionService statsIngestionService;
+
+    @Autowired
+    private SeasonStatsAccumulator seasonStatsAccumulator;
+
+    private Team yankees;
+    private Team redSox;
+    private Player judge;
+
+    @BeforeEach
+    void setUpSeason() {
+        yankees = createTestTeam(147, "New York Yankees", "NYY", "American League", "East");
+        redSox = createTestTeam(111, "Boston Red Sox", "BOS", "American League", "East");
+        judge = createTestPlayer(592450, "Aaron Judge", "RF");
+
+        StatsResponse response = loadFixture("mlb-api/stats-response.json", StatsResponse.class);
+        response.getStats().get(0).getSplits().get(0).setSeason(String.valueOf(SEASON));
+        when(mlbApiClient.getPlayerBattingStats(judge.getMlbId(), SEASON)).thenReturn(response);
+    }
+
+    @Test
+    void syncBattingStats_shouldLeaveGamesFinishingLaterTodayToTheBoxScores() {
+        // Given - yesterday's game and today's first game of a doubleheader are Final at sync time
+        createGame(1001, TODAY.minusDays(1));
+        createGame(1002, TODAY);
+
+        // When
+        statsIngestionService.syncBattingStats(judge, yankees, SEASON);
+        Game nightcap = createGame(1003, TODAY);
+        boolean applied = seasonStatsAccumulator.applyBatting(battingLine(nightcap));
+
+        // Then - the game that finished after the sync is added to the API totals
+        PlayerBattingStats stats = battingStatsRepository
+                .findByPlayerIdAndTeamIdAndSeasonAndGameType(judge.getId(), yankees.getId(), SEASON, "R")
+                .orElseThrow();
+        assertThat(stats.getReconciledThrough()).isEqualTo(TODAY.minusDays(1));
+        assertThat(applied).isTrue();
+        assertThat(stats.getAtBats()).isEqualTo(584);
+        assertThat(stats.getGamesPlayed()).isEqualTo(159);
+    }
+
+    private Game createGame(int mlbId, LocalDate date) {
+        Game game = createTestGame(mlbId, yankees, redSox, date);
+        game.setSeason(SEASON);
+        return gameRepository.save(game);
+    }
+
+    private PlayerGameBatting battingLine(Game game) {
+        PlayerGameBatting line = new PlayerGameBatting();
+        line.setPlayer(judge);
+        line.setGame(game);
+        line.setTeam(yankees);
+        line.setAtBats(4);
+        line.setRuns(1);
+        line.setHits(2);
+        line.setDoubles(0);
+        line.setTriples(0);
+        line.setHomeRuns(1);
+        line.setRbi(1);
+        line.setWalks(0);
+        line.setStrikeouts(1);
+        line.setStolenBases(0);
+        return line;
+    }
+}
@@ -0,0 +1,45 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.ingestion.service.SyncProgressAccumulator.ProgressSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncProgressAccumulatorTest {
+
+    private final SyncProgressAccumulator accumulator = new SyncProgressAccumulator();
+
+    @Test
+    void drainDirty_shouldCoalesceUpdatesIntoLatestState() {
+        // Given
+        accumulator.set(1L, 0, 100, "Starting", null);
+        for (int i = 0; i < 10; i++) {
+            accumulator.increment(1L, 0, "Item " + i);
+        }
+
+        // When
+        List<ProgressSnapshot> drained = accumulator.drainDirty();
+
+        // Then
+        assertThat(drained).containsExactly(new ProgressSnapshot(1L, 10, 100, "Item 9", null));
+        assertThat(accumulator.drainDirty()).isEmpty();
+    }
+
+    @Test
+    void increment_shouldSeedFromPersistedCountOnFirstUpdate() {
+        accumulator.increment(2L, 41, "Resuming");
+
+        assertThat(accumulator.drainDirty()).extracting(ProgressSnapshot::processed).containsExactly(42);
+    }
+
+    @Test
+    void set_shouldKeepTotalWhenNotGiven() {
+        accumulator.set(3L, 1, 20, "Step 1", null);
+        accumulator.set(3L, 2, null, "Step 2", null);
+
+        assertThat(accumulator.remove(3L)).contains(new ProgressSnapshot(3L, 2, 20, "Step 2", null));
+        assertThat(accumulator.isTracked(3L)).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package com.mlbstats.ingestion.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncProgressBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SyncProgressBroadcaster broadcaster = new SyncProgressBroadcaster(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subscribe_shouldTrackSubscribersUntilJobCompletes() {
+        // Given
+        broadcaster.subscribe(1L, Map.of("id", 1L));
+        broadcaster.subscribe(1L, Map.of("id", 1L));
+
+        // Then
+        assertThat(broadcaster.hasSubscribers(1L)).isTrue();
+        assertThat(meterRegistry.get("sync.sse.emitters").gauge().value()).isEqualTo(2.0);
+
+        // When
+        broadcaster.complete(1L);
+
+        // Then
+        assertThat(broadcaster.hasSubscribers(1L)).isFalse();
+        assertThat(meterRegistry.get("sync.sse.emitters").gauge().value()).isZero();
+    }
+
+    @Test
+    void publish_shouldReachSubscribersBehindStalledConnections() throws Exception {
+        // Given - more stalled browsers than a small dispatcher pool would have threads
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 4; i++) {
+            broadcaster.subscribe(3L, Map.of("id", 3L), new SseEmitter() {
+                @Override
+                public void send(SseEventBuilder builder) throws IOException {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                }
+            });
+        }
+        CountDownLatch delivered = new CountDownLatch(1);
+        broadcaster.subscribe(3L, Map.of("id", 3L), new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                delivered.countDown();
+            }
+        });
+
+        // When
+        broadcaster.publish(3L, Map.of("id", 3L, "progress", 50));
+
+        // Then - progress still reaches the healthy subscriber; frames may be conflated into one
+        try {
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void publish_shouldIgnoreJobsWithoutSubscribers() {
+        broadcaster.publish(2L, Map.of("id", 2L));
+
+        assertThat(broadcaster.hasSubscribers(2L)).isFalse();
+        assertThat(meterRegistry.get("sync.sse.frames").tag("outcome", "sent").counter().count()).isZero();
+    }
+}
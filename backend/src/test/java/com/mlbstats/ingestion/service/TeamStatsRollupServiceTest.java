@@ -0,0 +1,111 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.BaseIntegrationTest;
+import com.mlbstats.domain.stats.PlayerBattingStats;
+import com.mlbstats.domain.stats.PlayerPitchingStats;
+import com.mlbstats.domain.team.Team;
+import com.mlbstats.domain.team.TeamSeasonStats;
+import com.mlbstats.domain.team.TeamSeasonStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamStatsRollupServiceTest extends BaseIntegrationTest {
+
+    private static final int SEASON = 2024;
+
+    @Autowired
+    private TeamStatsRollupService teamStatsRollupService;
+
+    @Autowired
+    private TeamSeasonStatsRepository teamSeasonStatsRepository;
+
+    private Team yankees;
+    private Team redSox;
+
+    @BeforeEach
+    void setUpTeams() {
+        yankees = createTestTeam(147, "New York Yankees", "NYY", "American League", "East");
+        redSox = createTestTeam(111, "Boston Red Sox", "BOS", "American League", "East");
+    }
+
+    @Test
+    void refreshSeason_shouldSumPlayerRowsIntoOneTeamRow() {
+        // Given
+        createTestBattingStats(createTestPlayer(592450, "Aaron Judge", "RF"), yankees, SEASON);
+        PlayerBattingStats stanton = createTestBattingStats(createTestPlayer(519317, "Giancarlo Stanton", "DH"),
+                yankees, SEASON);
+        stanton.setGamesPlayed(120);
+        pitcher(543037, "Gerrit Cole", "6.2", 2);
+        pitcher(650402, "Clarke Schmidt", "5.2", 3);
+
+        // When
+        int rows = teamStatsRollupService.refreshSeason(SEASON);
+
+        // Then
+        assertThat(rows).isEqualTo(1);
+        TeamSeasonStats stats = teamSeasonStatsRepository.findByTeamIdAndSeason(yankees.getId(), SEASON).orElseThrow();
+        assertThat(stats.getBattingPlayers()).isEqualTo(2);
+        assertThat(stats.getBattingGamesPlayed()).isEqualTo(120);
+        assertThat(stats.getHomeRuns()).isEqualTo(40);
+        assertThat(stats.getBattingAvg()).isEqualByComparingTo("0.300");
+        assertThat(stats.getPitchingPlayers()).isEqualTo(2);
+        // 20 + 17 outs, not 6.2 + 5.2 added as decimals
+        assertThat(stats.getInningsPitched()).isEqualByComparingTo("12.1");
+        assertThat(stats.getEarnedRuns()).isEqualTo(5);
+        assertThat(stats.getEra()).isEqualByComparingTo("3.65");
+    }
+
+    @Test
+    void refreshSeason_shouldLeaveAnEmptySideAtZeroPlayers() {
+        // Given
+        createTestBattingStats(createTestPlayer(592450, "Aaron Judge", "RF"), yankees, SEASON);
+        battingStatsRepository.flush();
+
+        // When
+        teamStatsRollupService.refreshSeason(SEASON);
+
+        // Then
+        TeamSeasonStats stats = teamSeasonStatsRepository.findByTeamIdAndSeason(yankees.getId(), SEASON).orElseThrow();
+        assertThat(stats.getBattingPlayers()).isEqualTo(1);
+        assertThat(stats.getPitchingPlayers()).isZero();
+        assertThat(stats.getEra()).isNull();
+        assertThat(teamSeasonStatsRepository.findByTeamIdAndSeason(redSox.getId(), SEASON)).isEmpty();
+    }
+
+    @Test
+    void refreshTeams_shouldOnlyRecomputeTheGivenTeams() {
+        // Given
+        PlayerBattingStats judge = createTestBattingStats(createTestPlayer(592450, "Aaron Judge", "RF"),
+                yankees, SEASON);
+        PlayerBattingStats devers = createTestBattingStats(createTestPlayer(646240, "Rafael Devers", "3B"),
+                redSox, SEASON);
+        battingStatsRepository.flush();
+        teamStatsRollupService.refreshSeason(SEASON);
+        judge.setHomeRuns(21);
+        devers.setHomeRuns(21);
+        battingStatsRepository.flush();
+
+        // When
+        int rows = teamStatsRollupService.refreshTeams(SEASON, List.of(yankees.getId()));
+
+        // Then
+        assertThat(rows).isEqualTo(1);
+        assertThat(teamSeasonStatsRepository.findByTeamIdAndSeason(yankees.getId(), SEASON))
+                .get().extracting(TeamSeasonStats::getHomeRuns).isEqualTo(21);
+        assertThat(teamSeasonStatsRepository.findByTeamIdAndSeason(redSox.getId(), SEASON))
+                .get().extracting(TeamSeasonStats::getHomeRuns).isEqualTo(20);
+    }
+
+    private void pitcher(int mlbId, String name, String inningsPitched, int earnedRuns) {
+        PlayerPitchingStats stats = createTestPitchingStats(createTestPlayer(mlbId, name, "P"), yankees, SEASON);
+        stats.setInningsPitched(new BigDecimal(inningsPitched));
+        stats.setEarnedRuns(earnedRuns);
+        pitchingStatsRepository.flush();
+    }
+}
@@ -0,0 +1,179 @@
+package com.mlbstats.ingestion.service;
+
+import com.mlbstats.BaseIntegrationTest;
+import com.mlbstats.domain.player.Player;
+import com.mlbstats.domain.player.TeamRoster;
+import com.mlbstats.domain.team.Team;
+import com.mlbstats.ingestion.client.MlbApiClient;
+import com.mlbstats.ingestion.client.dto.TransactionsResponse;
+import com.mlbstats.ingestion.client.dto.TransactionsResponse.PersonData;
+import com.mlbstats.ingestion.client.dto.TransactionsResponse.TeamRef;
+import com.mlbstats.ingestion.client.dto.TransactionsResponse.TransactionData;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+// Transactions are applied in transactions of their own, which can't see uncommitted fixtures
+@Transactional(Transactional.TxType.NOT_SUPPORTED)
+class TransactionIngestionServiceTest extends BaseIntegrationTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 4, 1);
+    private static final LocalDate END = LocalDate.of(2024, 4, 3);
+
+    @MockitoBean
+    private MlbApiClient mlbApiClient;
+
+    @Autowired
+    private TransactionIngestionService transactionIngestionService;
+
+    private Team yankees;
+    private Team redSox;
+    private Team padres;
+    private Player soto;
+    private Player volpe;
+    private Player cole;
+    private Player devers;
+
+    @BeforeEach
+    void setUpRosters() {
+        yankees = createTestTeam(147, "New York Yankees", "NYY", "American League", "East");
+        redSox = createTestTeam(111, "Boston Red Sox", "BOS", "American League", "East");
+        padres = createTestTeam(135, "San Diego Padres", "SD", "National League", "West");
+
+        soto = createCompletePlayer(665742, "Juan Soto", "RF");
+        volpe = createCompletePlayer(683011, "Anthony Volpe", "SS");
+        cole = createCompletePlayer(650402, "Gerrit Cole", "P");
+        devers = createCompletePlayer(646240, "Rafael Devers", "3B");
+
+        createTestRosterEntry(padres, soto, 2024);
+        createTestRosterEntry(yankees, volpe, 2024);
+        createTestRosterEntry(yankees, cole, 2024);
+        createTestRosterEntry(redSox, devers, 2024);
+    }
+
+    @AfterEach
+    void removeCommittedRosters() {
+        // Nothing here rolls back, so leave the tables as empty as the next test expects
+        teamRosterRepository.deleteAll();
+        playerRepository.deleteAll();
+        teamRepository.deleteAll();
+    }
+
+    @Test
+    void syncTransactions_shouldApplyRosterDeltas() {
+        // Given
+        TransactionsResponse response = loadFixture("mlb-api/transactions-response.json", TransactionsResponse.class);
+        when(mlbApiClient.getTransactions(START, END)).thenReturn(response);
+
+        // When
+        int applied = transactionIngestionService.syncTransactions(START, END);
+
+        // Then - the affiliate-to-affiliate assignment is ignored
+        assertThat(applied).isEqualTo(4);
+
+        TeamRoster sotoPadres = latestEntry(padres, soto);
+        assertThat(sotoPadres.getEndDate()).isEqualTo(LocalDate.of(2024, 4, 1));
+        TeamRoster sotoYankees = latestEntry(yankees, soto);
+        assertThat(sotoYankees.getEndDate()).isNull();
+        assertThat(sotoYankees.getStartDate()).isEqualTo(LocalDate.of(2024, 4, 1));
+        assertThat(sotoYankees.getStatus()).isEqualTo(TransactionApplier.STATUS_ACTIVE);
+
+        assertThat(latestEntry(yankees, volpe).getStatus()).isEqualTo(TransactionApplier.STATUS_OPTIONED);
+        assertThat(latestEntry(yankees, cole).getStatus()).isEqualTo("Injured 15-Day");
+        assertThat(latestEntry(redSox, devers).getEndDate()).isEqualTo(LocalDate.of(2024, 4, 3));
+        assertThat(playerRepository.findByMlbId(700001)).isEmpty();
+    }
+
+    @Test
+    void syncTransactions_shouldBeIdempotentWhenReplayed() {
+        // Given
+        TransactionsResponse response = loadFixture("mlb-api/transactions-response.json", TransactionsResponse.class);
+        when(mlbApiClient.getTransactions(START, END)).thenReturn(response);
+        transactionIngestionService.syncTransactions(START, END);
+        long rosterCount = teamRosterRepository.count();
+
+        // When
+        transactionIngestionService.syncTransactions(START, END);
+
+        // Then
+        assertThat(teamRosterRepository.count()).isEqualTo(rosterCount);
+        List<TeamRoster> openSotoEntries = teamRosterRepository.findByPlayerIdAndSeasonAndEndDateIsNull(soto.getId(), 2024);
+        assertThat(openSotoEntries).hasSize(1);
+        assertThat(openSotoEntries.get(0).getTeam().getId()).isEqualTo(yankees.getId());
+    }
+
+    @Test
+    void syncTransactions_shouldKeepApplyingAfterOneTransactionFails() {
+        // Given - the unknown player can't be fetched and has no name to create a minimal record with
+        TransactionsResponse response = new TransactionsResponse();
+        response.setTransactions(List.of(
+                transaction(1L, "CU", 700002, null, 147),
+                transaction(2L, "OPT", volpe.getMlbId(), 147, 147)));
+        when(mlbApiClient.getTransactions(START, END)).thenReturn(response);
+        when(mlbApiClient.getPlayer(anyInt())).thenThrow(new IllegalStateException("API unavailable"));
+
+        // When
+        int applied = transactionIngestionService.syncTransactions(START, END);
+
+        // Then
+        assertThat(applied).isEqualTo(1);
+        assertThat(latestEntry(yankees, volpe).getStatus()).isEqualTo(TransactionApplier.STATUS_OPTIONED);
+        assertThat(playerRepository.findByMlbId(700002)).isEmpty();
+    }
+
+    @Test
+    void statusFromDescription_shouldUseLastInjuredListMentioned() {
+        assertThat(TransactionApplier.statusFromDescription(
+                "Yankees transferred LHP Nestor Cortes from the 15-day injured list to the 60-day injured list."))
+                .isEqualTo("Injured 60-Day");
+        assertThat(TransactionApplier.statusFromDescription(
+                "Yankees activated RHP Gerrit Cole from the 60-day injured list."))
+                .isEqualTo(TransactionApplier.STATUS_ACTIVE);
+        assertThat(TransactionApplier.statusFromDescription("Yankees announced a press conference."))
+                .isNull();
+    }
+
+    private Player createCompletePlayer(Integer mlbId, String fullName, String position) {
+        Player player = createTestPlayer(mlbId, fullName, position);
+        // Biographical fields keep getOrCreatePlayer from calling the API
+        player.setHeight("6' 2\"");
+        player.setBirthDate(LocalDate.of(1995, 1, 1));
+        return playerRepository.save(player);
+    }
+
+    private static TransactionData transaction(Long id, String typeCode, Integer mlbPlayerId, Integer fromTeamId,
+                                               Integer toTeamId) {
+        PersonData person = new PersonData();
+        person.setId(mlbPlayerId);
+        TransactionData transaction = new TransactionData();
+        transaction.setId(id);
+        transaction.setTypeCode(typeCode);
+        transaction.setPerson(person);
+        transaction.setFromTeam(teamRef(fromTeamId));
+        transaction.setToTeam(teamRef(toTeamId));
+        transaction.setDate("2024-04-02");
+        return transaction;
+    }
+
+    private static TeamRef teamRef(Integer mlbTeamId) {
+        TeamRef ref = new TeamRef();
+        ref.setId(mlbTeamId);
+        return ref;
+    }
+
+    private TeamRoster latestEntry(Team team, Player player) {
+        return teamRosterRepository
+                .findFirstByTeamIdAndPlayerIdAndSeasonOrderByStartDateDesc(team.getId(), player.getId(), 2024)
+                .orElseThrow();
+    }
+}
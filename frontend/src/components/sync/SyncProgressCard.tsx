@@ -106,7 +106,10 @@ function SyncProgressCard({ job: initialJob, onComplete }: SyncProgressCardProps
           </div>
           <div className="sync-progress-details">
             <span className="sync-current-step">{job.currentStep || 'Initializing...'}</span>
-            <span className="sync-progress-percentage">{job.progressPercentage}%</span>
+            <span className="sync-progress-percentage">
+              {job.progressPercentage}%
+              {job.estimatedCompletionAt && ` · ETA ${new Date(job.estimatedCompletionAt).toLocaleTimeString()}`}
+            </span>
           </div>
         </>
       )}
@@ -10,6 +10,7 @@ import {
   triggerStandingsSync,
   triggerBoxScoresSync,
   triggerLinescoresSync,
+  triggerTransactionsSync,
   getUsers,
   updateUserRole,
   AdminUser,
@@ -134,6 +135,9 @@ function AdminPage() {
         case 'LINESCORES':
           job = await triggerLinescoresSync();
           break;
+        case 'TRANSACTIONS':
+          job = await triggerTransactionsSync();
+          break;
         default:
           return;
       }
@@ -301,7 +301,7 @@ export async function getGameCounts(options: {
 }
 
 // Sync Job Types
-export type SyncJobType = 'FULL_SYNC' | 'TEAMS' | 'ROSTERS' | 'GAMES' | 'STATS' | 'STANDINGS' | 'BOX_SCORES' | 'LINESCORES';
+export type SyncJobType = 'FULL_SYNC' | 'TEAMS' | 'ROSTERS' | 'GAMES' | 'STATS' | 'STANDINGS' | 'BOX_SCORES' | 'LINESCORES' | 'TRANSACTIONS' | 'BACKFILL';
 export type SyncJobStatus = 'PENDING' | 'RUNNING' | 'COMPLETED' | 'FAILED' | 'CANCELLED';
 export type TriggerType = 'MANUAL' | 'SCHEDULED';
 export type FreshnessLevel = 'FRESH' | 'STALE' | 'CRITICAL';
@@ -318,6 +318,7 @@ export interface SyncJob {
   processedItems: number | null;
   progressPercentage: number;
   currentStep: string | null;
+  estimatedCompletionAt: string | null;
   startedAt: string | null;
   completedAt: string | null;
   durationSeconds: number | null;
@@ -434,6 +435,14 @@ export async function triggerLinescoresSync(season?: number): Promise<SyncJob> {
   return postJson<SyncJob>(`${API_BASE}/ingestion/linescores${params}`);
 }
 
+export async function triggerTransactionsSync(): Promise<SyncJob> {
+  return postJson<SyncJob>(`${API_BASE}/ingestion/transactions`);
+}
+
+export async function triggerBackfill(fromSeason: number, toSeason: number): Promise<SyncJob> {
+  return postJson<SyncJob>(`${API_BASE}/ingestion/backfill?fromSeason=${fromSeason}&toSeason=${toSeason}`);
+}
+
 // Data Manager
 export interface SeasonData {
   season: number;
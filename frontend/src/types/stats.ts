@@ -95,6 +95,7 @@ export interface PageResponse<T> {
   totalPages: number;
   first: boolean;
   last: boolean;
+  nextCursor?: string | null;
 }
 
 export interface BattingGameLog {